@@ -0,0 +1,24 @@
+package at.technikum.springrestbackend.cache;
+
+/**
+ * Tells the other nodes to drop a local entry ({@code key} set) or a whole local cache
+ * ({@code key} null). {@code origin} identifies the sending node, which ignores its own
+ * messages.
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String message = origin + SEPARATOR + cacheName;
+        return key == null ? message : message + SEPARATOR + key;
+    }
+
+    public static CacheInvalidation decode(final String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Malformed cache invalidation: " + message);
+        }
+        return new CacheInvalidation(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
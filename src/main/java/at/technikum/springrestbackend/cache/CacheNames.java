@@ -0,0 +1,17 @@
+package at.technikum.springrestbackend.cache;
+
+import java.util.List;
+
+public final class CacheNames {
+
+    public static final String BOOKS = "books";
+    public static final String USER_DETAILS = "userDetails";
+    public static final String USER_PROFILES = "userProfiles";
+    public static final String RECENT_WRITERS = "recentWriters";
+
+    public static final List<String> ALL =
+            List.of(BOOKS, USER_DETAILS, USER_PROFILES, RECENT_WRITERS);
+
+    private CacheNames() {
+    }
+}
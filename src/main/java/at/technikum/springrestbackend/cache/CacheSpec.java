@@ -0,0 +1,11 @@
+package at.technikum.springrestbackend.cache;
+
+import java.time.Duration;
+
+/**
+ * Lifetimes of one cache. The local TTL bounds how long a node can serve a stale entry
+ * when an invalidation message does not reach it, so it is kept much shorter than the
+ * shared TTL.
+ */
+public record CacheSpec(Duration localTtl, long localMaxSize, Duration sharedTtl) {
+}
@@ -0,0 +1,15 @@
+package at.technikum.springrestbackend.cache;
+
+/**
+ * Hibernate second-level cache regions. Every region must be created in
+ * {@code HibernateCacheConfig}; Hibernate refuses to start on a missing one.
+ */
+public final class EntityCacheRegions {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+    public static final String BOOKS = "books";
+
+    private EntityCacheRegions() {
+    }
+}
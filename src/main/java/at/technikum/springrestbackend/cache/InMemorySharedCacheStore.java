@@ -0,0 +1,70 @@
+package at.technikum.springrestbackend.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for Redis in tests and single-node setups. Several cache managers sharing
+ * one instance behave like nodes sharing one Redis, including invalidation messages.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public byte[] get(final String cacheName, final String key) {
+        String entryKey = entryKey(cacheName, key);
+        Entry entry = entries.get(entryKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(entryKey, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(
+            final String cacheName,
+            final String key,
+            final byte[] value,
+            final Duration ttl
+    ) {
+        entries.put(entryKey(cacheName, key),
+                new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(final String cacheName, final String key) {
+        entries.remove(entryKey(cacheName, key));
+    }
+
+    @Override
+    public void clear(final String cacheName) {
+        entries.keySet().removeIf(entryKey -> entryKey.startsWith(cacheName + "::"));
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private static String entryKey(final String cacheName, final String key) {
+        return cacheName + "::" + key;
+    }
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,94 @@
+package at.technikum.springrestbackend.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Keeps shared entries in Redis under {@code cache:<name>::<key>} and distributes
+ * invalidations over a pub/sub channel.
+ */
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final int SCAN_BATCH = 500;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic invalidationTopic;
+
+    public RedisSharedCacheStore(
+            final RedisConnectionFactory connectionFactory,
+            final RedisMessageListenerContainer listenerContainer,
+            final String invalidationChannel
+    ) {
+        this.redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+        this.listenerContainer = listenerContainer;
+        this.invalidationTopic = new ChannelTopic(invalidationChannel);
+    }
+
+    @Override
+    public byte[] get(final String cacheName, final String key) {
+        return redisTemplate.opsForValue().get(redisKey(cacheName, key));
+    }
+
+    @Override
+    public void put(
+            final String cacheName,
+            final String key,
+            final byte[] value,
+            final Duration ttl
+    ) {
+        redisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl);
+    }
+
+    @Override
+    public void evict(final String cacheName, final String key) {
+        redisTemplate.delete(redisKey(cacheName, key));
+    }
+
+    @Override
+    public void clear(final String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + cacheName + "::*")
+                .count(SCAN_BATCH)
+                .build();
+        Set<String> keys = new HashSet<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        redisTemplate.convertAndSend(invalidationTopic.getTopic(),
+                invalidation.encode().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> listener.accept(
+                CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8))),
+                invalidationTopic);
+    }
+
+    private static String redisKey(final String cacheName, final String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,24 @@
+package at.technikum.springrestbackend.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * The shared second level of {@link TwoLevelCacheManager}, visible to every node.
+ * Values are already serialized. Implementations may throw on any call when the
+ * backing service is unavailable; the cache manager treats that as a miss.
+ */
+public interface SharedCacheStore {
+
+    byte[] get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
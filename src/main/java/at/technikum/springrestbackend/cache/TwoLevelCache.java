@@ -0,0 +1,123 @@
+package at.technikum.springrestbackend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * A Caffeine near-cache in front of the shared store. Reads try the local level first,
+ * then the shared one, and copy shared hits into the local level. Writes and evictions
+ * go to both levels; evictions are also announced to the other nodes.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final CacheSpec spec;
+    private final TwoLevelCacheManager manager;
+    private final Cache<String, Object> local;
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    TwoLevelCache(final String name, final CacheSpec spec, final TwoLevelCacheManager manager) {
+        super(false);
+        this.name = name;
+        this.spec = spec;
+        this.manager = manager;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(spec.localTtl())
+                .maximumSize(spec.localMaxSize())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        String cacheKey = String.valueOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        value = manager.readShared(name, cacheKey);
+        if (value != null) {
+            sharedHits.increment();
+            local.put(cacheKey, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        String cacheKey = String.valueOf(key);
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(cacheKey, value);
+        manager.writeShared(name, cacheKey, value, spec.sharedTtl());
+    }
+
+    @Override
+    public void evict(final Object key) {
+        String cacheKey = String.valueOf(key);
+        local.invalidate(cacheKey);
+        manager.invalidateShared(new CacheInvalidation(manager.getNodeId(), name, cacheKey));
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        manager.invalidateShared(new CacheInvalidation(manager.getNodeId(), name, null));
+    }
+
+    void evictLocal(final String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    long getLocalHits() {
+        return localHits.sum();
+    }
+
+    long getSharedHits() {
+        return sharedHits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+}
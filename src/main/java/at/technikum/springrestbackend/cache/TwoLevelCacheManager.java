@@ -0,0 +1,196 @@
+package at.technikum.springrestbackend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+/**
+ * Cache manager for the caches in {@link CacheNames}, each backed by a
+ * {@link TwoLevelCache}. Puts and evictions are deferred until the surrounding
+ * transaction commits, so other nodes never reload a value that is about to change.
+ *
+ * <p>The shared tier is optional at runtime: when a call to it fails, the manager
+ * serves from the local level only and stops calling the shared store for the retry
+ * delay. Invalidations that could not be delivered in that time are replayed once the
+ * store answers again; if too many pile up, the shared caches are cleared instead.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager
+        implements MeterBinder {
+
+    private static final int MAX_PENDING_INVALIDATIONS = 10_000;
+
+    private final SharedCacheStore sharedStore;
+    private final Map<String, CacheSpec> specs;
+    private final long retryDelayNanos;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new LinkedHashMap<>();
+    private final Set<CacheInvalidation> pendingInvalidations = ConcurrentHashMap.newKeySet();
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter();
+    private final LongAdder sharedErrors = new LongAdder();
+    private volatile long sharedRetryAtNanos = System.nanoTime();
+    private volatile boolean clearSharedOnRecovery;
+
+    public TwoLevelCacheManager(
+            final SharedCacheStore sharedStore,
+            final Map<String, CacheSpec> specs,
+            final Duration retryDelay
+    ) {
+        this.sharedStore = sharedStore;
+        this.specs = new LinkedHashMap<>(specs);
+        this.retryDelayNanos = retryDelay.toNanos();
+        setTransactionAware(true);
+        sharedStore.subscribe(this::onInvalidation);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<TwoLevelCache> caches = new ArrayList<>();
+        specs.forEach((name, spec) -> {
+            TwoLevelCache cache = new TwoLevelCache(name, spec, this);
+            twoLevelCaches.put(name, cache);
+            caches.add(cache);
+        });
+        return caches;
+    }
+
+    Object readShared(final String cacheName, final String key) {
+        if (!sharedTierAvailable()) {
+            return null;
+        }
+        try {
+            byte[] bytes = sharedStore.get(cacheName, key);
+            return bytes == null ? null : deserializer.convert(bytes);
+        } catch (RuntimeException ex) {
+            onSharedFailure();
+            return null;
+        }
+    }
+
+    void writeShared(
+            final String cacheName,
+            final String key,
+            final Object value,
+            final Duration ttl
+    ) {
+        if (!sharedTierAvailable()) {
+            return;
+        }
+        try {
+            sharedStore.put(cacheName, key, serializer.convert(value), ttl);
+        } catch (RuntimeException ex) {
+            onSharedFailure();
+        }
+    }
+
+    void invalidateShared(final CacheInvalidation invalidation) {
+        if (!sharedTierAvailable() || !deliver(invalidation)) {
+            defer(invalidation);
+        }
+    }
+
+    private boolean deliver(final CacheInvalidation invalidation) {
+        try {
+            if (invalidation.key() == null) {
+                sharedStore.clear(invalidation.cacheName());
+            } else {
+                sharedStore.evict(invalidation.cacheName(), invalidation.key());
+            }
+            sharedStore.publish(invalidation);
+            return true;
+        } catch (RuntimeException ex) {
+            onSharedFailure();
+            return false;
+        }
+    }
+
+    private void defer(final CacheInvalidation invalidation) {
+        if (pendingInvalidations.size() >= MAX_PENDING_INVALIDATIONS) {
+            clearSharedOnRecovery = true;
+            pendingInvalidations.clear();
+            return;
+        }
+        pendingInvalidations.add(invalidation);
+    }
+
+    private boolean sharedTierAvailable() {
+        if (System.nanoTime() - sharedRetryAtNanos < 0) {
+            return false;
+        }
+        if (clearSharedOnRecovery) {
+            clearSharedOnRecovery = false;
+            specs.keySet().forEach(name -> defer(new CacheInvalidation(nodeId, name, null)));
+        }
+        for (CacheInvalidation invalidation : List.copyOf(pendingInvalidations)) {
+            if (!deliver(invalidation)) {
+                return false;
+            }
+            pendingInvalidations.remove(invalidation);
+        }
+        return true;
+    }
+
+    private void onSharedFailure() {
+        sharedErrors.increment();
+        sharedRetryAtNanos = System.nanoTime() + retryDelayNanos;
+    }
+
+    private void onInvalidation(final CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        twoLevelCaches.forEach((name, cache) -> {
+            registerRequests(registry, name, "local_hit", cache, TwoLevelCache::getLocalHits);
+            registerRequests(registry, name, "shared_hit", cache, TwoLevelCache::getSharedHits);
+            registerRequests(registry, name, "miss", cache, TwoLevelCache::getMisses);
+        });
+        FunctionCounter.builder("cache.shared.errors", sharedErrors, LongAdder::sum)
+                .description("Failed calls to the shared cache tier")
+                .register(registry);
+        Gauge.builder("cache.shared.pending-invalidations", pendingInvalidations, Set::size)
+                .description("Invalidations waiting for the shared cache tier")
+                .register(registry);
+    }
+
+    private static void registerRequests(
+            final MeterRegistry registry,
+            final String cacheName,
+            final String result,
+            final TwoLevelCache cache,
+            final ToLongFunction<TwoLevelCache> count
+    ) {
+        FunctionCounter.builder("cache.two-level.requests", cache, count::applyAsLong)
+                .description("Cache lookups by the level that answered them")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(registry);
+    }
+}
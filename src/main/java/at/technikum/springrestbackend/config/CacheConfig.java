@@ -0,0 +1,73 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.cache.CacheNames;
+import at.technikum.springrestbackend.cache.CacheSpec;
+import at.technikum.springrestbackend.cache.InMemorySharedCacheStore;
+import at.technikum.springrestbackend.cache.RedisSharedCacheStore;
+import at.technikum.springrestbackend.cache.SharedCacheStore;
+import at.technikum.springrestbackend.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    private static final String SHARED_TYPE = "app.cache.shared.type";
+
+    @Bean
+    @ConditionalOnProperty(name = SHARED_TYPE, havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            final RedisConnectionFactory redisConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SHARED_TYPE, havingValue = "redis", matchIfMissing = true)
+    public SharedCacheStore redisSharedCacheStore(
+            final RedisConnectionFactory redisConnectionFactory,
+            final RedisMessageListenerContainer cacheInvalidationListenerContainer,
+            @Value("${app.cache.shared.channel:cache-invalidation}") final String channel
+    ) {
+        return new RedisSharedCacheStore(
+                redisConnectionFactory, cacheInvalidationListenerContainer, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SHARED_TYPE, havingValue = "memory")
+    public SharedCacheStore inMemorySharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            final SharedCacheStore sharedCacheStore,
+            @Value("${app.cache.local-ttl-seconds:30}") final long localTtlSeconds,
+            @Value("${app.cache.local-max-size:10000}") final long localMaxSize,
+            @Value("${app.cache.shared-ttl-seconds:600}") final long sharedTtlSeconds,
+            @Value("${app.cache.shared.retry-delay-ms:5000}") final long retryDelayMs,
+            @Value("${app.datasource.read-your-writes-seconds:5}") final long stickySeconds
+    ) {
+        CacheSpec spec = new CacheSpec(Duration.ofSeconds(localTtlSeconds), localMaxSize,
+                Duration.ofSeconds(sharedTtlSeconds));
+        Map<String, CacheSpec> specs = new LinkedHashMap<>();
+        CacheNames.ALL.forEach(name -> specs.put(name, spec));
+        // Entries only mark a user as recently written; they expire with the window
+        Duration stickyWindow = Duration.ofSeconds(Math.max(1, stickySeconds));
+        specs.put(CacheNames.RECENT_WRITERS,
+                new CacheSpec(stickyWindow, localMaxSize, stickyWindow));
+        return new TwoLevelCacheManager(
+                sharedCacheStore, specs, Duration.ofMillis(retryDelayMs));
+    }
+}
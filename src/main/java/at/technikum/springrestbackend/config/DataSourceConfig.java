@@ -0,0 +1,72 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.datasource.AdminPoolInterceptor;
+import at.technikum.springrestbackend.datasource.AdminPoolRoutingDataSource;
+import at.technikum.springrestbackend.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Two Hikari pools on the same database: the primary pool ({@code spring.datasource.hikari})
+ * for application traffic and a small admin pool ({@code app.datasource.admin.hikari})
+ * for {@code /admin/**} requests. Both are instrumented by Spring Boot as
+ * {@code hikaricp.*} metrics tagged with the pool name.
+ */
+@Configuration
+public class DataSourceConfig implements WebMvcConfigurer {
+
+    private static final int ADMIN_POOL_DEFAULT_SIZE = 2;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        HikariDataSource dataSource = createPool(properties);
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.admin.hikari")
+    public HikariDataSource adminDataSource(final DataSourceProperties properties) {
+        HikariDataSource dataSource = createPool(properties);
+        dataSource.setPoolName("admin");
+        dataSource.setMaximumPoolSize(ADMIN_POOL_DEFAULT_SIZE);
+        dataSource.setMinimumIdle(0);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+            @Qualifier("adminDataSource") final HikariDataSource adminDataSource,
+            final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource
+    ) {
+        ReplicaRoutingDataSource replicas = replicaRoutingDataSource.getIfAvailable();
+        DataSource application = replicas == null
+                ? primaryDataSource
+                : new LazyConnectionDataSourceProxy(replicas);
+        return new AdminPoolRoutingDataSource(application, adminDataSource);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new AdminPoolInterceptor()).addPathPatterns("/admin/**");
+    }
+
+    private static HikariDataSource createPool(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.cache.EntityCacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache for {@code User} and {@code Book}, backed by Caffeine
+ * through JCache. Regions are local to each instance, so their TTL bounds how long a
+ * write on another instance can go unnoticed; users get the shorter one because the
+ * enabled flag and role are read from them. Per-region hit, miss and put counts are
+ * exported as {@code hibernate.second.level.cache.*} metrics.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.jpa.cache.users.max-size:10000}") final long userMaxSize,
+            @Value("${app.jpa.cache.users.ttl-seconds:30}") final long userTtlSeconds,
+            @Value("${app.jpa.cache.books.max-size:50000}") final long bookMaxSize,
+            @Value("${app.jpa.cache.books.ttl-seconds:300}") final long bookTtlSeconds
+    ) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        Duration userTtl = Duration.ofSeconds(userTtlSeconds);
+        cacheManager.createCache(EntityCacheRegions.USERS, region(userMaxSize, userTtl));
+        cacheManager.createCache(EntityCacheRegions.USERS_BY_EMAIL, region(userMaxSize, userTtl));
+        cacheManager.createCache(EntityCacheRegions.BOOKS,
+                region(bookMaxSize, Duration.ofSeconds(bookTtlSeconds)));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            final CacheManager hibernateCacheManager,
+            @Value("${app.jpa.cache.statistics:true}") final boolean statistics
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(
+            final long maxSize,
+            final Duration ttl
+    ) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
@@ -1,6 +1,13 @@
 package at.technikum.springrestbackend.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.minio.MinioClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,15 +15,82 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class MinioConfig {
 
+    @Bean
+    public ConnectionPool minioConnectionPool(
+            @Value("${app.minio.http.max-idle-connections}") final int maxIdleConnections,
+            @Value("${app.minio.http.keep-alive-seconds}") final long keepAliveSeconds
+    ) {
+        return new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS);
+    }
+
+    @Bean
+    public Dispatcher minioDispatcher(
+            @Value("${app.minio.http.max-requests-per-host}") final int maxRequestsPerHost
+    ) {
+        // MinioClient runs every call through OkHttp's async dispatcher, so these limits
+        // apply to the synchronous API as well.
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return dispatcher;
+    }
+
+    @Bean
+    public OkHttpClient minioHttpClient(
+            final ConnectionPool minioConnectionPool,
+            final Dispatcher minioDispatcher,
+            @Value("${app.minio.http.connect-timeout-ms}") final long connectTimeoutMs,
+            @Value("${app.minio.http.read-timeout-ms}") final long readTimeoutMs,
+            @Value("${app.minio.http.write-timeout-ms}") final long writeTimeoutMs
+    ) {
+        return new OkHttpClient.Builder()
+                .connectionPool(minioConnectionPool)
+                .dispatcher(minioDispatcher)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .writeTimeout(Duration.ofMillis(writeTimeoutMs))
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
     @Bean
     public MinioClient minioClient(
+            final OkHttpClient minioHttpClient,
             @Value("${app.minio.url}") final String minioUrl,
             @Value("${app.minio.access-key}") final String accessKey,
-            @Value("${app.minio.secret-key}") final String secretKey
+            @Value("${app.minio.secret-key}") final String secretKey,
+            @Value("${app.minio.region}") final String region
     ) {
+        // A fixed region lets the client sign URLs locally instead of asking the
+        // server for the bucket location first.
         return MinioClient.builder()
                 .endpoint(minioUrl)
                 .credentials(accessKey, secretKey)
+                .region(region)
+                .httpClient(minioHttpClient)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public MeterBinder minioHttpClientMetrics(
+            final ConnectionPool minioConnectionPool,
+            final Dispatcher minioDispatcher
+    ) {
+        return registry -> {
+            Gauge.builder("minio.http.connections", minioConnectionPool,
+                            ConnectionPool::connectionCount)
+                    .tag("state", "total")
+                    .register(registry);
+            Gauge.builder("minio.http.connections", minioConnectionPool,
+                            ConnectionPool::idleConnectionCount)
+                    .tag("state", "idle")
+                    .register(registry);
+            Gauge.builder("minio.http.calls", minioDispatcher, Dispatcher::runningCallsCount)
+                    .tag("state", "running")
+                    .register(registry);
+            Gauge.builder("minio.http.calls", minioDispatcher, Dispatcher::queuedCallsCount)
+                    .tag("state", "queued")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.security.InMemorySharedRateLimitStore;
+import at.technikum.springrestbackend.security.LocalRateLimitStore;
+import at.technikum.springrestbackend.security.RateLimitClass;
+import at.technikum.springrestbackend.security.RateLimitFilter;
+import at.technikum.springrestbackend.security.RateLimitPolicy;
+import at.technikum.springrestbackend.security.RateLimitStore;
+import at.technikum.springrestbackend.security.RedisRateLimitStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+public class RateLimitConfig {
+
+    private static final String STORE_TYPE = "app.rate-limit.store.type";
+
+    @Bean
+    @ConditionalOnProperty(name = STORE_TYPE, havingValue = "local", matchIfMissing = true)
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public LocalRateLimitStore localRateLimitStore(
+            @Value("${app.rate-limit.max-keys:100000}") final int maxKeys
+    ) {
+        return new LocalRateLimitStore(maxKeys);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = STORE_TYPE, havingValue = "redis")
+    public RedisRateLimitStore redisRateLimitStore(
+            final RedisConnectionFactory redisConnectionFactory,
+            @Value("${app.rate-limit.max-keys:100000}") final int maxKeys,
+            @Value("${app.rate-limit.store.retry-delay-ms:5000}") final long retryDelayMs
+    ) {
+        return new RedisRateLimitStore(redisConnectionFactory,
+                new LocalRateLimitStore(maxKeys), Duration.ofMillis(retryDelayMs));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = STORE_TYPE, havingValue = "memory")
+    public InMemorySharedRateLimitStore inMemorySharedRateLimitStore() {
+        return new InMemorySharedRateLimitStore();
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            final RateLimitStore rateLimitStore,
+            final ObjectMapper objectMapper,
+            final Environment environment,
+            @Value("${app.rate-limit.enabled:true}") final boolean enabled
+    ) {
+        Map<RateLimitClass, RateLimitPolicy> policies = new EnumMap<>(RateLimitClass.class);
+        if (enabled) {
+            for (RateLimitClass limitClass : RateLimitClass.values()) {
+                String prefix = "app.rate-limit." + limitClass.name().toLowerCase() + ".";
+                policies.put(limitClass, new RateLimitPolicy(
+                        environment.getProperty(prefix + "capacity", Integer.class,
+                                limitClass.getDefaultCapacity()),
+                        environment.getProperty(prefix + "refill-per-minute", Integer.class,
+                                limitClass.getDefaultRefillPerMinute())));
+            }
+        }
+        return new RateLimitFilter(rateLimitStore, policies, objectMapper);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
+            final RateLimitFilter filter
+    ) {
+        // Runs inside the security chain, after the JWT filter has resolved the user
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
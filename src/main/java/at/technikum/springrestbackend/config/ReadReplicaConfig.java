@@ -0,0 +1,76 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.cache.CacheNames;
+import at.technikum.springrestbackend.datasource.ReadYourWritesInterceptor;
+import at.technikum.springrestbackend.datasource.Replica;
+import at.technikum.springrestbackend.datasource.ReplicaHealthMonitor;
+import at.technikum.springrestbackend.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Active only when replica URLs are configured; otherwise application traffic uses the
+ * primary pool directly. Replica pools copy the primary pool settings, and
+ * {@link DataSourceConfig} puts the routing data source behind a lazy connection proxy.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    private final CacheManager cacheManager;
+
+    public ReadReplicaConfig(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+            @Value("${app.datasource.replicas.urls}") final String replicaUrls,
+            @Value("${app.datasource.replicas.username:}") final String username,
+            @Value("${app.datasource.replicas.password:}") final String password
+    ) {
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(replicaUrls)) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            if (StringUtils.hasText(username)) {
+                replica.setUsername(username);
+                replica.setPassword(password);
+            }
+            replicas.add(new Replica(replica.getPoolName(), replica));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            final ReplicaRoutingDataSource replicaRoutingDataSource,
+            @Value("${app.datasource.replicas.lag-query:SHOW SLAVE STATUS}") final String lagQuery,
+            @Value("${app.datasource.replicas.lag-column:Seconds_Behind_Master}")
+            final String lagColumn,
+            @Value("${app.datasource.replicas.max-lag-seconds:5}") final double maxLagSeconds,
+            @Value("${app.datasource.replicas.check-timeout-seconds:2}") final int timeoutSeconds
+    ) {
+        return new ReplicaHealthMonitor(
+                replicaRoutingDataSource, lagQuery, lagColumn, maxLagSeconds, timeoutSeconds);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(
+                new ReadYourWritesInterceptor(cacheManager.getCache(CacheNames.RECENT_WRITERS)));
+    }
+}
@@ -3,6 +3,7 @@ package at.technikum.springrestbackend.config;
 import at.technikum.springrestbackend.security.CustomUserDetailsService;
 import at.technikum.springrestbackend.security.JwtAuthEntryPoint;
 import at.technikum.springrestbackend.security.JwtAuthenticationFilter;
+import at.technikum.springrestbackend.security.RateLimitFilter;
 import java.util.List;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -30,18 +31,31 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final String[] API_DOC_PATHS = {
+        "/swagger-ui/**",
+        "/swagger-ui.html",
+        "/swagger.html",
+        "/v3/api-docs/**",
+        "/api",
+        "/api/swagger-config",
+        "/api.yaml"
+    };
+
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthEntryPoint jwtAuthEntryPoint;
+    private final RateLimitFilter rateLimitFilter;
 
     public SecurityConfig(
             final CustomUserDetailsService customUserDetailsService,
             final JwtAuthenticationFilter jwtAuthenticationFilter,
-            final JwtAuthEntryPoint jwtAuthEntryPoint
+            final JwtAuthEntryPoint jwtAuthEntryPoint,
+            final RateLimitFilter rateLimitFilter
     ) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.jwtAuthEntryPoint = jwtAuthEntryPoint;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -56,22 +70,18 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.GET, "/books/me").authenticated()
                         .requestMatchers(HttpMethod.GET, "/comments/me").authenticated()
-                        .requestMatchers(
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/swagger.html",
-                                "/v3/api-docs/**",
-                                "/api",
-                                "/api/swagger-config",
-                                "/api.yaml"
-                        ).permitAll()
+                        .requestMatchers(API_DOC_PATHS).permitAll()
                         .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/books/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/comments/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/sync/books").permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated());
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
@@ -113,7 +123,8 @@ public class SecurityConfig {
                 "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(false);
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "Retry-After",
+                "RateLimit-Limit", "RateLimit-Remaining", "RateLimit-Reset", "RateLimit-Policy"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,31 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.controller.FieldSelection;
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.config.EnableSpringDataWebSupport;
+
+@Configuration
+@EnableSpringDataWebSupport(
+        pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
+public class WebConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionCustomizer() {
+        return builder -> builder
+                .mixIn(BookResponseDto.class, FieldSelectionMixin.class)
+                .mixIn(CommentResponseDto.class, FieldSelectionMixin.class)
+                .filters(new SimpleFilterProvider().addFilter(
+                        FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @JsonFilter(FieldSelection.FILTER_ID)
+    private interface FieldSelectionMixin {
+    }
+}
@@ -1,58 +1,137 @@
 package at.technikum.springrestbackend.controller;
 
 import at.technikum.springrestbackend.dto.BookCreateRequestDto;
+import at.technikum.springrestbackend.dto.BookFacetsDto;
+import at.technikum.springrestbackend.dto.BookImportReportDto;
 import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.BookStatusUpdateRequestDto;
 import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
+import at.technikum.springrestbackend.dto.ImageUploadCompleteRequestDto;
+import at.technikum.springrestbackend.dto.ImageUploadRequestDto;
+import at.technikum.springrestbackend.dto.ImageUploadTicketDto;
+import at.technikum.springrestbackend.dto.ResponseFields;
 import at.technikum.springrestbackend.entity.Book;
 import at.technikum.springrestbackend.entity.BookCondition;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.BookFacetService;
+import at.technikum.springrestbackend.service.BookImageService;
+import at.technikum.springrestbackend.service.BookImportService;
 import at.technikum.springrestbackend.service.BookService;
+import at.technikum.springrestbackend.service.BookStreamService;
 import at.technikum.springrestbackend.service.FileStorageService;
+import at.technikum.springrestbackend.service.ImageCacheService;
+import at.technikum.springrestbackend.service.JsonMergePatcher;
 import at.technikum.springrestbackend.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/books")
 public class BookController {
 
+    private static final Duration IMAGE_MAX_AGE = Duration.ofMinutes(5);
+
     private final BookService bookService;
     private final UserService userService;
     private final FileStorageService fileStorageService;
+    private final BookImportService bookImportService;
+    private final BookFacetService bookFacetService;
+    private final ImageCacheService imageCacheService;
+    private final BookImageService bookImageService;
+    private final BookStreamService bookStreamService;
 
     public BookController(
             final BookService bookService,
             final UserService userService,
-            final FileStorageService fileStorageService
+            final FileStorageService fileStorageService,
+            final BookImportService bookImportService,
+            final BookFacetService bookFacetService,
+            final ImageCacheService imageCacheService,
+            final BookImageService bookImageService,
+            final BookStreamService bookStreamService
     ) {
         this.bookService = bookService;
         this.userService = userService;
         this.fileStorageService = fileStorageService;
+        this.bookImportService = bookImportService;
+        this.bookFacetService = bookFacetService;
+        this.imageCacheService = imageCacheService;
+        this.bookImageService = bookImageService;
+        this.bookStreamService = bookStreamService;
     }
 
+    @FieldSelection
     @GetMapping
     public ResponseEntity<Page<BookResponseDto>> getLatestPublicBooks(
             @RequestParam(required = false) final BookCondition condition,
             @RequestParam(required = false) final ExchangeType exchangeType,
             @RequestParam(required = false) final String language,
             @RequestParam(required = false) final String search,
+            @RequestParam(name = FieldSelection.PARAMETER, required = false) final String fields,
             final Pageable pageable
     ) {
         Page<BookResponseDto> response = bookService.getLatestPublicBooks(
-                pageable, condition, exchangeType, language, search);
+                pageable, condition, exchangeType, language, search, ResponseFields.parse(fields));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<BookFacetsDto> getPublicBookFacets(
+            @RequestParam(required = false) final BookCondition condition,
+            @RequestParam(required = false) final ExchangeType exchangeType,
+            @RequestParam(required = false) final String language,
+            @RequestParam(required = false) final String search
+    ) {
+        BookFacetsDto response = bookFacetService.getFacets(
+                condition, exchangeType, language, search);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Server-Sent Events feed of listing changes matching the optional filters. A client
+     * that reconnects with {@code Last-Event-ID} receives what it missed, or a
+     * {@code reset} event when it has to reload the listings instead.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBookChanges(
+            @RequestParam(required = false) final BookCondition condition,
+            @RequestParam(required = false) final ExchangeType exchangeType,
+            @RequestParam(required = false) final String language,
+            @RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId
+    ) {
+        return bookStreamService.subscribe(condition, exchangeType, language, lastEventId);
+    }
+
+    @FieldSelection
+    @GetMapping("/batch")
+    public ResponseEntity<List<BookResponseDto>> getPublicBooksByIds(
+            @RequestParam final List<Long> ids,
+            @RequestParam(name = FieldSelection.PARAMETER, required = false) final String fields
+    ) {
+        List<BookResponseDto> response =
+                bookService.getPublicBooksByIds(ids, ResponseFields.parse(fields));
         return ResponseEntity.ok(response);
     }
 
@@ -64,13 +143,42 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Serves the cover from the local image cache for deployments with a private bucket.
+     * Range requests are answered by Spring's resource handling from the cached file.
+     */
+    @GetMapping("/{bookId}/image")
+    public ResponseEntity<Resource> getBookImage(
+            @PathVariable final Long bookId,
+            final WebRequest webRequest
+    ) {
+        Book book = bookService.getPublicBookEntityById(bookId);
+        String objectKey = book.getImageObjectKey();
+        if (objectKey == null || objectKey.isBlank()) {
+            throw new ResourceNotFoundException("Book listing has no image: " + bookId);
+        }
+        String etag = "\"" + ImageCacheService.cacheKey(objectKey) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Resource image = imageCacheService.getImage(objectKey);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(IMAGE_MAX_AGE).cachePublic())
+                .contentType(MediaType.parseMediaType(book.getImageContentType()))
+                .body(image);
+    }
+
     @PreAuthorize("isAuthenticated()")
+    @FieldSelection
     @GetMapping("/me")
     public ResponseEntity<List<BookResponseDto>> getMyBooks(
+            @RequestParam(name = FieldSelection.PARAMETER, required = false) final String fields,
             @AuthenticationPrincipal final CustomUserDetails principal
     ) {
         User currentUser = resolveCurrentUser(principal);
-        List<BookResponseDto> response = bookService.getBooksOfUser(currentUser);
+        List<BookResponseDto> response =
+                bookService.getBooksOfUser(currentUser, ResponseFields.parse(fields));
         return ResponseEntity.ok(response);
     }
 
@@ -88,6 +196,22 @@ public class BookController {
         return ResponseEntity.created(location).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_NDJSON_VALUE,
+        "text/csv"
+    })
+    public ResponseEntity<BookImportReportDto> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        BookImportReportDto response = bookImportService.importBooks(
+                body, contentType, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{bookId}")
     public ResponseEntity<BookResponseDto> updateBook(
             @PathVariable final Long bookId,
@@ -99,15 +223,35 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{bookId}", consumes = JsonMergePatcher.MEDIA_TYPE)
+    public ResponseEntity<BookResponseDto> patchBook(
+            @PathVariable final Long bookId,
+            @RequestBody final JsonNode patch,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        BookResponseDto response = bookService.patchBook(bookId, patch, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/{bookId}/status")
+    public ResponseEntity<Void> updateBookStatus(
+            @PathVariable final Long bookId,
+            @Valid @RequestBody final BookStatusUpdateRequestDto request,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        bookService.updateBookStatus(bookId, request.getStatus(), currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{bookId}")
     public ResponseEntity<Void> deleteBook(
             @PathVariable final Long bookId,
             @AuthenticationPrincipal final CustomUserDetails principal
     ) {
         User currentUser = resolveCurrentUser(principal);
-        String imageObjectKey = bookService.getBookEntityById(bookId).getImageObjectKey();
-        bookService.deleteBook(bookId, currentUser);
-        fileStorageService.deleteObjectQuietly(imageObjectKey);
+        bookImageService.deleteBook(bookId, currentUser);
         return ResponseEntity.noContent().build();
     }
 
@@ -116,31 +260,32 @@ public class BookController {
             @PathVariable final Long bookId,
             @RequestPart("file") final MultipartFile file,
             @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(bookImageService.uploadImage(bookId, file, currentUser));
+    }
+
+    @PostMapping("/{bookId}/image/upload-url")
+    public ResponseEntity<ImageUploadTicketDto> createImageUploadUrl(
+            @PathVariable final Long bookId,
+            @Valid @RequestBody final ImageUploadRequestDto request,
+            @AuthenticationPrincipal final CustomUserDetails principal
     ) {
         User currentUser = resolveCurrentUser(principal);
         bookService.verifyBookOwnerOrAdmin(bookId, currentUser);
-        Book existingBook = bookService.getBookEntityById(bookId);
-        String oldObjectKey = existingBook.getImageObjectKey();
-        FileStorageService.StoredFileResult storedFile = null;
-
-        try {
-            storedFile = fileStorageService.uploadBookImage(file);
-            BookResponseDto response = bookService.updateBookImageMetadata(
-                    bookId, storedFile.fileUrl(), storedFile.objectKey(),
-                    storedFile.contentType(), currentUser);
-
-            if (oldObjectKey != null && !oldObjectKey.isBlank()
-                    && !oldObjectKey.equals(storedFile.objectKey())) {
-                fileStorageService.deleteObjectQuietly(oldObjectKey);
-            }
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException ex) {
-            if (storedFile != null && storedFile.objectKey() != null
-                    && !storedFile.objectKey().isBlank()) {
-                fileStorageService.deleteObjectQuietly(storedFile.objectKey());
-            }
-            throw ex;
-        }
+        return ResponseEntity.ok(fileStorageService.createDirectUpload(
+                bookId, request.getContentType(), request.getSize()));
+    }
+
+    @PostMapping("/{bookId}/image/complete")
+    public ResponseEntity<BookResponseDto> completeImageUpload(
+            @PathVariable final Long bookId,
+            @Valid @RequestBody final ImageUploadCompleteRequestDto request,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(bookImageService.completeDirectUpload(
+                bookId, request.getObjectKey(), currentUser));
     }
 
     @DeleteMapping("/{bookId}/image")
@@ -149,14 +294,7 @@ public class BookController {
             @AuthenticationPrincipal final CustomUserDetails principal
     ) {
         User currentUser = resolveCurrentUser(principal);
-        Book existingBook = bookService.getBookEntityById(bookId);
-        String oldObjectKey = existingBook.getImageObjectKey();
-
-        BookResponseDto response = bookService.clearBookImageMetadata(bookId, currentUser);
-        if (oldObjectKey != null && !oldObjectKey.isBlank()) {
-            fileStorageService.deleteObjectQuietly(oldObjectKey);
-        }
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(bookImageService.removeImage(bookId, currentUser));
     }
 
     private User resolveCurrentUser(final CustomUserDetails principal) {
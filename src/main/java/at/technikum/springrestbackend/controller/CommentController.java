@@ -7,30 +7,39 @@ import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.security.CustomUserDetails;
 import at.technikum.springrestbackend.service.CommentService;
+import at.technikum.springrestbackend.service.CommentStreamService;
+import at.technikum.springrestbackend.service.JsonMergePatcher;
 import at.technikum.springrestbackend.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/comments")
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
     private final UserService userService;
 
     public CommentController(
             final CommentService commentService,
+            final CommentStreamService commentStreamService,
             final UserService userService
     ) {
         this.commentService = commentService;
+        this.commentStreamService = commentStreamService;
         this.userService = userService;
     }
 
+    @FieldSelection
     @GetMapping("/book/{bookId}")
     public ResponseEntity<List<CommentResponseDto>> getCommentsForBook(
             @PathVariable final Long bookId
@@ -39,7 +48,20 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Server-Sent Events feed of the listing's comment changes. A client that reconnects
+     * with {@code Last-Event-ID} first receives the comments created after that id.
+     */
+    @GetMapping(value = "/book/{bookId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCommentsForBook(
+            @PathVariable final Long bookId,
+            @RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId
+    ) {
+        return commentStreamService.subscribe(bookId, lastEventId);
+    }
+
     @PreAuthorize("isAuthenticated()")
+    @FieldSelection
     @GetMapping("/me")
     public ResponseEntity<List<CommentResponseDto>> getMyComments(
             @AuthenticationPrincipal final CustomUserDetails principal
@@ -75,6 +97,17 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{commentId}", consumes = JsonMergePatcher.MEDIA_TYPE)
+    public ResponseEntity<CommentResponseDto> patchComment(
+            @PathVariable final Long commentId,
+            @RequestBody final JsonNode patch,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        CommentResponseDto response = commentService.patchComment(commentId, patch, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable final Long commentId,
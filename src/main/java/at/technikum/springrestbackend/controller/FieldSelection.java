@@ -0,0 +1,21 @@
+package at.technikum.springrestbackend.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks list endpoints whose items can be trimmed with {@code ?fields=id,title,...}.
+ * Applies to the DTO types registered in WebConfig. Endpoints whose items have costly
+ * properties also pass the parsed {@link at.technikum.springrestbackend.dto.ResponseFields}
+ * to the service, so those properties are not built at all.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldSelection {
+
+    String FILTER_ID = "fieldSelection";
+
+    String PARAMETER = "fields";
+}
@@ -0,0 +1,49 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.ResponseFields;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+@RestControllerAdvice
+public class FieldSelectionResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(
+            final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return super.supports(returnType, converterType)
+                && returnType.hasMethodAnnotation(FieldSelection.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(
+            final MappingJacksonValue bodyContainer,
+            final MediaType contentType,
+            final MethodParameter returnType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        ResponseFields fields = ResponseFields.parse(
+                servletRequest.getServletRequest().getParameter(FieldSelection.PARAMETER));
+        if (fields.isAll()) {
+            return;
+        }
+        SimpleBeanPropertyFilter filter =
+                SimpleBeanPropertyFilter.filterOutAllExcept(fields.getSelected());
+        bodyContainer.setFilters(
+                new SimpleFilterProvider().addFilter(FieldSelection.FILTER_ID, filter));
+    }
+}
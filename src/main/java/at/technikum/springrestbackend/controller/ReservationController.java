@@ -0,0 +1,63 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.ReservationResponseDto;
+import at.technikum.springrestbackend.dto.ReservationStatus;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.ReservationService;
+import at.technikum.springrestbackend.service.UserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/books/{bookId}/reservation")
+public class ReservationController {
+
+    private final ReservationService reservationService;
+    private final UserService userService;
+
+    public ReservationController(
+            final ReservationService reservationService,
+            final UserService userService
+    ) {
+        this.reservationService = reservationService;
+        this.userService = userService;
+    }
+
+    /**
+     * Returns 200 when the listing was reserved for the caller and 202 when the caller
+     * was put on the waitlist.
+     */
+    @PostMapping
+    public ResponseEntity<ReservationResponseDto> reserve(
+            @PathVariable final Long bookId,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        ReservationResponseDto response = reservationService.reserve(bookId, currentUser);
+        HttpStatus status = response.getStatus() == ReservationStatus.RESERVED
+                ? HttpStatus.OK
+                : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> cancel(
+            @PathVariable final Long bookId,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        reservationService.cancel(bookId, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    private User resolveCurrentUser(final CustomUserDetails principal) {
+        if (principal == null || principal.getId() == null) {
+            throw new BadRequestException("Authenticated user is required");
+        }
+        return userService.getUserEntityById(principal.getId());
+    }
+}
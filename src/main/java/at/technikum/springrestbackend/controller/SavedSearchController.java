@@ -0,0 +1,92 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.SavedSearchRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchResponseDto;
+import at.technikum.springrestbackend.dto.SearchNotificationDto;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.SavedSearchService;
+import at.technikum.springrestbackend.service.UserService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/saved-searches")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+    private final UserService userService;
+
+    public SavedSearchController(
+            final SavedSearchService savedSearchService,
+            final UserService userService
+    ) {
+        this.savedSearchService = savedSearchService;
+        this.userService = userService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponseDto>> getMySavedSearches(
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(savedSearchService.getSavedSearchesOfUser(currentUser));
+    }
+
+    @PostMapping
+    public ResponseEntity<SavedSearchResponseDto> createSavedSearch(
+            @Valid @RequestBody final SavedSearchRequestDto request,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        SavedSearchResponseDto response =
+                savedSearchService.createSavedSearch(request, currentUser);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @PathVariable final Long savedSearchId,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        savedSearchService.deleteSavedSearch(savedSearchId, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Listings that matched one of the caller's saved searches when they became
+     * available, newest first.
+     */
+    @GetMapping("/notifications")
+    public ResponseEntity<Page<SearchNotificationDto>> getMyNotifications(
+            @AuthenticationPrincipal final CustomUserDetails principal,
+            final Pageable pageable
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(savedSearchService.getNotifications(currentUser, pageable));
+    }
+
+    @DeleteMapping("/notifications")
+    public ResponseEntity<Void> clearMyNotifications(
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        savedSearchService.clearNotifications(currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    private User resolveCurrentUser(final CustomUserDetails principal) {
+        if (principal == null || principal.getId() == null) {
+            throw new BadRequestException("Authenticated user is required");
+        }
+        return userService.getUserEntityById(principal.getId());
+    }
+}
@@ -0,0 +1,58 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.dto.SyncPageDto;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.SyncService;
+import at.technikum.springrestbackend.service.UserService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Delta sync for offline-capable clients: a request without {@code since} starts a full
+ * sync, and each response's {@code nextToken} is passed as {@code since} to receive only
+ * what changed afterwards.
+ */
+@RestController
+@RequestMapping("/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final UserService userService;
+
+    public SyncController(
+            final SyncService syncService,
+            final UserService userService
+    ) {
+        this.syncService = syncService;
+        this.userService = userService;
+    }
+
+    @GetMapping("/books")
+    public ResponseEntity<SyncPageDto<BookResponseDto>> syncBooks(
+            @RequestParam(required = false) final String since
+    ) {
+        return ResponseEntity.ok(syncService.getBookChanges(since));
+    }
+
+    @GetMapping("/comments")
+    public ResponseEntity<SyncPageDto<CommentResponseDto>> syncMyComments(
+            @RequestParam(required = false) final String since,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(syncService.getCommentChangesOfUser(currentUser, since));
+    }
+
+    private User resolveCurrentUser(final CustomUserDetails principal) {
+        if (principal == null || principal.getId() == null) {
+            throw new BadRequestException("Authenticated user is required");
+        }
+
+        return userService.getUserEntityById(principal.getId());
+    }
+}
@@ -5,7 +5,9 @@ import at.technikum.springrestbackend.dto.UserUpdateRequestDto;
 import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.JsonMergePatcher;
 import at.technikum.springrestbackend.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -40,6 +42,16 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/me", consumes = JsonMergePatcher.MEDIA_TYPE)
+    public ResponseEntity<UserResponseDto> patchCurrentUserProfile(
+            @RequestBody final JsonNode patch,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        UserResponseDto response = userService.patchCurrentUserProfile(patch, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
     private User resolveCurrentUser(final CustomUserDetails principal) {
         if (principal == null || principal.getId() == null) {
             throw new BadRequestException("Authenticated user is required");
@@ -0,0 +1,83 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.ExchangeMatchDto;
+import at.technikum.springrestbackend.dto.WantedBookRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookResponseDto;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.ExchangeMatchingService;
+import at.technikum.springrestbackend.service.UserService;
+import at.technikum.springrestbackend.service.WantedBookService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/wanted-books")
+public class WantedBookController {
+
+    private final WantedBookService wantedBookService;
+    private final ExchangeMatchingService exchangeMatchingService;
+    private final UserService userService;
+
+    public WantedBookController(
+            final WantedBookService wantedBookService,
+            final ExchangeMatchingService exchangeMatchingService,
+            final UserService userService
+    ) {
+        this.wantedBookService = wantedBookService;
+        this.exchangeMatchingService = exchangeMatchingService;
+        this.userService = userService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WantedBookResponseDto>> getMyWantedBooks(
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(wantedBookService.getWantedBooksOfUser(currentUser));
+    }
+
+    @PostMapping
+    public ResponseEntity<WantedBookResponseDto> addWantedBook(
+            @Valid @RequestBody final WantedBookRequestDto request,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        WantedBookResponseDto response = wantedBookService.addWantedBook(request, currentUser);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{wantedBookId}")
+    public ResponseEntity<Void> removeWantedBook(
+            @PathVariable final Long wantedBookId,
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        wantedBookService.removeWantedBook(wantedBookId, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Direct swaps and three-way exchange cycles between the caller's exchange listings
+     * and the books other users want.
+     */
+    @GetMapping("/matches")
+    public ResponseEntity<List<ExchangeMatchDto>> getMyMatches(
+            @AuthenticationPrincipal final CustomUserDetails principal
+    ) {
+        User currentUser = resolveCurrentUser(principal);
+        return ResponseEntity.ok(exchangeMatchingService.findMatches(currentUser));
+    }
+
+    private User resolveCurrentUser(final CustomUserDetails principal) {
+        if (principal == null || principal.getId() == null) {
+            throw new BadRequestException("Authenticated user is required");
+        }
+        return userService.getUserEntityById(principal.getId());
+    }
+}
@@ -0,0 +1,24 @@
+package at.technikum.springrestbackend.datasource;
+
+/**
+ * Per-thread marker that sends the current request's connections to the admin pool.
+ */
+public final class AdminPoolContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private AdminPoolContext() {
+    }
+
+    public static void enter() {
+        ACTIVE.set(Boolean.TRUE);
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    public static void clear() {
+        ACTIVE.remove();
+    }
+}
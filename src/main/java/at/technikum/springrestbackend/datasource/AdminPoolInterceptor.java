@@ -0,0 +1,31 @@
+package at.technikum.springrestbackend.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Routes the database work of the requests it is registered for to the admin pool.
+ */
+public class AdminPoolInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        AdminPoolContext.enter();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex
+    ) {
+        AdminPoolContext.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package at.technikum.springrestbackend.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out connections from a small separate pool while {@link AdminPoolContext} is
+ * active, so full-table admin queries can exhaust only their own pool and never make
+ * public requests wait for a connection.
+ */
+public class AdminPoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String APPLICATION = "application";
+    static final String ADMIN = "admin";
+
+    public AdminPoolRoutingDataSource(final DataSource application, final DataSource admin) {
+        setTargetDataSources(Map.of(APPLICATION, application, ADMIN, admin));
+        setDefaultTargetDataSource(application);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return AdminPoolContext.isActive() ? ADMIN : APPLICATION;
+    }
+}
@@ -0,0 +1,67 @@
+package at.technikum.springrestbackend.datasource;
+
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Keeps requests on the primary where a replica could return stale data: requests that
+ * write, and requests by a user who wrote within the stickiness window. The window is
+ * tracked in a shared cache whose TTL is the window, so it holds on every node.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final Cache recentWriters;
+
+    public ReadYourWritesInterceptor(final Cache recentWriters) {
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        Long userId = currentUserId();
+        if (!isSafe(request.getMethod())) {
+            ReadRoutingContext.forcePrimary();
+            if (userId != null) {
+                // Marked before the write: a few extra primary reads are harmless
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        } else if (userId != null && recentWriters.get(userId) != null) {
+            ReadRoutingContext.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex
+    ) {
+        ReadRoutingContext.clear();
+    }
+
+    private static boolean isSafe(final String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package at.technikum.springrestbackend.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * A read replica and the result of its last health check. A replica is usable while it
+ * answered the last check and its replication lag stayed within the limit.
+ */
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+
+    public Replica(final String name, final DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isUsable() {
+        return healthy;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    void update(final boolean usable, final double lag) {
+        this.lagSeconds = lag;
+        this.healthy = usable;
+    }
+
+    void markUnavailable() {
+        this.healthy = false;
+    }
+}
@@ -0,0 +1,59 @@
+package at.technikum.springrestbackend.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Checks every replica on a fixed delay. The lag query must return the replication lag
+ * in seconds in {@code lagColumn}; a NULL lag (replication stopped) or a lag above the
+ * limit takes the replica out of rotation until a later check passes.
+ */
+public class ReplicaHealthMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final double maxLagSeconds;
+    private final int timeoutSeconds;
+
+    public ReplicaHealthMonitor(
+            final ReplicaRoutingDataSource routingDataSource,
+            final String lagQuery,
+            final String lagColumn,
+            final double maxLagSeconds,
+            final int timeoutSeconds
+    ) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : routingDataSource.getReplicas()) {
+            double lag = measureLag(replica);
+            replica.update(!Double.isNaN(lag) && lag <= maxLagSeconds, lag);
+        }
+    }
+
+    private double measureLag(final Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return Double.NaN;
+                }
+                double lag = resultSet.getDouble(lagColumn);
+                return resultSet.wasNull() ? Double.NaN : lag;
+            }
+        } catch (SQLException ex) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package at.technikum.springrestbackend.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else
+ * to the primary. Replicas that fail their health check, lag too far behind or refuse
+ * a connection are skipped; without a usable replica, reads fall back to the primary.
+ *
+ * <p>Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager
+ * opens the connection before it marks the transaction read-only, so the routing
+ * decision has to wait for the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(final DataSource primary, final List<Replica> replicas) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = ReadRoutingContext.isPrimaryForced() ? null : nextUsableReplica();
+        if (replica == null) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica.getName();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource target = (DataSource) getResolvedDataSources().get(key);
+        if (PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException ex) {
+            replicas.stream()
+                    .filter(replica -> replica.getName().equals(key))
+                    .forEach(Replica::markUnavailable);
+            return ((DataSource) getResolvedDefaultDataSource()).getConnection();
+        }
+    }
+
+    private Replica nextUsableReplica() {
+        int count = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, count));
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (replica.isUsable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("datasource.reads", primaryReads, LongAdder::sum)
+                .description("Read-only transactions by the pool that served them")
+                .tag("target", PRIMARY)
+                .register(registry);
+        FunctionCounter.builder("datasource.reads", replicaReads, LongAdder::sum)
+                .description("Read-only transactions by the pool that served them")
+                .tag("target", "replica")
+                .register(registry);
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.usable", replica, r -> r.isUsable() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagSeconds)
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package at.technikum.springrestbackend.dto;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class BookFacetsDto {
+
+    private Map<BookCondition, Long> conditions = new EnumMap<>(BookCondition.class);
+    private Map<ExchangeType, Long> exchangeTypes = new EnumMap<>(ExchangeType.class);
+    private Map<String, Long> languages = new TreeMap<>();
+    private long total;
+
+    public BookFacetsDto() {
+        for (BookCondition condition : BookCondition.values()) {
+            conditions.put(condition, 0L);
+        }
+        for (ExchangeType exchangeType : ExchangeType.values()) {
+            exchangeTypes.put(exchangeType, 0L);
+        }
+    }
+
+    public Map<BookCondition, Long> getConditions() {
+        return conditions;
+    }
+
+    public Map<ExchangeType, Long> getExchangeTypes() {
+        return exchangeTypes;
+    }
+
+    public Map<String, Long> getLanguages() {
+        return languages;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setConditions(final Map<BookCondition, Long> conditions) {
+        this.conditions = conditions;
+    }
+
+    public void setExchangeTypes(final Map<ExchangeType, Long> exchangeTypes) {
+        this.exchangeTypes = exchangeTypes;
+    }
+
+    public void setLanguages(final Map<String, Long> languages) {
+        this.languages = languages;
+    }
+
+    public void setTotal(final long total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,57 @@
+package at.technikum.springrestbackend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookImportReportDto {
+
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private List<BookImportRowResultDto> rows = new ArrayList<>();
+
+    public BookImportReportDto() {
+    }
+
+    public void addRow(final BookImportRowResultDto row) {
+        rows.add(row);
+        totalRows++;
+        if (row.getStatus() == BookImportRowStatus.IMPORTED) {
+            importedCount++;
+        } else {
+            failedCount++;
+        }
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public List<BookImportRowResultDto> getRows() {
+        return rows;
+    }
+
+    public void setTotalRows(final long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void setImportedCount(final long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public void setFailedCount(final long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public void setRows(final List<BookImportRowResultDto> rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,59 @@
+package at.technikum.springrestbackend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookImportRowResultDto {
+
+    private long rowNumber;
+    private BookImportRowStatus status;
+    private Long bookId;
+    private List<String> errors = new ArrayList<>();
+
+    public BookImportRowResultDto() {
+    }
+
+    public BookImportRowResultDto(
+            final long rowNumber,
+            final BookImportRowStatus status,
+            final Long bookId,
+            final List<String> errors
+    ) {
+        this.rowNumber = rowNumber;
+        this.status = status;
+        this.bookId = bookId;
+        this.errors = errors;
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public BookImportRowStatus getStatus() {
+        return status;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setRowNumber(final long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public void setStatus(final BookImportRowStatus status) {
+        this.status = status;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setErrors(final List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -3,9 +3,12 @@ package at.technikum.springrestbackend.dto;
 import at.technikum.springrestbackend.entity.BookCondition;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
-public class BookResponseDto {
+public class BookResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String title;
@@ -29,6 +32,23 @@ public class BookResponseDto {
     public BookResponseDto() {
     }
 
+    public BookResponseDto(final BookResponseDto other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.authorName = other.authorName;
+        this.description = other.description;
+        this.language = other.language;
+        this.condition = other.condition;
+        this.exchangeType = other.exchangeType;
+        this.status = other.status;
+        this.imageUrl = other.imageUrl;
+        this.imageContentType = other.imageContentType;
+        this.ownerId = other.ownerId;
+        this.ownerUsername = other.ownerUsername;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,21 @@
+package at.technikum.springrestbackend.dto;
+
+import at.technikum.springrestbackend.entity.ListingStatus;
+import jakarta.validation.constraints.NotNull;
+
+public class BookStatusUpdateRequestDto {
+
+    @NotNull(message = "Listing status is required")
+    private ListingStatus status;
+
+    public BookStatusUpdateRequestDto() {
+    }
+
+    public ListingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final ListingStatus status) {
+        this.status = status;
+    }
+}
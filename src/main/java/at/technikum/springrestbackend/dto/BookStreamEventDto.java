@@ -0,0 +1,103 @@
+package at.technikum.springrestbackend.dto;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import java.time.LocalDateTime;
+
+public class BookStreamEventDto {
+
+    private BookStreamEventType type;
+    private Long bookId;
+    private Long ownerId;
+    private String title;
+    private String authorName;
+    private String language;
+    private BookCondition condition;
+    private ExchangeType exchangeType;
+    private ListingStatus status;
+    private LocalDateTime updatedAt;
+
+    public BookStreamEventDto() {
+    }
+
+    public BookStreamEventType getType() {
+        return type;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public BookCondition getCondition() {
+        return condition;
+    }
+
+    public ExchangeType getExchangeType() {
+        return exchangeType;
+    }
+
+    public ListingStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setType(final BookStreamEventType type) {
+        this.type = type;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setOwnerId(final Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public void setAuthorName(final String authorName) {
+        this.authorName = authorName;
+    }
+
+    public void setLanguage(final String language) {
+        this.language = language;
+    }
+
+    public void setCondition(final BookCondition condition) {
+        this.condition = condition;
+    }
+
+    public void setExchangeType(final ExchangeType exchangeType) {
+        this.exchangeType = exchangeType;
+    }
+
+    public void setStatus(final ListingStatus status) {
+        this.status = status;
+    }
+
+    public void setUpdatedAt(final LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package at.technikum.springrestbackend.dto;
+
+public enum BookStreamEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,59 @@
+package at.technikum.springrestbackend.dto;
+
+/**
+ * One listing of an exchange, handed from its owner to the receiving user.
+ */
+public class ExchangeLegDto {
+
+    private Long bookId;
+    private String title;
+    private Long fromUserId;
+    private Long toUserId;
+
+    public ExchangeLegDto() {
+    }
+
+    public ExchangeLegDto(
+            final Long bookId,
+            final String title,
+            final Long fromUserId,
+            final Long toUserId
+    ) {
+        this.bookId = bookId;
+        this.title = title;
+        this.fromUserId = fromUserId;
+        this.toUserId = toUserId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Long getFromUserId() {
+        return fromUserId;
+    }
+
+    public Long getToUserId() {
+        return toUserId;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public void setFromUserId(final Long fromUserId) {
+        this.fromUserId = fromUserId;
+    }
+
+    public void setToUserId(final Long toUserId) {
+        this.toUserId = toUserId;
+    }
+}
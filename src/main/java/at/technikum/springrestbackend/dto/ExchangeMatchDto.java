@@ -0,0 +1,37 @@
+package at.technikum.springrestbackend.dto;
+
+import java.util.List;
+
+/**
+ * A direct swap (two legs) or a three-way cycle (three legs). The first leg is the
+ * listing the requesting user receives, the last one is the listing they give away.
+ */
+public class ExchangeMatchDto {
+
+    private ExchangeMatchType type;
+    private List<ExchangeLegDto> legs;
+
+    public ExchangeMatchDto() {
+    }
+
+    public ExchangeMatchDto(final ExchangeMatchType type, final List<ExchangeLegDto> legs) {
+        this.type = type;
+        this.legs = legs;
+    }
+
+    public ExchangeMatchType getType() {
+        return type;
+    }
+
+    public List<ExchangeLegDto> getLegs() {
+        return legs;
+    }
+
+    public void setType(final ExchangeMatchType type) {
+        this.type = type;
+    }
+
+    public void setLegs(final List<ExchangeLegDto> legs) {
+        this.legs = legs;
+    }
+}
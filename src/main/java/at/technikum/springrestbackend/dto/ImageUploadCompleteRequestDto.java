@@ -0,0 +1,20 @@
+package at.technikum.springrestbackend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class ImageUploadCompleteRequestDto {
+
+    @NotBlank(message = "Object key is required")
+    private String objectKey;
+
+    public ImageUploadCompleteRequestDto() {
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public void setObjectKey(final String objectKey) {
+        this.objectKey = objectKey;
+    }
+}
@@ -0,0 +1,63 @@
+package at.technikum.springrestbackend.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Browser upload target: POST a multipart form to {@code uploadUrl} with every entry of
+ * {@code formFields} followed by the image as field {@code file}.
+ */
+public class ImageUploadTicketDto {
+
+    private String uploadUrl;
+    private String objectKey;
+    private Map<String, String> formFields;
+    private Instant expiresAt;
+
+    public ImageUploadTicketDto() {
+    }
+
+    public ImageUploadTicketDto(
+            final String uploadUrl,
+            final String objectKey,
+            final Map<String, String> formFields,
+            final Instant expiresAt
+    ) {
+        this.uploadUrl = uploadUrl;
+        this.objectKey = objectKey;
+        this.formFields = formFields;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUploadUrl() {
+        return uploadUrl;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public Map<String, String> getFormFields() {
+        return formFields;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setUploadUrl(final String uploadUrl) {
+        this.uploadUrl = uploadUrl;
+    }
+
+    public void setObjectKey(final String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public void setFormFields(final Map<String, String> formFields) {
+        this.formFields = formFields;
+    }
+
+    public void setExpiresAt(final Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,65 @@
+package at.technikum.springrestbackend.dto;
+
+import java.time.LocalDateTime;
+
+public class ReservationResponseDto {
+
+    private Long bookId;
+    private ReservationStatus status;
+    private LocalDateTime reservedUntil;
+    private Long waitlistPosition;
+
+    public ReservationResponseDto() {
+    }
+
+    public static ReservationResponseDto reserved(
+            final Long bookId,
+            final LocalDateTime reservedUntil
+    ) {
+        ReservationResponseDto dto = new ReservationResponseDto();
+        dto.setBookId(bookId);
+        dto.setStatus(ReservationStatus.RESERVED);
+        dto.setReservedUntil(reservedUntil);
+        return dto;
+    }
+
+    public static ReservationResponseDto waitlisted(final Long bookId, final long position) {
+        ReservationResponseDto dto = new ReservationResponseDto();
+        dto.setBookId(bookId);
+        dto.setStatus(ReservationStatus.WAITLISTED);
+        dto.setWaitlistPosition(position);
+        return dto;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+
+    public Long getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setStatus(final ReservationStatus status) {
+        this.status = status;
+    }
+
+    public void setReservedUntil(final LocalDateTime reservedUntil) {
+        this.reservedUntil = reservedUntil;
+    }
+
+    public void setWaitlistPosition(final Long waitlistPosition) {
+        this.waitlistPosition = waitlistPosition;
+    }
+}
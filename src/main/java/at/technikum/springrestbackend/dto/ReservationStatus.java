@@ -0,0 +1,6 @@
+package at.technikum.springrestbackend.dto;
+
+public enum ReservationStatus {
+    RESERVED,
+    WAITLISTED
+}
@@ -0,0 +1,50 @@
+package at.technikum.springrestbackend.dto;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The response properties a client selected with {@code ?fields=id,title,...}. Mappings
+ * use it to skip properties that are expensive to build, such as signed image URLs,
+ * when the serializer would drop them anyway.
+ */
+public final class ResponseFields {
+
+    public static final ResponseFields ALL = new ResponseFields(null);
+
+    private final Set<String> selected;
+
+    private ResponseFields(final Set<String> selected) {
+        this.selected = selected;
+    }
+
+    /**
+     * Parses the comma-separated parameter value; a missing or blank value selects all
+     * properties.
+     */
+    public static ResponseFields parse(final String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return new ResponseFields(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public boolean isAll() {
+        return selected == null;
+    }
+
+    public boolean includes(final String property) {
+        return selected == null || selected.contains(property);
+    }
+
+    /**
+     * The selected property names; only meaningful when {@link #isAll()} is false.
+     */
+    public Set<String> getSelected() {
+        return selected;
+    }
+}
@@ -0,0 +1,53 @@
+package at.technikum.springrestbackend.dto;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import jakarta.validation.constraints.Size;
+
+public class SavedSearchRequestDto {
+
+    @Size(max = 255, message = "Search text must not exceed 255 characters")
+    private String searchText;
+
+    private BookCondition condition;
+
+    private ExchangeType exchangeType;
+
+    @Size(max = 50, message = "Language must not exceed 50 characters")
+    private String language;
+
+    public SavedSearchRequestDto() {
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public BookCondition getCondition() {
+        return condition;
+    }
+
+    public ExchangeType getExchangeType() {
+        return exchangeType;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setSearchText(final String searchText) {
+        this.searchText = searchText;
+    }
+
+    public void setCondition(final BookCondition condition) {
+        this.condition = condition;
+    }
+
+    public void setExchangeType(final ExchangeType exchangeType) {
+        this.exchangeType = exchangeType;
+    }
+
+    public void setLanguage(final String language) {
+        this.language = language;
+    }
+}
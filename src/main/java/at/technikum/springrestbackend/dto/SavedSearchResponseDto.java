@@ -0,0 +1,66 @@
+package at.technikum.springrestbackend.dto;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import java.time.LocalDateTime;
+
+public class SavedSearchResponseDto {
+
+    private Long id;
+    private String searchText;
+    private BookCondition condition;
+    private ExchangeType exchangeType;
+    private String language;
+    private LocalDateTime createdAt;
+
+    public SavedSearchResponseDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public BookCondition getCondition() {
+        return condition;
+    }
+
+    public ExchangeType getExchangeType() {
+        return exchangeType;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public void setSearchText(final String searchText) {
+        this.searchText = searchText;
+    }
+
+    public void setCondition(final BookCondition condition) {
+        this.condition = condition;
+    }
+
+    public void setExchangeType(final ExchangeType exchangeType) {
+        this.exchangeType = exchangeType;
+    }
+
+    public void setLanguage(final String language) {
+        this.language = language;
+    }
+
+    public void setCreatedAt(final LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
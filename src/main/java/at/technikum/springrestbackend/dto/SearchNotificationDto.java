@@ -0,0 +1,55 @@
+package at.technikum.springrestbackend.dto;
+
+import java.time.LocalDateTime;
+
+public class SearchNotificationDto {
+
+    private Long id;
+    private Long savedSearchId;
+    private Long bookId;
+    private String bookTitle;
+    private LocalDateTime createdAt;
+
+    public SearchNotificationDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getBookTitle() {
+        return bookTitle;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public void setSavedSearchId(final Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setBookTitle(final String bookTitle) {
+        this.bookTitle = bookTitle;
+    }
+
+    public void setCreatedAt(final LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
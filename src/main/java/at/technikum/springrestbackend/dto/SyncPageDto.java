@@ -0,0 +1,64 @@
+package at.technikum.springrestbackend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a delta sync. Clients apply {@code changed} as upserts, then remove the
+ * {@code deleted} ids, and send {@code nextToken} as {@code since} on the next request;
+ * while {@code hasMore} is set they should fetch the next page right away. {@code reset}
+ * marks the first page of a full sync, before which the local copy is discarded.
+ *
+ * @param <T> the synced resource
+ */
+public class SyncPageDto<T> {
+
+    private List<T> changed = new ArrayList<>();
+    private List<Long> deleted = new ArrayList<>();
+    private String nextToken;
+    private boolean hasMore;
+    private boolean reset;
+
+    public SyncPageDto() {
+    }
+
+    public List<T> getChanged() {
+        return changed;
+    }
+
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setChanged(final List<T> changed) {
+        this.changed = changed;
+    }
+
+    public void setDeleted(final List<Long> deleted) {
+        this.deleted = deleted;
+    }
+
+    public void setNextToken(final String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public void setHasMore(final boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public void setReset(final boolean reset) {
+        this.reset = reset;
+    }
+}
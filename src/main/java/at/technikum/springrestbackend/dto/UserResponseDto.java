@@ -1,9 +1,12 @@
 package at.technikum.springrestbackend.dto;
 
 import at.technikum.springrestbackend.entity.Role;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
-public class UserResponseDto {
+public class UserResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String email;
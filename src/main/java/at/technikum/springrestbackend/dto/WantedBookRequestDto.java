@@ -0,0 +1,31 @@
+package at.technikum.springrestbackend.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class WantedBookRequestDto {
+
+    @Size(max = 255, message = "Title must not exceed 255 characters")
+    private String title;
+
+    @Size(max = 255, message = "Author name must not exceed 255 characters")
+    private String authorName;
+
+    public WantedBookRequestDto() {
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public void setAuthorName(final String authorName) {
+        this.authorName = authorName;
+    }
+}
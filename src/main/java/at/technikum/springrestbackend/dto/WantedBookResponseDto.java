@@ -0,0 +1,46 @@
+package at.technikum.springrestbackend.dto;
+
+import java.time.LocalDateTime;
+
+public class WantedBookResponseDto {
+
+    private Long id;
+    private String title;
+    private String authorName;
+    private LocalDateTime createdAt;
+
+    public WantedBookResponseDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public void setAuthorName(final String authorName) {
+        this.authorName = authorName;
+    }
+
+    public void setCreatedAt(final LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
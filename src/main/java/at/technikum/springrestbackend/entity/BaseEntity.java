@@ -13,8 +13,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    // Pooled sequences (one per table, allocation size 50) let Hibernate assign ids
+    // without an INSERT round trip, which keeps JDBC insert batching enabled.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Version
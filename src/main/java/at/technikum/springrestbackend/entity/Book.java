@@ -1,20 +1,37 @@
 package at.technikum.springrestbackend.entity;
 
+import at.technikum.springrestbackend.cache.EntityCacheRegions;
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "book_listing")
+@Table(
+        name = "book_listing",
+        indexes = {
+            @Index(name = "idx_book_listing_image_object_key", columnList = "imageObjectKey"),
+            @Index(name = "idx_book_listing_reserved_until",
+                    columnList = "listing_status, reservedUntil"),
+            @Index(name = "idx_book_listing_updated_at", columnList = "updatedAt, id")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.BOOKS)
+@DynamicUpdate
 public class Book extends BaseEntity {
 
     @Column(nullable = false, length = 200)
@@ -23,6 +40,9 @@ public class Book extends BaseEntity {
     @Column(nullable = false, length = 150)
     private String authorName;
 
+    // Lazy with bytecode enhancement: ownership checks and status changes skip the column;
+    // queries that map listings to DTOs fetch it explicitly (see BookRepository)
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false, length = 2000)
     private String description;
 
@@ -41,9 +61,6 @@ public class Book extends BaseEntity {
     @Column(name = "listing_status", nullable = false, length = 20)
     private ListingStatus status = ListingStatus.AVAILABLE;
 
-    @Column(length = 1000)
-    private String imageUrl;
-
     @Column(length = 255)
     private String imageObjectKey;
 
@@ -54,6 +71,14 @@ public class Book extends BaseEntity {
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
+    // Set together with status RESERVED by the reservation API (see BookStatusRepository);
+    // cleared whenever the listing leaves RESERVED
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reserved_by_id")
+    private User reservedBy;
+
+    private LocalDateTime reservedUntil;
+
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
@@ -88,10 +113,6 @@ public class Book extends BaseEntity {
         return status;
     }
 
-    public String getImageUrl() {
-        return imageUrl;
-    }
-
     public String getImageObjectKey() {
         return imageObjectKey;
     }
@@ -104,6 +125,14 @@ public class Book extends BaseEntity {
         return owner;
     }
 
+    public User getReservedBy() {
+        return reservedBy;
+    }
+
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+
     public List<Comment> getComments() {
         return comments;
     }
@@ -136,10 +165,6 @@ public class Book extends BaseEntity {
         this.status = status;
     }
 
-    public void setImageUrl(final String imageUrl) {
-        this.imageUrl = imageUrl;
-    }
-
     public void setImageObjectKey(final String imageObjectKey) {
         this.imageObjectKey = imageObjectKey;
     }
@@ -152,6 +177,14 @@ public class Book extends BaseEntity {
         this.owner = owner;
     }
 
+    public void setReservedBy(final User reservedBy) {
+        this.reservedBy = reservedBy;
+    }
+
+    public void setReservedUntil(final LocalDateTime reservedUntil) {
+        this.reservedUntil = reservedUntil;
+    }
+
     public void setComments(final List<Comment> comments) {
         this.comments = comments;
     }
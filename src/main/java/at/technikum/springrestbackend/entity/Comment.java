@@ -3,12 +3,23 @@ package at.technikum.springrestbackend.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "comment")
+@Table(
+        name = "comment",
+        indexes = {
+            @Index(name = "idx_comment_author_updated_at",
+                    columnList = "author_id, updatedAt, id"),
+            @Index(name = "idx_comment_book_created_at",
+                    columnList = "book_id, createdAt, id")
+        }
+)
+@DynamicUpdate
 public class Comment extends BaseEntity {
 
     @Column(nullable = false, length = 1000)
@@ -0,0 +1,46 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Records the last time an upload resolved to a shared content-addressed object. The
+ * deferred deletion job locks this row before deleting the object, so an upload that
+ * reuses the stored content and the deletion of that content cannot interleave.
+ */
+@Entity
+@Table(name = "object_key_claim")
+public class ObjectKeyClaim extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 255)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private LocalDateTime claimedAt;
+
+    public ObjectKeyClaim() {
+    }
+
+    public ObjectKeyClaim(final String objectKey, final LocalDateTime claimedAt) {
+        this.objectKey = objectKey;
+        this.claimedAt = claimedAt;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setObjectKey(final String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public void setClaimedAt(final LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+}
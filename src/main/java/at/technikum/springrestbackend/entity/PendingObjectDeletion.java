@@ -0,0 +1,51 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "pending_object_deletion",
+        indexes = @Index(name = "idx_pending_deletion_next_attempt", columnList = "nextAttemptAt")
+)
+public class PendingObjectDeletion extends BaseEntity {
+
+    @Column(nullable = false, length = 255)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public PendingObjectDeletion() {
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setObjectKey(final String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+    public void setNextAttemptAt(final LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,51 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A user waiting for a reserved listing. Entries are served in creation order; ids
+ * come from a pooled sequence and are only used to break ties.
+ */
+@Entity
+@Table(
+        name = "reservation_waitlist",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_waitlist_book_user", columnNames = {"bookId", "userId"}),
+        indexes = @Index(name = "idx_reservation_waitlist_queue", columnList = "bookId, createdAt")
+)
+public class ReservationWaitlistEntry extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    public ReservationWaitlistEntry() {
+    }
+
+    public ReservationWaitlistEntry(final Long bookId, final Long userId) {
+        this.bookId = bookId;
+        this.userId = userId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setUserId(final Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,84 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * The filters of {@code GET /books} a user wants to be notified about. Empty fields
+ * match every listing, the search text matches title or author like the listing search.
+ */
+@Entity
+@Table(
+        name = "saved_search",
+        indexes = @Index(name = "idx_saved_search_user", columnList = "user_id")
+)
+public class SavedSearch extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(length = 255)
+    private String searchText;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "book_condition", length = 20)
+    private BookCondition condition;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private ExchangeType exchangeType;
+
+    @Column(length = 50)
+    private String language;
+
+    public SavedSearch() {
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public BookCondition getCondition() {
+        return condition;
+    }
+
+    public ExchangeType getExchangeType() {
+        return exchangeType;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setUser(final User user) {
+        this.user = user;
+    }
+
+    public void setSearchText(final String searchText) {
+        this.searchText = searchText;
+    }
+
+    public void setCondition(final BookCondition condition) {
+        this.condition = condition;
+    }
+
+    public void setExchangeType(final ExchangeType exchangeType) {
+        this.exchangeType = exchangeType;
+    }
+
+    public void setLanguage(final String language) {
+        this.language = language;
+    }
+}
@@ -0,0 +1,80 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A feed entry telling a user that a listing matching one of their saved searches
+ * became available. The title is copied so the feed is read without joining books.
+ */
+@Entity
+@Table(
+        name = "search_notification",
+        indexes = {
+            @Index(name = "idx_search_notification_feed", columnList = "userId, createdAt"),
+            @Index(name = "idx_search_notification_book", columnList = "bookId")
+        }
+)
+public class SearchNotification extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long savedSearchId;
+
+    @Column(nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false, length = 255)
+    private String bookTitle;
+
+    public SearchNotification() {
+    }
+
+    public SearchNotification(
+            final Long userId,
+            final Long savedSearchId,
+            final Long bookId,
+            final String bookTitle
+    ) {
+        this.userId = userId;
+        this.savedSearchId = savedSearchId;
+        this.bookId = bookId;
+        this.bookTitle = bookTitle;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getBookTitle() {
+        return bookTitle;
+    }
+
+    public void setUserId(final Long userId) {
+        this.userId = userId;
+    }
+
+    public void setSavedSearchId(final Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public void setBookId(final Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public void setBookTitle(final String bookTitle) {
+        this.bookTitle = bookTitle;
+    }
+}
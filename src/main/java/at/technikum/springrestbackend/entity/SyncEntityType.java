@@ -0,0 +1,6 @@
+package at.technikum.springrestbackend.entity;
+
+public enum SyncEntityType {
+    BOOK,
+    COMMENT
+}
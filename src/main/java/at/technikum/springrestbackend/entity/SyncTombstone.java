@@ -0,0 +1,73 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Records that a listing or comment was deleted, so delta sync clients learn about rows
+ * that no longer exist. {@code createdAt} is the deletion time; tombstones are purged
+ * after the retention window, and older sync tokens restart with a full sync.
+ */
+@Entity
+@Table(
+        name = "sync_tombstone",
+        indexes = {
+            @Index(name = "idx_sync_tombstone_type_created",
+                    columnList = "entityType, createdAt, id"),
+            @Index(name = "idx_sync_tombstone_user_created",
+                    columnList = "entityType, userId, createdAt, id")
+        }
+)
+public class SyncTombstone extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    // Owner of the listing or author of the comment, for per-user sync
+    private Long userId;
+
+    public SyncTombstone() {
+    }
+
+    public SyncTombstone(
+            final SyncEntityType entityType,
+            final Long entityId,
+            final Long userId
+    ) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.userId = userId;
+    }
+
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setEntityType(final SyncEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public void setEntityId(final Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public void setUserId(final Long userId) {
+        this.userId = userId;
+    }
+}
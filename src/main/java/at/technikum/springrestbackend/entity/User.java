@@ -1,5 +1,6 @@
 package at.technikum.springrestbackend.entity;
 
+import at.technikum.springrestbackend.cache.EntityCacheRegions;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,11 +10,20 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "app_user")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.USERS)
+@NaturalIdCache(region = EntityCacheRegions.USERS_BY_EMAIL)
+@DynamicUpdate
 public class User extends BaseEntity {
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
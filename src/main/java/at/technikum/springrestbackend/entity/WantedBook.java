@@ -0,0 +1,58 @@
+package at.technikum.springrestbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * A title or author a user wants to receive in an exchange. Either field may be empty;
+ * a listing matches when every given field matches.
+ */
+@Entity
+@Table(
+        name = "wanted_book",
+        indexes = @Index(name = "idx_wanted_book_user", columnList = "user_id")
+)
+public class WantedBook extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(length = 255)
+    private String title;
+
+    @Column(length = 255)
+    private String authorName;
+
+    public WantedBook() {
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setUser(final User user) {
+        this.user = user;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public void setAuthorName(final String authorName) {
+        this.authorName = authorName;
+    }
+}
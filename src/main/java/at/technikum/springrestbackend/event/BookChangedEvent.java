@@ -0,0 +1,34 @@
+package at.technikum.springrestbackend.event;
+
+import at.technikum.springrestbackend.entity.ListingStatus;
+
+/**
+ * Published by BookService inside the writing transaction. {@code before} is null for
+ * CREATED and {@code after} is null for DELETED. Listeners that maintain derived state
+ * should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record BookChangedEvent(
+        BookChangeType type,
+        Long bookId,
+        BookSnapshot before,
+        BookSnapshot after
+) {
+
+    public static BookChangedEvent created(final BookSnapshot after) {
+        return new BookChangedEvent(BookChangeType.CREATED, after.id(), null, after);
+    }
+
+    public static BookChangedEvent updated(final BookSnapshot before, final BookSnapshot after) {
+        return new BookChangedEvent(BookChangeType.UPDATED, after.id(), before, after);
+    }
+
+    public static BookChangedEvent deleted(final BookSnapshot before) {
+        return new BookChangedEvent(BookChangeType.DELETED, before.id(), before, null);
+    }
+
+    public boolean statusChanged() {
+        ListingStatus oldStatus = before == null ? null : before.status();
+        ListingStatus newStatus = after == null ? null : after.status();
+        return oldStatus != newStatus;
+    }
+}
@@ -0,0 +1,44 @@
+package at.technikum.springrestbackend.event;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import java.time.LocalDateTime;
+
+public record BookSnapshot(
+        Long id,
+        Long ownerId,
+        String title,
+        String authorName,
+        String language,
+        BookCondition condition,
+        ExchangeType exchangeType,
+        ListingStatus status,
+        LocalDateTime updatedAt
+) {
+
+    public static BookSnapshot of(final Book book) {
+        Long ownerId = book.getOwner() == null ? null : book.getOwner().getId();
+        return new BookSnapshot(
+                book.getId(),
+                ownerId,
+                book.getTitle(),
+                book.getAuthorName(),
+                book.getLanguage(),
+                book.getCondition(),
+                book.getExchangeType(),
+                book.getStatus(),
+                book.getUpdatedAt()
+        );
+    }
+
+    public BookSnapshot withStatus(final ListingStatus newStatus, final LocalDateTime changedAt) {
+        return new BookSnapshot(id, ownerId, title, authorName, language, condition,
+                exchangeType, newStatus, changedAt);
+    }
+
+    public boolean isAvailable() {
+        return status == ListingStatus.AVAILABLE;
+    }
+}
@@ -0,0 +1,7 @@
+package at.technikum.springrestbackend.event;
+
+public enum CommentChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
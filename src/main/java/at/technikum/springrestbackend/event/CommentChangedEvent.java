@@ -0,0 +1,27 @@
+package at.technikum.springrestbackend.event;
+
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+
+/**
+ * Published by CommentService inside the writing transaction. It carries the response
+ * representation because the comment's author is lazy and cannot be loaded once the
+ * transaction has ended.
+ */
+public record CommentChangedEvent(
+        CommentChangeType type,
+        Long bookId,
+        CommentResponseDto comment
+) {
+
+    public static CommentChangedEvent created(final CommentResponseDto comment) {
+        return new CommentChangedEvent(CommentChangeType.CREATED, comment.getBookId(), comment);
+    }
+
+    public static CommentChangedEvent updated(final CommentResponseDto comment) {
+        return new CommentChangedEvent(CommentChangeType.UPDATED, comment.getBookId(), comment);
+    }
+
+    public static CommentChangedEvent deleted(final CommentResponseDto comment) {
+        return new CommentChangedEvent(CommentChangeType.DELETED, comment.getBookId(), comment);
+    }
+}
@@ -0,0 +1,30 @@
+package at.technikum.springrestbackend.event;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.SavedSearch;
+
+/**
+ * Published by SavedSearchService inside the writing transaction. The filters are null
+ * when the saved search was removed.
+ */
+public record SavedSearchChangedEvent(
+        Long savedSearchId,
+        Long userId,
+        String searchText,
+        BookCondition condition,
+        ExchangeType exchangeType,
+        String language,
+        boolean removed
+) {
+
+    public static SavedSearchChangedEvent saved(final SavedSearch savedSearch) {
+        return new SavedSearchChangedEvent(savedSearch.getId(), savedSearch.getUser().getId(),
+                savedSearch.getSearchText(), savedSearch.getCondition(),
+                savedSearch.getExchangeType(), savedSearch.getLanguage(), false);
+    }
+
+    public static SavedSearchChangedEvent removed(final Long savedSearchId, final Long userId) {
+        return new SavedSearchChangedEvent(savedSearchId, userId, null, null, null, null, true);
+    }
+}
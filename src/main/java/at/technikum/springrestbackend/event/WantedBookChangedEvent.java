@@ -0,0 +1,27 @@
+package at.technikum.springrestbackend.event;
+
+/**
+ * Published by WantedBookService inside the writing transaction. Title and author are
+ * null when the wanted book was removed.
+ */
+public record WantedBookChangedEvent(
+        Long wantedBookId,
+        Long userId,
+        String title,
+        String authorName,
+        boolean removed
+) {
+
+    public static WantedBookChangedEvent saved(
+            final Long wantedBookId,
+            final Long userId,
+            final String title,
+            final String authorName
+    ) {
+        return new WantedBookChangedEvent(wantedBookId, userId, title, authorName, false);
+    }
+
+    public static WantedBookChangedEvent removed(final Long wantedBookId, final Long userId) {
+        return new WantedBookChangedEvent(wantedBookId, userId, null, null, true);
+    }
+}
@@ -2,9 +2,12 @@ package at.technikum.springrestbackend.mapper;
 
 import at.technikum.springrestbackend.dto.BookCreateRequestDto;
 import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.BookStreamEventDto;
+import at.technikum.springrestbackend.dto.BookStreamEventType;
 import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
 import at.technikum.springrestbackend.entity.Book;
 import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookSnapshot;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -56,7 +59,6 @@ public class BookMapper {
         dto.setCondition(book.getCondition());
         dto.setExchangeType(book.getExchangeType());
         dto.setStatus(book.getStatus());
-        dto.setImageUrl(book.getImageUrl());
         dto.setImageContentType(book.getImageContentType());
 
         if (book.getOwner() != null) {
@@ -79,4 +81,26 @@ public class BookMapper {
                 .map(this::toResponseDto)
                 .toList();
     }
-}
\ No newline at end of file
+
+    public BookStreamEventDto toStreamEventDto(
+            final BookStreamEventType type,
+            final BookSnapshot snapshot
+    ) {
+        if (snapshot == null) {
+            return null;
+        }
+
+        BookStreamEventDto dto = new BookStreamEventDto();
+        dto.setType(type);
+        dto.setBookId(snapshot.id());
+        dto.setOwnerId(snapshot.ownerId());
+        dto.setTitle(snapshot.title());
+        dto.setAuthorName(snapshot.authorName());
+        dto.setLanguage(snapshot.language());
+        dto.setCondition(snapshot.condition());
+        dto.setExchangeType(snapshot.exchangeType());
+        dto.setStatus(snapshot.status());
+        dto.setUpdatedAt(snapshot.updatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,77 @@
+package at.technikum.springrestbackend.mapper;
+
+import at.technikum.springrestbackend.dto.SavedSearchRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchResponseDto;
+import at.technikum.springrestbackend.dto.SearchNotificationDto;
+import at.technikum.springrestbackend.entity.SavedSearch;
+import at.technikum.springrestbackend.entity.SearchNotification;
+import at.technikum.springrestbackend.entity.User;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SavedSearchMapper {
+
+    public SavedSearch toEntity(final SavedSearchRequestDto dto, final User user) {
+        if (dto == null) {
+            return null;
+        }
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUser(user);
+        savedSearch.setSearchText(trimToNull(dto.getSearchText()));
+        savedSearch.setCondition(dto.getCondition());
+        savedSearch.setExchangeType(dto.getExchangeType());
+        savedSearch.setLanguage(trimToNull(dto.getLanguage()));
+
+        return savedSearch;
+    }
+
+    public SavedSearchResponseDto toResponseDto(final SavedSearch savedSearch) {
+        if (savedSearch == null) {
+            return null;
+        }
+
+        SavedSearchResponseDto dto = new SavedSearchResponseDto();
+        dto.setId(savedSearch.getId());
+        dto.setSearchText(savedSearch.getSearchText());
+        dto.setCondition(savedSearch.getCondition());
+        dto.setExchangeType(savedSearch.getExchangeType());
+        dto.setLanguage(savedSearch.getLanguage());
+        dto.setCreatedAt(savedSearch.getCreatedAt());
+
+        return dto;
+    }
+
+    public List<SavedSearchResponseDto> toResponseDtoList(final List<SavedSearch> savedSearches) {
+        if (savedSearches == null) {
+            return List.of();
+        }
+
+        return savedSearches.stream()
+                .map(this::toResponseDto)
+                .toList();
+    }
+
+    public SearchNotificationDto toNotificationDto(final SearchNotification notification) {
+        if (notification == null) {
+            return null;
+        }
+
+        SearchNotificationDto dto = new SearchNotificationDto();
+        dto.setId(notification.getId());
+        dto.setSavedSearchId(notification.getSavedSearchId());
+        dto.setBookId(notification.getBookId());
+        dto.setBookTitle(notification.getBookTitle());
+        dto.setCreatedAt(notification.getCreatedAt());
+
+        return dto;
+    }
+
+    private String trimToNull(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,56 @@
+package at.technikum.springrestbackend.mapper;
+
+import at.technikum.springrestbackend.dto.WantedBookRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookResponseDto;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.entity.WantedBook;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WantedBookMapper {
+
+    public WantedBook toEntity(final WantedBookRequestDto dto, final User user) {
+        if (dto == null) {
+            return null;
+        }
+
+        WantedBook wantedBook = new WantedBook();
+        wantedBook.setUser(user);
+        wantedBook.setTitle(trimToNull(dto.getTitle()));
+        wantedBook.setAuthorName(trimToNull(dto.getAuthorName()));
+
+        return wantedBook;
+    }
+
+    public WantedBookResponseDto toResponseDto(final WantedBook wantedBook) {
+        if (wantedBook == null) {
+            return null;
+        }
+
+        WantedBookResponseDto dto = new WantedBookResponseDto();
+        dto.setId(wantedBook.getId());
+        dto.setTitle(wantedBook.getTitle());
+        dto.setAuthorName(wantedBook.getAuthorName());
+        dto.setCreatedAt(wantedBook.getCreatedAt());
+
+        return dto;
+    }
+
+    public List<WantedBookResponseDto> toResponseDtoList(final List<WantedBook> wantedBooks) {
+        if (wantedBooks == null) {
+            return List.of();
+        }
+
+        return wantedBooks.stream()
+                .map(this::toResponseDto)
+                .toList();
+    }
+
+    private String trimToNull(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
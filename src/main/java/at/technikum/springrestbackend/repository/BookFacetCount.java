@@ -0,0 +1,12 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+
+public record BookFacetCount(
+        BookCondition condition,
+        ExchangeType exchangeType,
+        String language,
+        long count
+) {
+}
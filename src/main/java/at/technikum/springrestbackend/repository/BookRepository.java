@@ -1,16 +1,139 @@
 package at.technikum.springrestbackend.repository;
 
 import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookStatusRepository {
 
+    // Listing queries map every row to a DTO, so they fetch the lazy description and the
+    // owner in the same statement instead of one extra SELECT per row.
+    String LISTING_GRAPH_OWNER = "owner";
+    String LISTING_GRAPH_DESCRIPTION = "description";
+
+    @Override
+    @EntityGraph(attributePaths = {LISTING_GRAPH_OWNER, LISTING_GRAPH_DESCRIPTION})
+    Page<Book> findAll(Specification<Book> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = {LISTING_GRAPH_OWNER, LISTING_GRAPH_DESCRIPTION})
     List<Book> findAllByOrderByCreatedAtDesc();
 
     List<Book> findAllByStatusOrderByCreatedAtDesc(ListingStatus status);
 
+    @EntityGraph(attributePaths = {LISTING_GRAPH_OWNER, LISTING_GRAPH_DESCRIPTION})
     List<Book> findAllByOwnerIdOrderByCreatedAtDesc(Long ownerId);
-}
\ No newline at end of file
+
+    boolean existsByImageObjectKey(String imageObjectKey);
+
+    @EntityGraph(attributePaths = {LISTING_GRAPH_OWNER, LISTING_GRAPH_DESCRIPTION})
+    List<Book> findAllByIdInAndStatus(Collection<Long> ids, ListingStatus status);
+
+    /**
+     * Listings changed after the {@code (afterTime, afterId)} position up to {@code until},
+     * in {@code (updatedAt, id)} order for keyset paging. Listings last changed before
+     * {@code availableSince} are only returned while available, which lets an initial sync
+     * skip listings the client never saw.
+     */
+    @EntityGraph(attributePaths = {LISTING_GRAPH_OWNER, LISTING_GRAPH_DESCRIPTION})
+    @Query("""
+            select b from Book b
+            where (b.updatedAt > :afterTime or (b.updatedAt = :afterTime and b.id > :afterId))
+              and b.updatedAt <= :until
+              and (b.updatedAt > :availableSince
+                or b.status = at.technikum.springrestbackend.entity.ListingStatus.AVAILABLE)
+            order by b.updatedAt, b.id
+            """)
+    List<Book> findChangedAfter(
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            @Param("availableSince") LocalDateTime availableSince,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.BookState(
+                b.id, b.owner.id, b.title, b.authorName, b.language, b.condition,
+                b.exchangeType, b.status, b.updatedAt, b.version, b.reservedBy.id,
+                b.reservedUntil)
+            from Book b
+            where b.id = :id
+            """)
+    Optional<BookState> findStateById(@Param("id") Long id);
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.BookState(
+                b.id, b.owner.id, b.title, b.authorName, b.language, b.condition,
+                b.exchangeType, b.status, b.updatedAt, b.version, b.reservedBy.id,
+                b.reservedUntil)
+            from Book b
+            where b.status = at.technikum.springrestbackend.entity.ListingStatus.RESERVED
+              and b.reservedUntil < :now
+            order by b.reservedUntil
+            """)
+    List<BookState> findExpiredReservations(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.BookState(
+                b.id, b.owner.id, b.title, b.authorName, b.language, b.condition,
+                b.exchangeType, b.status, b.updatedAt, b.version, b.reservedBy.id,
+                b.reservedUntil)
+            from Book b
+            where b.id > :afterId
+              and b.status = at.technikum.springrestbackend.entity.ListingStatus.AVAILABLE
+              and b.exchangeType in :exchangeTypes
+            order by b.id
+            """)
+    List<BookState> findAvailableStatesAfter(
+            @Param("afterId") Long afterId,
+            @Param("exchangeTypes") Collection<ExchangeType> exchangeTypes,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.BookFacetCount(
+                b.condition, b.exchangeType, lower(b.language), count(b))
+            from Book b
+            where b.status = at.technikum.springrestbackend.entity.ListingStatus.AVAILABLE
+            group by b.condition, b.exchangeType, lower(b.language)
+            """)
+    List<BookFacetCount> countAvailableByFacet();
+
+    @Query("""
+            select count(b)
+            from Book b
+            where b.status = at.technikum.springrestbackend.entity.ListingStatus.AVAILABLE
+              and b.condition = :condition
+              and b.exchangeType = :exchangeType
+              and ((:language is null and b.language is null) or lower(b.language) = :language)
+            """)
+    long countAvailableByFacetKey(
+            @Param("condition") BookCondition condition,
+            @Param("exchangeType") ExchangeType exchangeType,
+            @Param("language") String language
+    );
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.BookFacetCount(
+                b.condition, b.exchangeType, lower(b.language), count(b))
+            from Book b
+            where b.status = at.technikum.springrestbackend.entity.ListingStatus.AVAILABLE
+              and (lower(b.title) like :pattern or lower(b.authorName) like :pattern)
+            group by b.condition, b.exchangeType, lower(b.language)
+            """)
+    List<BookFacetCount> countAvailableByFacetMatching(@Param("pattern") String pattern);
+}
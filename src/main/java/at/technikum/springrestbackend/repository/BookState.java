@@ -0,0 +1,32 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a listing that change events and conditional updates need, read
+ * without materialising the entity or its lazy description.
+ */
+public record BookState(
+        Long id,
+        Long ownerId,
+        String title,
+        String authorName,
+        String language,
+        BookCondition condition,
+        ExchangeType exchangeType,
+        ListingStatus status,
+        LocalDateTime updatedAt,
+        Long version,
+        Long reservedById,
+        LocalDateTime reservedUntil
+) {
+
+    public BookSnapshot toSnapshot() {
+        return new BookSnapshot(id, ownerId, title, authorName, language, condition,
+                exchangeType, status, updatedAt);
+    }
+}
@@ -0,0 +1,53 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.ListingStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Status changes as single conditional UPDATEs instead of load, dirty check and flush.
+ * Every method bumps the version, so concurrent entity updates fail their version check.
+ */
+public interface BookStatusRepository {
+
+    /**
+     * Sets the status and bumps the version if the row still has {@code expectedVersion}.
+     * Any reservation is cleared unless the new status is RESERVED.
+     *
+     * @return false if the listing was changed or deleted in the meantime
+     */
+    boolean updateStatus(
+            Long bookId,
+            Long expectedVersion,
+            ListingStatus status,
+            LocalDateTime updatedAt
+    );
+
+    /**
+     * Reserves an AVAILABLE listing for {@code userId} unless the user owns it or
+     * somebody is waiting for it.
+     *
+     * @return false if the listing is not available (anymore), owned by the user or has
+     *         a waitlist
+     */
+    boolean reserve(Long bookId, Long userId, LocalDateTime reservedUntil, LocalDateTime now);
+
+    /**
+     * Reserves an AVAILABLE listing for {@code userId} regardless of its waitlist; only
+     * for handing the listing to the head of that waitlist.
+     *
+     * @return false if the listing is not available (anymore) or owned by the user
+     */
+    boolean reserveForWaiter(
+            Long bookId,
+            Long userId,
+            LocalDateTime reservedUntil,
+            LocalDateTime now
+    );
+
+    /**
+     * Makes the listing AVAILABLE again if it is still reserved by {@code userId}.
+     *
+     * @return false if the reservation is no longer held by the user
+     */
+    boolean releaseReservation(Long bookId, Long userId, LocalDateTime now);
+}
@@ -0,0 +1,134 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs the UPDATEs through JDBC on the transaction's connection. A JPQL bulk update would
+ * make Hibernate drop the whole second-level book region; here only the changed listing
+ * is evicted, once the transaction has committed.
+ */
+class BookStatusRepositoryImpl implements BookStatusRepository {
+
+    private static final String UPDATE_STATUS = """
+            update book_listing
+               set listing_status = :status, version = version + 1, updated_at = :updatedAt,
+                   reserved_by_id = case when :status = 'RESERVED' then reserved_by_id end,
+                   reserved_until = case when :status = 'RESERVED' then reserved_until end
+             where id = :id and version = :version
+            """;
+
+    private static final String RESERVE_FOR_WAITER = """
+            update book_listing
+               set listing_status = 'RESERVED', reserved_by_id = :userId,
+                   reserved_until = :reservedUntil, version = version + 1, updated_at = :now
+             where id = :id and listing_status = 'AVAILABLE' and owner_id <> :userId
+            """;
+
+    private static final String RESERVE = RESERVE_FOR_WAITER + """
+               and not exists (select 1 from reservation_waitlist w where w.book_id = :id)
+            """;
+
+    private static final String RELEASE = """
+            update book_listing
+               set listing_status = 'AVAILABLE', reserved_by_id = null, reserved_until = null,
+                   version = version + 1, updated_at = :now
+             where id = :id and listing_status = 'RESERVED' and reserved_by_id = :userId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    BookStatusRepositoryImpl(
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            final EntityManagerFactory entityManagerFactory
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public boolean updateStatus(
+            final Long bookId,
+            final Long expectedVersion,
+            final ListingStatus status,
+            final LocalDateTime updatedAt
+    ) {
+        return execute(UPDATE_STATUS, bookId, new MapSqlParameterSource()
+                .addValue("status", status.name())
+                .addValue("updatedAt", updatedAt)
+                .addValue("version", expectedVersion));
+    }
+
+    @Override
+    public boolean reserve(
+            final Long bookId,
+            final Long userId,
+            final LocalDateTime reservedUntil,
+            final LocalDateTime now
+    ) {
+        return execute(RESERVE, bookId, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("reservedUntil", reservedUntil)
+                .addValue("now", now));
+    }
+
+    @Override
+    public boolean reserveForWaiter(
+            final Long bookId,
+            final Long userId,
+            final LocalDateTime reservedUntil,
+            final LocalDateTime now
+    ) {
+        return execute(RESERVE_FOR_WAITER, bookId, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("reservedUntil", reservedUntil)
+                .addValue("now", now));
+    }
+
+    @Override
+    public boolean releaseReservation(
+            final Long bookId,
+            final Long userId,
+            final LocalDateTime now
+    ) {
+        return execute(RELEASE, bookId, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("now", now));
+    }
+
+    private boolean execute(
+            final String sql,
+            final Long bookId,
+            final MapSqlParameterSource parameters
+    ) {
+        if (jdbcTemplate.update(sql, parameters.addValue("id", bookId)) == 0) {
+            return false;
+        }
+        evictAfterCommit(bookId);
+        return true;
+    }
+
+    private void evictAfterCommit(final Long bookId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(bookId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(bookId);
+            }
+        });
+    }
+
+    private void evict(final Long bookId) {
+        entityManagerFactory.getCache().evict(Book.class, bookId);
+    }
+}
@@ -1,12 +1,41 @@
 package at.technikum.springrestbackend.repository;
 
 import at.technikum.springrestbackend.entity.Comment;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findAllByBookIdOrderByCreatedAtAsc(Long bookId);
 
     List<Comment> findAllByAuthorIdOrderByCreatedAtDesc(Long authorId);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findAllByBookIdAndCreatedAtGreaterThanOrderByCreatedAtAscIdAsc(
+            Long bookId, LocalDateTime since, Pageable pageable);
+
+    /**
+     * The author's comments changed after the {@code (afterTime, afterId)} position up to
+     * {@code until}, in {@code (updatedAt, id)} order for keyset paging.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            select c from Comment c
+            where c.author.id = :authorId
+              and (c.updatedAt > :afterTime or (c.updatedAt = :afterTime and c.id > :afterId))
+              and c.updatedAt <= :until
+            order by c.updatedAt, c.id
+            """)
+    List<Comment> findChangedOfAuthorAfter(
+            @Param("authorId") Long authorId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable
+    );
+}
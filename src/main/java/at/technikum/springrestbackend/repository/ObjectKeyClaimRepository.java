@@ -0,0 +1,23 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.ObjectKeyClaim;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ObjectKeyClaimRepository extends JpaRepository<ObjectKeyClaim, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("update ObjectKeyClaim c set c.claimedAt = :claimedAt where c.objectKey = :objectKey")
+    int touch(@Param("objectKey") String objectKey, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ObjectKeyClaim> findByObjectKey(String objectKey);
+}
@@ -0,0 +1,16 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.PendingObjectDeletion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PendingObjectDeletionRepository
+        extends JpaRepository<PendingObjectDeletion, Long> {
+
+    List<PendingObjectDeletion> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            LocalDateTime now,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,45 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.ReservationWaitlistEntry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationWaitlistRepository
+        extends JpaRepository<ReservationWaitlistEntry, Long> {
+
+    Optional<ReservationWaitlistEntry> findByBookIdAndUserId(Long bookId, Long userId);
+
+    Optional<ReservationWaitlistEntry> findFirstByBookIdOrderByCreatedAtAscIdAsc(Long bookId);
+
+    @Query("""
+            select count(w) from ReservationWaitlistEntry w
+            where w.bookId = :bookId
+              and (w.createdAt < :createdAt or (w.createdAt = :createdAt and w.id <= :id))
+            """)
+    long countUpTo(
+            @Param("bookId") Long bookId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id
+    );
+
+    @Query("""
+            select distinct w.bookId from ReservationWaitlistEntry w, Book b
+            where b.id = w.bookId
+              and b.status = at.technikum.springrestbackend.entity.ListingStatus.AVAILABLE
+            """)
+    List<Long> findAvailableBookIdsWithWaiters(Pageable pageable);
+
+    @Modifying
+    @Query("delete from ReservationWaitlistEntry w where w.bookId = :bookId and w.userId = :userId")
+    int deleteEntry(@Param("bookId") Long bookId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from ReservationWaitlistEntry w where w.bookId = :bookId")
+    int deleteAllForBook(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,27 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.SavedSearch;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findAllByUserIdOrderByCreatedAtDesc(Long userId);
+
+    Optional<SavedSearch> findByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.SavedSearchState(
+                s.id, s.user.id, s.searchText, s.condition, s.exchangeType, s.language)
+            from SavedSearch s
+            where s.id > :afterId
+            order by s.id
+            """)
+    List<SavedSearchState> findStatesAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
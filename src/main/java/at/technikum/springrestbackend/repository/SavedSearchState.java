@@ -0,0 +1,17 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+
+/**
+ * The filters of a saved search the percolator needs, read without the user.
+ */
+public record SavedSearchState(
+        Long id,
+        Long userId,
+        String searchText,
+        BookCondition condition,
+        ExchangeType exchangeType,
+        String language
+) {
+}
@@ -0,0 +1,25 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.SearchNotification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SearchNotificationRepository extends JpaRepository<SearchNotification, Long> {
+
+    Page<SearchNotification> findAllByUserIdOrderByCreatedAtDescIdDesc(
+            Long userId,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from SearchNotification n where n.userId = :userId")
+    int deleteAllForUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from SearchNotification n where n.bookId = :bookId")
+    int deleteAllForBook(@Param("bookId") Long bookId);
+}
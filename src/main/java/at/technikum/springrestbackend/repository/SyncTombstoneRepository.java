@@ -0,0 +1,52 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // Keyset pages in (createdAt, id) order; a separate per-user query keeps the
+    // user predicate usable as an index prefix
+    @Query("""
+            select t from SyncTombstone t
+            where t.entityType = :type
+              and (t.createdAt > :afterTime or (t.createdAt = :afterTime and t.id > :afterId))
+              and t.createdAt <= :until
+            order by t.createdAt, t.id
+            """)
+    List<SyncTombstone> findAfter(
+            @Param("type") SyncEntityType type,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable
+    );
+
+    @Query("""
+            select t from SyncTombstone t
+            where t.entityType = :type
+              and t.userId = :userId
+              and (t.createdAt > :afterTime or (t.createdAt = :afterTime and t.id > :afterId))
+              and t.createdAt <= :until
+            order by t.createdAt, t.id
+            """)
+    List<SyncTombstone> findOfUserAfter(
+            @Param("type") SyncEntityType type,
+            @Param("userId") Long userId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from SyncTombstone t where t.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,12 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.User;
+import java.util.Optional;
+
+/**
+ * Lookups by the natural id, served from the second-level cache when possible.
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> loadByEmail(String email);
+}
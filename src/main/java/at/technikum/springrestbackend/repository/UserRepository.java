@@ -4,7 +4,7 @@ import at.technikum.springrestbackend.entity.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     Optional<User> findByEmail(String email);
 
@@ -0,0 +1,27 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.WantedBook;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface WantedBookRepository extends JpaRepository<WantedBook, Long> {
+
+    List<WantedBook> findAllByUserIdOrderByCreatedAtDesc(Long userId);
+
+    Optional<WantedBook> findByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("""
+            select new at.technikum.springrestbackend.repository.WantedBookState(
+                w.id, w.user.id, w.title, w.authorName)
+            from WantedBook w
+            where w.id > :afterId
+            order by w.id
+            """)
+    List<WantedBookState> findStatesAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
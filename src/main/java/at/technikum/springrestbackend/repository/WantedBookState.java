@@ -0,0 +1,7 @@
+package at.technikum.springrestbackend.repository;
+
+/**
+ * The columns of a wanted book the exchange index needs, read without the user.
+ */
+public record WantedBookState(Long id, Long userId, String title, String authorName) {
+}
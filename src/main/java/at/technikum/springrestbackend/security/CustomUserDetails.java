@@ -11,7 +11,8 @@ public class CustomUserDetails implements UserDetails {
 
     private final Long id;
     private final String email;
-    private final String passwordHash;
+    // Not needed once the JWT is issued; kept out of the shared cache
+    private final transient String passwordHash;
     private final boolean enabled;
     private final Collection<? extends GrantedAuthority> authorities;
 
@@ -1,7 +1,9 @@
 package at.technikum.springrestbackend.security;
 
+import at.technikum.springrestbackend.cache.CacheNames;
 import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -20,7 +22,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(username)
+        User user = userRepository.loadByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "User not found with email: " + username
                 ));
@@ -28,6 +30,11 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUserDetails(user);
     }
 
+    /**
+     * Called for every authenticated request, so the principal is cached across nodes.
+     * Writes to a user evict it in {@code UserService}.
+     */
+    @Cacheable(cacheNames = CacheNames.USER_DETAILS, key = "#userId")
     public UserDetails loadUserById(final Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException(
@@ -0,0 +1,53 @@
+package at.technikum.springrestbackend.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Stand-in for {@link RedisRateLimitStore} in tests. It evaluates the same GCRA step as
+ * the Lua script, atomically per key, so several filters sharing one instance behave
+ * like nodes sharing one Redis.
+ */
+public class InMemorySharedRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Long> arrivals = new ConcurrentHashMap<>();
+    private final LongSupplier microClock;
+
+    public InMemorySharedRateLimitStore() {
+        this(() -> TimeUnit.NANOSECONDS.toMicros(System.nanoTime()));
+    }
+
+    InMemorySharedRateLimitStore(final LongSupplier microClock) {
+        this.microClock = microClock;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(final String key, final RateLimitPolicy policy) {
+        long now = microClock.getAsLong();
+        long interval = TimeUnit.NANOSECONDS.toMicros(policy.emissionIntervalNanos());
+        long tolerance = interval * policy.capacity();
+        RateLimitDecision[] decision = new RateLimitDecision[1];
+        arrivals.compute(key, (ignored, stored) -> {
+            // Like an expired Redis key, a bucket that is full again counts as absent
+            long arrival = stored == null || stored <= now ? now : stored;
+            long next = arrival + interval;
+            long waitMicros = next - now - tolerance;
+            if (waitMicros > 0) {
+                decision[0] = new RateLimitDecision(
+                        false, 0, toSeconds(arrival - now), toSeconds(waitMicros));
+                return stored;
+            }
+            decision[0] = new RateLimitDecision(
+                    true, (tolerance - (next - now)) / interval, toSeconds(next - now), 0);
+            return next;
+        });
+        return decision[0];
+    }
+
+    private static long toSeconds(final long micros) {
+        long second = TimeUnit.SECONDS.toMicros(1);
+        return Math.max(0, (micros + second - 1) / second);
+    }
+}
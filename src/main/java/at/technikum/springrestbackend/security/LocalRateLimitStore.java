@@ -0,0 +1,93 @@
+package at.technikum.springrestbackend.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * In-memory token buckets in the GCRA form: each bucket is a single "theoretical arrival
+ * time" updated with compare-and-set, so requests never block each other and the map's
+ * own lock striping is the only coordination. A bucket whose arrival time lies in the
+ * past is full and can be dropped without changing behaviour, which bounds memory to
+ * the clients seen within one window.
+ */
+public class LocalRateLimitStore implements RateLimitStore, MeterBinder {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimitStore(final int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    LocalRateLimitStore(final int maxKeys, final LongSupplier nanoClock) {
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(final String key, final RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evictFullBuckets(now);
+            }
+            if (buckets.size() >= maxKeys) {
+                // Fail open rather than lock out clients we cannot track
+                return new RateLimitDecision(true, policy.capacity() - 1L, 0, 0);
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+        }
+
+        long interval = policy.emissionIntervalNanos();
+        long tolerance = interval * policy.capacity();
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + interval;
+            long waitNanos = next - now - tolerance;
+            if (waitNanos > 0) {
+                return new RateLimitDecision(
+                        false, 0, toSeconds(arrival - now), toSeconds(waitNanos));
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return new RateLimitDecision(
+                        true, (tolerance - (next - now)) / interval, toSeconds(next - now), 0);
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}",
+            initialDelayString = "${app.rate-limit.eviction-interval-ms:60000}"
+    )
+    public void evictFullBuckets() {
+        evictFullBuckets(nanoClock.getAsLong());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void evictFullBuckets(final long now) {
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    private static long toSeconds(final long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("http.rate-limit.buckets", buckets, Map::size)
+                .description("Clients currently tracked by the rate limiter")
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package at.technikum.springrestbackend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+
+/**
+ * Endpoint classes with their own request budget. Reads other than searches are
+ * cheap and stay unlimited.
+ */
+public enum RateLimitClass {
+    SEARCH(30, 60),
+    AUTH(10, 10),
+    WRITE(60, 120),
+    UPLOAD(10, 20);
+
+    private final int defaultCapacity;
+    private final int defaultRefillPerMinute;
+
+    RateLimitClass(final int defaultCapacity, final int defaultRefillPerMinute) {
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillPerMinute = defaultRefillPerMinute;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public int getDefaultRefillPerMinute() {
+        return defaultRefillPerMinute;
+    }
+
+    public static RateLimitClass of(final HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        if (HttpMethod.GET.matches(method)) {
+            boolean searchable = "/books".equals(path) || "/books/facets".equals(path);
+            return searchable && StringUtils.hasText(request.getParameter("search"))
+                    ? SEARCH
+                    : null;
+        }
+        if (HttpMethod.POST.matches(method) && path.startsWith("/auth/")) {
+            return AUTH;
+        }
+        if (HttpMethod.POST.matches(method)
+                && (path.matches("/books/[^/]+/image(/.*)?") || "/books/import".equals(path))) {
+            return UPLOAD;
+        }
+        if (HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method)
+                || HttpMethod.PATCH.matches(method) || HttpMethod.DELETE.matches(method)) {
+            return WRITE;
+        }
+        return null;
+    }
+}
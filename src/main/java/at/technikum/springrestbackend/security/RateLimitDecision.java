@@ -0,0 +1,9 @@
+package at.technikum.springrestbackend.security;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long remaining,
+        long resetSeconds,
+        long retryAfterSeconds
+) {
+}
@@ -0,0 +1,132 @@
+package at.technikum.springrestbackend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admits requests against a per-client token bucket for each {@link RateLimitClass}.
+ * Clients are identified by user id once the JWT filter has authenticated them and by
+ * remote address otherwise. Every limited response carries the {@code RateLimit-*}
+ * headers; rejected requests get 429 with {@code Retry-After}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    static final String POLICY_HEADER = "RateLimit-Policy";
+
+    private final RateLimitStore store;
+    private final Map<RateLimitClass, RateLimitPolicy> policies;
+    private final ObjectMapper objectMapper;
+    private final Map<RateLimitClass, LongAdder> rejected = new EnumMap<>(RateLimitClass.class);
+
+    public RateLimitFilter(
+            final RateLimitStore store,
+            final Map<RateLimitClass, RateLimitPolicy> policies,
+            final ObjectMapper objectMapper
+    ) {
+        this.store = store;
+        this.policies = new EnumMap<>(policies);
+        this.objectMapper = objectMapper;
+        for (RateLimitClass limitClass : RateLimitClass.values()) {
+            rejected.put(limitClass, new LongAdder());
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimitClass limitClass = RateLimitClass.of(request);
+        RateLimitPolicy policy = limitClass == null ? null : policies.get(limitClass);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision;
+        try {
+            decision = store.tryConsume(bucketKey(limitClass, request), policy);
+        } catch (RuntimeException ex) {
+            // A failing shared store must not take the API down with it
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(policy.capacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+        response.setHeader(POLICY_HEADER, policy.capacity() + ";w=" + policy.windowSeconds());
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.get(limitClass).increment();
+        writeTooManyRequests(request, response, decision);
+    }
+
+    private static String bucketKey(
+            final RateLimitClass limitClass,
+            final HttpServletRequest request
+    ) {
+        String prefix = limitClass.name().toLowerCase(Locale.ROOT) + ":";
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getId() != null) {
+            return prefix + "user:" + userDetails.getId();
+        }
+        return prefix + "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final RateLimitDecision decision
+    ) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, decision.retryAfterSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+        body.put("message", "Too many requests, please retry later");
+        body.put("path", request.getRequestURI());
+
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        rejected.forEach((limitClass, counter) -> FunctionCounter
+                .builder("http.rate-limit.rejected", counter, LongAdder::sum)
+                .description("Requests rejected by the rate limiter")
+                .tag("class", limitClass.name().toLowerCase(Locale.ROOT))
+                .register(registry));
+    }
+}
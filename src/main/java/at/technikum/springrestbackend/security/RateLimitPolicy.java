@@ -0,0 +1,27 @@
+package at.technikum.springrestbackend.security;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket settings: up to {@code capacity} requests in a burst, refilled at
+ * {@code refillPerMinute} tokens per minute.
+ */
+public record RateLimitPolicy(int capacity, int refillPerMinute) {
+
+    public RateLimitPolicy {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("Rate limit capacity and refill must be positive");
+        }
+    }
+
+    public long emissionIntervalNanos() {
+        return TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+    }
+
+    /**
+     * Seconds an empty bucket needs to fill up again, advertised as the policy window.
+     */
+    public long windowSeconds() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(emissionIntervalNanos() * capacity));
+    }
+}
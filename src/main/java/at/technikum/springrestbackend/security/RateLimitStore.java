@@ -0,0 +1,11 @@
+package at.technikum.springrestbackend.security;
+
+/**
+ * Holds the token buckets behind {@link RateLimitFilter}. {@link LocalRateLimitStore}
+ * keeps them per instance; {@link RedisRateLimitStore} lets several instances enforce
+ * one budget per client. {@code app.rate-limit.store.type} selects the store.
+ */
+public interface RateLimitStore {
+
+    RateLimitDecision tryConsume(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,91 @@
+package at.technikum.springrestbackend.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Keeps the GCRA arrival times in Redis under {@code rate-limit:<key>}, so all instances
+ * draw from one budget per client. The compare-and-set runs as a Lua script on the Redis
+ * clock, which makes it atomic and independent of clock skew between instances; keys
+ * expire once their bucket is full again.
+ *
+ * <p>When Redis cannot be reached, the instance enforces the limits with its own
+ * in-memory buckets and stops calling Redis for the retry delay.
+ */
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1] bucket, ARGV[1] emission interval and ARGV[2] capacity; times in microseconds.
+    // Returns {allowed, remaining, reset, retry after}.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TRY_CONSUME = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = interval * tonumber(ARGV[2])
+            local arrival = tonumber(redis.call('GET', KEYS[1]) or now)
+            local next = math.max(arrival, now) + interval
+            local wait = next - now - tolerance
+            if wait > 0 then
+                return {0, 0, math.max(0, arrival - now), wait}
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next),
+                'PX', math.ceil((next - now) / 1000))
+            return {1, math.floor((tolerance - (next - now)) / interval), next - now, 0}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitStore fallback;
+    private final long retryDelayNanos;
+    private volatile long retryAtNanos = System.nanoTime();
+
+    public RedisRateLimitStore(
+            final RedisConnectionFactory connectionFactory,
+            final RateLimitStore fallback,
+            final Duration retryDelay
+    ) {
+        this(new StringRedisTemplate(connectionFactory), fallback, retryDelay);
+    }
+
+    RedisRateLimitStore(
+            final StringRedisTemplate redisTemplate,
+            final RateLimitStore fallback,
+            final Duration retryDelay
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.retryDelayNanos = retryDelay.toNanos();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(final String key, final RateLimitPolicy policy) {
+        if (System.nanoTime() - retryAtNanos < 0) {
+            return fallback.tryConsume(key, policy);
+        }
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TRY_CONSUME, List.of(KEY_PREFIX + key),
+                    String.valueOf(TimeUnit.NANOSECONDS.toMicros(policy.emissionIntervalNanos())),
+                    String.valueOf(policy.capacity()));
+        } catch (RuntimeException ex) {
+            retryAtNanos = System.nanoTime() + retryDelayNanos;
+            return fallback.tryConsume(key, policy);
+        }
+        return new RateLimitDecision(toLong(result.get(0)) == 1, toLong(result.get(1)),
+                toSeconds(toLong(result.get(2))), toSeconds(toLong(result.get(3))));
+    }
+
+    private static long toLong(final Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static long toSeconds(final long micros) {
+        long second = TimeUnit.SECONDS.toMicros(1);
+        return Math.max(0, (micros + second - 1) / second);
+    }
+}
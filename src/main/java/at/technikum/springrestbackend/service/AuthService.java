@@ -18,6 +18,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -74,6 +75,11 @@ public class AuthService {
         return buildAuthResponse(savedUser, token);
     }
 
+    /**
+     * Runs without a transaction so no pooled connection is held while BCrypt checks
+     * the password; the two lookups use short repository transactions of their own.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDto login(final AuthRequestDto dto) {
         if (dto == null) {
             throw new BadRequestException("Login request must not be null");
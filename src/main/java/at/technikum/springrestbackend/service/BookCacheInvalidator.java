@@ -0,0 +1,21 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.cache.CacheNames;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops a cached listing after any committed change to it, so every write path that
+ * publishes {@link BookChangedEvent} keeps the book cache consistent.
+ */
+@Component
+public class BookCacheInvalidator {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheNames.BOOKS, key = "#event.bookId()", beforeInvocation = true)
+    public void onBookChanged(final BookChangedEvent event) {
+        // The eviction itself is done by @CacheEvict
+    }
+}
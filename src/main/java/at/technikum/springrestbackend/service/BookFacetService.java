@@ -0,0 +1,214 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookFacetsDto;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.repository.BookFacetCount;
+import at.technikum.springrestbackend.repository.BookRepository;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the number of AVAILABLE listings per (condition, exchange type, language)
+ * combination in memory. The table has at most a few hundred entries, so facet
+ * requests without a search text never touch the database. The periodic rebuild
+ * corrects drift caused by writes on other instances.
+ *
+ * <p>A change that commits while the rebuild query runs may or may not be part of its
+ * result, so, as in {@link DoubleBufferedIndex}, changes during a rebuild go to both
+ * tables and record their facet key. Those keys are recounted from the database once
+ * the new table is in place, until no change touches them while they are recounted.
+ */
+@Service
+public class BookFacetService {
+
+    private static final int MAX_RECOUNT_ROUNDS = 3;
+
+    private final BookRepository bookRepository;
+    private final Object lock = new Object();
+    private final Set<FacetKey> changedDuringRebuild = new HashSet<>();
+    private volatile Map<FacetKey, LongAdder> availableCounts = new ConcurrentHashMap<>();
+    private Map<FacetKey, LongAdder> building;
+    private boolean rebuilding;
+
+    public BookFacetService(final BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${app.books.facets.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.books.facets.rebuild-interval-ms:300000}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            building = new ConcurrentHashMap<>();
+            rebuilding = true;
+        }
+        try {
+            List<BookFacetCount> rows = bookRepository.countAvailableByFacet();
+            synchronized (lock) {
+                rows.forEach(row -> add(building, FacetKey.of(row), row.count()));
+                availableCounts = building;
+                building = null;
+            }
+            recountChangedKeys();
+        } finally {
+            synchronized (lock) {
+                building = null;
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(final BookChangedEvent event) {
+        if (event.before() != null && event.before().isAvailable()) {
+            adjust(FacetKey.of(event.before()), -1);
+        }
+        if (event.after() != null && event.after().isAvailable()) {
+            adjust(FacetKey.of(event.after()), 1);
+        }
+    }
+
+    public BookFacetsDto getFacets(
+            final BookCondition condition,
+            final ExchangeType exchangeType,
+            final String language,
+            final String search
+    ) {
+        FacetFilter filter = new FacetFilter(condition, exchangeType, normalizeLanguage(language));
+        BookFacetsDto facets = new BookFacetsDto();
+        countsFor(search).forEach((key, count) -> filter.accumulate(facets, key, count));
+        return facets;
+    }
+
+    private void adjust(final FacetKey key, final long delta) {
+        synchronized (lock) {
+            add(availableCounts, key, delta);
+            if (building != null) {
+                add(building, key, delta);
+            }
+            if (rebuilding) {
+                changedDuringRebuild.add(key);
+            }
+        }
+    }
+
+    /**
+     * A recounted value is only stored if no change touched the key while it was
+     * counted; otherwise the key is counted again in the next round. Keys still busy
+     * after the last round are left to the next rebuild.
+     */
+    private void recountChangedKeys() {
+        for (int round = 0; round < MAX_RECOUNT_ROUNDS; round++) {
+            Set<FacetKey> keys;
+            synchronized (lock) {
+                if (changedDuringRebuild.isEmpty()) {
+                    return;
+                }
+                keys = new HashSet<>(changedDuringRebuild);
+                changedDuringRebuild.clear();
+            }
+            keys.forEach(this::recount);
+        }
+    }
+
+    private void recount(final FacetKey key) {
+        long count = bookRepository.countAvailableByFacetKey(
+                key.condition(), key.exchangeType(), key.language());
+        synchronized (lock) {
+            if (!changedDuringRebuild.contains(key)) {
+                LongAdder adder = new LongAdder();
+                adder.add(count);
+                availableCounts.put(key, adder);
+            }
+        }
+    }
+
+    private static void add(
+            final Map<FacetKey, LongAdder> counts,
+            final FacetKey key,
+            final long delta
+    ) {
+        counts.computeIfAbsent(key, ignored -> new LongAdder()).add(delta);
+    }
+
+    private Map<FacetKey, Long> countsFor(final String search) {
+        Map<FacetKey, Long> counts = new HashMap<>();
+        if (search == null || search.isBlank()) {
+            availableCounts.forEach((key, adder) -> counts.put(key, adder.sum()));
+            return counts;
+        }
+        String pattern = "%" + search.trim().toLowerCase() + "%";
+        List<BookFacetCount> rows = bookRepository.countAvailableByFacetMatching(pattern);
+        rows.forEach(row -> counts.merge(FacetKey.of(row), row.count(), Long::sum));
+        return counts;
+    }
+
+    private static String normalizeLanguage(final String language) {
+        if (language == null || language.isBlank()) {
+            return null;
+        }
+        return language.trim().toLowerCase();
+    }
+
+    private record FacetKey(BookCondition condition, ExchangeType exchangeType, String language) {
+
+        static FacetKey of(final BookFacetCount row) {
+            return new FacetKey(row.condition(), row.exchangeType(), row.language());
+        }
+
+        static FacetKey of(final BookSnapshot book) {
+            return new FacetKey(book.condition(), book.exchangeType(),
+                    normalizeLanguage(book.language()));
+        }
+    }
+
+    /**
+     * Each facet is counted with every filter applied except its own, so the UI can
+     * show how many results selecting another value of the same facet would give.
+     */
+    private record FacetFilter(
+            BookCondition condition,
+            ExchangeType exchangeType,
+            String language
+    ) {
+
+        void accumulate(final BookFacetsDto facets, final FacetKey key, final long count) {
+            if (count <= 0) {
+                return;
+            }
+            boolean conditionMatches = condition == null || condition == key.condition();
+            boolean exchangeTypeMatches = exchangeType == null
+                    || exchangeType == key.exchangeType();
+            boolean languageMatches = language == null || language.equals(key.language());
+
+            if (exchangeTypeMatches && languageMatches) {
+                facets.getConditions().merge(key.condition(), count, Long::sum);
+            }
+            if (conditionMatches && languageMatches) {
+                facets.getExchangeTypes().merge(key.exchangeType(), count, Long::sum);
+            }
+            if (conditionMatches && exchangeTypeMatches && key.language() != null) {
+                facets.getLanguages().merge(key.language(), count, Long::sum);
+            }
+            if (conditionMatches && exchangeTypeMatches && languageMatches) {
+                facets.setTotal(facets.getTotal() + count);
+            }
+        }
+    }
+}
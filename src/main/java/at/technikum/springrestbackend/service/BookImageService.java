@@ -0,0 +1,92 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.entity.User;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Image changes on a listing. Object storage is only touched outside the database
+ * transaction: the request is authorised against the listing first, the new object is
+ * stored next, then {@link BookService} loads, re-checks and swaps the key in one
+ * transaction, and the replaced object is removed after that transaction has committed.
+ * If the swap fails, the new object is removed again unless another listing already
+ * uses it.
+ */
+@Service
+public class BookImageService {
+
+    private final BookService bookService;
+    private final FileStorageService fileStorageService;
+
+    public BookImageService(
+            final BookService bookService,
+            final FileStorageService fileStorageService
+    ) {
+        this.bookService = bookService;
+        this.fileStorageService = fileStorageService;
+    }
+
+    public BookResponseDto uploadImage(
+            final Long bookId,
+            final MultipartFile file,
+            final User currentUser
+    ) {
+        bookService.verifyBookOwnerOrAdmin(bookId, currentUser);
+        FileStorageService.StoredFileResult storedFile = fileStorageService.uploadBookImage(file);
+        return attachStoredImage(bookId, storedFile, currentUser);
+    }
+
+    public BookResponseDto completeDirectUpload(
+            final Long bookId,
+            final String objectKey,
+            final User currentUser
+    ) {
+        bookService.verifyBookOwnerOrAdmin(bookId, currentUser);
+        FileStorageService.StoredFileResult storedFile =
+                fileStorageService.verifyDirectUpload(bookId, objectKey);
+        return attachStoredImage(bookId, storedFile, currentUser);
+    }
+
+    public BookResponseDto removeImage(final Long bookId, final User currentUser) {
+        BookService.ImageSwap swap = bookService.removeBookImage(bookId, currentUser);
+        deleteIfPresent(swap.previousObjectKey());
+        return swap.book();
+    }
+
+    public void deleteBook(final Long bookId, final User currentUser) {
+        deleteIfPresent(bookService.deleteBook(bookId, currentUser));
+    }
+
+    private BookResponseDto attachStoredImage(
+            final Long bookId,
+            final FileStorageService.StoredFileResult storedFile,
+            final User currentUser
+    ) {
+        String newObjectKey = storedFile.objectKey();
+        BookService.ImageSwap swap;
+        try {
+            swap = bookService.replaceBookImage(
+                    bookId, newObjectKey, storedFile.contentType(), currentUser);
+        } catch (RuntimeException ex) {
+            if (isPresent(newObjectKey) && !bookService.isImageInUse(newObjectKey)) {
+                fileStorageService.deleteObjectQuietly(newObjectKey);
+            }
+            throw ex;
+        }
+        if (!newObjectKey.equals(swap.previousObjectKey())) {
+            deleteIfPresent(swap.previousObjectKey());
+        }
+        return swap.book();
+    }
+
+    private void deleteIfPresent(final String objectKey) {
+        if (isPresent(objectKey)) {
+            fileStorageService.deleteObjectQuietly(objectKey);
+        }
+    }
+
+    private static boolean isPresent(final String objectKey) {
+        return objectKey != null && !objectKey.isBlank();
+    }
+}
@@ -0,0 +1,244 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookCreateRequestDto;
+import at.technikum.springrestbackend.dto.BookImportReportDto;
+import at.technikum.springrestbackend.dto.BookImportRowResultDto;
+import at.technikum.springrestbackend.dto.BookImportRowStatus;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams listings from a JSON array, NDJSON or CSV body and hands valid rows to
+ * {@link BookService#createBooks} in fixed-size chunks, one transaction per chunk,
+ * so neither the parsed input nor the persistence context grows with the import size.
+ */
+@Service
+public class BookImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookImportService.class);
+    private static final String ROW_NOT_STORED = "Row could not be stored";
+    private static final String IMPORT_ABORTED = "Import aborted: listings could not be stored";
+
+    private final BookService bookService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxRows;
+
+    public BookImportService(
+            final BookService bookService,
+            final ObjectMapper objectMapper,
+            final Validator validator,
+            @Value("${app.books.import.batch-size:500}") final int batchSize,
+            @Value("${app.books.import.max-rows:50000}") final int maxRows
+    ) {
+        this.bookService = bookService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    public BookImportReportDto importBooks(
+            final InputStream body,
+            final String contentType,
+            final User currentUser
+    ) {
+        if (currentUser == null || currentUser.getId() == null) {
+            throw new BadRequestException("Authenticated user is required");
+        }
+        ObjectReader reader = rowReaderFor(contentType);
+        ImportRun run = new ImportRun(currentUser);
+        try (MappingIterator<JsonNode> rows = reader.readValues(body)) {
+            while (rows.hasNextValue() && run.acceptsMoreRows()) {
+                run.addRow(rows.nextValue());
+            }
+        } catch (IOException ex) {
+            run.rejectRemainingInput("Malformed input: " + ex.getMessage());
+        }
+        return run.finish();
+    }
+
+    private ObjectReader rowReaderFor(final String contentType) {
+        MediaType mediaType = parseMediaType(contentType);
+        if (mediaType.getSubtype().endsWith("csv")) {
+            return csvMapper.readerFor(JsonNode.class)
+                    .with(CsvSchema.emptySchema().withHeader());
+        }
+        if (mediaType.getSubtype().endsWith("json")) {
+            return objectMapper.readerFor(JsonNode.class);
+        }
+        throw new BadRequestException("Unsupported import format: " + contentType);
+    }
+
+    private MediaType parseMediaType(final String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new BadRequestException("Content type of the import is required");
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unsupported import format: " + contentType);
+        }
+    }
+
+    private ParsedRow parse(final JsonNode row) {
+        BookCreateRequestDto request;
+        try {
+            request = objectMapper.treeToValue(row, BookCreateRequestDto.class);
+        } catch (JsonProcessingException ex) {
+            String error = "Row could not be read: " + ex.getOriginalMessage();
+            return new ParsedRow(null, List.of(error));
+        }
+        List<String> errors = validator.validate(request).stream()
+                .map(this::formatViolation)
+                .sorted()
+                .toList();
+        return new ParsedRow(request, errors);
+    }
+
+    private String formatViolation(final ConstraintViolation<BookCreateRequestDto> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private static BookImportRowResultDto failedRow(
+            final long rowNumber,
+            final List<String> errors
+    ) {
+        return new BookImportRowResultDto(rowNumber, BookImportRowStatus.FAILED, null, errors);
+    }
+
+    private record ParsedRow(BookCreateRequestDto request, List<String> errors) {
+    }
+
+    private final class ImportRun {
+
+        private final User currentUser;
+        private final BookImportReportDto report = new BookImportReportDto();
+        private final List<Long> pendingRowNumbers = new ArrayList<>();
+        private final List<BookCreateRequestDto> pendingRequests = new ArrayList<>();
+        private long rowNumber;
+        private boolean aborted;
+
+        private ImportRun(final User currentUser) {
+            this.currentUser = currentUser;
+        }
+
+        private boolean acceptsMoreRows() {
+            if (aborted) {
+                report.addRow(failedRow(rowNumber + 1, List.of(IMPORT_ABORTED)));
+                return false;
+            }
+            if (rowNumber < maxRows) {
+                return true;
+            }
+            rejectRemainingInput("Import is limited to " + maxRows + " rows");
+            return false;
+        }
+
+        private void addRow(final JsonNode row) {
+            rowNumber++;
+            ParsedRow parsed = parse(row);
+            if (!parsed.errors().isEmpty()) {
+                report.addRow(failedRow(rowNumber, parsed.errors()));
+                return;
+            }
+            pendingRowNumbers.add(rowNumber);
+            pendingRequests.add(parsed.request());
+            if (pendingRequests.size() >= batchSize) {
+                persistPending();
+            }
+        }
+
+        private void rejectRemainingInput(final String message) {
+            persistPending();
+            report.addRow(failedRow(rowNumber + 1, List.of(message)));
+        }
+
+        private void persistPending() {
+            if (pendingRequests.isEmpty()) {
+                return;
+            }
+            try {
+                reportImported(pendingRowNumbers, bookService.createBooks(
+                        List.copyOf(pendingRequests), currentUser));
+            } catch (DataIntegrityViolationException ex) {
+                LOG.warn("Storing import rows {}-{} failed: {}", pendingRowNumbers.get(0),
+                        pendingRowNumbers.get(pendingRowNumbers.size() - 1),
+                        ex.getMostSpecificCause().getMessage());
+                if (pendingRequests.size() == 1) {
+                    report.addRow(failedRow(pendingRowNumbers.get(0), List.of(ROW_NOT_STORED)));
+                } else {
+                    persistRowByRow();
+                }
+            } catch (RuntimeException ex) {
+                abort(0, ex);
+            }
+            pendingRowNumbers.clear();
+            pendingRequests.clear();
+        }
+
+        // Retries a chunk rejected by a constraint one row per transaction so only the
+        // offending rows fail
+        private void persistRowByRow() {
+            for (int i = 0; i < pendingRequests.size(); i++) {
+                long number = pendingRowNumbers.get(i);
+                try {
+                    reportImported(List.of(number), bookService.createBooks(
+                            List.of(pendingRequests.get(i)), currentUser));
+                } catch (DataIntegrityViolationException ex) {
+                    LOG.warn("Storing import row {} failed: {}", number,
+                            ex.getMostSpecificCause().getMessage());
+                    report.addRow(failedRow(number, List.of(ROW_NOT_STORED)));
+                } catch (RuntimeException ex) {
+                    abort(i, ex);
+                    return;
+                }
+            }
+        }
+
+        // Failures not caused by the rows themselves, such as an unreachable database,
+        // would fail every following row as well, so the import stops
+        private void abort(final int firstUnstored, final RuntimeException ex) {
+            LOG.warn("Import aborted at row {}", pendingRowNumbers.get(firstUnstored), ex);
+            aborted = true;
+            for (int i = firstUnstored; i < pendingRowNumbers.size(); i++) {
+                report.addRow(failedRow(pendingRowNumbers.get(i), List.of(IMPORT_ABORTED)));
+            }
+        }
+
+        private void reportImported(final List<Long> rowNumbers, final List<Long> ids) {
+            for (int i = 0; i < ids.size(); i++) {
+                report.addRow(new BookImportRowResultDto(rowNumbers.get(i),
+                        BookImportRowStatus.IMPORTED, ids.get(i), List.of()));
+            }
+        }
+
+        private BookImportReportDto finish() {
+            persistPending();
+            report.getRows().sort(Comparator.comparingLong(BookImportRowResultDto::getRowNumber));
+            return report;
+        }
+    }
+}
@@ -1,19 +1,40 @@
 package at.technikum.springrestbackend.service;
 
+import at.technikum.springrestbackend.cache.CacheNames;
 import at.technikum.springrestbackend.dto.BookCreateRequestDto;
 import at.technikum.springrestbackend.dto.BookResponseDto;
 import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
+import at.technikum.springrestbackend.dto.ResponseFields;
 import at.technikum.springrestbackend.entity.Book;
 import at.technikum.springrestbackend.entity.BookCondition;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
 import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.ForbiddenOperationException;
 import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.SyncTombstoneRepository;
 import at.technikum.springrestbackend.specification.BookSpecification;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -24,10 +45,29 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BookService {
 
+    public static final int MAX_BATCH_IDS = 100;
+
     private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FileStorageService fileStorageService;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final CacheManager cacheManager;
 
-    public BookService(final BookRepository bookRepository) {
+    public BookService(
+            final BookRepository bookRepository,
+            final ApplicationEventPublisher eventPublisher,
+            final FileStorageService fileStorageService,
+            final JsonMergePatcher jsonMergePatcher,
+            final SyncTombstoneRepository syncTombstoneRepository,
+            final CacheManager cacheManager
+    ) {
         this.bookRepository = bookRepository;
+        this.eventPublisher = eventPublisher;
+        this.fileStorageService = fileStorageService;
+        this.jsonMergePatcher = jsonMergePatcher;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.cacheManager = cacheManager;
     }
 
     public Page<BookResponseDto> getLatestPublicBooks(
@@ -35,26 +75,74 @@ public class BookService {
             final BookCondition condition,
             final ExchangeType exchangeType,
             final String language,
-            final String search
+            final String search,
+            final ResponseFields fields
     ) {
         Specification<Book> spec = BookSpecification.buildPublicFilter(
                 condition, exchangeType, language, search);
-        return bookRepository.findAll(spec, pageable).map(this::toBookResponseDto);
+        return bookRepository.findAll(spec, pageable)
+                .map(book -> toBookResponseDto(book, fields));
     }
 
+    /**
+     * Served from the {@code books} cache. The entry is stored without the image URL,
+     * which is resolved on every read so a cached listing never carries an expired one.
+     */
     public BookResponseDto getPublicBookById(final Long bookId) {
+        Cache books = cacheManager.getCache(CacheNames.BOOKS);
+        Cache.ValueWrapper hit = books.get(bookId);
+        CachedBookListing listing;
+        if (hit != null && hit.get() instanceof CachedBookListing cached) {
+            listing = cached;
+        } else {
+            Book book = getPublicBookEntityById(bookId);
+            listing = new CachedBookListing(
+                    toDtoWithoutImageUrl(book, ResponseFields.ALL), book.getImageObjectKey());
+            books.put(bookId, listing);
+        }
+        return listing.toResponse(fileStorageService::resolveImageUrl);
+    }
+
+    public Book getPublicBookEntityById(final Long bookId) {
         Book book = getBookEntityById(bookId);
         if (book.getStatus() != ListingStatus.AVAILABLE) {
             throw new ResourceNotFoundException("Book listing not found with id: " + bookId);
         }
-        return toBookResponseDto(book);
+        return book;
+    }
+
+    public List<BookResponseDto> getPublicBooksByIds(
+            final List<Long> bookIds,
+            final ResponseFields fields
+    ) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(bookIds);
+        requestedIds.remove(null);
+        if (requestedIds.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException(
+                    "At most " + MAX_BATCH_IDS + " book ids can be requested at once");
+        }
+        Map<Long, Book> booksById = bookRepository
+                .findAllByIdInAndStatus(requestedIds, ListingStatus.AVAILABLE)
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return requestedIds.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .map(book -> toBookResponseDto(book, fields))
+                .toList();
     }
 
-    public List<BookResponseDto> getBooksOfUser(final User currentUser) {
+    public List<BookResponseDto> getBooksOfUser(
+            final User currentUser,
+            final ResponseFields fields
+    ) {
         requireAuthenticatedUser(currentUser);
         return bookRepository.findAllByOwnerIdOrderByCreatedAtDesc(currentUser.getId())
                 .stream()
-                .map(this::toBookResponseDto)
+                .map(book -> toBookResponseDto(book, fields))
                 .toList();
     }
 
@@ -77,9 +165,33 @@ public class BookService {
         book.setOwner(currentUser);
         book.setStatus(ListingStatus.AVAILABLE);
         Book saved = bookRepository.save(book);
+        eventPublisher.publishEvent(BookChangedEvent.created(BookSnapshot.of(saved)));
         return toBookResponseDto(saved);
     }
 
+    @Transactional
+    public List<Long> createBooks(
+            final List<BookCreateRequestDto> requests,
+            final User currentUser
+    ) {
+        requireAuthenticatedUser(currentUser);
+        List<Book> books = requests.stream()
+                .map(request -> {
+                    Book book = new Book();
+                    applyCreateFields(book, request);
+                    book.setOwner(currentUser);
+                    book.setStatus(ListingStatus.AVAILABLE);
+                    return book;
+                })
+                .toList();
+        List<Book> saved = bookRepository.saveAll(books);
+        saved.forEach(book -> eventPublisher.publishEvent(
+                BookChangedEvent.created(BookSnapshot.of(book))));
+        return saved.stream()
+                .map(Book::getId)
+                .toList();
+    }
+
     @Transactional
     public BookResponseDto updateBook(
             final Long bookId,
@@ -89,17 +201,86 @@ public class BookService {
         requireAuthenticatedUser(currentUser);
         Book book = getBookEntityById(bookId);
         requireOwnerOrAdmin(book, currentUser);
+        BookSnapshot before = BookSnapshot.of(book);
         applyUpdateFields(book, request);
         Book saved = bookRepository.save(book);
+        publishUpdated(before, saved);
         return toBookResponseDto(saved);
     }
 
+    /**
+     * Applies a JSON Merge Patch on top of the current listing. Unchanged fields are not
+     * written: dirty tracking and {@code @DynamicUpdate} limit the UPDATE to the changed
+     * columns, and an empty patch issues no UPDATE at all.
+     */
     @Transactional
-    public void deleteBook(final Long bookId, final User currentUser) {
+    public BookResponseDto patchBook(
+            final Long bookId,
+            final JsonNode patch,
+            final User currentUser
+    ) {
+        requireAuthenticatedUser(currentUser);
+        Book book = getBookEntityById(bookId);
+        requireOwnerOrAdmin(book, currentUser);
+        BookSnapshot before = BookSnapshot.of(book);
+        applyUpdateFields(book, jsonMergePatcher.apply(patch, toUpdateRequest(book)));
+        Book saved = bookRepository.save(book);
+        publishUpdated(before, saved);
+        return toBookResponseDto(saved);
+    }
+
+    /**
+     * Changes only the listing status. The listing is read as a projection and written
+     * with one UPDATE that is conditional on the version read, so a concurrent edit fails
+     * with a conflict instead of being overwritten.
+     */
+    @Transactional
+    public void updateBookStatus(
+            final Long bookId,
+            final ListingStatus status,
+            final User currentUser
+    ) {
+        requireAuthenticatedUser(currentUser);
+        BookState state = getBookState(bookId);
+        requireOwnerOrAdmin(state.ownerId(), currentUser);
+        rejectManualReservation(state.status(), status);
+        if (state.status() == status) {
+            return;
+        }
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (!bookRepository.updateStatus(bookId, state.version(), status, updatedAt)) {
+            throw new OptimisticLockingFailureException(
+                    "Book listing " + bookId + " was modified concurrently");
+        }
+        BookSnapshot before = state.toSnapshot();
+        eventPublisher.publishEvent(BookChangedEvent.updated(
+                before, before.withStatus(status, updatedAt)));
+    }
+
+    /**
+     * Deletes the listing and returns its image key, which the caller removes from object
+     * storage once this transaction has committed.
+     */
+    @Transactional
+    public String deleteBook(final Long bookId, final User currentUser) {
         requireAuthenticatedUser(currentUser);
         Book book = getBookEntityById(bookId);
         requireOwnerOrAdmin(book, currentUser);
+        BookSnapshot before = BookSnapshot.of(book);
+        syncTombstoneRepository.saveAll(tombstonesOf(book));
         bookRepository.delete(book);
+        eventPublisher.publishEvent(BookChangedEvent.deleted(before));
+        return book.getImageObjectKey();
+    }
+
+    // The comments are removed with the listing, so delta sync clients are told about both
+    private static List<SyncTombstone> tombstonesOf(final Book book) {
+        List<SyncTombstone> tombstones = new ArrayList<>();
+        tombstones.add(new SyncTombstone(SyncEntityType.BOOK, book.getId(),
+                book.getOwner() != null ? book.getOwner().getId() : null));
+        book.getComments().forEach(comment -> tombstones.add(new SyncTombstone(
+                SyncEntityType.COMMENT, comment.getId(), comment.getAuthor().getId())));
+        return tombstones;
     }
 
     public Book getBookEntityById(final Long bookId) {
@@ -108,55 +289,72 @@ public class BookService {
                         "Book listing not found with id: " + bookId));
     }
 
+    /**
+     * Loads, authorises and points the listing at an already stored image in one
+     * transaction. The previous key is returned so the caller can remove it after commit;
+     * a concurrent swap fails the {@code @Version} check instead of orphaning an object.
+     */
     @Transactional
-    public BookResponseDto updateBookImageMetadata(
+    public ImageSwap replaceBookImage(
             final Long bookId,
-            final String imageUrl,
             final String imageObjectKey,
             final String imageContentType,
             final User currentUser
     ) {
-        requireAuthenticatedUser(currentUser);
-        Book book = getBookEntityById(bookId);
-        requireOwnerOrAdmin(book, currentUser);
-
-        if (imageUrl == null || imageUrl.isBlank()) {
-            throw new BadRequestException("Image URL is required");
-        }
         if (imageObjectKey == null || imageObjectKey.isBlank()) {
             throw new BadRequestException("Image object key is required");
         }
         if (imageContentType == null || imageContentType.isBlank()) {
             throw new BadRequestException("Image content type is required");
         }
-
-        book.setImageUrl(imageUrl.trim());
-        book.setImageObjectKey(imageObjectKey.trim());
-        book.setImageContentType(imageContentType.trim());
-        Book saved = bookRepository.save(book);
-        return toBookResponseDto(saved);
+        return swapImage(bookId, imageObjectKey.trim(), imageContentType.trim(), currentUser);
     }
 
     @Transactional
-    public BookResponseDto clearBookImageMetadata(
+    public ImageSwap removeBookImage(final Long bookId, final User currentUser) {
+        return swapImage(bookId, null, null, currentUser);
+    }
+
+    public boolean isImageInUse(final String imageObjectKey) {
+        return bookRepository.existsByImageObjectKey(imageObjectKey);
+    }
+
+    /**
+     * Checks that the listing exists and the user may modify it, reading only the state
+     * projection. Callers use it to reject requests before any object storage work.
+     */
+    public void verifyBookOwnerOrAdmin(final Long bookId, final User currentUser) {
+        requireAuthenticatedUser(currentUser);
+        requireOwnerOrAdmin(getBookState(bookId).ownerId(), currentUser);
+    }
+
+    private BookState getBookState(final Long bookId) {
+        return bookRepository.findStateById(bookId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Book listing not found with id: " + bookId));
+    }
+
+    private ImageSwap swapImage(
             final Long bookId,
+            final String imageObjectKey,
+            final String imageContentType,
             final User currentUser
     ) {
         requireAuthenticatedUser(currentUser);
         Book book = getBookEntityById(bookId);
         requireOwnerOrAdmin(book, currentUser);
 
-        book.setImageUrl(null);
-        book.setImageObjectKey(null);
-        book.setImageContentType(null);
+        BookSnapshot before = BookSnapshot.of(book);
+        String previousObjectKey = book.getImageObjectKey();
+        book.setImageObjectKey(imageObjectKey);
+        book.setImageContentType(imageContentType);
         Book saved = bookRepository.save(book);
-        return toBookResponseDto(saved);
+        publishUpdated(before, saved);
+        return new ImageSwap(toBookResponseDto(saved), previousObjectKey);
     }
 
-    public void verifyBookOwnerOrAdmin(final Long bookId, final User currentUser) {
-        requireAuthenticatedUser(currentUser);
-        Book book = getBookEntityById(bookId);
-        requireOwnerOrAdmin(book, currentUser);
+    private void publishUpdated(final BookSnapshot before, final Book saved) {
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, BookSnapshot.of(saved)));
     }
 
     private void applyCreateFields(final Book book, final BookCreateRequestDto request) {
@@ -168,6 +366,18 @@ public class BookService {
         book.setExchangeType(request.getExchangeType());
     }
 
+    private BookUpdateRequestDto toUpdateRequest(final Book book) {
+        BookUpdateRequestDto request = new BookUpdateRequestDto();
+        request.setTitle(book.getTitle());
+        request.setAuthorName(book.getAuthorName());
+        request.setDescription(book.getDescription());
+        request.setLanguage(book.getLanguage());
+        request.setCondition(book.getCondition());
+        request.setExchangeType(book.getExchangeType());
+        request.setStatus(book.getStatus());
+        return request;
+    }
+
     private void applyUpdateFields(final Book book, final BookUpdateRequestDto request) {
         book.setTitle(request.getTitle().trim());
         book.setAuthorName(request.getAuthorName().trim());
@@ -175,7 +385,26 @@ public class BookService {
         book.setLanguage(normalizeNullableString(request.getLanguage()));
         book.setCondition(request.getCondition());
         book.setExchangeType(request.getExchangeType());
+        rejectManualReservation(book.getStatus(), request.getStatus());
         book.setStatus(request.getStatus());
+        if (request.getStatus() != ListingStatus.RESERVED) {
+            book.setReservedBy(null);
+            book.setReservedUntil(null);
+        }
+    }
+
+    /**
+     * A reservation needs a holder, an expiry and the waitlist order, so listings only
+     * become RESERVED through {@link ReservationService}.
+     */
+    private void rejectManualReservation(
+            final ListingStatus currentStatus,
+            final ListingStatus requestedStatus
+    ) {
+        if (requestedStatus == ListingStatus.RESERVED && currentStatus != ListingStatus.RESERVED) {
+            throw new BadRequestException(
+                    "Listings are reserved via POST /books/{bookId}/reservation");
+        }
     }
 
     private String normalizeNullableString(final String value) {
@@ -193,9 +422,11 @@ public class BookService {
     }
 
     private void requireOwnerOrAdmin(final Book book, final User currentUser) {
-        boolean isOwner = book.getOwner() != null
-                && book.getOwner().getId() != null
-                && book.getOwner().getId().equals(currentUser.getId());
+        requireOwnerOrAdmin(book.getOwner() == null ? null : book.getOwner().getId(), currentUser);
+    }
+
+    private void requireOwnerOrAdmin(final Long ownerId, final User currentUser) {
+        boolean isOwner = ownerId != null && ownerId.equals(currentUser.getId());
 
         if (isOwner || isAdmin(currentUser)) {
             return;
@@ -218,16 +449,33 @@ public class BookService {
     }
 
     private BookResponseDto toBookResponseDto(final Book book) {
+        return toBookResponseDto(book, ResponseFields.ALL);
+    }
+
+    /**
+     * Unselected properties that cost more than a field read are left null: the
+     * description may be a lazy load and the image URL is signed per call.
+     */
+    private BookResponseDto toBookResponseDto(final Book book, final ResponseFields fields) {
+        BookResponseDto dto = toDtoWithoutImageUrl(book, fields);
+        if (fields.includes("imageUrl")) {
+            dto.setImageUrl(fileStorageService.resolveImageUrl(book.getImageObjectKey()));
+        }
+        return dto;
+    }
+
+    private BookResponseDto toDtoWithoutImageUrl(final Book book, final ResponseFields fields) {
         BookResponseDto dto = new BookResponseDto();
         dto.setId(book.getId());
         dto.setTitle(book.getTitle());
         dto.setAuthorName(book.getAuthorName());
-        dto.setDescription(book.getDescription());
+        if (fields.includes("description")) {
+            dto.setDescription(book.getDescription());
+        }
         dto.setLanguage(book.getLanguage());
         dto.setCondition(book.getCondition());
         dto.setExchangeType(book.getExchangeType());
         dto.setStatus(book.getStatus());
-        dto.setImageUrl(book.getImageUrl());
         dto.setImageContentType(book.getImageContentType());
 
         if (book.getOwner() != null) {
@@ -238,4 +486,7 @@ public class BookService {
         dto.setUpdatedAt(book.getUpdatedAt());
         return dto;
     }
+
+    public record ImageSwap(BookResponseDto book, String previousObjectKey) {
+    }
 }
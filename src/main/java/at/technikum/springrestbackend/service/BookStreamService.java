@@ -0,0 +1,111 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookStreamEventType;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.event.BookChangeType;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import at.technikum.springrestbackend.mapper.BookMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live feed of listing changes for {@code GET /books/stream}, so clients no longer have
+ * to poll {@code GET /books}. Committed {@link BookChangedEvent}s are pushed to every
+ * subscriber whose filters match the listing before or after the change, so clients also
+ * learn about listings that leave their filter. Only changes made on this instance are
+ * streamed; event ids are instance-specific and resuming elsewhere yields a reset.
+ */
+@Service
+public class BookStreamService {
+
+    private final BookMapper bookMapper;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final SseBroadcaster<BookChangedEvent> broadcaster;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    public BookStreamService(
+            final BookMapper bookMapper,
+            @Value("${app.books.stream.replay-size:1000}") final int replaySize,
+            @Value("${app.books.stream.buffer-size:256}") final int bufferSize,
+            @Value("${app.books.stream.max-subscribers:10000}") final int maxSubscribers,
+            @Value("${app.books.stream.timeout-ms:1800000}") final long timeoutMs
+    ) {
+        this.bookMapper = bookMapper;
+        this.broadcaster = new SseBroadcaster<>(
+                Long.toString(System.currentTimeMillis(), 36), replaySize);
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(
+            final BookCondition condition,
+            final ExchangeType exchangeType,
+            final String language,
+            final String lastEventId
+    ) {
+        if (broadcaster.subscriberCount() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many open book streams", 30);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SseSubscriber subscriber = new SseSubscriber(emitter, bufferSize, senders, false);
+        broadcaster.subscribe(subscriber, filter(condition, exchangeType, language), lastEventId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(final BookChangedEvent event) {
+        BookStreamEventType type = typeOf(event);
+        BookSnapshot snapshot = event.after() != null ? event.after() : event.before();
+        broadcaster.publish(type.name(), event, bookMapper.toStreamEventDto(type, snapshot));
+    }
+
+    @Scheduled(fixedDelayString = "${app.books.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        broadcaster.heartbeat();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcaster.completeAll();
+        senders.shutdown();
+    }
+
+    private static BookStreamEventType typeOf(final BookChangedEvent event) {
+        if (event.type() == BookChangeType.CREATED) {
+            return BookStreamEventType.CREATED;
+        }
+        if (event.type() == BookChangeType.DELETED) {
+            return BookStreamEventType.DELETED;
+        }
+        return event.statusChanged()
+                ? BookStreamEventType.STATUS_CHANGED
+                : BookStreamEventType.UPDATED;
+    }
+
+    private static Predicate<BookChangedEvent> filter(
+            final BookCondition condition,
+            final ExchangeType exchangeType,
+            final String language
+    ) {
+        String wantedLanguage = language == null || language.isBlank() ? null : language.trim();
+        Predicate<BookSnapshot> matches = book -> book != null
+                && (condition == null || condition == book.condition())
+                && (exchangeType == null || exchangeType == book.exchangeType())
+                && (wantedLanguage == null || wantedLanguage.equalsIgnoreCase(
+                        book.language() == null ? null : book.language().trim()));
+        return event -> matches.test(event.before()) || matches.test(event.after());
+    }
+}
@@ -0,0 +1,19 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import java.io.Serializable;
+import java.util.function.UnaryOperator;
+
+/**
+ * The {@code books} cache entry of a public listing. Pre-signed image URLs expire
+ * independently of the cache TTLs, so the entry keeps the object key instead and the
+ * URL is resolved whenever the entry is read.
+ */
+record CachedBookListing(BookResponseDto listing, String imageObjectKey) implements Serializable {
+
+    BookResponseDto toResponse(final UnaryOperator<String> imageUrlResolver) {
+        BookResponseDto response = new BookResponseDto(listing);
+        response.setImageUrl(imageUrlResolver.apply(imageObjectKey));
+        return response;
+    }
+}
@@ -7,11 +7,19 @@ import at.technikum.springrestbackend.entity.Book;
 import at.technikum.springrestbackend.entity.Comment;
 import at.technikum.springrestbackend.entity.ListingStatus;
 import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
 import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.CommentChangedEvent;
 import at.technikum.springrestbackend.exception.ForbiddenOperationException;
 import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.repository.CommentRepository;
+import at.technikum.springrestbackend.repository.SyncTombstoneRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,22 +29,27 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final BookService bookService;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
     public CommentService(
             final CommentRepository commentRepository,
-            final BookService bookService
+            final BookService bookService,
+            final JsonMergePatcher jsonMergePatcher,
+            final ApplicationEventPublisher eventPublisher,
+            final SyncTombstoneRepository syncTombstoneRepository
     ) {
         this.commentRepository = commentRepository;
         this.bookService = bookService;
+        this.jsonMergePatcher = jsonMergePatcher;
+        this.eventPublisher = eventPublisher;
+        this.syncTombstoneRepository = syncTombstoneRepository;
     }
 
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getCommentsForPublicBook(final Long bookId) {
-        Book book = bookService.getBookEntityById(bookId);
-
-        if (book.getStatus() != ListingStatus.AVAILABLE) {
-            throw new ResourceNotFoundException("Public book listing not found");
-        }
+        requirePublicBook(bookId);
 
         return commentRepository.findAllByBookIdOrderByCreatedAtAsc(bookId)
                 .stream()
@@ -44,6 +57,35 @@ public class CommentService {
                 .toList();
     }
 
+    /**
+     * Returns up to {@code limit} comments of a public listing created after
+     * {@code since}, in {@code (createdAt, id)} order, so reconnecting clients only load
+     * the delta.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> getCommentsForPublicBookSince(
+            final Long bookId,
+            final LocalDateTime since,
+            final int limit
+    ) {
+        requirePublicBook(bookId);
+
+        return commentRepository.findAllByBookIdAndCreatedAtGreaterThanOrderByCreatedAtAscIdAsc(
+                        bookId, since, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toCommentResponseDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public void requirePublicBook(final Long bookId) {
+        Book book = bookService.getBookEntityById(bookId);
+
+        if (book.getStatus() != ListingStatus.AVAILABLE) {
+            throw new ResourceNotFoundException("Public book listing not found");
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getCommentsOfUser(final User currentUser) {
         return commentRepository.findAllByAuthorIdOrderByCreatedAtDesc(currentUser.getId())
@@ -79,8 +121,11 @@ public class CommentService {
         comment.setBook(book);
         comment.setAuthor(currentUser);
 
-        Comment saved = commentRepository.save(comment);
-        return toCommentResponseDto(saved);
+        // Flushed so createdAt is set: the comment stream uses it as the event position
+        Comment saved = commentRepository.saveAndFlush(comment);
+        CommentResponseDto response = toCommentResponseDto(saved);
+        eventPublisher.publishEvent(CommentChangedEvent.created(response));
+        return response;
     }
 
     public CommentResponseDto updateComment(
@@ -94,14 +139,38 @@ public class CommentService {
         comment.setContent(request.getContent());
 
         Comment saved = commentRepository.save(comment);
-        return toCommentResponseDto(saved);
+        CommentResponseDto response = toCommentResponseDto(saved);
+        eventPublisher.publishEvent(CommentChangedEvent.updated(response));
+        return response;
+    }
+
+    public CommentResponseDto patchComment(
+            final Long commentId,
+            final JsonNode patch,
+            final User currentUser
+    ) {
+        Comment comment = getCommentEntityById(commentId);
+        requireCommentAuthorOrAdmin(comment, currentUser);
+
+        CommentUpdateRequestDto current = new CommentUpdateRequestDto();
+        current.setContent(comment.getContent());
+        comment.setContent(jsonMergePatcher.apply(patch, current).getContent());
+
+        Comment saved = commentRepository.save(comment);
+        CommentResponseDto response = toCommentResponseDto(saved);
+        eventPublisher.publishEvent(CommentChangedEvent.updated(response));
+        return response;
     }
 
     public void deleteComment(final Long commentId, final User currentUser) {
         Comment comment = getCommentEntityById(commentId);
         requireCommentAuthorOrAdmin(comment, currentUser);
 
+        CommentResponseDto deleted = toCommentResponseDto(comment);
+        syncTombstoneRepository.save(new SyncTombstone(
+                SyncEntityType.COMMENT, deleted.getId(), deleted.getAuthorId()));
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(deleted));
     }
 
     @Transactional(readOnly = true)
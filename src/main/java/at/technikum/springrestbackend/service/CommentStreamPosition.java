@@ -0,0 +1,49 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+/**
+ * Position of a comment stream client: the {@code (createdAt, id)} of the newest comment
+ * it has been sent, used as SSE event id. Timestamps are cut to microseconds, the
+ * precision the database keeps, so positions from events and rows compare alike.
+ */
+record CommentStreamPosition(LocalDateTime createdAt, long commentId) {
+
+    private static final String SEPARATOR = "_";
+    private static final Comparator<CommentStreamPosition> ORDER = Comparator
+            .comparing(CommentStreamPosition::createdAt)
+            .thenComparingLong(CommentStreamPosition::commentId);
+
+    static CommentStreamPosition of(final CommentResponseDto comment) {
+        return new CommentStreamPosition(
+                comment.getCreatedAt().truncatedTo(ChronoUnit.MICROS), comment.getId());
+    }
+
+    /**
+     * @return the position, or null if {@code eventId} is not one
+     */
+    static CommentStreamPosition parse(final String eventId) {
+        String[] parts = eventId.trim().split(SEPARATOR, -1);
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            return new CommentStreamPosition(LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1]));
+        } catch (NumberFormatException | DateTimeException exception) {
+            return null;
+        }
+    }
+
+    boolean isBefore(final CommentResponseDto comment) {
+        return ORDER.compare(this, of(comment)) < 0;
+    }
+
+    String encode() {
+        return createdAt + SEPARATOR + commentId;
+    }
+}
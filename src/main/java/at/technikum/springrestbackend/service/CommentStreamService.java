@@ -0,0 +1,176 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.CommentChangeType;
+import at.technikum.springrestbackend.event.CommentChangedEvent;
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live comment threads for {@code GET /comments/book/{bookId}/stream}. Subscribers are
+ * grouped into one topic per book; a topic exists only while it has subscribers, so
+ * books nobody watches cost nothing and a comment on them is a single map lookup.
+ * CREATED events carry the comment's {@link CommentStreamPosition} as event id, so a
+ * reconnecting client's {@code Last-Event-ID} names the newest comment it has seen and it
+ * is sent only the comments after it. Ids from the pooled sequence do not follow commit
+ * order and {@code createdAt} is set before commit, so a comment committing late can
+ * sort before that position: if any comment other than the named one lies within
+ * {@code settle-seconds} before it, the client may have missed it and is told to reload
+ * instead. UPDATED and DELETED events have no id and leave the position unchanged.
+ */
+@Service
+public class CommentStreamService {
+
+    private final CommentService commentService;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Set<SseSubscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final int catchUpLimit;
+    private final long settleSeconds;
+
+    public CommentStreamService(
+            final CommentService commentService,
+            @Value("${app.comments.stream.buffer-size:64}") final int bufferSize,
+            @Value("${app.comments.stream.max-subscribers:10000}") final int maxSubscribers,
+            @Value("${app.comments.stream.timeout-ms:1800000}") final long timeoutMs,
+            @Value("${app.comments.stream.catch-up-limit:200}") final int catchUpLimit,
+            @Value("${app.comments.stream.settle-seconds:10}") final long settleSeconds
+    ) {
+        this.commentService = commentService;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.catchUpLimit = catchUpLimit;
+        this.settleSeconds = settleSeconds;
+    }
+
+    public SseEmitter subscribe(final Long bookId, final String lastEventId) {
+        boolean resuming = lastEventId != null && !lastEventId.isBlank();
+        CommentStreamPosition position = resuming ? CommentStreamPosition.parse(lastEventId) : null;
+        if (position == null) {
+            commentService.requirePublicBook(bookId);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open comment streams", 30);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // A catching-up subscriber stays paused, so comments committed while the delta
+        // loads are buffered and sent after it
+        SseSubscriber subscriber = new SseSubscriber(emitter, bufferSize, senders,
+                position != null);
+        subscriber.onClose(closed -> leave(bookId, closed));
+        topics.compute(bookId, (id, topic) -> {
+            Set<SseSubscriber> members = topic != null ? topic : ConcurrentHashMap.newKeySet();
+            members.add(subscriber);
+            return members;
+        });
+        if (position != null) {
+            catchUp(bookId, position, subscriber);
+        } else if (resuming) {
+            // An unknown position cannot be resumed
+            subscriber.reset();
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(final CommentChangedEvent event) {
+        Set<SseSubscriber> topic = topics.get(event.bookId());
+        if (topic == null) {
+            return;
+        }
+        SseFrame frame = toFrame(event.type(), event.comment());
+        topic.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    /**
+     * Comments are only public while the listing is available, so its streams end when
+     * it is reserved, exchanged or deleted.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(final BookChangedEvent event) {
+        if (event.after() == null || !event.after().isAvailable()) {
+            Set<SseSubscriber> topic = topics.get(event.bookId());
+            if (topic != null) {
+                List.copyOf(topic).forEach(SseSubscriber::complete);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.comments.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        topics.values().forEach(topic ->
+                topic.forEach(subscriber -> subscriber.offerIfIdle(SseFrame.HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        topics.values().stream().flatMap(Set::stream).toList()
+                .forEach(SseSubscriber::complete);
+        senders.shutdown();
+    }
+
+    int topicCount() {
+        return topics.size();
+    }
+
+    private void catchUp(
+            final Long bookId,
+            final CommentStreamPosition position,
+            final SseSubscriber subscriber
+    ) {
+        List<CommentResponseDto> recent;
+        try {
+            recent = commentService.getCommentsForPublicBookSince(bookId,
+                    position.createdAt().minusSeconds(settleSeconds), catchUpLimit + 1);
+        } catch (RuntimeException exception) {
+            subscriber.close();
+            throw exception;
+        }
+        List<CommentResponseDto> delta = recent.stream().filter(position::isBefore).toList();
+        boolean possiblyMissed = recent.stream().anyMatch(comment ->
+                !position.isBefore(comment) && comment.getId() != position.commentId());
+        if (recent.size() > catchUpLimit || possiblyMissed) {
+            // Too far behind or unsure what the client has: it reloads the thread instead
+            subscriber.reset();
+            subscriber.resume(List.of());
+            return;
+        }
+        subscriber.resume(delta.stream()
+                .map(comment -> toFrame(CommentChangeType.CREATED, comment))
+                .toList());
+    }
+
+    private void leave(final Long bookId, final SseSubscriber subscriber) {
+        subscriberCount.decrementAndGet();
+        topics.computeIfPresent(bookId, (id, topic) -> {
+            topic.remove(subscriber);
+            return topic.isEmpty() ? null : topic;
+        });
+    }
+
+    private static SseFrame toFrame(final CommentChangeType type,
+                                    final CommentResponseDto comment) {
+        String id = type == CommentChangeType.CREATED
+                ? CommentStreamPosition.of(comment).encode()
+                : null;
+        return new SseFrame(id, type.name(), comment);
+    }
+}
@@ -0,0 +1,133 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.ObjectKeyClaim;
+import at.technikum.springrestbackend.entity.PendingObjectDeletion;
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.ObjectKeyClaimRepository;
+import at.technikum.springrestbackend.repository.PendingObjectDeletionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Retries object deletions that failed while object storage was unavailable, and
+ * removes shared content-addressed images once no listing references them anymore.
+ * Each failed attempt doubles the delay up to one hour; a round stops as soon as
+ * storage rejects calls again. A shared image is deleted only while holding the lock
+ * on its {@link ObjectKeyClaim} and only once no upload has claimed it recently.
+ */
+@Service
+public class DeferredObjectDeletionService implements MeterBinder {
+
+    private static final long MAX_BACKOFF_MINUTES = 60;
+
+    private final PendingObjectDeletionRepository pendingDeletionRepository;
+    private final BookRepository bookRepository;
+    private final ObjectKeyClaimRepository objectKeyClaimRepository;
+    private final FileStorageService fileStorageService;
+    private final ObjectStorageCircuitBreaker storageCircuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long claimGraceSeconds;
+
+    public DeferredObjectDeletionService(
+            final PendingObjectDeletionRepository pendingDeletionRepository,
+            final BookRepository bookRepository,
+            final ObjectKeyClaimRepository objectKeyClaimRepository,
+            final FileStorageService fileStorageService,
+            final ObjectStorageCircuitBreaker storageCircuitBreaker,
+            final PlatformTransactionManager transactionManager,
+            @Value("${app.minio.deferred-delete.batch-size:100}") final int batchSize,
+            @Value("${app.minio.shared-object-delete-delay-seconds:600}")
+            final long claimGraceSeconds
+    ) {
+        this.pendingDeletionRepository = pendingDeletionRepository;
+        this.bookRepository = bookRepository;
+        this.objectKeyClaimRepository = objectKeyClaimRepository;
+        this.fileStorageService = fileStorageService;
+        this.storageCircuitBreaker = storageCircuitBreaker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.claimGraceSeconds = claimGraceSeconds;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.minio.deferred-delete.interval-ms:60000}",
+            initialDelayString = "${app.minio.deferred-delete.interval-ms:60000}"
+    )
+    public void retryPendingDeletions() {
+        if (!storageCircuitBreaker.isCallPermitted()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingObjectDeletion> due = pendingDeletionRepository
+                .findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        now, PageRequest.of(0, batchSize));
+        for (PendingObjectDeletion deletion : due) {
+            try {
+                LocalDateTime claimedUntil = deleteIfUnreferenced(deletion.getObjectKey(), now);
+                if (claimedUntil != null) {
+                    deletion.setNextAttemptAt(claimedUntil);
+                    pendingDeletionRepository.save(deletion);
+                    continue;
+                }
+                pendingDeletionRepository.delete(deletion);
+            } catch (ServiceUnavailableException ex) {
+                return;
+            } catch (RuntimeException ex) {
+                int attempts = deletion.getAttempts() + 1;
+                deletion.setAttempts(attempts);
+                deletion.setNextAttemptAt(now.plusMinutes(
+                        Math.min(MAX_BACKOFF_MINUTES, 1L << Math.min(attempts, 6))));
+                pendingDeletionRepository.save(deletion);
+            }
+        }
+    }
+
+    /**
+     * Deletes the object unless a listing references it. Returns when to look again if
+     * an upload claimed the shared object within the grace period, otherwise null.
+     */
+    private LocalDateTime deleteIfUnreferenced(final String objectKey, final LocalDateTime now) {
+        if (!FileStorageService.isContentAddressed(objectKey)) {
+            if (!bookRepository.existsByImageObjectKey(objectKey)) {
+                fileStorageService.deleteObject(objectKey);
+            }
+            return null;
+        }
+        return transactionTemplate.execute(status -> deleteUnclaimed(objectKey, now));
+    }
+
+    private LocalDateTime deleteUnclaimed(final String objectKey, final LocalDateTime now) {
+        ObjectKeyClaim claim = objectKeyClaimRepository.findByObjectKey(objectKey)
+                .orElseGet(() -> objectKeyClaimRepository.saveAndFlush(
+                        new ObjectKeyClaim(objectKey, now.minusSeconds(claimGraceSeconds))));
+        LocalDateTime claimedUntil = claim.getClaimedAt().plusSeconds(claimGraceSeconds);
+        if (claimedUntil.isAfter(now)) {
+            return claimedUntil;
+        }
+        // Uploads of this content block on the claim row until the transaction ends
+        if (!bookRepository.existsByImageObjectKey(objectKey)) {
+            fileStorageService.deleteObject(objectKey);
+            objectKeyClaimRepository.delete(claim);
+        }
+        return null;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("minio.deletions.pending", pendingDeletionRepository,
+                        PendingObjectDeletionRepository::count)
+                .description("Object deletions waiting to be retried")
+                .register(registry);
+    }
+}
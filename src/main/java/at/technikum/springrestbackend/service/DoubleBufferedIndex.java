@@ -0,0 +1,86 @@
+package at.technikum.springrestbackend.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory index that follows committed changes and is periodically rebuilt from
+ * the database to correct drift caused by writes on other instances. A rebuild loads a
+ * new index while the current one keeps serving reads. Changes arriving meanwhile go to
+ * both indexes and mark their key; rows the rebuild loads for a marked key are skipped,
+ * because they may have been read before that change committed.
+ *
+ * @param <T> the index type; it must tolerate concurrent reads while being written
+ */
+final class DoubleBufferedIndex<T> {
+
+    /**
+     * Receives the rows of a rebuild.
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+
+        /**
+         * Writes a loaded row into the new index unless a change for {@code key}
+         * arrived since the rebuild started.
+         */
+        void load(Object key, Consumer<T> write);
+    }
+
+    private final Supplier<T> factory;
+    private final Object lock = new Object();
+    private final Set<Object> changedDuringRebuild = new HashSet<>();
+    private volatile T current;
+    private T building;
+
+    DoubleBufferedIndex(final Supplier<T> factory) {
+        this.factory = factory;
+        this.current = factory.get();
+    }
+
+    T current() {
+        return current;
+    }
+
+    /**
+     * Applies a committed change to the current index and, during a rebuild, to the new
+     * one. Keys are compared with {@code equals}, so callers with several kinds of rows
+     * use distinct key types.
+     */
+    void apply(final Object key, final Consumer<T> change) {
+        synchronized (lock) {
+            change.accept(current);
+            if (building != null) {
+                changedDuringRebuild.add(key);
+                change.accept(building);
+            }
+        }
+    }
+
+    synchronized void rebuild(final Consumer<Loader<T>> loadAll) {
+        synchronized (lock) {
+            building = factory.get();
+        }
+        try {
+            loadAll.accept(this::load);
+            synchronized (lock) {
+                current = building;
+            }
+        } finally {
+            synchronized (lock) {
+                building = null;
+                changedDuringRebuild.clear();
+            }
+        }
+    }
+
+    private void load(final Object key, final Consumer<T> write) {
+        synchronized (lock) {
+            if (!changedDuringRebuild.contains(key)) {
+                write.accept(building);
+            }
+        }
+    }
+}
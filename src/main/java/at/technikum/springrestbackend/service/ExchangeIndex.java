@@ -0,0 +1,207 @@
+package at.technikum.springrestbackend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over exchangeable listings and the books users want. Listings are
+ * posted under their normalised title and author, so the listings a wish matches are
+ * looked up instead of scanned. All maps are concurrent: change events update the index
+ * while requests read it.
+ */
+final class ExchangeIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<Long, Listing> listings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> listingsByTitle = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> listingsByAuthor = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> listingsByOwner = new ConcurrentHashMap<>();
+    private final Map<Long, Wish> wishes = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> wishesByUser = new ConcurrentHashMap<>();
+
+    void putListing(final long bookId, final long ownerId, final String title,
+                    final String authorName) {
+        removeListing(bookId);
+        Listing listing = new Listing(bookId, ownerId, title, normalize(title),
+                normalize(authorName));
+        listings.put(bookId, listing);
+        post(listingsByTitle, listing.titleKey(), bookId);
+        post(listingsByAuthor, listing.authorKey(), bookId);
+        post(listingsByOwner, ownerId, bookId);
+    }
+
+    void removeListing(final long bookId) {
+        Listing listing = listings.remove(bookId);
+        if (listing != null) {
+            unpost(listingsByTitle, listing.titleKey(), bookId);
+            unpost(listingsByAuthor, listing.authorKey(), bookId);
+            unpost(listingsByOwner, listing.ownerId(), bookId);
+        }
+    }
+
+    /**
+     * Wishes without any usable title or author are ignored, they would match nothing.
+     */
+    void putWish(final long wishId, final long userId, final String title,
+                 final String authorName) {
+        removeWish(wishId);
+        Wish wish = new Wish(wishId, userId, normalize(title), normalize(authorName));
+        if (wish.titleKey() == null && wish.authorKey() == null) {
+            return;
+        }
+        wishes.put(wishId, wish);
+        post(wishesByUser, userId, wishId);
+    }
+
+    void removeWish(final long wishId) {
+        Wish wish = wishes.remove(wishId);
+        if (wish != null) {
+            unpost(wishesByUser, wish.userId(), wishId);
+        }
+    }
+
+    int listingCount() {
+        return listings.size();
+    }
+
+    /**
+     * Finds exchanges the user takes part in: direct swaps first, then three-way cycles
+     * (the user receives from B, B receives from C, C receives from the user). Each
+     * exchange lists the listing the user receives first; every further listing goes to
+     * the owner of the one before it, and the last one is the user's own. At most
+     * {@code fanOut} partners are followed per step, which bounds the work per request.
+     */
+    List<List<Listing>> findExchanges(final long userId, final int limit, final int fanOut) {
+        Set<Long> ownListings = listingsByOwner.getOrDefault(userId, Set.of());
+        List<List<Listing>> exchanges = new ArrayList<>();
+        if (ownListings.isEmpty() || limit <= 0) {
+            return exchanges;
+        }
+        Map<Long, Listing> partners = wantedListingsByOwner(userId, fanOut);
+        for (Listing received : partners.values()) {
+            Listing given = firstWantedBy(received.ownerId(), ownListings);
+            if (given != null && add(exchanges, limit, List.of(received, given))) {
+                return exchanges;
+            }
+        }
+        for (Listing received : partners.values()) {
+            for (Listing passed : wantedListingsByOwner(received.ownerId(), fanOut).values()) {
+                Listing given = passed.ownerId() == userId
+                        ? null
+                        : firstWantedBy(passed.ownerId(), ownListings);
+                if (given != null && add(exchanges, limit, List.of(received, passed, given))) {
+                    return exchanges;
+                }
+            }
+        }
+        return exchanges;
+    }
+
+    /**
+     * Lower-cases, strips accents and collapses punctuation and whitespace, so
+     * "Le Petit Prince" and "le petit-prince" share a posting list.
+     */
+    static String normalize(final String value) {
+        if (value == null) {
+            return null;
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD))
+                .replaceAll("");
+        String key = SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * One listing per owner whose listings the user wants, in wish order.
+     */
+    private Map<Long, Listing> wantedListingsByOwner(final long userId, final int fanOut) {
+        Map<Long, Listing> byOwner = new LinkedHashMap<>();
+        for (Long wishId : wishesByUser.getOrDefault(userId, Set.of())) {
+            Wish wish = wishes.get(wishId);
+            if (wish == null) {
+                continue;
+            }
+            for (Long bookId : candidates(wish)) {
+                Listing listing = listings.get(bookId);
+                if (listing != null && listing.ownerId() != userId && wish.matches(listing)) {
+                    byOwner.putIfAbsent(listing.ownerId(), listing);
+                    if (byOwner.size() >= fanOut) {
+                        return byOwner;
+                    }
+                }
+            }
+        }
+        return byOwner;
+    }
+
+    /**
+     * Checks the user's wishes against a handful of given listings instead of walking
+     * the posting lists, which can be long for popular titles.
+     */
+    private Listing firstWantedBy(final long userId, final Set<Long> offeredListings) {
+        for (Long wishId : wishesByUser.getOrDefault(userId, Set.of())) {
+            Wish wish = wishes.get(wishId);
+            for (Long bookId : offeredListings) {
+                Listing listing = listings.get(bookId);
+                if (wish != null && listing != null && wish.matches(listing)) {
+                    return listing;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Set<Long> candidates(final Wish wish) {
+        Set<Long> postings = wish.titleKey() != null
+                ? listingsByTitle.get(wish.titleKey())
+                : listingsByAuthor.get(wish.authorKey());
+        return postings == null ? Set.of() : postings;
+    }
+
+    private static boolean add(final List<List<Listing>> exchanges, final int limit,
+                               final List<Listing> exchange) {
+        exchanges.add(exchange);
+        return exchanges.size() >= limit;
+    }
+
+    private static <K> void post(final Map<K, Set<Long>> postings, final K key, final long id) {
+        if (key == null) {
+            return;
+        }
+        postings.compute(key, (ignored, ids) -> {
+            Set<Long> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            updated.add(id);
+            return updated;
+        });
+    }
+
+    private static <K> void unpost(final Map<K, Set<Long>> postings, final K key, final long id) {
+        if (key == null) {
+            return;
+        }
+        postings.computeIfPresent(key, (ignored, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    record Listing(long bookId, long ownerId, String title, String titleKey, String authorKey) {
+    }
+
+    private record Wish(long id, long userId, String titleKey, String authorKey) {
+
+        boolean matches(final Listing listing) {
+            return (titleKey == null || titleKey.equals(listing.titleKey()))
+                    && (authorKey == null || authorKey.equals(listing.authorKey()));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.ExchangeLegDto;
+import at.technikum.springrestbackend.dto.ExchangeMatchDto;
+import at.technikum.springrestbackend.dto.ExchangeMatchType;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.event.WantedBookChangedEvent;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.WantedBookRepository;
+import at.technikum.springrestbackend.repository.WantedBookState;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Finds exchanges between users' AVAILABLE exchange listings and the books they want,
+ * using an in-memory {@link ExchangeIndex}. Listings and wanted books are loaded in
+ * id-ordered batches and then follow committed book and wanted-book changes.
+ */
+@Service
+public class ExchangeMatchingService {
+
+    private static final Set<ExchangeType> EXCHANGEABLE =
+            EnumSet.of(ExchangeType.EXCHANGE_ONLY, ExchangeType.EXCHANGE_OR_GIVEAWAY);
+
+    private final BookRepository bookRepository;
+    private final WantedBookRepository wantedBookRepository;
+    private final int maxResults;
+    private final int fanOut;
+    private final int rebuildBatchSize;
+    private final DoubleBufferedIndex<ExchangeIndex> index =
+            new DoubleBufferedIndex<>(ExchangeIndex::new);
+
+    public ExchangeMatchingService(
+            final BookRepository bookRepository,
+            final WantedBookRepository wantedBookRepository,
+            @Value("${app.matching.max-results:50}") final int maxResults,
+            @Value("${app.matching.fan-out:200}") final int fanOut,
+            @Value("${app.matching.rebuild-batch-size:5000}") final int rebuildBatchSize
+    ) {
+        this.bookRepository = bookRepository;
+        this.wantedBookRepository = wantedBookRepository;
+        this.maxResults = maxResults;
+        this.fanOut = fanOut;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${app.matching.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.matching.rebuild-interval-ms:3600000}"
+    )
+    public void rebuild() {
+        index.rebuild(loader -> {
+            loadListings(loader);
+            loadWantedBooks(loader);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(final BookChangedEvent event) {
+        BookSnapshot after = event.after();
+        if (after != null && after.isAvailable() && EXCHANGEABLE.contains(after.exchangeType())) {
+            index.apply(new ListingKey(after.id()), target -> target.putListing(
+                    after.id(), after.ownerId(), after.title(), after.authorName()));
+        } else {
+            index.apply(new ListingKey(event.bookId()),
+                    target -> target.removeListing(event.bookId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWantedBookChanged(final WantedBookChangedEvent event) {
+        WishKey key = new WishKey(event.wantedBookId());
+        if (event.removed()) {
+            index.apply(key, target -> target.removeWish(event.wantedBookId()));
+        } else {
+            index.apply(key, target -> target.putWish(event.wantedBookId(), event.userId(),
+                    event.title(), event.authorName()));
+        }
+    }
+
+    public List<ExchangeMatchDto> findMatches(final User currentUser) {
+        return index.current().findExchanges(currentUser.getId(), maxResults, fanOut).stream()
+                .map(legs -> toMatchDto(currentUser.getId(), legs))
+                .toList();
+    }
+
+    private void loadListings(final DoubleBufferedIndex.Loader<ExchangeIndex> loader) {
+        long afterId = 0;
+        List<BookState> batch;
+        do {
+            batch = bookRepository.findAvailableStatesAfter(
+                    afterId, EXCHANGEABLE, PageRequest.of(0, rebuildBatchSize));
+            for (BookState book : batch) {
+                loader.load(new ListingKey(book.id()), target -> target.putListing(
+                        book.id(), book.ownerId(), book.title(), book.authorName()));
+                afterId = book.id();
+            }
+        } while (batch.size() == rebuildBatchSize);
+    }
+
+    private void loadWantedBooks(final DoubleBufferedIndex.Loader<ExchangeIndex> loader) {
+        long afterId = 0;
+        List<WantedBookState> batch;
+        do {
+            batch = wantedBookRepository.findStatesAfter(
+                    afterId, PageRequest.of(0, rebuildBatchSize));
+            for (WantedBookState wanted : batch) {
+                loader.load(new WishKey(wanted.id()), target -> target.putWish(
+                        wanted.id(), wanted.userId(), wanted.title(), wanted.authorName()));
+                afterId = wanted.id();
+            }
+        } while (batch.size() == rebuildBatchSize);
+    }
+
+    private static ExchangeMatchDto toMatchDto(
+            final long userId,
+            final List<ExchangeIndex.Listing> listings
+    ) {
+        List<ExchangeLegDto> legs = new ArrayList<>(listings.size());
+        for (int i = 0; i < listings.size(); i++) {
+            ExchangeIndex.Listing listing = listings.get(i);
+            long receiverId = i == 0 ? userId : listings.get(i - 1).ownerId();
+            legs.add(new ExchangeLegDto(
+                    listing.bookId(), listing.title(), listing.ownerId(), receiverId));
+        }
+        ExchangeMatchType type = legs.size() == 2
+                ? ExchangeMatchType.DIRECT
+                : ExchangeMatchType.CYCLE;
+        return new ExchangeMatchDto(type, legs);
+    }
+
+    private record ListingKey(long bookId) {
+    }
+
+    private record WishKey(long wantedBookId) {
+    }
+}
@@ -1,17 +1,48 @@
 package at.technikum.springrestbackend.service;
 
+import at.technikum.springrestbackend.dto.ImageUploadTicketDto;
+import at.technikum.springrestbackend.entity.ObjectKeyClaim;
+import at.technikum.springrestbackend.entity.PendingObjectDeletion;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.InvalidFileTypeException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.repository.ObjectKeyClaimRepository;
+import at.technikum.springrestbackend.repository.PendingObjectDeletionRepository;
 import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.PostPolicy;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -30,28 +61,92 @@ public class FileStorageService {
             "image/webp", "webp"
     );
 
+    private static final int MAX_SIGNED_URLS = 10_000;
+    private static final Duration DIRECT_UPLOAD_EXPIRY = Duration.ofMinutes(10);
+    private static final int IMAGE_SIGNATURE_LENGTH = 12;
+    private static final int COPY_BUFFER_BYTES = 8192;
+    private static final String CONTENT_ADDRESSED_PREFIX = "books/sha256/";
+
     private final MinioClient minioClient;
+    private final ObjectStorageBulkhead storageBulkhead;
+    private final ObjectStorageCircuitBreaker storageCircuitBreaker;
+    private final PendingObjectDeletionRepository pendingDeletionRepository;
+    private final ObjectKeyClaimRepository objectKeyClaimRepository;
     private final String bucketName;
     private final String minioUrl;
+    private final long imageUrlExpirySeconds;
+    private final long maxImageSizeBytes;
+    private final long sharedObjectDeleteDelaySeconds;
+    private final Map<SignedUrlKey, String> signedImageUrls = new ConcurrentHashMap<>();
+    private volatile long currentExpiryBucket;
 
     public FileStorageService(
             final MinioClient minioClient,
+            final ObjectStorageBulkhead storageBulkhead,
+            final ObjectStorageCircuitBreaker storageCircuitBreaker,
+            final PendingObjectDeletionRepository pendingDeletionRepository,
+            final ObjectKeyClaimRepository objectKeyClaimRepository,
             @Value("${app.minio.bucket-name}") final String bucketName,
-            @Value("${app.minio.url}") final String minioUrl
+            @Value("${app.minio.url}") final String minioUrl,
+            @Value("${app.minio.image-url-expiry-seconds:86400}") final long imageUrlExpirySeconds,
+            @Value("${app.minio.max-image-size-bytes:10485760}") final long maxImageSizeBytes,
+            @Value("${app.minio.shared-object-delete-delay-seconds:600}")
+            final long sharedObjectDeleteDelaySeconds
     ) {
         this.minioClient = minioClient;
+        this.storageBulkhead = storageBulkhead;
+        this.storageCircuitBreaker = storageCircuitBreaker;
+        this.pendingDeletionRepository = pendingDeletionRepository;
+        this.objectKeyClaimRepository = objectKeyClaimRepository;
         this.bucketName = bucketName;
         this.minioUrl = minioUrl;
+        this.imageUrlExpirySeconds = imageUrlExpirySeconds;
+        this.maxImageSizeBytes = maxImageSizeBytes;
+        this.sharedObjectDeleteDelaySeconds = sharedObjectDeleteDelaySeconds;
     }
 
+    /**
+     * Stores the image under a key derived from its SHA-256 digest, so identical images
+     * share one object. The upload is skipped when the bucket already holds the content;
+     * the key is claimed first, so the deferred deletion job keeps that object for the
+     * listing about to reference it.
+     */
     public StoredFileResult uploadBookImage(final MultipartFile file) {
         validateImageFile(file);
         String contentType = file.getContentType();
-        String extension = CONTENT_TYPE_TO_EXTENSION.get(contentType);
-        String objectKey = "books/" + UUID.randomUUID() + "." + extension;
+        String objectKey = CONTENT_ADDRESSED_PREFIX + sha256Hex(file) + "."
+                + CONTENT_TYPE_TO_EXTENSION.get(contentType);
+        claimObjectKey(objectKey);
+        return guardedCall(() -> putImage(file, objectKey, contentType));
+    }
 
+    private void claimObjectKey(final String objectKey) {
+        LocalDateTime now = LocalDateTime.now();
+        if (objectKeyClaimRepository.touch(objectKey, now) > 0) {
+            return;
+        }
+        try {
+            objectKeyClaimRepository.saveAndFlush(new ObjectKeyClaim(objectKey, now));
+        } catch (DataIntegrityViolationException ex) {
+            // Another upload created the claim concurrently
+            objectKeyClaimRepository.touch(objectKey, now);
+        }
+    }
+
+    public static boolean isContentAddressed(final String objectKey) {
+        return objectKey != null && objectKey.startsWith(CONTENT_ADDRESSED_PREFIX);
+    }
+
+    private StoredFileResult putImage(
+            final MultipartFile file,
+            final String objectKey,
+            final String contentType
+    ) {
         try {
             ensureBucketExists();
+            if (objectExists(objectKey)) {
+                return new StoredFileResult(objectKey, contentType, file.getSize());
+            }
             try (InputStream inputStream = file.getInputStream()) {
                 minioClient.putObject(PutObjectArgs.builder()
                         .bucket(bucketName)
@@ -60,24 +155,191 @@ public class FileStorageService {
                         .contentType(contentType)
                         .build());
             }
-            String imageUrl = buildObjectUrl(objectKey);
-            return new StoredFileResult(objectKey, imageUrl, contentType, file.getSize());
+            return new StoredFileResult(objectKey, contentType, file.getSize());
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to upload file to object storage", ex);
         }
     }
 
-    public void deleteObjectQuietly(final String objectKey) {
-        if (objectKey == null || objectKey.isBlank()) {
-            return;
+    /**
+     * Issues a POST policy that lets the browser upload one image straight to the bucket.
+     * The policy pins the object key, the content type and the exact declared size.
+     */
+    public ImageUploadTicketDto createDirectUpload(
+            final Long bookId,
+            final String contentType,
+            final long size
+    ) {
+        validateImageContentType(contentType);
+        if (size <= 0 || size > maxImageSizeBytes) {
+            throw new BadRequestException(
+                    "Image size must be between 1 and " + maxImageSizeBytes + " bytes");
+        }
+        String objectKey = directUploadPrefix(bookId) + UUID.randomUUID() + "."
+                + CONTENT_TYPE_TO_EXTENSION.get(contentType);
+        ZonedDateTime expiresAt = ZonedDateTime.now(ZoneOffset.UTC).plus(DIRECT_UPLOAD_EXPIRY);
+
+        PostPolicy policy = new PostPolicy(bucketName, expiresAt);
+        policy.addEqualsCondition("key", objectKey);
+        policy.addEqualsCondition("Content-Type", contentType);
+        policy.addContentLengthRangeCondition(size, size);
+        return guardedCall(() -> new ImageUploadTicketDto(bucketUrl(), objectKey,
+                presignPostForm(policy, objectKey, contentType), expiresAt.toInstant()));
+    }
+
+    private static String sha256Hex(final MultipartFile file) {
+        try (DigestInputStream inputStream = new DigestInputStream(
+                file.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Failed to read uploaded file", ex);
         }
+    }
+
+    private boolean objectExists(final String objectKey) throws Exception {
         try {
-            minioClient.removeObject(RemoveObjectArgs.builder()
+            minioClient.statObject(StatObjectArgs.builder()
                     .bucket(bucketName)
                     .object(objectKey)
                     .build());
+            return true;
+        } catch (ErrorResponseException ex) {
+            if ("NoSuchKey".equals(ex.errorResponse().code())) {
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    private Map<String, String> presignPostForm(
+            final PostPolicy policy,
+            final String objectKey,
+            final String contentType
+    ) {
+        try {
+            ensureBucketExists();
+            Map<String, String> formFields = new HashMap<>(
+                    minioClient.getPresignedPostFormData(policy));
+            formFields.put("key", objectKey);
+            formFields.put("Content-Type", contentType);
+            return formFields;
         } catch (Exception ex) {
-            // Intentionally ignored for cleanup
+            throw new IllegalStateException("Failed to create image upload URL", ex);
+        }
+    }
+
+    /**
+     * Checks a browser upload before it is attached to the listing: the key must belong to
+     * the book, and the stored object must be an allowed image by metadata, size and magic
+     * bytes. Rejected objects are removed from the bucket.
+     */
+    public StoredFileResult verifyDirectUpload(final Long bookId, final String objectKey) {
+        if (objectKey == null || !objectKey.startsWith(directUploadPrefix(bookId))
+                || objectKey.contains("..")) {
+            throw new BadRequestException("Object key does not belong to this book listing");
+        }
+        StatObjectResponse stat = guardedCall(() -> statUploadedObject(objectKey));
+        String contentType = stat.contentType();
+        boolean valid = ALLOWED_IMAGE_CONTENT_TYPES.contains(contentType)
+                && stat.size() > 0
+                && stat.size() <= maxImageSizeBytes
+                && matchesImageSignature(
+                        guardedCall(() -> readObjectHeader(objectKey)), contentType);
+        if (!valid) {
+            deleteObjectQuietly(objectKey);
+            throw new InvalidFileTypeException(
+                    "Uploaded file is not a valid JPG, PNG or WEBP image");
+        }
+        return new StoredFileResult(objectKey, contentType, stat.size());
+    }
+
+    public void downloadObject(final String objectKey, final Path target) {
+        guardedRun(() -> copyObject(objectKey, target));
+    }
+
+    // Local write failures surface as UncheckedIOException, which the circuit breaker
+    // does not count against object storage
+    private void copyObject(final String objectKey, final Path target) {
+        try (OutputStream outputStream = Files.newOutputStream(target)) {
+            readObject(objectKey, outputStream);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write downloaded file locally", ex);
+        }
+    }
+
+    private void readObject(final String objectKey, final OutputStream target) {
+        try (InputStream inputStream = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectKey)
+                .build())) {
+            byte[] buffer = new byte[COPY_BUFFER_BYTES];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                writeLocally(target, buffer, read);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex;
+        } catch (ErrorResponseException ex) {
+            if ("NoSuchKey".equals(ex.errorResponse().code())) {
+                throw new ResourceNotFoundException("Image not found in storage: " + objectKey);
+            }
+            throw new IllegalStateException("Failed to download file from object storage", ex);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to download file from object storage", ex);
+        }
+    }
+
+    private static void writeLocally(final OutputStream target, final byte[] buffer,
+                                     final int length) {
+        try {
+            target.write(buffer, 0, length);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write downloaded file locally", ex);
+        }
+    }
+
+    /**
+     * Returns a pre-signed GET URL for the object. URLs are signed for the full expiry
+     * but reused for half of it (one "expiry bucket"), so every URL handed out stays
+     * valid for at least half the expiry and list renders do not re-sign each image.
+     * Returns null when no URL can be signed, so a listing still renders without image.
+     */
+    public String resolveImageUrl(final String objectKey) {
+        if (objectKey == null || objectKey.isBlank()) {
+            return null;
+        }
+        long bucketSeconds = Math.max(1, imageUrlExpirySeconds / 2);
+        long expiryBucket = System.currentTimeMillis() / 1000 / bucketSeconds;
+        if (expiryBucket != currentExpiryBucket) {
+            currentExpiryBucket = expiryBucket;
+            signedImageUrls.keySet().removeIf(key -> key.expiryBucket() != expiryBucket);
+        }
+        if (signedImageUrls.size() >= MAX_SIGNED_URLS) {
+            signedImageUrls.clear();
+        }
+        return signedImageUrls.computeIfAbsent(
+                new SignedUrlKey(objectKey, expiryBucket), this::presignImageUrl);
+    }
+
+    /**
+     * Removes an object the caller no longer references. Content-addressed objects may be
+     * shared by other listings, so they are only queued; the deferred deletion job checks
+     * for remaining references once the grace period has passed.
+     */
+    public void deleteObjectQuietly(final String objectKey) {
+        if (objectKey == null || objectKey.isBlank()) {
+            return;
+        }
+        if (isContentAddressed(objectKey)) {
+            deferDeletion(objectKey,
+                    LocalDateTime.now().plusSeconds(sharedObjectDeleteDelaySeconds));
+            return;
+        }
+        try {
+            guardedRun(() -> removeObject(objectKey));
+        } catch (RuntimeException ex) {
+            deferDeletion(objectKey, LocalDateTime.now());
         }
     }
 
@@ -85,6 +347,10 @@ public class FileStorageService {
         if (objectKey == null || objectKey.isBlank()) {
             throw new BadRequestException("Object key is required");
         }
+        guardedRun(() -> removeObject(objectKey));
+    }
+
+    private void removeObject(final String objectKey) {
         try {
             minioClient.removeObject(RemoveObjectArgs.builder()
                     .bucket(bucketName)
@@ -95,6 +361,25 @@ public class FileStorageService {
         }
     }
 
+    private <T> T guardedCall(final Supplier<T> storageCall) {
+        return storageCircuitBreaker.call(() -> storageBulkhead.call(storageCall));
+    }
+
+    private void guardedRun(final Runnable storageCall) {
+        storageCircuitBreaker.run(() -> storageBulkhead.run(storageCall));
+    }
+
+    private void deferDeletion(final String objectKey, final LocalDateTime nextAttemptAt) {
+        PendingObjectDeletion deletion = new PendingObjectDeletion();
+        deletion.setObjectKey(objectKey);
+        deletion.setNextAttemptAt(nextAttemptAt);
+        try {
+            pendingDeletionRepository.save(deletion);
+        } catch (RuntimeException ex) {
+            // Intentionally ignored: the object stays orphaned in the bucket
+        }
+    }
+
     private void validateImageFile(final MultipartFile file) {
         if (file == null) {
             throw new BadRequestException("File is required");
@@ -102,7 +387,10 @@ public class FileStorageService {
         if (file.isEmpty()) {
             throw new BadRequestException("Uploaded file must not be empty");
         }
-        String contentType = file.getContentType();
+        validateImageContentType(file.getContentType());
+    }
+
+    private void validateImageContentType(final String contentType) {
         if (contentType == null || contentType.isBlank()) {
             throw new InvalidFileTypeException("Uploaded file must have a valid content type");
         }
@@ -111,6 +399,68 @@ public class FileStorageService {
         }
     }
 
+    private StatObjectResponse statUploadedObject(final String objectKey) {
+        try {
+            return minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .build());
+        } catch (ErrorResponseException ex) {
+            if ("NoSuchKey".equals(ex.errorResponse().code())) {
+                throw new BadRequestException("Uploaded image not found: " + objectKey);
+            }
+            throw new IllegalStateException("Failed to verify uploaded file", ex);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to verify uploaded file", ex);
+        }
+    }
+
+    private byte[] readObjectHeader(final String objectKey) {
+        try (InputStream inputStream = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectKey)
+                .offset(0L)
+                .length((long) IMAGE_SIGNATURE_LENGTH)
+                .build())) {
+            return inputStream.readNBytes(IMAGE_SIGNATURE_LENGTH);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to verify uploaded file", ex);
+        }
+    }
+
+    static boolean matchesImageSignature(final byte[] header, final String contentType) {
+        return switch (contentType) {
+            case "image/jpeg" -> startsWith(header, 0, 0xFF, 0xD8, 0xFF);
+            case "image/png" -> startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+            case "image/webp" -> startsWith(header, 0, 'R', 'I', 'F', 'F')
+                    && startsWith(header, 8, 'W', 'E', 'B', 'P');
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(final byte[] data, final int offset, final int... expected) {
+        if (data.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((data[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String directUploadPrefix(final Long bookId) {
+        return "books/direct/" + bookId + "/";
+    }
+
+    private String bucketUrl() {
+        String normalizedBase = minioUrl.endsWith("/")
+                ? minioUrl.substring(0, minioUrl.length() - 1)
+                : minioUrl;
+        return normalizedBase + "/" + bucketName;
+    }
+
     private void ensureBucketExists() throws Exception {
         boolean exists = minioClient.bucketExists(BucketExistsArgs.builder()
                 .bucket(bucketName)
@@ -122,16 +472,27 @@ public class FileStorageService {
         }
     }
 
-    private String buildObjectUrl(final String objectKey) {
-        String normalizedBase = minioUrl.endsWith("/")
-                ? minioUrl.substring(0, minioUrl.length() - 1)
-                : minioUrl;
-        return normalizedBase + "/" + bucketName + "/" + objectKey;
+    private String presignImageUrl(final SignedUrlKey key) {
+        long maxAgeSeconds = Math.max(1, imageUrlExpirySeconds / 2);
+        try {
+            return minioClient.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                    .method(Method.GET)
+                    .bucket(bucketName)
+                    .object(key.objectKey())
+                    .expiry((int) imageUrlExpirySeconds, TimeUnit.SECONDS)
+                    .extraQueryParams(Map.of("response-cache-control",
+                            "public, max-age=" + maxAgeSeconds + ", immutable"))
+                    .build());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private record SignedUrlKey(String objectKey, long expiryBucket) {
     }
 
     public record StoredFileResult(
             String objectKey,
-            String fileUrl,
             String contentType,
             long size
     ) {
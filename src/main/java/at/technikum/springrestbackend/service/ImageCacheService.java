@@ -0,0 +1,199 @@
+package at.technikum.springrestbackend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Size-bounded on-disk LRU cache of book images fetched from object storage. Files are
+ * named after the SHA-256 of the object key; since object keys are never reused for
+ * different content, a cached file never needs revalidation against the bucket. The
+ * files live in a subdirectory of {@code app.images.cache-dir} that the cache owns and
+ * clears on startup.
+ */
+@Service
+public class ImageCacheService {
+
+    static final String CACHE_SUBDIRECTORY = "book-images";
+
+    private final FileStorageService fileStorageService;
+    private final Path cacheDirectory;
+    private final long maxCacheBytes;
+    private final Map<String, Long> entrySizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    public ImageCacheService(
+            final FileStorageService fileStorageService,
+            @Value("${app.images.cache-dir}") final String cacheDirectory,
+            @Value("${app.images.cache-max-bytes}") final long maxCacheBytes
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.cacheDirectory = Path.of(cacheDirectory).resolve(CACHE_SUBDIRECTORY);
+        this.maxCacheBytes = maxCacheBytes;
+        resetCacheDirectory();
+    }
+
+    public static String cacheKey(final String objectKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(objectKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Returns the local copy of the object, downloading it on a miss. The file is opened
+     * while no other request can evict it, so an eviction right after this call cannot
+     * fail the response. Concurrent misses for the same key may download twice; the last
+     * complete copy wins. Local disk failures are reported as {@link UncheckedIOException}.
+     */
+    public Resource getImage(final String objectKey) {
+        String cacheKey = cacheKey(objectKey);
+        Path cachedFile = cacheDirectory.resolve(cacheKey);
+        synchronized (entrySizes) {
+            Long size = entrySizes.get(cacheKey);
+            if (size != null) {
+                CachedImage image = openCached(cacheKey, cachedFile, size);
+                if (image != null) {
+                    return image;
+                }
+            }
+        }
+        try {
+            Path partFile = Files.createTempFile(cacheDirectory, cacheKey, ".part");
+            try {
+                fileStorageService.downloadObject(objectKey, partFile);
+                return register(cacheKey, partFile, cachedFile);
+            } finally {
+                Files.deleteIfExists(partFile);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to cache image locally", ex);
+        }
+    }
+
+    long getCachedBytes() {
+        synchronized (entrySizes) {
+            return cachedBytes;
+        }
+    }
+
+    Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    // Called with the lock held; a file removed behind the cache's back counts as a miss
+    private CachedImage openCached(final String cacheKey, final Path file, final long size) {
+        try {
+            return new CachedImage(file, size, Files.newInputStream(file));
+        } catch (NoSuchFileException ex) {
+            entrySizes.remove(cacheKey);
+            cachedBytes -= size;
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read cached image", ex);
+        }
+    }
+
+    // Moves the download into place under the lock, so no other register() can evict
+    // and delete the file between the move and opening it
+    private CachedImage register(final String cacheKey, final Path partFile, final Path file)
+            throws IOException {
+        long size = Files.size(partFile);
+        synchronized (entrySizes) {
+            Files.move(partFile, file,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Long previous = entrySizes.put(cacheKey, size);
+            cachedBytes += size - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> eldest = entrySizes.entrySet().iterator();
+            while (cachedBytes > maxCacheBytes && entrySizes.size() > 1) {
+                Map.Entry<String, Long> entry = eldest.next();
+                eldest.remove();
+                cachedBytes -= entry.getValue();
+                deleteQuietly(cacheDirectory.resolve(entry.getKey()));
+            }
+            return new CachedImage(file, size, Files.newInputStream(file));
+        }
+    }
+
+    private void resetCacheDirectory() {
+        try {
+            Files.createDirectories(cacheDirectory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory)) {
+                files.forEach(ImageCacheService::deleteQuietly);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Image cache directory is not usable", ex);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            // Intentionally ignored for cleanup
+        }
+    }
+
+    /**
+     * A cached file with its stream already open. An open file stays readable after it is
+     * evicted and deleted; only a second read, for multi-range requests, reopens it.
+     */
+    private static final class CachedImage extends AbstractResource {
+
+        private final Path file;
+        private final long size;
+        private InputStream opened;
+
+        private CachedImage(final Path file, final long size, final InputStream opened) {
+            this.file = file;
+            this.size = size;
+            this.opened = opened;
+        }
+
+        @Override
+        public synchronized InputStream getInputStream() throws IOException {
+            InputStream stream = opened;
+            opened = null;
+            return stream != null ? stream : Files.newInputStream(file);
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public String getFilename() {
+            return file.getFileName().toString();
+        }
+
+        @Override
+        public String getDescription() {
+            return "cached image [" + file + "]";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies an RFC 7396 JSON Merge Patch to the update DTO of a resource and validates the
+ * result with the same constraints as the full update. Members set to {@code null} are
+ * removed, members missing from the patch keep their current value.
+ */
+@Component
+public class JsonMergePatcher {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public JsonMergePatcher(final ObjectMapper objectMapper, final Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T apply(final JsonNode patch, final T current) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+        ObjectNode target = objectMapper.valueToTree(current);
+        merge(target, (ObjectNode) patch);
+        T patched;
+        try {
+            patched = (T) objectMapper.readerFor(current.getClass())
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .treeToValue(target, current.getClass());
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Merge patch could not be applied: "
+                    + ex.getOriginalMessage());
+        }
+        validate(patched);
+        return patched;
+    }
+
+    private static void merge(final ObjectNode target, final ObjectNode patch) {
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            JsonNode value = member.getValue();
+            JsonNode existing = target.get(member.getKey());
+            if (value.isNull()) {
+                target.remove(member.getKey());
+            } else if (value.isObject() && existing != null && existing.isObject()) {
+                merge((ObjectNode) existing, (ObjectNode) value);
+            } else {
+                target.set(member.getKey(), value);
+            }
+        }
+    }
+
+    private <T> void validate(final T patched) {
+        String errors = validator.validate(patched).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(JsonMergePatcher::formatViolation)
+                .collect(Collectors.joining("; "));
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(errors);
+        }
+    }
+
+    private static String formatViolation(final ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
@@ -0,0 +1,84 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits how many request threads can be inside an object storage call at once. When
+ * MinIO is slow, callers beyond the limit fail fast with 503 after a short wait instead
+ * of piling up until Tomcat has no threads left for requests that never touch storage.
+ */
+@Component
+public class ObjectStorageBulkhead implements MeterBinder {
+
+    private final Semaphore semaphore;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMs;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    public ObjectStorageBulkhead(
+            @Value("${app.minio.bulkhead.max-concurrent-calls:24}") final int maxConcurrentCalls,
+            @Value("${app.minio.bulkhead.max-wait-ms:250}") final long maxWaitMs
+    ) {
+        this.semaphore = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public <T> T call(final Supplier<T> storageCall) {
+        acquire();
+        try {
+            return storageCall.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public void run(final Runnable storageCall) {
+        call(() -> {
+            storageCall.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("minio.bulkhead.calls.active", this,
+                        bulkhead -> bulkhead.maxConcurrentCalls
+                                - bulkhead.semaphore.availablePermits())
+                .description("Object storage calls currently holding a bulkhead permit")
+                .register(registry);
+        Gauge.builder("minio.bulkhead.calls.waiting", semaphore, Semaphore::getQueueLength)
+                .description("Request threads waiting for a bulkhead permit")
+                .register(registry);
+        Gauge.builder("minio.bulkhead.calls.max", () -> maxConcurrentCalls)
+                .register(registry);
+        FunctionCounter.builder("minio.bulkhead.calls.rejected", rejectedCalls, AtomicLong::get)
+                .description("Object storage calls rejected because the bulkhead was full")
+                .register(registry);
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCalls.incrementAndGet();
+            throw new ServiceUnavailableException(
+                    "Image storage is busy, please retry shortly", 1);
+        }
+    }
+}
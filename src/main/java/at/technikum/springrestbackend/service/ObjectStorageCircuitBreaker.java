@@ -0,0 +1,102 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails object storage calls fast while MinIO is failing or slow. Only storage errors
+ * (wrapped as IllegalStateException) count as failures; validation errors and missing
+ * objects do not. Health reports DEGRADED instead of DOWN: listings keep working
+ * without images, so an outage must not take the whole instance out of rotation.
+ */
+@Component("objectStorage")
+public class ObjectStorageCircuitBreaker implements MeterBinder, HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    private final CircuitBreaker circuitBreaker;
+    private final long retryAfterSeconds;
+
+    public ObjectStorageCircuitBreaker(
+            @Value("${app.minio.circuit-breaker.failure-rate-threshold:50}")
+            final float failureRateThreshold,
+            @Value("${app.minio.circuit-breaker.slow-call-ms:5000}") final long slowCallMs,
+            @Value("${app.minio.circuit-breaker.window-size:20}") final int windowSize,
+            @Value("${app.minio.circuit-breaker.open-seconds:30}") final long openSeconds
+    ) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.max(1, windowSize / 2))
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordExceptions(IllegalStateException.class)
+                .build();
+        this.circuitBreaker = CircuitBreaker.of("minio", config);
+        this.retryAfterSeconds = openSeconds;
+    }
+
+    public <T> T call(final Supplier<T> storageCall) {
+        try {
+            return circuitBreaker.executeSupplier(storageCall);
+        } catch (CallNotPermittedException ex) {
+            throw new ServiceUnavailableException(
+                    "Image storage is temporarily unavailable", retryAfterSeconds);
+        }
+    }
+
+    public void run(final Runnable storageCall) {
+        call(() -> {
+            storageCall.run();
+            return null;
+        });
+    }
+
+    public boolean isCallPermitted() {
+        return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public Health health() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        Health.Builder builder = state == CircuitBreaker.State.CLOSED
+                ? Health.up()
+                : Health.status(DEGRADED);
+        return builder
+                .withDetail("circuitBreaker", state.name())
+                .withDetail("failureRate", circuitBreaker.getMetrics().getFailureRate())
+                .build();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("minio.circuit-breaker.state", circuitBreaker,
+                            breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("1 for the current state of the object storage breaker")
+                    .tag("state", state.name().toLowerCase())
+                    .register(registry);
+        }
+        Gauge.builder("minio.circuit-breaker.failure-rate", circuitBreaker,
+                        breaker -> breaker.getMetrics().getFailureRate())
+                .register(registry);
+    }
+}
@@ -0,0 +1,182 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.ReservationResponseDto;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.ReservationWaitlistEntry;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ConflictException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.ReservationWaitlistRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Reserves listings with a compare-and-set UPDATE, so only one of many concurrent
+ * reservers wins and nobody collides on the entity version. Losers join a FIFO waitlist;
+ * a released or expired reservation is handed to the head of the queue while the row is
+ * still locked, and the UPDATE for newcomers fails while anybody is waiting, so nobody
+ * jumps the queue.
+ */
+@Service
+public class ReservationService {
+
+    private final BookRepository bookRepository;
+    private final ReservationWaitlistRepository waitlistRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration holdDuration;
+    private final int expiryBatchSize;
+
+    public ReservationService(
+            final BookRepository bookRepository,
+            final ReservationWaitlistRepository waitlistRepository,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${app.reservations.hold-minutes:1440}") final long holdMinutes,
+            @Value("${app.reservations.expiry.batch-size:200}") final int expiryBatchSize
+    ) {
+        this.bookRepository = bookRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.eventPublisher = eventPublisher;
+        this.holdDuration = Duration.ofMinutes(holdMinutes);
+        this.expiryBatchSize = expiryBatchSize;
+    }
+
+    @Transactional
+    public ReservationResponseDto reserve(final Long bookId, final User currentUser) {
+        requireAuthenticatedUser(currentUser);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime reservedUntil = now.plus(holdDuration);
+        if (bookRepository.reserve(bookId, currentUser.getId(), reservedUntil, now)) {
+            publishStatusChange(bookId, ListingStatus.AVAILABLE);
+            return ReservationResponseDto.reserved(bookId, reservedUntil);
+        }
+
+        BookState state = getState(bookId);
+        if (currentUser.getId().equals(state.reservedById())) {
+            return ReservationResponseDto.reserved(bookId, state.reservedUntil());
+        }
+        if (currentUser.getId().equals(state.ownerId())) {
+            throw new BadRequestException("You cannot reserve your own book listing");
+        }
+        if (state.status() == ListingStatus.EXCHANGED) {
+            throw new ConflictException("Book listing has already been exchanged");
+        }
+        // Also covers an available listing with waiters, however it became available:
+        // the expiry run hands it to the head of the waitlist, which keeps the order fair
+        return ReservationResponseDto.waitlisted(bookId, enqueue(bookId, currentUser.getId()));
+    }
+
+    /**
+     * Gives up the caller's reservation, or their place in the waitlist.
+     */
+    @Transactional
+    public void cancel(final Long bookId, final User currentUser) {
+        requireAuthenticatedUser(currentUser);
+        LocalDateTime now = LocalDateTime.now();
+        if (bookRepository.releaseReservation(bookId, currentUser.getId(), now)) {
+            handOver(bookId, now);
+            return;
+        }
+        if (waitlistRepository.deleteEntry(bookId, currentUser.getId()) == 0) {
+            throw new ResourceNotFoundException(
+                    "No reservation or waitlist entry for book listing: " + bookId);
+        }
+    }
+
+    /**
+     * Releases expired reservations and serves waitlists of listings that became
+     * available another way, one batch per run. The conditional UPDATEs make concurrent
+     * runs on several instances safe.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.reservations.expiry.interval-ms:30000}",
+            initialDelayString = "${app.reservations.expiry.interval-ms:30000}"
+    )
+    @Transactional
+    public void expireReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest batch = PageRequest.of(0, expiryBatchSize);
+        for (BookState expired : bookRepository.findExpiredReservations(now, batch)) {
+            if (bookRepository.releaseReservation(expired.id(), expired.reservedById(), now)) {
+                handOver(expired.id(), now);
+            }
+        }
+        for (Long bookId : waitlistRepository.findAvailableBookIdsWithWaiters(batch)) {
+            if (promoteNextWaiter(bookId, now)) {
+                publishStatusChange(bookId, ListingStatus.AVAILABLE);
+            }
+        }
+    }
+
+    /**
+     * Runs inside the writing transaction: waitlists of exchanged or deleted listings
+     * are dropped together with the change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookChanged(final BookChangedEvent event) {
+        if (event.after() == null || event.after().status() == ListingStatus.EXCHANGED) {
+            waitlistRepository.deleteAllForBook(event.bookId());
+        }
+    }
+
+    private long enqueue(final Long bookId, final Long userId) {
+        ReservationWaitlistEntry entry = waitlistRepository
+                .findByBookIdAndUserId(bookId, userId)
+                .orElseGet(() -> waitlistRepository.saveAndFlush(
+                        new ReservationWaitlistEntry(bookId, userId)));
+        return waitlistRepository.countUpTo(bookId, entry.getCreatedAt(), entry.getId());
+    }
+
+    private void handOver(final Long bookId, final LocalDateTime now) {
+        if (!promoteNextWaiter(bookId, now)) {
+            publishStatusChange(bookId, ListingStatus.RESERVED);
+        }
+    }
+
+    /**
+     * Reserves the listing for the head of its waitlist. The entry is only removed once
+     * the reservation succeeded, so a waiter never loses their place to a lost race.
+     */
+    private boolean promoteNextWaiter(final Long bookId, final LocalDateTime now) {
+        Optional<ReservationWaitlistEntry> next =
+                waitlistRepository.findFirstByBookIdOrderByCreatedAtAscIdAsc(bookId);
+        if (next.isEmpty()
+                || !bookRepository.reserveForWaiter(bookId, next.get().getUserId(),
+                        now.plus(holdDuration), now)) {
+            return false;
+        }
+        waitlistRepository.deleteEntry(bookId, next.get().getUserId());
+        return true;
+    }
+
+    private void publishStatusChange(final Long bookId, final ListingStatus previousStatus) {
+        BookSnapshot after = getState(bookId).toSnapshot();
+        BookSnapshot before = after.withStatus(previousStatus, after.updatedAt());
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, after));
+    }
+
+    private BookState getState(final Long bookId) {
+        return bookRepository.findStateById(bookId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Book listing not found with id: " + bookId));
+    }
+
+    private void requireAuthenticatedUser(final User currentUser) {
+        if (currentUser == null || currentUser.getId() == null) {
+            throw new BadRequestException("Authenticated user is required");
+        }
+    }
+}
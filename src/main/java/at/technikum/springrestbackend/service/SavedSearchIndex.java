@@ -0,0 +1,158 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Percolator over saved searches: instead of running every search against new listings,
+ * each search is posted under one term it requires, and a listing only checks the
+ * searches posted under its own terms. A search text is anchored on one of its
+ * trigrams (the one with the shortest posting list), since a listing can only contain
+ * the text if it contains all of its trigrams. Searches with shorter or no text are
+ * anchored on their most selective filter.
+ */
+final class SavedSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String ANY = "*";
+
+    private final Map<Long, Search> searches = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> searchesByTerm = new ConcurrentHashMap<>();
+
+    void put(final long searchId, final long userId, final String searchText,
+             final BookCondition condition, final ExchangeType exchangeType,
+             final String language) {
+        remove(searchId);
+        String text = lower(searchText);
+        String anchor = anchor(text, condition, exchangeType, lower(language));
+        searches.put(searchId, new Search(searchId, userId, text, condition, exchangeType,
+                lower(language), anchor));
+        searchesByTerm.computeIfAbsent(anchor, ignored -> ConcurrentHashMap.newKeySet())
+                .add(searchId);
+    }
+
+    void remove(final long searchId) {
+        Search search = searches.remove(searchId);
+        if (search != null) {
+            searchesByTerm.computeIfPresent(search.anchor(), (ignored, ids) -> {
+                ids.remove(searchId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    int size() {
+        return searches.size();
+    }
+
+    /**
+     * Returns the saved searches {@code GET /books} would return the listing for.
+     */
+    List<Search> percolate(final BookSnapshot book) {
+        String title = lower(book.title());
+        String author = lower(book.authorName());
+        Set<String> terms = new HashSet<>();
+        addGrams(terms, title);
+        addGrams(terms, author);
+        if (book.language() != null && !book.language().isBlank()) {
+            terms.add(languageTerm(lower(book.language())));
+        }
+        terms.add(exchangeTypeTerm(book.exchangeType()));
+        terms.add(conditionTerm(book.condition()));
+        terms.add(ANY);
+
+        List<Search> matches = new ArrayList<>();
+        for (String term : terms) {
+            for (Long searchId : searchesByTerm.getOrDefault(term, Set.of())) {
+                Search search = searches.get(searchId);
+                if (search != null && search.matches(book, title, author)) {
+                    matches.add(search);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private String anchor(final String text, final BookCondition condition,
+                          final ExchangeType exchangeType, final String language) {
+        if (text != null && text.length() >= GRAM_LENGTH) {
+            String rarest = null;
+            int rarestSize = Integer.MAX_VALUE;
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                String gram = text.substring(i, i + GRAM_LENGTH);
+                int size = searchesByTerm.getOrDefault(gram, Set.of()).size();
+                if (size < rarestSize) {
+                    rarest = gram;
+                    rarestSize = size;
+                }
+            }
+            return rarest;
+        }
+        if (language != null) {
+            return languageTerm(language);
+        }
+        if (exchangeType != null) {
+            return exchangeTypeTerm(exchangeType);
+        }
+        return condition != null ? conditionTerm(condition) : ANY;
+    }
+
+    private static void addGrams(final Set<String> terms, final String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            terms.add(value.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    // Filter terms are longer than a gram, so they never collide with grams of a text
+    private static String languageTerm(final String language) {
+        return " l:" + language;
+    }
+
+    private static String exchangeTypeTerm(final ExchangeType exchangeType) {
+        return " x:" + exchangeType;
+    }
+
+    private static String conditionTerm(final BookCondition condition) {
+        return " c:" + condition;
+    }
+
+    private static String lower(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Search(
+            long id,
+            long userId,
+            String text,
+            BookCondition condition,
+            ExchangeType exchangeType,
+            String language,
+            String anchor
+    ) {
+
+        boolean matches(final BookSnapshot book, final String title, final String author) {
+            return (condition == null || condition == book.condition())
+                    && (exchangeType == null || exchangeType == book.exchangeType())
+                    && (language == null || language.equals(lower(book.language())))
+                    && (text == null || contains(title, text) || contains(author, text));
+        }
+
+        private static boolean contains(final String value, final String text) {
+            return value != null && value.contains(text);
+        }
+    }
+}
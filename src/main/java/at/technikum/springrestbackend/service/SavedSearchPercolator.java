@@ -0,0 +1,110 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.SearchNotification;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.event.SavedSearchChangedEvent;
+import at.technikum.springrestbackend.repository.SavedSearchRepository;
+import at.technikum.springrestbackend.repository.SavedSearchState;
+import at.technikum.springrestbackend.repository.SearchNotificationRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Matches every listing that becomes AVAILABLE against the saved searches in a
+ * {@link SavedSearchIndex} and writes the hits to the users' notification feeds, so
+ * the cost is paid once per listing instead of once per polling user. The index is
+ * held in a {@link DoubleBufferedIndex} and updated from saved-search change events.
+ */
+@Service
+public class SavedSearchPercolator {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SearchNotificationRepository notificationRepository;
+    private final int rebuildBatchSize;
+    private final DoubleBufferedIndex<SavedSearchIndex> index =
+            new DoubleBufferedIndex<>(SavedSearchIndex::new);
+
+    public SavedSearchPercolator(
+            final SavedSearchRepository savedSearchRepository,
+            final SearchNotificationRepository notificationRepository,
+            @Value("${app.saved-searches.rebuild-batch-size:5000}") final int rebuildBatchSize
+    ) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.notificationRepository = notificationRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${app.saved-searches.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.saved-searches.rebuild-interval-ms:3600000}"
+    )
+    public void rebuild() {
+        index.rebuild(this::loadSavedSearches);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchChanged(final SavedSearchChangedEvent event) {
+        if (event.removed()) {
+            index.apply(event.savedSearchId(), target -> target.remove(event.savedSearchId()));
+        } else {
+            index.apply(event.savedSearchId(), target -> target.put(
+                    event.savedSearchId(), event.userId(), event.searchText(),
+                    event.condition(), event.exchangeType(), event.language()));
+        }
+    }
+
+    /**
+     * Runs inside the writing transaction, so a listing and its notifications are
+     * committed together. Owners are not notified about their own listings, and a user
+     * gets one entry per listing even if several of their searches match.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookChanged(final BookChangedEvent event) {
+        BookSnapshot after = event.after();
+        if (after == null) {
+            notificationRepository.deleteAllForBook(event.bookId());
+            return;
+        }
+        boolean becameAvailable = after.isAvailable()
+                && (event.before() == null || !event.before().isAvailable());
+        if (!becameAvailable) {
+            return;
+        }
+        Set<Long> notifiedUsers = new HashSet<>();
+        notifiedUsers.add(after.ownerId());
+        List<SearchNotification> notifications = index.current().percolate(after).stream()
+                .filter(search -> notifiedUsers.add(search.userId()))
+                .map(search -> new SearchNotification(
+                        search.userId(), search.id(), after.id(), after.title()))
+                .toList();
+        if (!notifications.isEmpty()) {
+            notificationRepository.saveAll(notifications);
+        }
+    }
+
+    private void loadSavedSearches(final DoubleBufferedIndex.Loader<SavedSearchIndex> loader) {
+        long afterId = 0;
+        List<SavedSearchState> batch;
+        do {
+            batch = savedSearchRepository.findStatesAfter(
+                    afterId, PageRequest.of(0, rebuildBatchSize));
+            for (SavedSearchState search : batch) {
+                loader.load(search.id(), target -> target.put(search.id(), search.userId(),
+                        search.searchText(), search.condition(), search.exchangeType(),
+                        search.language()));
+                afterId = search.id();
+            }
+        } while (batch.size() == rebuildBatchSize);
+    }
+}
@@ -0,0 +1,95 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.SavedSearchRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchResponseDto;
+import at.technikum.springrestbackend.dto.SearchNotificationDto;
+import at.technikum.springrestbackend.entity.SavedSearch;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.SavedSearchChangedEvent;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.mapper.SavedSearchMapper;
+import at.technikum.springrestbackend.repository.SavedSearchRepository;
+import at.technikum.springrestbackend.repository.SearchNotificationRepository;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SearchNotificationRepository notificationRepository;
+    private final SavedSearchMapper savedSearchMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxSearchesPerUser;
+
+    public SavedSearchService(
+            final SavedSearchRepository savedSearchRepository,
+            final SearchNotificationRepository notificationRepository,
+            final SavedSearchMapper savedSearchMapper,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${app.saved-searches.max-per-user:20}") final int maxSearchesPerUser
+    ) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.notificationRepository = notificationRepository;
+        this.savedSearchMapper = savedSearchMapper;
+        this.eventPublisher = eventPublisher;
+        this.maxSearchesPerUser = maxSearchesPerUser;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponseDto> getSavedSearchesOfUser(final User currentUser) {
+        return savedSearchMapper.toResponseDtoList(
+                savedSearchRepository.findAllByUserIdOrderByCreatedAtDesc(currentUser.getId()));
+    }
+
+    public SavedSearchResponseDto createSavedSearch(
+            final SavedSearchRequestDto request,
+            final User currentUser
+    ) {
+        SavedSearch savedSearch = savedSearchMapper.toEntity(request, currentUser);
+        if (savedSearch.getSearchText() == null && savedSearch.getCondition() == null
+                && savedSearch.getExchangeType() == null && savedSearch.getLanguage() == null) {
+            throw new BadRequestException("A saved search needs a search text or a filter");
+        }
+        if (savedSearchRepository.countByUserId(currentUser.getId()) >= maxSearchesPerUser) {
+            throw new BadRequestException(
+                    "You cannot save more than " + maxSearchesPerUser + " searches");
+        }
+
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.saved(saved));
+        return savedSearchMapper.toResponseDto(saved);
+    }
+
+    public void deleteSavedSearch(final Long savedSearchId, final User currentUser) {
+        SavedSearch savedSearch = savedSearchRepository
+                .findByIdAndUserId(savedSearchId, currentUser.getId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Saved search not found with id: " + savedSearchId));
+
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(
+                SavedSearchChangedEvent.removed(savedSearchId, currentUser.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SearchNotificationDto> getNotifications(
+            final User currentUser,
+            final Pageable pageable
+    ) {
+        return notificationRepository
+                .findAllByUserIdOrderByCreatedAtDescIdDesc(currentUser.getId(), pageable)
+                .map(savedSearchMapper::toNotificationDto);
+    }
+
+    public void clearNotifications(final User currentUser) {
+        notificationRepository.deleteAllForUser(currentUser.getId());
+    }
+}
@@ -0,0 +1,108 @@
+package at.technikum.springrestbackend.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Fans events out to {@link SseSubscriber}s whose filter accepts them. The last
+ * {@code replaySize} events are kept for clients that reconnect with a
+ * {@code Last-Event-ID}; when the requested position is gone (or from another instance
+ * or before a restart), the client gets a reset event and should reload instead.
+ *
+ * @param <T> what subscriber filters are evaluated against
+ */
+final class SseBroadcaster<T> {
+
+    private final String epoch;
+    private final int replaySize;
+    private final Deque<Published<T>> replay = new ArrayDeque<>();
+    private final Map<SseSubscriber, Predicate<T>> subscribers = new ConcurrentHashMap<>();
+    private long sequence;
+
+    SseBroadcaster(final String epoch, final int replaySize) {
+        this.epoch = epoch;
+        this.replaySize = replaySize;
+    }
+
+    /**
+     * Registers the subscriber, first queueing what it missed since {@code lastEventId}.
+     * Publishing waits meanwhile, so no event is delivered twice or skipped.
+     */
+    void subscribe(final SseSubscriber subscriber, final Predicate<T> filter,
+                   final String lastEventId) {
+        subscriber.onClose(subscribers::remove);
+        synchronized (replay) {
+            if (lastEventId != null) {
+                resume(subscriber, filter, lastEventId);
+            }
+            subscribers.put(subscriber, filter);
+        }
+    }
+
+    void publish(final String name, final T subject, final Object data) {
+        synchronized (replay) {
+            sequence++;
+            Published<T> event = new Published<>(sequence, subject,
+                    new SseFrame(epoch + "-" + sequence, name, data));
+            replay.addLast(event);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            subscribers.forEach((subscriber, filter) -> {
+                if (filter.test(subject)) {
+                    subscriber.offer(event.frame());
+                }
+            });
+        }
+    }
+
+    /**
+     * Sends a comment to idle subscribers, which keeps proxies from closing the
+     * connection and detects clients that went away.
+     */
+    void heartbeat() {
+        subscribers.keySet().forEach(subscriber -> subscriber.offerIfIdle(SseFrame.HEARTBEAT));
+    }
+
+    void completeAll() {
+        List.copyOf(subscribers.keySet()).forEach(SseSubscriber::complete);
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void resume(final SseSubscriber subscriber, final Predicate<T> filter,
+                        final String lastEventId) {
+        long last = parseSequence(lastEventId);
+        long oldest = replay.isEmpty() ? sequence + 1 : replay.getFirst().sequence();
+        if (last < 0 || last > sequence || last + 1 < oldest) {
+            subscriber.reset();
+            return;
+        }
+        for (Published<T> event : replay) {
+            if (event.sequence() > last && filter.test(event.subject())) {
+                subscriber.offer(event.frame());
+            }
+        }
+    }
+
+    private long parseSequence(final String lastEventId) {
+        String prefix = epoch + "-";
+        if (!lastEventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    private record Published<T>(long sequence, T subject, SseFrame frame) {
+    }
+}
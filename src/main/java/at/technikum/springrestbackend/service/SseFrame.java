@@ -0,0 +1,24 @@
+package at.technikum.springrestbackend.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One Server-Sent Event as queued for a subscriber. Events without an id leave the
+ * client's {@code Last-Event-ID} unchanged.
+ */
+record SseFrame(String id, String name, Object data) {
+
+    static final SseFrame HEARTBEAT = new SseFrame(null, null, null);
+
+    SseEmitter.SseEventBuilder toSse() {
+        if (this == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (id != null) {
+            builder.id(id);
+        }
+        return builder.name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,164 @@
+package at.technikum.springrestbackend.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One Server-Sent Events connection with a bounded buffer. When the client cannot keep
+ * up, the oldest frame is dropped and the client gets a {@value #RESET_EVENT} event
+ * before the next one, telling it to reload. The buffer is drained on the executor only
+ * while there is something to send, so publishers never wait for slow clients and idle
+ * connections hold no thread. A subscriber can start paused, so that a backlog loaded
+ * after registration still goes out before the live frames buffered meanwhile.
+ */
+final class SseSubscriber {
+
+    static final String RESET_EVENT = "reset";
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor executor;
+    private final Deque<SseFrame> buffer = new ArrayDeque<>();
+    private Consumer<SseSubscriber> onClose = subscriber -> { };
+    private boolean paused;
+    private boolean draining;
+    private boolean lost;
+    private boolean closed;
+
+    SseSubscriber(final SseEmitter emitter, final int capacity, final Executor executor,
+                  final boolean paused) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.paused = paused;
+        emitter.onCompletion(this::close);
+        emitter.onError(error -> close());
+    }
+
+    /**
+     * Runs {@code onClose} once the connection completes, fails or times out.
+     */
+    void onClose(final Consumer<SseSubscriber> callback) {
+        this.onClose = callback;
+    }
+
+    void offer(final SseFrame frame) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                buffer.removeFirst();
+                lost = true;
+            }
+            buffer.addLast(frame);
+        }
+        scheduleDrain();
+    }
+
+    void offerIfIdle(final SseFrame frame) {
+        synchronized (this) {
+            if (draining || !buffer.isEmpty()) {
+                return;
+            }
+        }
+        offer(frame);
+    }
+
+    void reset() {
+        synchronized (this) {
+            buffer.clear();
+            lost = true;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Sends {@code backlog} ahead of the frames buffered while paused, dropping buffered
+     * frames whose id the backlog already covers, and starts draining.
+     */
+    void resume(final List<SseFrame> backlog) {
+        synchronized (this) {
+            Set<String> ids = new HashSet<>();
+            backlog.forEach(frame -> ids.add(frame.id()));
+            buffer.removeIf(frame -> frame.id() != null && ids.contains(frame.id()));
+            for (int i = backlog.size() - 1; i >= 0; i--) {
+                buffer.addFirst(backlog.get(i));
+            }
+            while (buffer.size() > capacity) {
+                buffer.removeFirst();
+                lost = true;
+            }
+            paused = false;
+        }
+        scheduleDrain();
+    }
+
+    void complete() {
+        close();
+        emitter.complete();
+    }
+
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+        }
+        onClose.accept(this);
+    }
+
+    private void scheduleDrain() {
+        synchronized (this) {
+            if (paused || draining || closed) {
+                return;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            SseFrame frame;
+            boolean reset;
+            synchronized (this) {
+                frame = buffer.pollFirst();
+                reset = lost;
+                lost = false;
+                if (frame == null && !reset) {
+                    draining = false;
+                    return;
+                }
+            }
+            if (!send(reset, frame)) {
+                return;
+            }
+        }
+    }
+
+    private boolean send(final boolean reset, final SseFrame frame) {
+        try {
+            if (reset) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+            }
+            if (frame != null) {
+                emitter.send(frame.toSse());
+            }
+            return true;
+        } catch (IOException | IllegalStateException exception) {
+            // The client went away or the emitter timed out; the container completes it
+            close();
+            return false;
+        }
+    }
+}
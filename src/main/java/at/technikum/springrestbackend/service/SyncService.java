@@ -0,0 +1,196 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.dto.SyncPageDto;
+import at.technikum.springrestbackend.entity.BaseEntity;
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.Comment;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.mapper.BookMapper;
+import at.technikum.springrestbackend.mapper.CommentMapper;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.CommentRepository;
+import at.technikum.springrestbackend.repository.SyncTombstoneRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Delta sync for offline-capable clients ({@code GET /sync/**}). Changes are read by
+ * {@code updatedAt} and deletions from {@link SyncTombstone}s, each as keyset pages from
+ * the position in the client's token, so a client that is up to date transfers only the
+ * rows that changed. Pages stop at a horizon {@code settle-seconds} in the past: a row
+ * whose transaction commits late, or reaches a lagging replica late, still has a
+ * timestamp after the position handed out, so the window must exceed both.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final BookRepository bookRepository;
+    private final CommentRepository commentRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final BookMapper bookMapper;
+    private final CommentMapper commentMapper;
+    private final FileStorageService fileStorageService;
+    private final int pageSize;
+    private final long settleSeconds;
+    private final int tombstoneRetentionDays;
+
+    public SyncService(
+            final BookRepository bookRepository,
+            final CommentRepository commentRepository,
+            final SyncTombstoneRepository tombstoneRepository,
+            final BookMapper bookMapper,
+            final CommentMapper commentMapper,
+            final FileStorageService fileStorageService,
+            @Value("${app.sync.page-size:500}") final int pageSize,
+            @Value("${app.sync.settle-seconds:10}") final long settleSeconds,
+            @Value("${app.sync.tombstone-retention-days:30}") final int tombstoneRetentionDays
+    ) {
+        this.bookRepository = bookRepository;
+        this.commentRepository = commentRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.bookMapper = bookMapper;
+        this.commentMapper = commentMapper;
+        this.fileStorageService = fileStorageService;
+        this.pageSize = pageSize;
+        this.settleSeconds = settleSeconds;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    /**
+     * Public listings changed since {@code since}. Listings that were reserved or
+     * exchanged left the public set and are reported as deleted.
+     */
+    public SyncPageDto<BookResponseDto> getBookChanges(final String since) {
+        LocalDateTime horizon = LocalDateTime.now().minusSeconds(settleSeconds);
+        SyncToken token = startToken(since, horizon);
+        List<Book> books = bookRepository.findChangedAfter(token.changedAt(),
+                token.changedId(), horizon, token.availableSince(), nextPage());
+        List<SyncTombstone> tombstones = tombstoneRepository.findAfter(SyncEntityType.BOOK,
+                token.deletedAt(), token.deletedId(), horizon, nextPage());
+
+        SyncPageDto<BookResponseDto> page = newPage(token, horizon, books, tombstones);
+        for (Book book : firstPage(books)) {
+            if (book.getStatus() == ListingStatus.AVAILABLE) {
+                page.getChanged().add(toBookResponseDto(book));
+            } else {
+                page.getDeleted().add(book.getId());
+            }
+        }
+        return page;
+    }
+
+    /**
+     * The user's own comments changed since {@code since}, including those removed
+     * together with a deleted listing.
+     */
+    public SyncPageDto<CommentResponseDto> getCommentChangesOfUser(
+            final User user,
+            final String since
+    ) {
+        LocalDateTime horizon = LocalDateTime.now().minusSeconds(settleSeconds);
+        SyncToken token = startToken(since, horizon);
+        List<Comment> comments = commentRepository.findChangedOfAuthorAfter(user.getId(),
+                token.changedAt(), token.changedId(), horizon, nextPage());
+        List<SyncTombstone> tombstones = tombstoneRepository.findOfUserAfter(
+                SyncEntityType.COMMENT, user.getId(), token.deletedAt(), token.deletedId(),
+                horizon, nextPage());
+
+        SyncPageDto<CommentResponseDto> page = newPage(token, horizon, comments, tombstones);
+        firstPage(comments).forEach(comment ->
+                page.getChanged().add(commentMapper.toResponseDto(comment)));
+        return page;
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.tombstone-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeTombstones() {
+        tombstoneRepository.deleteCreatedBefore(retentionCutoff());
+    }
+
+    /**
+     * Without a token, or with one older than the tombstone retention (deletions since
+     * may already be purged), the client starts over with a full sync.
+     */
+    private SyncToken startToken(final String since, final LocalDateTime horizon) {
+        if (since == null || since.isBlank()) {
+            return SyncToken.initial(horizon);
+        }
+        SyncToken token = SyncToken.decode(since);
+        return token.deletedAt().isBefore(retentionCutoff()) ? SyncToken.initial(horizon) : token;
+    }
+
+    // Adds the deletions and the next token; the caller adds the changed rows
+    private <T> SyncPageDto<T> newPage(
+            final SyncToken token,
+            final LocalDateTime horizon,
+            final List<? extends BaseEntity> changed,
+            final List<SyncTombstone> tombstones
+    ) {
+        SyncPageDto<T> page = new SyncPageDto<>();
+        firstPage(tombstones).forEach(tombstone -> page.getDeleted().add(tombstone.getEntityId()));
+        page.setNextToken(nextToken(token, horizon, changed, tombstones).encode());
+        page.setHasMore(changed.size() > pageSize || tombstones.size() > pageSize);
+        page.setReset(token.isInitial());
+        return page;
+    }
+
+    /**
+     * Continues each stream after its last row on this page, or from the horizon once it
+     * is exhausted, since everything up to the horizon has then been sent.
+     */
+    private SyncToken nextToken(
+            final SyncToken token,
+            final LocalDateTime horizon,
+            final List<? extends BaseEntity> changed,
+            final List<SyncTombstone> tombstones
+    ) {
+        LocalDateTime changedAt = horizon;
+        long changedId = Long.MAX_VALUE;
+        LocalDateTime availableSince = SyncToken.ORIGIN;
+        if (changed.size() > pageSize) {
+            BaseEntity last = changed.get(pageSize - 1);
+            changedAt = last.getUpdatedAt();
+            changedId = last.getId();
+            availableSince = token.availableSince();
+        }
+        LocalDateTime deletedAt = horizon;
+        long deletedId = Long.MAX_VALUE;
+        if (tombstones.size() > pageSize) {
+            SyncTombstone last = tombstones.get(pageSize - 1);
+            deletedAt = last.getCreatedAt();
+            deletedId = last.getId();
+        }
+        return new SyncToken(changedAt, changedId, deletedAt, deletedId, availableSince);
+    }
+
+    // Queries fetch one row more than a page to tell whether another page follows
+    private Pageable nextPage() {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private <R> List<R> firstPage(final List<R> rows) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+
+    private LocalDateTime retentionCutoff() {
+        return LocalDateTime.now().minusDays(tombstoneRetentionDays);
+    }
+
+    private BookResponseDto toBookResponseDto(final Book book) {
+        BookResponseDto dto = bookMapper.toResponseDto(book);
+        dto.setImageUrl(fileStorageService.resolveImageUrl(book.getImageObjectKey()));
+        return dto;
+    }
+}
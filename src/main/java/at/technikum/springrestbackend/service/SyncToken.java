@@ -0,0 +1,62 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of a delta sync client: the last change and the last tombstone it has seen,
+ * each as a {@code (timestamp, id)} keyset position. During an initial sync,
+ * {@code availableSince} is when it started; changes older than that are only sent for
+ * available listings. Encoded as an opaque URL-safe string.
+ */
+record SyncToken(
+        LocalDateTime changedAt,
+        long changedId,
+        LocalDateTime deletedAt,
+        long deletedId,
+        LocalDateTime availableSince
+) {
+
+    static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * A full sync as of {@code horizon}: every change, and only deletions after it.
+     */
+    static SyncToken initial(final LocalDateTime horizon) {
+        return new SyncToken(ORIGIN, 0, horizon, 0, horizon);
+    }
+
+    boolean isInitial() {
+        return changedId == 0 && ORIGIN.equals(changedAt);
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, changedAt.toString(),
+                Long.toString(changedId), deletedAt.toString(), Long.toString(deletedId),
+                availableSince.toString());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncToken decode(final String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()),
+                    StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new SyncToken(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]),
+                    LocalDateTime.parse(parts[5]));
+        } catch (IllegalArgumentException | DateTimeException exception) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+}
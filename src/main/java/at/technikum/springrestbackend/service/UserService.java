@@ -1,5 +1,6 @@
 package at.technikum.springrestbackend.service;
 
+import at.technikum.springrestbackend.cache.CacheNames;
 import at.technikum.springrestbackend.dto.UserResponseDto;
 import at.technikum.springrestbackend.dto.UserUpdateRequestDto;
 import at.technikum.springrestbackend.entity.Role;
@@ -8,6 +9,10 @@ import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.ForbiddenOperationException;
 import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +23,14 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final JsonMergePatcher jsonMergePatcher;
 
-    public UserService(final UserRepository userRepository) {
+    public UserService(
+            final UserRepository userRepository,
+            final JsonMergePatcher jsonMergePatcher
+    ) {
         this.userRepository = userRepository;
+        this.jsonMergePatcher = jsonMergePatcher;
     }
 
     public User getUserEntityById(final Long userId) {
@@ -29,18 +39,56 @@ public class UserService {
                         "User not found with id: " + userId));
     }
 
+    @Cacheable(cacheNames = CacheNames.USER_PROFILES, key = "#currentUser.id")
     public UserResponseDto getCurrentUserProfile(final User currentUser) {
         User user = getUserEntityById(currentUser.getId());
         return toUserResponseDto(user);
     }
 
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = {CacheNames.USER_DETAILS, CacheNames.USER_PROFILES},
+                key = "#currentUser.id"),
+        @CacheEvict(cacheNames = CacheNames.BOOKS, allEntries = true)
+    })
     public UserResponseDto updateCurrentUserProfile(
             final UserUpdateRequestDto request,
             final User currentUser
     ) {
         User user = getUserEntityById(currentUser.getId());
+        applyProfileUpdate(user, request);
+        User saved = userRepository.save(user);
+        return toUserResponseDto(saved);
+    }
 
+    /**
+     * Merge patch variant of {@link #updateCurrentUserProfile}: removing the profile
+     * picture with {@code null} clears it, username and country code cannot be removed.
+     */
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = {CacheNames.USER_DETAILS, CacheNames.USER_PROFILES},
+                key = "#currentUser.id"),
+        @CacheEvict(cacheNames = CacheNames.BOOKS, allEntries = true)
+    })
+    public UserResponseDto patchCurrentUserProfile(
+            final JsonNode patch,
+            final User currentUser
+    ) {
+        User user = getUserEntityById(currentUser.getId());
+        UserUpdateRequestDto request = jsonMergePatcher.apply(patch, toUpdateRequest(user));
+        if (request.getUsername() == null || request.getCountryCode() == null) {
+            throw new BadRequestException("Username and country code cannot be removed");
+        }
+        if (request.getProfilePictureUrl() == null) {
+            request.setProfilePictureUrl("");
+        }
+        applyProfileUpdate(user, request);
+        User saved = userRepository.save(user);
+        return toUserResponseDto(saved);
+    }
+
+    private void applyProfileUpdate(final User user, final UserUpdateRequestDto request) {
         if (request.getUsername() != null && !request.getUsername().isBlank()) {
             String newUsername = request.getUsername().trim();
             if (!newUsername.equalsIgnoreCase(user.getUsername())
@@ -58,9 +106,14 @@ public class UserService {
             String profilePictureUrl = request.getProfilePictureUrl().trim();
             user.setProfilePictureUrl(profilePictureUrl.isBlank() ? null : profilePictureUrl);
         }
+    }
 
-        User saved = userRepository.save(user);
-        return toUserResponseDto(saved);
+    private UserUpdateRequestDto toUpdateRequest(final User user) {
+        UserUpdateRequestDto request = new UserUpdateRequestDto();
+        request.setUsername(user.getUsername());
+        request.setCountryCode(user.getCountryCode());
+        request.setProfilePictureUrl(user.getProfilePictureUrl());
+        return request;
     }
 
     public List<UserResponseDto> getAllUsersForAdmin(final User currentUser) {
@@ -78,6 +131,7 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheNames.USER_DETAILS, CacheNames.USER_PROFILES}, key = "#userId")
     public UserResponseDto setUserEnabled(
             final Long userId,
             final boolean enabled,
@@ -91,6 +145,7 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheNames.USER_DETAILS, CacheNames.USER_PROFILES}, key = "#userId")
     public UserResponseDto toggleUserEnabled(final Long userId, final User currentUser) {
         requireAdmin(currentUser);
         User user = getUserEntityById(userId);
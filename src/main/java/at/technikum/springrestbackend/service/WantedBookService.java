@@ -0,0 +1,74 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.WantedBookRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookResponseDto;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.entity.WantedBook;
+import at.technikum.springrestbackend.event.WantedBookChangedEvent;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.mapper.WantedBookMapper;
+import at.technikum.springrestbackend.repository.WantedBookRepository;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class WantedBookService {
+
+    private final WantedBookRepository wantedBookRepository;
+    private final WantedBookMapper wantedBookMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxWantedPerUser;
+
+    public WantedBookService(
+            final WantedBookRepository wantedBookRepository,
+            final WantedBookMapper wantedBookMapper,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${app.matching.max-wanted-per-user:100}") final int maxWantedPerUser
+    ) {
+        this.wantedBookRepository = wantedBookRepository;
+        this.wantedBookMapper = wantedBookMapper;
+        this.eventPublisher = eventPublisher;
+        this.maxWantedPerUser = maxWantedPerUser;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WantedBookResponseDto> getWantedBooksOfUser(final User currentUser) {
+        return wantedBookMapper.toResponseDtoList(
+                wantedBookRepository.findAllByUserIdOrderByCreatedAtDesc(currentUser.getId()));
+    }
+
+    public WantedBookResponseDto addWantedBook(
+            final WantedBookRequestDto request,
+            final User currentUser
+    ) {
+        WantedBook wantedBook = wantedBookMapper.toEntity(request, currentUser);
+        if (wantedBook.getTitle() == null && wantedBook.getAuthorName() == null) {
+            throw new BadRequestException("A title or an author name is required");
+        }
+        if (wantedBookRepository.countByUserId(currentUser.getId()) >= maxWantedPerUser) {
+            throw new BadRequestException(
+                    "You cannot add more than " + maxWantedPerUser + " wanted books");
+        }
+
+        WantedBook saved = wantedBookRepository.save(wantedBook);
+        eventPublisher.publishEvent(WantedBookChangedEvent.saved(
+                saved.getId(), currentUser.getId(), saved.getTitle(), saved.getAuthorName()));
+        return wantedBookMapper.toResponseDto(saved);
+    }
+
+    public void removeWantedBook(final Long wantedBookId, final User currentUser) {
+        WantedBook wantedBook = wantedBookRepository
+                .findByIdAndUserId(wantedBookId, currentUser.getId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Wanted book not found with id: " + wantedBookId));
+
+        wantedBookRepository.delete(wantedBook);
+        eventPublisher.publishEvent(
+                WantedBookChangedEvent.removed(wantedBookId, currentUser.getId()));
+    }
+}
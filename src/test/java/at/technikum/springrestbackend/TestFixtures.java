@@ -0,0 +1,45 @@
+package at.technikum.springrestbackend;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unsaved users and listings for the tests that persist them. Tests sharing an
+ * application context pass usernames unique to the test, since they stay in the database.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User buildUser(final String username) {
+        User user = new User();
+        user.setEmail(username + "@test.com");
+        user.setUsername(username);
+        user.setPasswordHash("hash");
+        user.setCountryCode("AT");
+        user.setRole(Role.USER);
+        return user;
+    }
+
+    public static List<Book> buildBooks(final User owner, final int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Book book = new Book();
+            book.setTitle("Title " + i);
+            book.setAuthorName("Author " + i);
+            book.setDescription("Description " + i);
+            book.setCondition(BookCondition.GOOD);
+            book.setExchangeType(ExchangeType.GIVEAWAY);
+            book.setOwner(owner);
+            books.add(book);
+        }
+        return books;
+    }
+}
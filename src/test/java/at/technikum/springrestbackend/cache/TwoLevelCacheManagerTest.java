@@ -0,0 +1,162 @@
+package at.technikum.springrestbackend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TwoLevelCacheManager")
+class TwoLevelCacheManagerTest {
+
+    private static final CacheSpec SPEC =
+            new CacheSpec(Duration.ofMinutes(1), 100, Duration.ofMinutes(10));
+    private static final Map<String, CacheSpec> SPECS = Map.of(CacheNames.BOOKS, SPEC);
+
+    private InMemorySharedCacheStore sharedStore;
+
+    @BeforeEach
+    void setUp() {
+        sharedStore = spy(new InMemorySharedCacheStore());
+    }
+
+    private TwoLevelCacheManager node(final SharedCacheStore store) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(store, SPECS, Duration.ofHours(1));
+        manager.initializeCaches();
+        return manager;
+    }
+
+    private static Cache books(final TwoLevelCacheManager manager) {
+        return manager.getCache(CacheNames.BOOKS);
+    }
+
+    @Nested
+    @DisplayName("across nodes")
+    class AcrossNodes {
+
+        @Test
+        @DisplayName("serves a value cached on one node from the shared tier on another")
+        void sharesValues() {
+            TwoLevelCacheManager first = node(sharedStore);
+            TwoLevelCacheManager second = node(sharedStore);
+
+            books(first).put(1L, "Dune");
+
+            assertThat(books(second).get(1L, String.class)).isEqualTo("Dune");
+        }
+
+        @Test
+        @DisplayName("evicts the local copies of every node on eviction")
+        void evictsEverywhere() {
+            TwoLevelCacheManager first = node(sharedStore);
+            TwoLevelCacheManager second = node(sharedStore);
+            books(first).put(1L, "Dune");
+            books(second).get(1L);
+
+            books(first).evict(1L);
+
+            assertThat(books(second).get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("clears the local level of every node")
+        void clearsEverywhere() {
+            TwoLevelCacheManager first = node(sharedStore);
+            TwoLevelCacheManager second = node(sharedStore);
+            books(first).put(1L, "Dune");
+            books(second).get(1L);
+
+            books(first).clear();
+
+            assertThat(books(second).get(1L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("with the shared tier down")
+    class SharedTierDown {
+
+        @Test
+        @DisplayName("falls back to the local level and the value loader")
+        void fallsBackToLoader() {
+            SharedCacheStore failing = mock(SharedCacheStore.class);
+            when(failing.get(anyString(), anyString())).thenThrow(new IllegalStateException());
+            TwoLevelCacheManager manager = node(failing);
+
+            assertThat(books(manager).get(1L, () -> "Dune")).isEqualTo("Dune");
+            assertThat(books(manager).get(1L, String.class)).isEqualTo("Dune");
+            verify(failing, never()).put(anyString(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("replays evictions once the shared tier is back")
+        void replaysEvictions() {
+            TwoLevelCacheManager manager =
+                    new TwoLevelCacheManager(sharedStore, SPECS, Duration.ZERO);
+            manager.initializeCaches();
+            books(manager).put(1L, "Dune");
+            doThrow(new IllegalStateException()).doCallRealMethod()
+                    .when(sharedStore).evict(CacheNames.BOOKS, "1");
+
+            books(manager).evict(1L);
+            assertThat(sharedStore.get(CacheNames.BOOKS, "1")).isNotNull();
+
+            books(manager).get(2L);
+            assertThat(sharedStore.get(CacheNames.BOOKS, "1")).isNull();
+        }
+
+        @Test
+        @DisplayName("counts failed shared calls")
+        void countsFailures() {
+            SharedCacheStore failing = mock(SharedCacheStore.class);
+            when(failing.get(anyString(), anyString())).thenThrow(new IllegalStateException());
+            TwoLevelCacheManager manager = node(failing);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            manager.bindTo(registry);
+
+            books(manager).get(1L);
+
+            assertThat(registry.get("cache.shared.errors").functionCounter().count())
+                    .isEqualTo(1);
+            assertThat(registry.get("cache.two-level.requests").tag("result", "miss")
+                    .functionCounter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("wraps loader failures in ValueRetrievalException")
+    void wrapsLoaderFailures() {
+        TwoLevelCacheManager manager = node(sharedStore);
+
+        assertThatThrownBy(() -> books(manager).get(1L, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+    }
+
+    @Test
+    @DisplayName("encodes and decodes invalidation messages")
+    void roundTripsInvalidations() {
+        CacheInvalidation eviction = new CacheInvalidation("node", "books", "a|b");
+        CacheInvalidation clear = new CacheInvalidation("node", "books", null);
+
+        assertThat(CacheInvalidation.decode(eviction.encode())).isEqualTo(eviction);
+        assertThat(CacheInvalidation.decode(clear.encode())).isEqualTo(clear);
+        assertThatThrownBy(() -> CacheInvalidation.decode("broken"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.cache.CacheNames;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.repository.UserRepository;
+import at.technikum.springrestbackend.security.CustomUserDetailsService;
+import at.technikum.springrestbackend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("CacheConfig (integration — cached principals)")
+class CacheConfigIntegrationTest {
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        if (user != null) {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("caches JWT principals and evicts them when an admin disables the user")
+    void evictsPrincipalOnDisable() {
+        User owner = buildUser("cached_user");
+        user = userRepository.save(owner);
+        User admin = new User();
+        admin.setRole(Role.ADMIN);
+
+        assertThat(customUserDetailsService.loadUserById(user.getId()).isEnabled()).isTrue();
+        assertThat(cacheManager.getCache(CacheNames.USER_DETAILS).get(user.getId())).isNotNull();
+
+        userService.setUserEnabled(user.getId(), false, admin);
+
+        assertThat(cacheManager.getCache(CacheNames.USER_DETAILS).get(user.getId())).isNull();
+        assertThat(customUserDetailsService.loadUserById(user.getId()).isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.datasource.AdminPoolRoutingDataSource;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.repository.UserRepository;
+import at.technikum.springrestbackend.security.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("DataSourceConfig (integration — connection pools)")
+class DataSourceConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("adminDataSource")
+    private HikariDataSource adminDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User admin;
+
+    @AfterEach
+    void tearDown() {
+        if (admin != null) {
+            userRepository.deleteById(admin.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("serves /admin requests from the small instrumented admin pool")
+    void routesAdminRequestsToAdminPool() throws Exception {
+        User owner = buildUser("pool_admin");
+        owner.setRole(Role.ADMIN);
+        admin = userRepository.save(owner);
+
+        mockMvc.perform(get("/admin/books")
+                        .header(HttpHeaders.AUTHORIZATION,
+                                "Bearer " + jwtService.generateToken(admin)))
+                .andExpect(status().isOk());
+
+        assertThat(dataSource).isInstanceOf(AdminPoolRoutingDataSource.class);
+        assertThat(adminDataSource.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(adminDataSource.getHikariPoolMXBean().getTotalConnections()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.acquire")
+                .tag("pool", "admin").timer().count()).isPositive();
+    }
+}
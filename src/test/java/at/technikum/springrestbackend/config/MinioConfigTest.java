@@ -0,0 +1,46 @@
+package at.technikum.springrestbackend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MinioConfig")
+class MinioConfigTest {
+
+    private final MinioConfig config = new MinioConfig();
+
+    @Test
+    @DisplayName("builds the HTTP client with the configured pool, limits and timeouts")
+    void buildsTunedHttpClient() {
+        ConnectionPool pool = config.minioConnectionPool(8, 30);
+        Dispatcher dispatcher = config.minioDispatcher(128);
+
+        OkHttpClient client = config.minioHttpClient(pool, dispatcher, 1000, 2000, 3000);
+
+        assertThat(client.connectionPool()).isSameAs(pool);
+        assertThat(client.dispatcher().getMaxRequestsPerHost()).isEqualTo(128);
+        assertThat(client.dispatcher().getMaxRequests()).isEqualTo(128);
+        assertThat(client.connectTimeoutMillis()).isEqualTo(1000);
+        assertThat(client.readTimeoutMillis()).isEqualTo(2000);
+        assertThat(client.writeTimeoutMillis()).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("publishes pool and dispatcher utilisation gauges")
+    void publishesPoolMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        config.minioHttpClientMetrics(config.minioConnectionPool(8, 30), new Dispatcher())
+                .bindTo(registry);
+
+        assertThat(registry.get("minio.http.connections").tag("state", "idle").gauge().value())
+                .isZero();
+        assertThat(registry.get("minio.http.calls").tag("state", "queued").gauge().value())
+                .isZero();
+    }
+}
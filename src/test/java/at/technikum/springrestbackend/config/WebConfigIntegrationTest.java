@@ -0,0 +1,84 @@
+package at.technikum.springrestbackend.config;
+
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("WebConfig (integration — page envelope and field selection)")
+class WebConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(buildUser("web_owner"));
+        bookRepository.saveAll(buildBooks(owner, 2));
+    }
+
+    @Test
+    @DisplayName("GET /books returns the compact page envelope")
+    void pageUsesCompactEnvelope() throws Exception {
+        mockMvc.perform(get("/books").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.page.size").value(1))
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$", not(hasKey("pageable"))));
+    }
+
+    @Test
+    @DisplayName("GET /books keeps every property when no fields are requested")
+    void serializesAllFieldsByDefault() throws Exception {
+        mockMvc.perform(get("/books"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0]", hasKey("description")))
+                .andExpect(jsonPath("$.content[0]", hasKey("ownerUsername")));
+    }
+
+    @Test
+    @DisplayName("GET /books?fields= serializes only the requested properties")
+    void serializesOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/books").param("fields", "id, title,unknown"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0]", hasKey("id")))
+                .andExpect(jsonPath("$.content[0]", hasKey("title")))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("description"))))
+                .andExpect(jsonPath("$.page.totalElements").value(2));
+    }
+
+    @Test
+    @DisplayName("field selection is ignored on endpoints that do not opt in")
+    void ignoresFieldsOnOtherEndpoints() throws Exception {
+        Long bookId = bookRepository.findAll().get(0).getId();
+
+        mockMvc.perform(get("/books/{bookId}", bookId).param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasKey("title")));
+    }
+}
@@ -1,9 +1,15 @@
 package at.technikum.springrestbackend.controller;
 
 import at.technikum.springrestbackend.dto.BookCreateRequestDto;
+import at.technikum.springrestbackend.dto.BookFacetsDto;
+import at.technikum.springrestbackend.dto.BookImportReportDto;
 import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.BookStatusUpdateRequestDto;
 import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
-import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.dto.ImageUploadCompleteRequestDto;
+import at.technikum.springrestbackend.dto.ImageUploadRequestDto;
+import at.technikum.springrestbackend.dto.ImageUploadTicketDto;
+import at.technikum.springrestbackend.dto.ResponseFields;
 import at.technikum.springrestbackend.entity.BookCondition;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
@@ -11,9 +17,16 @@ import at.technikum.springrestbackend.entity.Role;
 import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.BookFacetService;
+import at.technikum.springrestbackend.service.BookImageService;
+import at.technikum.springrestbackend.service.BookImportService;
 import at.technikum.springrestbackend.service.BookService;
+import at.technikum.springrestbackend.service.BookStreamService;
 import at.technikum.springrestbackend.service.FileStorageService;
+import at.technikum.springrestbackend.service.ImageCacheService;
 import at.technikum.springrestbackend.service.UserService;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,14 +43,15 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -53,6 +67,16 @@ class BookControllerTest {
     private UserService userService;
     @Mock
     private FileStorageService fileStorageService;
+    @Mock
+    private BookImportService bookImportService;
+    @Mock
+    private BookFacetService bookFacetService;
+    @Mock
+    private ImageCacheService imageCacheService;
+    @Mock
+    private BookImageService bookImageService;
+    @Mock
+    private BookStreamService bookStreamService;
 
     @InjectMocks
     private BookController controller;
@@ -75,24 +99,6 @@ class BookControllerTest {
         return new CustomUserDetails(buildUser(id, role));
     }
 
-    private Book buildBook(String imageObjectKey) {
-        Book book = new Book();
-        book.setTitle("Test Book");
-        book.setAuthorName("Author");
-        book.setDescription("Description");
-        book.setCondition(BookCondition.GOOD);
-        book.setExchangeType(ExchangeType.EXCHANGE_OR_GIVEAWAY);
-        book.setStatus(ListingStatus.AVAILABLE);
-        book.setImageObjectKey(imageObjectKey);
-        return book;
-    }
-
-    private FileStorageService.StoredFileResult storedFile(String objectKey) {
-        return new FileStorageService.StoredFileResult(
-                objectKey, "http://minio/bucket/" + objectKey, "image/jpeg", 2048L
-        );
-    }
-
     // resolveCurrentUser guard (exercised via any endpoint)
 
     @Nested
@@ -102,7 +108,7 @@ class BookControllerTest {
         @Test
         @DisplayName("throws BadRequestException when principal is null")
         void throwsForNullPrincipal() {
-            assertThatThrownBy(() -> controller.getMyBooks(null))
+            assertThatThrownBy(() -> controller.getMyBooks(null, null))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessageContaining("required");
         }
@@ -118,7 +124,7 @@ class BookControllerTest {
             // id remains null (Long default)
             CustomUserDetails principal = new CustomUserDetails(userWithoutId);
 
-            assertThatThrownBy(() -> controller.getMyBooks(principal))
+            assertThatThrownBy(() -> controller.getMyBooks(null, principal))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessageContaining("required");
         }
@@ -135,11 +141,11 @@ class BookControllerTest {
         void returns200WithPublicBooks() {
             BookResponseDto dto = new BookResponseDto();
             Page<BookResponseDto> page = new PageImpl<>(List.of(dto));
-            when(bookService.getLatestPublicBooks(any(), any(), any(), any(), any()))
+            when(bookService.getLatestPublicBooks(any(), any(), any(), any(), any(), any()))
                     .thenReturn(page);
 
             ResponseEntity<Page<BookResponseDto>> result =
-                    controller.getLatestPublicBooks(null, null, null, null, Pageable.unpaged());
+                    controller.getLatestPublicBooks(null, null, null, null, null, Pageable.unpaged());
 
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(result.getBody().getContent()).containsExactly(dto);
@@ -167,6 +173,62 @@ class BookControllerTest {
 
     // GET /books/me
 
+    @Nested
+    @DisplayName("GET /books/facets")
+    class GetPublicBookFacets {
+
+        @Test
+        @DisplayName("returns 200 with facet counts for the given filters")
+        void returns200WithFacets() {
+            BookFacetsDto facets = new BookFacetsDto();
+            when(bookFacetService.getFacets(BookCondition.GOOD, null, "en", null))
+                    .thenReturn(facets);
+
+            ResponseEntity<BookFacetsDto> result = controller.getPublicBookFacets(
+                    BookCondition.GOOD, null, "en", null);
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(facets);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /books/stream")
+    class StreamBookChanges {
+
+        @Test
+        @DisplayName("returns the emitter subscribed with the filters and Last-Event-ID")
+        void returnsSubscribedEmitter() {
+            SseEmitter emitter = new SseEmitter();
+            when(bookStreamService.subscribe(
+                    BookCondition.GOOD, ExchangeType.GIVEAWAY, "en", "abc-7"))
+                    .thenReturn(emitter);
+
+            SseEmitter result = controller.streamBookChanges(
+                    BookCondition.GOOD, ExchangeType.GIVEAWAY, "en", "abc-7");
+
+            assertThat(result).isSameAs(emitter);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /books/batch")
+    class GetPublicBooksByIds {
+
+        @Test
+        @DisplayName("returns 200 with the requested books")
+        void returns200WithBooks() {
+            List<BookResponseDto> books = List.of(new BookResponseDto());
+            when(bookService.getPublicBooksByIds(List.of(2L, 1L), ResponseFields.ALL)).thenReturn(books);
+
+            ResponseEntity<List<BookResponseDto>> result =
+                    controller.getPublicBooksByIds(List.of(2L, 1L), null);
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(books);
+        }
+    }
+
     @Nested
     @DisplayName("GET /books/me")
     class GetMyBooks {
@@ -179,9 +241,9 @@ class BookControllerTest {
             BookResponseDto dto = new BookResponseDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBooksOfUser(userEntity)).thenReturn(List.of(dto));
+            when(bookService.getBooksOfUser(userEntity, ResponseFields.ALL)).thenReturn(List.of(dto));
 
-            ResponseEntity<List<BookResponseDto>> result = controller.getMyBooks(principal);
+            ResponseEntity<List<BookResponseDto>> result = controller.getMyBooks(null, principal);
 
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(result.getBody()).containsExactly(dto);
@@ -226,249 +288,184 @@ class BookControllerTest {
     // PUT /books/{bookId}
 
     @Nested
-    @DisplayName("PUT /books/{bookId}")
-    class UpdateBook {
+    @DisplayName("POST /books/import")
+    class ImportBooks {
 
         @Test
-        @DisplayName("returns 200 with the updated book")
-        void returns200WithUpdatedBook() {
+        @DisplayName("returns 200 with the import report")
+        void returnsReport() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            BookUpdateRequestDto request = new BookUpdateRequestDto();
-            BookResponseDto response = new BookResponseDto();
+            InputStream body = new ByteArrayInputStream(new byte[0]);
+            BookImportReportDto report = new BookImportReportDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.updateBook(10L, request, userEntity)).thenReturn(response);
+            when(bookImportService.importBooks(body, "text/csv", userEntity)).thenReturn(report);
 
-            ResponseEntity<BookResponseDto> result = controller.updateBook(10L, request, principal);
+            ResponseEntity<BookImportReportDto> result =
+                    controller.importBooks("text/csv", body, principal);
 
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
-            assertThat(result.getBody()).isSameAs(response);
+            assertThat(result.getBody()).isSameAs(report);
         }
     }
 
-    // DELETE /books/{bookId}
-
     @Nested
-    @DisplayName("DELETE /books/{bookId}")
-    class DeleteBook {
-
-        @Test
-        @DisplayName("returns 204, deletes book and cleans up storage image")
-        void returns204AndCleansUpImage() {
-            CustomUserDetails principal = buildPrincipal(1L, Role.USER);
-            User userEntity = buildUser(1L, Role.USER);
-            Book book = buildBook("books/cover.jpg");
-
-            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(5L)).thenReturn(book);
-
-            ResponseEntity<Void> result = controller.deleteBook(5L, principal);
-
-            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-            verify(bookService).deleteBook(5L, userEntity);
-            verify(fileStorageService).deleteObjectQuietly("books/cover.jpg");
-        }
+    @DisplayName("PUT /books/{bookId}")
+    class UpdateBook {
 
         @Test
-        @DisplayName("returns 204 and still calls deleteObjectQuietly when image key is null")
-        void returns204WhenImageKeyIsNull() {
+        @DisplayName("returns 200 with the updated book")
+        void returns200WithUpdatedBook() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            Book book = buildBook(null);
+            BookUpdateRequestDto request = new BookUpdateRequestDto();
+            BookResponseDto response = new BookResponseDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(5L)).thenReturn(book);
+            when(bookService.updateBook(10L, request, userEntity)).thenReturn(response);
 
-            ResponseEntity<Void> result = controller.deleteBook(5L, principal);
+            ResponseEntity<BookResponseDto> result = controller.updateBook(10L, request, principal);
 
-            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-            verify(bookService).deleteBook(5L, userEntity);
-            verify(fileStorageService).deleteObjectQuietly(null);
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(response);
         }
     }
 
-    // POST /books/{bookId}/image
+    // PATCH /books/{bookId}
 
     @Nested
-    @DisplayName("POST /books/{bookId}/image")
-    class UploadBookImage {
+    @DisplayName("PATCH /books/{bookId}")
+    class PatchBook {
 
         @Test
-        @DisplayName("success: old key differs from new — old object is cleaned up")
-        void uploadsImageAndCleansOldKey() {
+        @DisplayName("returns 200 with the patched book")
+        void returns200WithPatchedBook() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook("books/old-key.jpg");
-            FileStorageService.StoredFileResult stored = storedFile("books/new-key.jpg");
+            ObjectNode patch = JsonNodeFactory.instance.objectNode().put("title", "New");
             BookResponseDto response = new BookResponseDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(stored);
-            when(bookService.updateBookImageMetadata(
-                    eq(7L), anyString(), anyString(), anyString(), eq(userEntity)))
-                    .thenReturn(response);
+            when(bookService.patchBook(10L, patch, userEntity)).thenReturn(response);
 
-            ResponseEntity<BookResponseDto> result = controller.uploadBookImage(7L, file, principal);
+            ResponseEntity<BookResponseDto> result = controller.patchBook(10L, patch, principal);
 
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(result.getBody()).isSameAs(response);
-            verify(fileStorageService).deleteObjectQuietly("books/old-key.jpg");
         }
 
         @Test
-        @DisplayName("success: old key is null — no old object cleanup")
-        void noCleanupWhenOldKeyIsNull() {
+        @DisplayName("returns 204 after changing only the status")
+        void returns204ForStatusChange() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook(null);
-            FileStorageService.StoredFileResult stored = storedFile("books/new-key.jpg");
+            BookStatusUpdateRequestDto request = new BookStatusUpdateRequestDto();
+            request.setStatus(ListingStatus.RESERVED);
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(stored);
-            when(bookService.updateBookImageMetadata(
-                    eq(7L), anyString(), anyString(), anyString(), eq(userEntity)))
-                    .thenReturn(new BookResponseDto());
 
-            controller.uploadBookImage(7L, file, principal);
+            ResponseEntity<Void> result = controller.updateBookStatus(10L, request, principal);
 
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(bookService).updateBookStatus(10L, ListingStatus.RESERVED, userEntity);
         }
+    }
 
-        @Test
-        @DisplayName("success: old key is blank — no old object cleanup")
-        void noCleanupWhenOldKeyIsBlank() {
-            CustomUserDetails principal = buildPrincipal(1L, Role.USER);
-            User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook("   ");
-            FileStorageService.StoredFileResult stored = storedFile("books/new-key.jpg");
-
-            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(stored);
-            when(bookService.updateBookImageMetadata(
-                    eq(7L), anyString(), anyString(), anyString(), eq(userEntity)))
-                    .thenReturn(new BookResponseDto());
-
-            controller.uploadBookImage(7L, file, principal);
+    // DELETE /books/{bookId}
 
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
-        }
+    @Nested
+    @DisplayName("DELETE /books/{bookId}")
+    class DeleteBook {
 
         @Test
-        @DisplayName("success: old key equals new key — no old object cleanup")
-        void noCleanupWhenOldKeyEqualsNewKey() {
+        @DisplayName("returns 204 after deleting the book and its image")
+        void returns204() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            String sameKey = "books/same-key.jpg";
-            Book existing = buildBook(sameKey);
-            FileStorageService.StoredFileResult stored = storedFile(sameKey);
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(stored);
-            when(bookService.updateBookImageMetadata(
-                    eq(7L), anyString(), anyString(), anyString(), eq(userEntity)))
-                    .thenReturn(new BookResponseDto());
 
-            controller.uploadBookImage(7L, file, principal);
+            ResponseEntity<Void> result = controller.deleteBook(5L, principal);
 
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(bookImageService).deleteBook(5L, userEntity);
         }
+    }
 
-        @Test
-        @DisplayName("exception after upload: new file is cleaned up and exception is rethrown")
-        void cleansUpNewFileWhenDbUpdateFails() {
-            CustomUserDetails principal = buildPrincipal(1L, Role.USER);
-            User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook(null);
-            FileStorageService.StoredFileResult stored = storedFile("books/new-key.jpg");
-
-            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(stored);
-            when(bookService.updateBookImageMetadata(any(), any(), any(), any(), any()))
-                    .thenThrow(new RuntimeException("DB failure"));
-
-            assertThatThrownBy(() -> controller.uploadBookImage(7L, file, principal))
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessageContaining("DB failure");
+    // POST /books/{bookId}/image
 
-            verify(fileStorageService).deleteObjectQuietly("books/new-key.jpg");
-        }
+    @Nested
+    @DisplayName("POST /books/{bookId}/image")
+    class UploadBookImage {
 
         @Test
-        @DisplayName("exception after upload: no cleanup when stored objectKey is null")
-        void noCleanupWhenStoredObjectKeyIsNull() {
+        @DisplayName("returns 200 with the listing after the image swap")
+        void uploadsImage() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
             MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook(null);
-            // Simulate a stored result where objectKey is null (defensive branch L143)
-            FileStorageService.StoredFileResult storedWithNullKey =
-                    new FileStorageService.StoredFileResult(null, "http://url", "image/jpeg", 1024L);
+            BookResponseDto response = new BookResponseDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(storedWithNullKey);
-            when(bookService.updateBookImageMetadata(any(), any(), any(), any(), any()))
-                    .thenThrow(new RuntimeException("DB failure"));
+            when(bookImageService.uploadImage(7L, file, userEntity)).thenReturn(response);
 
-            assertThatThrownBy(() -> controller.uploadBookImage(7L, file, principal))
-                    .isInstanceOf(RuntimeException.class);
+            ResponseEntity<BookResponseDto> result = controller.uploadBookImage(7L, file, principal);
 
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(response);
+            verify(bookService, never()).getBookEntityById(any());
         }
+    }
+
+    // POST /books/{bookId}/image/upload-url and /complete
+
+    @Nested
+    @DisplayName("POST /books/{bookId}/image/upload-url")
+    class CreateImageUploadUrl {
 
         @Test
-        @DisplayName("exception after upload: no cleanup when stored objectKey is blank")
-        void noCleanupWhenStoredObjectKeyIsBlank() {
+        @DisplayName("checks ownership and returns the upload ticket")
+        void returnsTicket() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook(null);
-            // Simulate a stored result where objectKey is blank (defensive branch L144)
-            FileStorageService.StoredFileResult storedWithBlankKey =
-                    new FileStorageService.StoredFileResult("   ", "http://url", "image/jpeg", 1024L);
+            ImageUploadRequestDto request = new ImageUploadRequestDto();
+            request.setContentType("image/png");
+            request.setSize(2048L);
+            ImageUploadTicketDto ticket = new ImageUploadTicketDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file)).thenReturn(storedWithBlankKey);
-            when(bookService.updateBookImageMetadata(any(), any(), any(), any(), any()))
-                    .thenThrow(new RuntimeException("DB failure"));
+            when(fileStorageService.createDirectUpload(7L, "image/png", 2048L)).thenReturn(ticket);
 
-            assertThatThrownBy(() -> controller.uploadBookImage(7L, file, principal))
-                    .isInstanceOf(RuntimeException.class);
+            ResponseEntity<ImageUploadTicketDto> result =
+                    controller.createImageUploadUrl(7L, request, principal);
 
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+            assertThat(result.getBody()).isSameAs(ticket);
+            verify(bookService).verifyBookOwnerOrAdmin(7L, userEntity);
         }
+    }
+
+    @Nested
+    @DisplayName("POST /books/{bookId}/image/complete")
+    class CompleteImageUpload {
 
         @Test
-        @DisplayName("exception before upload: no cleanup is performed")
-        void noCleanupWhenUploadItselffails() {
+        @DisplayName("attaches the verified object")
+        void attachesVerifiedObject() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            MultipartFile file = mock(MultipartFile.class);
-            Book existing = buildBook(null);
+            ImageUploadCompleteRequestDto request = new ImageUploadCompleteRequestDto();
+            request.setObjectKey("books/direct/7/new.jpg");
+            BookResponseDto response = new BookResponseDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(7L)).thenReturn(existing);
-            when(fileStorageService.uploadBookImage(file))
-                    .thenThrow(new RuntimeException("MinIO unavailable"));
+            when(bookImageService.completeDirectUpload(7L, "books/direct/7/new.jpg", userEntity))
+                    .thenReturn(response);
 
-            assertThatThrownBy(() -> controller.uploadBookImage(7L, file, principal))
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessageContaining("MinIO unavailable");
+            ResponseEntity<BookResponseDto> result =
+                    controller.completeImageUpload(7L, request, principal);
 
-            // storedFile was never assigned — deleteObjectQuietly must not be called
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+            assertThat(result.getBody()).isSameAs(response);
         }
     }
 
@@ -479,54 +476,19 @@ class BookControllerTest {
     class DeleteBookImage {
 
         @Test
-        @DisplayName("returns 200, clears metadata and deletes image from storage")
-        void returns200AndDeletesImage() {
+        @DisplayName("returns 200 with the listing after the image is removed")
+        void returns200() {
             CustomUserDetails principal = buildPrincipal(1L, Role.USER);
             User userEntity = buildUser(1L, Role.USER);
-            Book existing = buildBook("books/cover.jpg");
             BookResponseDto response = new BookResponseDto();
 
             when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(9L)).thenReturn(existing);
-            when(bookService.clearBookImageMetadata(9L, userEntity)).thenReturn(response);
+            when(bookImageService.removeImage(9L, userEntity)).thenReturn(response);
 
             ResponseEntity<BookResponseDto> result = controller.deleteBookImage(9L, principal);
 
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(result.getBody()).isSameAs(response);
-            verify(fileStorageService).deleteObjectQuietly("books/cover.jpg");
-        }
-
-        @Test
-        @DisplayName("returns 200 but skips storage deletion when old key is null")
-        void skipsStorageDeletionWhenKeyIsNull() {
-            CustomUserDetails principal = buildPrincipal(1L, Role.USER);
-            User userEntity = buildUser(1L, Role.USER);
-            Book existing = buildBook(null);
-
-            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(9L)).thenReturn(existing);
-            when(bookService.clearBookImageMetadata(9L, userEntity)).thenReturn(new BookResponseDto());
-
-            controller.deleteBookImage(9L, principal);
-
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
-        }
-
-        @Test
-        @DisplayName("returns 200 but skips storage deletion when old key is blank")
-        void skipsStorageDeletionWhenKeyIsBlank() {
-            CustomUserDetails principal = buildPrincipal(1L, Role.USER);
-            User userEntity = buildUser(1L, Role.USER);
-            Book existing = buildBook("   ");
-
-            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
-            when(bookService.getBookEntityById(9L)).thenReturn(existing);
-            when(bookService.clearBookImageMetadata(9L, userEntity)).thenReturn(new BookResponseDto());
-
-            controller.deleteBookImage(9L, principal);
-
-            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
         }
     }
 }
@@ -0,0 +1,111 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.UserRepository;
+import at.technikum.springrestbackend.service.FileStorageService;
+import at.technikum.springrestbackend.service.ImageCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("GET /books/{bookId}/image (integration — cache, ETag, Range)")
+class BookImageIntegrationTest {
+
+    private static final String OBJECT_KEY = "books/cover-integration.png";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(buildUser("image_owner"));
+        Book book = buildBooks(owner, 1).get(0);
+        book.setImageObjectKey(OBJECT_KEY);
+        book.setImageContentType("image/png");
+        bookId = bookRepository.save(book).getId();
+        doAnswer(invocation -> Files.writeString(invocation.getArgument(1), "0123456789"))
+                .when(fileStorageService).downloadObject(eq(OBJECT_KEY), any(Path.class));
+    }
+
+    @Test
+    @DisplayName("streams the image with ETag and cache headers")
+    void servesImage() throws Exception {
+        mockMvc.perform(get("/books/{bookId}/image", bookId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        "\"" + ImageCacheService.cacheKey(OBJECT_KEY) + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    @DisplayName("answers Range requests with partial content")
+    void servesRange() throws Exception {
+        mockMvc.perform(get("/books/{bookId}/image", bookId).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("answers a matching If-None-Match with 304 without fetching the object")
+    void returnsNotModified() throws Exception {
+        String etag = "\"" + ImageCacheService.cacheKey(OBJECT_KEY) + "\"";
+
+        mockMvc.perform(get("/books/{bookId}/image", bookId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(fileStorageService, never()).downloadObject(any(), any());
+    }
+
+    @Test
+    @DisplayName("returns 404 when the listing has no image")
+    void returnsNotFoundWithoutImage() throws Exception {
+        Book book = bookRepository.findById(bookId).orElseThrow();
+        book.setImageObjectKey(null);
+        bookRepository.save(book);
+
+        mockMvc.perform(get("/books/{bookId}/image", bookId))
+                .andExpect(status().isNotFound());
+    }
+}
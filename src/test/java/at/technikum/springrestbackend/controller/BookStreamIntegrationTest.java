@@ -0,0 +1,105 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.service.BookStreamService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("GET /books/stream (integration — SSE feed)")
+class BookStreamIntegrationTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookStreamService bookStreamService;
+
+    private static BookSnapshot buildBook(long id, ExchangeType exchangeType,
+                                          ListingStatus status) {
+        return new BookSnapshot(id, 1L, "Book " + id, "Author", "en", BookCondition.GOOD,
+                exchangeType, status, LocalDateTime.now());
+    }
+
+    private MvcResult openStream(String lastEventId) throws Exception {
+        var builder = get("/books/stream").param("exchangeType", "GIVEAWAY")
+                .accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    /**
+     * Events are written by sender threads, so wait until the expected text arrived.
+     */
+    private static String awaitContent(MockHttpServletResponse response, String expected)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!response.getContentAsString().contains(expected)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return response.getContentAsString();
+    }
+
+    @Test
+    @DisplayName("is public and pushes matching changes, including listings leaving the filter")
+    void pushesMatchingChanges() throws Exception {
+        MvcResult result = openStream(null);
+        BookSnapshot giveaway = buildBook(900_001L, ExchangeType.GIVEAWAY,
+                ListingStatus.AVAILABLE);
+
+        bookStreamService.onBookChanged(BookChangedEvent.created(giveaway));
+        bookStreamService.onBookChanged(BookChangedEvent.created(buildBook(
+                900_002L, ExchangeType.EXCHANGE_ONLY, ListingStatus.AVAILABLE)));
+        bookStreamService.onBookChanged(BookChangedEvent.updated(giveaway, buildBook(
+                900_001L, ExchangeType.EXCHANGE_ONLY, ListingStatus.RESERVED)));
+
+        String content = awaitContent(result.getResponse(), "event:STATUS_CHANGED");
+        assertThat(result.getResponse().getContentType()).startsWith("text/event-stream");
+        assertThat(content).contains("event:CREATED", "\"bookId\":900001",
+                "event:STATUS_CHANGED", "\"status\":\"RESERVED\"");
+        assertThat(content).doesNotContain("900002");
+    }
+
+    @Test
+    @DisplayName("resumes after Last-Event-ID with the changes the client missed")
+    void resumesAfterLastEventId() throws Exception {
+        MvcResult first = openStream(null);
+        bookStreamService.onBookChanged(BookChangedEvent.created(buildBook(
+                900_011L, ExchangeType.GIVEAWAY, ListingStatus.AVAILABLE)));
+        Matcher id = Pattern.compile("id:(\\S+)\\nevent:CREATED\\ndata:.*900011")
+                .matcher(awaitContent(first.getResponse(), "900011"));
+        assertThat(id.find()).isTrue();
+        bookStreamService.onBookChanged(BookChangedEvent.deleted(buildBook(
+                900_012L, ExchangeType.GIVEAWAY, ListingStatus.AVAILABLE)));
+
+        MvcResult resumed = openStream(id.group(1));
+
+        String content = awaitContent(resumed.getResponse(), "900012");
+        assertThat(content).contains("event:DELETED").doesNotContain("900011");
+    }
+}
@@ -8,7 +8,10 @@ import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.security.CustomUserDetails;
 import at.technikum.springrestbackend.service.CommentService;
+import at.technikum.springrestbackend.service.CommentStreamService;
 import at.technikum.springrestbackend.service.UserService;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -33,6 +37,9 @@ class CommentControllerTest {
     @Mock
     private CommentService commentService;
 
+    @Mock
+    private CommentStreamService commentStreamService;
+
     @Mock
     private UserService userService;
 
@@ -74,6 +81,24 @@ class CommentControllerTest {
         }
     }
 
+    //  streamCommentsForBook
+
+    @Nested
+    @DisplayName("GET /comments/book/{bookId}/stream")
+    class StreamCommentsForBook {
+
+        @Test
+        @DisplayName("returns the emitter subscribed to the book with Last-Event-ID")
+        void returnsSubscribedEmitter() {
+            SseEmitter emitter = new SseEmitter();
+            when(commentStreamService.subscribe(10L, "42")).thenReturn(emitter);
+
+            SseEmitter result = controller.streamCommentsForBook(10L, "42");
+
+            assertThat(result).isSameAs(emitter);
+        }
+    }
+
     //  getMyComments
 
     @Nested
@@ -154,6 +179,29 @@ class CommentControllerTest {
         }
     }
 
+    //  patchComment
+
+    @Nested
+    @DisplayName("PATCH /comments/{commentId}")
+    class PatchComment {
+
+        @Test
+        @DisplayName("returns 200 OK with the patched comment")
+        void returns200ForAuthenticatedUser() {
+            CustomUserDetails principal = buildPrincipal(1L);
+            User userEntity = buildUser(1L);
+            ObjectNode patch = JsonNodeFactory.instance.objectNode().put("content", "Edited");
+            CommentResponseDto dto = new CommentResponseDto();
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+            when(commentService.patchComment(3L, patch, userEntity)).thenReturn(dto);
+
+            ResponseEntity<CommentResponseDto> result = controller.patchComment(3L, patch, principal);
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(dto);
+        }
+    }
+
     //  deleteComment
 
     @Nested
@@ -0,0 +1,134 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.Comment;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.CommentChangedEvent;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.CommentRepository;
+import at.technikum.springrestbackend.repository.UserRepository;
+import at.technikum.springrestbackend.service.CommentStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.temporal.ChronoUnit;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("GET /comments/book/{bookId}/stream (integration — SSE catch-up)")
+class CommentStreamIntegrationTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentStreamService commentStreamService;
+
+    private User author;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(buildUser("stream_author"));
+        book = bookRepository.save(buildBooks(author, 1).get(0));
+    }
+
+    private static String position(Comment comment) {
+        return comment.getCreatedAt().truncatedTo(ChronoUnit.MICROS) + "_" + comment.getId();
+    }
+
+    private Comment saveComment(String content) {
+        Comment comment = new Comment();
+        comment.setContent(content);
+        comment.setBook(book);
+        comment.setAuthor(author);
+        return commentRepository.saveAndFlush(comment);
+    }
+
+    /**
+     * Events are written by sender threads, so wait until the expected text arrived.
+     */
+    private static String awaitContent(MockHttpServletResponse response, String expected)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!response.getContentAsString().contains(expected)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return response.getContentAsString();
+    }
+
+    @Test
+    @DisplayName("sends the comments after Last-Event-ID, then live changes")
+    void catchesUpThenStreams() throws Exception {
+        Comment seen = saveComment("seen");
+        Comment missed = saveComment("missed");
+
+        MvcResult result = mockMvc.perform(get("/comments/book/{bookId}/stream", book.getId())
+                        .header("Last-Event-ID", position(seen)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        CommentResponseDto edited = new CommentResponseDto();
+        edited.setId(missed.getId());
+        edited.setBookId(book.getId());
+        edited.setContent("edited");
+        commentStreamService.onCommentChanged(CommentChangedEvent.updated(edited));
+
+        String content = awaitContent(result.getResponse(), "edited");
+        assertThat(content).contains("id:" + position(missed) + "\nevent:CREATED",
+                "\"content\":\"missed\"", "event:UPDATED");
+        assertThat(content).doesNotContain("\"content\":\"seen\"");
+        assertThat(content.indexOf("missed")).isLessThan(content.indexOf("edited"));
+    }
+
+    @Test
+    @DisplayName("asks the client to reload when a comment may have committed after its position")
+    void resetsWhenGapIsUnknown() throws Exception {
+        // Created first but, as far as the stream can tell, possibly committed after "seen"
+        saveComment("late");
+        Comment seen = saveComment("seen");
+
+        MvcResult result = mockMvc.perform(get("/comments/book/{bookId}/stream", book.getId())
+                        .header("Last-Event-ID", position(seen)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitContent(result.getResponse(), "event:reset");
+        assertThat(content).contains("event:reset").doesNotContain("\"content\":\"late\"");
+    }
+
+    @Test
+    @DisplayName("returns 404 for listings that are not public")
+    void rejectsUnknownListing() throws Exception {
+        mockMvc.perform(get("/comments/book/{bookId}/stream", 987_654L))
+                .andExpect(status().isNotFound());
+    }
+}
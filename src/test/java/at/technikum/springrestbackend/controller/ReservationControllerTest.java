@@ -0,0 +1,117 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.ReservationResponseDto;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.ReservationService;
+import at.technikum.springrestbackend.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationController")
+class ReservationControllerTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private ReservationController controller;
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@test.com");
+        user.setUsername("user_" + id);
+        user.setPasswordHash("hash");
+        user.setCountryCode("AT");
+        user.setRole(Role.USER);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private CustomUserDetails buildPrincipal(Long id) {
+        return new CustomUserDetails(buildUser(id));
+    }
+
+    //  reserve
+
+    @Nested
+    class Reserve {
+
+        @Test
+        @DisplayName("returns 200 OK when the listing was reserved")
+        void returns200WhenReserved() {
+            User userEntity = buildUser(1L);
+            ReservationResponseDto response =
+                    ReservationResponseDto.reserved(5L, LocalDateTime.now());
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+            when(reservationService.reserve(5L, userEntity)).thenReturn(response);
+
+            ResponseEntity<ReservationResponseDto> result =
+                    controller.reserve(5L, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(response);
+        }
+
+        @Test
+        @DisplayName("returns 202 ACCEPTED when the caller was waitlisted")
+        void returns202WhenWaitlisted() {
+            User userEntity = buildUser(1L);
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+            when(reservationService.reserve(5L, userEntity))
+                    .thenReturn(ReservationResponseDto.waitlisted(5L, 3));
+
+            ResponseEntity<ReservationResponseDto> result =
+                    controller.reserve(5L, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(result.getBody().getWaitlistPosition()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when principal is null")
+        void throwsForNullPrincipal() {
+            assertThatThrownBy(() -> controller.reserve(5L, null))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    //  cancel
+
+    @Nested
+    class Cancel {
+
+        @Test
+        @DisplayName("returns 204 NO CONTENT after cancelling")
+        void returns204() {
+            User userEntity = buildUser(1L);
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+
+            ResponseEntity<Void> result = controller.cancel(5L, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(reservationService).cancel(5L, userEntity);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.SavedSearchRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchResponseDto;
+import at.technikum.springrestbackend.dto.SearchNotificationDto;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.SavedSearchService;
+import at.technikum.springrestbackend.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SavedSearchController")
+class SavedSearchControllerTest {
+
+    @Mock
+    private SavedSearchService savedSearchService;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private SavedSearchController controller;
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@test.com");
+        user.setUsername("user_" + id);
+        user.setPasswordHash("hash");
+        user.setCountryCode("AT");
+        user.setRole(Role.USER);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private CustomUserDetails buildPrincipal(Long id) {
+        return new CustomUserDetails(buildUser(id));
+    }
+
+    private User stubCurrentUser() {
+        User userEntity = buildUser(1L);
+        when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+        return userEntity;
+    }
+
+    @Nested
+    class SavedSearches {
+
+        @Test
+        @DisplayName("GET returns 200 OK with the caller's saved searches")
+        void returns200ForList() {
+            User userEntity = stubCurrentUser();
+            List<SavedSearchResponseDto> searches = List.of(new SavedSearchResponseDto());
+            when(savedSearchService.getSavedSearchesOfUser(userEntity)).thenReturn(searches);
+
+            ResponseEntity<List<SavedSearchResponseDto>> result =
+                    controller.getMySavedSearches(buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isEqualTo(searches);
+        }
+
+        @Test
+        @DisplayName("POST returns 201 CREATED with the saved search")
+        void returns201ForCreate() {
+            User userEntity = stubCurrentUser();
+            SavedSearchRequestDto request = new SavedSearchRequestDto();
+            SavedSearchResponseDto response = new SavedSearchResponseDto();
+            when(savedSearchService.createSavedSearch(request, userEntity)).thenReturn(response);
+
+            ResponseEntity<SavedSearchResponseDto> result =
+                    controller.createSavedSearch(request, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(result.getBody()).isSameAs(response);
+        }
+
+        @Test
+        @DisplayName("DELETE returns 204 NO CONTENT")
+        void returns204ForDelete() {
+            User userEntity = stubCurrentUser();
+
+            ResponseEntity<Void> result = controller.deleteSavedSearch(4L, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(savedSearchService).deleteSavedSearch(4L, userEntity);
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when principal is null")
+        void throwsForNullPrincipal() {
+            assertThatThrownBy(() -> controller.getMySavedSearches(null))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    class Notifications {
+
+        @Test
+        @DisplayName("GET returns 200 OK with a page of the caller's feed")
+        void returns200ForFeed() {
+            User userEntity = stubCurrentUser();
+            PageRequest pageable = PageRequest.of(0, 20);
+            Page<SearchNotificationDto> page = new PageImpl<>(List.of(new SearchNotificationDto()));
+            when(savedSearchService.getNotifications(userEntity, pageable)).thenReturn(page);
+
+            ResponseEntity<Page<SearchNotificationDto>> result =
+                    controller.getMyNotifications(buildPrincipal(1L), pageable);
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(page);
+        }
+
+        @Test
+        @DisplayName("DELETE returns 204 NO CONTENT after clearing the feed")
+        void returns204ForClear() {
+            User userEntity = stubCurrentUser();
+
+            ResponseEntity<Void> result = controller.clearMyNotifications(buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(savedSearchService).clearNotifications(userEntity);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.dto.SyncPageDto;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.SyncService;
+import at.technikum.springrestbackend.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncController")
+class SyncControllerTest {
+
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private SyncController controller;
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@test.com");
+        user.setUsername("user_" + id);
+        user.setPasswordHash("hash");
+        user.setCountryCode("AT");
+        user.setRole(Role.USER);
+        user.setEnabled(true);
+        return user;
+    }
+
+    @Test
+    @DisplayName("GET /sync/books returns 200 OK with the page for the token")
+    void returns200ForBooks() {
+        SyncPageDto<BookResponseDto> page = new SyncPageDto<>();
+        when(syncService.getBookChanges("token")).thenReturn(page);
+
+        ResponseEntity<SyncPageDto<BookResponseDto>> result = controller.syncBooks("token");
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("GET /sync/comments returns 200 OK with the caller's comment changes")
+    void returns200ForComments() {
+        User userEntity = buildUser(1L);
+        when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+        SyncPageDto<CommentResponseDto> page = new SyncPageDto<>();
+        when(syncService.getCommentChangesOfUser(userEntity, null)).thenReturn(page);
+
+        ResponseEntity<SyncPageDto<CommentResponseDto>> result =
+                controller.syncMyComments(null, new CustomUserDetails(buildUser(1L)));
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("GET /sync/comments throws BadRequestException without a principal")
+    void throwsWithoutPrincipal() {
+        assertThatThrownBy(() -> controller.syncMyComments(null, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
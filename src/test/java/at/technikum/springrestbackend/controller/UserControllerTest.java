@@ -7,6 +7,8 @@ import at.technikum.springrestbackend.entity.User;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.security.CustomUserDetails;
 import at.technikum.springrestbackend.service.UserService;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -109,4 +111,27 @@ class UserControllerTest {
                     .isInstanceOf(BadRequestException.class);
         }
     }
+
+    //  patchCurrentUserProfile
+
+    @Nested
+    @DisplayName("PATCH /users/me")
+    class PatchCurrentUserProfile {
+
+        @Test
+        @DisplayName("returns 200 with the patched profile")
+        void returns200ForAuthenticatedUser() {
+            CustomUserDetails principal = buildPrincipal(2L);
+            User userEntity = buildUser(2L);
+            ObjectNode patch = JsonNodeFactory.instance.objectNode().putNull("profilePictureUrl");
+            UserResponseDto dto = new UserResponseDto();
+            when(userService.getUserEntityById(2L)).thenReturn(userEntity);
+            when(userService.patchCurrentUserProfile(patch, userEntity)).thenReturn(dto);
+
+            ResponseEntity<UserResponseDto> result = controller.patchCurrentUserProfile(patch, principal);
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isSameAs(dto);
+        }
+    }
 }
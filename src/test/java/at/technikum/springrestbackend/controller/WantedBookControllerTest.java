@@ -0,0 +1,144 @@
+package at.technikum.springrestbackend.controller;
+
+import at.technikum.springrestbackend.dto.ExchangeMatchDto;
+import at.technikum.springrestbackend.dto.ExchangeMatchType;
+import at.technikum.springrestbackend.dto.WantedBookRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookResponseDto;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import at.technikum.springrestbackend.service.ExchangeMatchingService;
+import at.technikum.springrestbackend.service.UserService;
+import at.technikum.springrestbackend.service.WantedBookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WantedBookController")
+class WantedBookControllerTest {
+
+    @Mock
+    private WantedBookService wantedBookService;
+
+    @Mock
+    private ExchangeMatchingService exchangeMatchingService;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private WantedBookController controller;
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@test.com");
+        user.setUsername("user_" + id);
+        user.setPasswordHash("hash");
+        user.setCountryCode("AT");
+        user.setRole(Role.USER);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private CustomUserDetails buildPrincipal(Long id) {
+        return new CustomUserDetails(buildUser(id));
+    }
+
+    @Nested
+    class GetMyWantedBooks {
+
+        @Test
+        @DisplayName("returns 200 OK with the caller's wanted books")
+        void returns200() {
+            User userEntity = buildUser(1L);
+            List<WantedBookResponseDto> wanted = List.of(new WantedBookResponseDto());
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+            when(wantedBookService.getWantedBooksOfUser(userEntity)).thenReturn(wanted);
+
+            ResponseEntity<List<WantedBookResponseDto>> result =
+                    controller.getMyWantedBooks(buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isEqualTo(wanted);
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when principal is null")
+        void throwsForNullPrincipal() {
+            assertThatThrownBy(() -> controller.getMyWantedBooks(null))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    class AddWantedBook {
+
+        @Test
+        @DisplayName("returns 201 CREATED with the saved wanted book")
+        void returns201() {
+            User userEntity = buildUser(1L);
+            WantedBookRequestDto request = new WantedBookRequestDto();
+            WantedBookResponseDto response = new WantedBookResponseDto();
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+            when(wantedBookService.addWantedBook(request, userEntity)).thenReturn(response);
+
+            ResponseEntity<WantedBookResponseDto> result =
+                    controller.addWantedBook(request, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(result.getBody()).isSameAs(response);
+        }
+    }
+
+    @Nested
+    class RemoveWantedBook {
+
+        @Test
+        @DisplayName("returns 204 NO CONTENT after removal")
+        void returns204() {
+            User userEntity = buildUser(1L);
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+
+            ResponseEntity<Void> result = controller.removeWantedBook(4L, buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(wantedBookService).removeWantedBook(4L, userEntity);
+        }
+    }
+
+    @Nested
+    class GetMyMatches {
+
+        @Test
+        @DisplayName("returns 200 OK with the caller's exchange matches")
+        void returns200() {
+            User userEntity = buildUser(1L);
+            List<ExchangeMatchDto> matches =
+                    List.of(new ExchangeMatchDto(ExchangeMatchType.DIRECT, List.of()));
+            when(userService.getUserEntityById(1L)).thenReturn(userEntity);
+            when(exchangeMatchingService.findMatches(userEntity)).thenReturn(matches);
+
+            ResponseEntity<List<ExchangeMatchDto>> result =
+                    controller.getMyMatches(buildPrincipal(1L));
+
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isEqualTo(matches);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package at.technikum.springrestbackend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how long public requests wait for a connection while admin exports hold
+ * connections, once with a single shared pool and once with a separate admin pool.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark — admin pool isolation")
+class AdminPoolIsolationBenchmarkTest {
+
+    private static final String URL = "jdbc:h2:mem:pool-benchmark;DB_CLOSE_DELAY=-1";
+    private static final int EXPORTS = 4;
+    private static final long EXPORT_HOLD_MS = 400;
+    private static final int PUBLIC_REQUESTS = 40;
+
+    @Test
+    @DisplayName("admin exports no longer delay public connection acquisition")
+    void comparesSharedAndSeparatePools() throws Exception {
+        try (HikariDataSource shared = pool("shared", EXPORTS);
+             HikariDataSource application = pool("application", EXPORTS);
+             HikariDataSource admin = pool("admin", 2)) {
+            double sharedWaitMs = maxPublicWaitMs(shared, shared);
+            double isolatedWaitMs = maxPublicWaitMs(
+                    application, new AdminPoolRoutingDataSource(application, admin));
+
+            System.out.printf("max public connection wait: shared=%.1f ms, separate=%.1f ms%n",
+                    sharedWaitMs, isolatedWaitMs);
+            assertThat(isolatedWaitMs).isLessThan(sharedWaitMs);
+        }
+    }
+
+    private static HikariDataSource pool(final String name, final int size) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("benchmark-" + name);
+        dataSource.setJdbcUrl(URL);
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setMinimumIdle(size);
+        dataSource.setConnectionTimeout(10_000);
+        return dataSource;
+    }
+
+    private static double maxPublicWaitMs(
+            final DataSource publicPool,
+            final DataSource exportPool
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(EXPORTS + 1);
+        try {
+            CountDownLatch exportsStarted = new CountDownLatch(EXPORTS);
+            List<Future<?>> exports = new ArrayList<>();
+            for (int i = 0; i < EXPORTS; i++) {
+                exports.add(executor.submit(() -> runExport(exportPool, exportsStarted)));
+            }
+            exportsStarted.await();
+            double maxWaitMs = 0;
+            for (int i = 0; i < PUBLIC_REQUESTS; i++) {
+                long start = System.nanoTime();
+                try (Connection connection = publicPool.getConnection();
+                     Statement statement = connection.createStatement()) {
+                    maxWaitMs = Math.max(maxWaitMs, (System.nanoTime() - start) / 1_000_000.0);
+                    statement.execute("SELECT 1");
+                }
+            }
+            for (Future<?> export : exports) {
+                export.get();
+            }
+            return maxWaitMs;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Void runExport(final DataSource dataSource, final CountDownLatch started)
+            throws SQLException, InterruptedException {
+        AdminPoolContext.enter();
+        try (Connection connection = dataSource.getConnection()) {
+            started.countDown();
+            Thread.sleep(EXPORT_HOLD_MS);
+            return null;
+        } finally {
+            AdminPoolContext.clear();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package at.technikum.springrestbackend.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.Connection;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AdminPoolRoutingDataSource")
+class AdminPoolRoutingDataSourceTest {
+
+    private final DataSource application = mock(DataSource.class);
+    private final DataSource admin = mock(DataSource.class);
+    private final Connection applicationConnection = mock(Connection.class);
+    private final Connection adminConnection = mock(Connection.class);
+    private AdminPoolRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new AdminPoolRoutingDataSource(application, admin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AdminPoolContext.clear();
+    }
+
+    @Test
+    @DisplayName("uses the application pool by default")
+    void usesApplicationPool() throws Exception {
+        when(application.getConnection()).thenReturn(applicationConnection);
+
+        assertThat(routing.getConnection()).isSameAs(applicationConnection);
+    }
+
+    @Test
+    @DisplayName("uses the admin pool for the duration of an intercepted request")
+    void usesAdminPoolDuringRequest() throws Exception {
+        when(admin.getConnection()).thenReturn(adminConnection);
+        when(application.getConnection()).thenReturn(applicationConnection);
+        AdminPoolInterceptor interceptor = new AdminPoolInterceptor();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/books");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        assertThat(routing.getConnection()).isSameAs(adminConnection);
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(routing.getConnection()).isSameAs(applicationConnection);
+    }
+}
@@ -0,0 +1,78 @@
+package at.technikum.springrestbackend.datasource;
+
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesInterceptor")
+class ReadYourWritesInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private ReadYourWritesInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ReadYourWritesInterceptor(new ConcurrentMapCache("recentWriters"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ReadRoutingContext.clear();
+    }
+
+    private void authenticate(final long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setRole(Role.USER);
+        CustomUserDetails details = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+    }
+
+    private boolean primaryForcedFor(final String method) {
+        ReadRoutingContext.clear();
+        interceptor.preHandle(new MockHttpServletRequest(method, "/books"), response, null);
+        return ReadRoutingContext.isPrimaryForced();
+    }
+
+    @Test
+    @DisplayName("keeps writing requests on the primary")
+    void forcesPrimaryForWrites() {
+        assertThat(primaryForcedFor("POST")).isTrue();
+    }
+
+    @Test
+    @DisplayName("keeps a user's reads on the primary after their own write")
+    void keepsWriterOnPrimary() {
+        authenticate(1L);
+        assertThat(primaryForcedFor("GET")).isFalse();
+
+        primaryForcedFor("POST");
+
+        assertThat(primaryForcedFor("GET")).isTrue();
+        authenticate(2L);
+        assertThat(primaryForcedFor("GET")).isFalse();
+    }
+
+    @Test
+    @DisplayName("resets the routing override after the request")
+    void clearsAfterCompletion() {
+        primaryForcedFor("DELETE");
+
+        interceptor.afterCompletion(new MockHttpServletRequest(), response, null, null);
+
+        assertThat(ReadRoutingContext.isPrimaryForced()).isFalse();
+    }
+}
@@ -0,0 +1,180 @@
+package at.technikum.springrestbackend.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private Replica firstReplica;
+    private Replica secondReplica;
+    private ReplicaRoutingDataSource routing;
+
+    private static DataSource database(final String name, final String lag) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20), lag INT)");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node VALUES (?, ?)", name, lag == null ? null : Integer.valueOf(lag));
+        return dataSource;
+    }
+
+    private static String nodeName(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new JdbcTemplate(new org.springframework.jdbc.datasource
+                    .SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+
+    private ReplicaHealthMonitor monitor(final double maxLag) {
+        return new ReplicaHealthMonitor(routing, "SELECT lag FROM node", "lag", maxLag, 1);
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary", "0");
+        firstReplica = new Replica("replica-1", database("replica1", "1"));
+        secondReplica = new Replica("replica-2", database("replica2", "1"));
+        routing = new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadRoutingContext.clear();
+    }
+
+    @Nested
+    @DisplayName("routing")
+    class Routing {
+
+        @Test
+        @DisplayName("sends read-write connections to the primary")
+        void writesGoToPrimary() throws Exception {
+            monitor(5).checkReplicas();
+
+            assertThat(nodeName(routing)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("spreads read-only connections over healthy replicas")
+        void readsGoToReplicas() throws Exception {
+            monitor(5).checkReplicas();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(List.of(nodeName(routing), nodeName(routing)))
+                    .containsExactlyInAnyOrder("replica1", "replica2");
+        }
+
+        @Test
+        @DisplayName("falls back to the primary when every replica lags too far behind")
+        void skipsLaggingReplicas() throws Exception {
+            monitor(0.5).checkReplicas();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(nodeName(routing)).isEqualTo("primary");
+            assertThat(firstReplica.getLagSeconds()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("keeps reads on the primary while the context forces it")
+        void honoursForcedPrimary() throws Exception {
+            monitor(5).checkReplicas();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            ReadRoutingContext.forcePrimary();
+
+            assertThat(nodeName(routing)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("routes read-only transactions once they start behind the lazy proxy")
+        void routesTransactionsBehindLazyProxy() {
+            monitor(5).checkReplicas();
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            TransactionTemplate readOnly =
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+
+            String node = readOnly.execute(status -> new JdbcTemplate(dataSource)
+                    .queryForObject("SELECT name FROM node", String.class));
+
+            assertThat(node).startsWith("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class Failures {
+
+        @Test
+        @DisplayName("falls back to the primary and drops a replica that refuses connections")
+        void fallsBackOnConnectionFailure() throws Exception {
+            DataSource broken = mock(DataSource.class);
+            when(broken.getConnection()).thenThrow(new SQLException("down"));
+            Replica replica = new Replica("replica-1", broken);
+            replica.update(true, 0);
+            routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(nodeName(routing)).isEqualTo("primary");
+            assertThat(replica.isUsable()).isFalse();
+        }
+
+        @Test
+        @DisplayName("marks replicas with stopped replication as unusable")
+        void rejectsUnknownLag() {
+            routing = new ReplicaRoutingDataSource(
+                    primary, List.of(new Replica("replica-3", database("replica3", null))));
+
+            monitor(5).checkReplicas();
+
+            assertThat(routing.getReplicas().get(0).isUsable()).isFalse();
+        }
+
+        @Test
+        @DisplayName("marks replicas whose health query fails as unusable")
+        void rejectsFailingHealthQuery() {
+            new ReplicaHealthMonitor(routing, "SELECT missing FROM node", "lag", 5, 1)
+                    .checkReplicas();
+
+            assertThat(firstReplica.isUsable()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("publishes reads per target and replica state")
+    void publishesMetrics() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        routing.bindTo(registry);
+        monitor(5).checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        nodeName(routing);
+
+        assertThat(registry.get("datasource.reads").tag("target", "replica")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("datasource.replica.usable").tag("replica", "replica-1")
+                .gauge().value()).isEqualTo(1);
+    }
+}
@@ -11,8 +11,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -122,6 +124,49 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    //  handleConcurrentModification  →  409
+
+    @Nested
+    @DisplayName("handleConcurrentModification → 409 Conflict")
+    class HandleConcurrentModification {
+
+        @Test
+        @DisplayName("returns 409 asking the client to retry")
+        void returns409() {
+            HttpServletRequest req = mockRequest("/books/7/image");
+            ObjectOptimisticLockingFailureException ex =
+                    new ObjectOptimisticLockingFailureException("Book", 7L);
+
+            ResponseEntity<ApiErrorResponse> response =
+                    handler.handleConcurrentModification(ex, req);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(response.getBody().getMessage()).contains("modified concurrently");
+        }
+    }
+
+    //  handleServiceUnavailable  →  503
+
+    @Nested
+    @DisplayName("handleServiceUnavailable → 503 Service Unavailable")
+    class HandleServiceUnavailable {
+
+        @Test
+        @DisplayName("returns 503 with the exception message")
+        void returns503WithMessage() {
+            HttpServletRequest req = mockRequest("/books/1/image");
+            ServiceUnavailableException ex =
+                    new ServiceUnavailableException("Image storage is busy, please retry shortly", 30);
+
+            ResponseEntity<ApiErrorResponse> response = handler.handleServiceUnavailable(ex, req);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getBody().getStatus()).isEqualTo(503);
+            assertThat(response.getBody().getMessage()).contains("busy");
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        }
+    }
+
    //  handleForbiddenOperation  →  403
 
     @Nested
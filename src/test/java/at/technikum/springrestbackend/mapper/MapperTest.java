@@ -2,23 +2,35 @@ package at.technikum.springrestbackend.mapper;
 
 import at.technikum.springrestbackend.dto.BookCreateRequestDto;
 import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.BookStreamEventDto;
+import at.technikum.springrestbackend.dto.BookStreamEventType;
 import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
 import at.technikum.springrestbackend.dto.CommentCreateRequestDto;
 import at.technikum.springrestbackend.dto.CommentResponseDto;
 import at.technikum.springrestbackend.dto.CommentUpdateRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchResponseDto;
+import at.technikum.springrestbackend.dto.SearchNotificationDto;
 import at.technikum.springrestbackend.dto.UserResponseDto;
 import at.technikum.springrestbackend.dto.UserUpdateRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookResponseDto;
 import at.technikum.springrestbackend.entity.Book;
 import at.technikum.springrestbackend.entity.BookCondition;
 import at.technikum.springrestbackend.entity.Comment;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
 import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.SavedSearch;
+import at.technikum.springrestbackend.entity.SearchNotification;
 import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.entity.WantedBook;
+import at.technikum.springrestbackend.event.BookSnapshot;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -170,7 +182,7 @@ class MapperTest {
             User owner = buildUser(2L, "owner@test.com");
             Book book = buildBook(10L, owner);
             book.setLanguage("English");
-            book.setImageUrl("http://example.com/img.jpg");
+            book.setImageObjectKey("books/img.jpg");
             book.setImageContentType("image/jpeg");
 
             BookResponseDto dto = mapper.toResponseDto(book);
@@ -178,7 +190,7 @@ class MapperTest {
             assertThat(dto.getId()).isEqualTo(10L);
             assertThat(dto.getTitle()).isEqualTo("Book 10");
             assertThat(dto.getLanguage()).isEqualTo("English");
-            assertThat(dto.getImageUrl()).isEqualTo("http://example.com/img.jpg");
+            assertThat(dto.getImageUrl()).isNull();
             assertThat(dto.getOwnerId()).isEqualTo(2L);
             assertThat(dto.getOwnerUsername()).isEqualTo("user_2");
         }
@@ -189,6 +201,29 @@ class MapperTest {
             assertThat(mapper.toResponseDto(null)).isNull();
         }
 
+        @Test
+        @DisplayName("toStreamEventDto: maps the snapshot with the event type, null-safe")
+        void toStreamEventDto_mapsSnapshot() {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            BookSnapshot snapshot = new BookSnapshot(10L, 2L, "Dune", "Herbert", "en",
+                    BookCondition.GOOD, ExchangeType.GIVEAWAY, ListingStatus.RESERVED, updatedAt);
+
+            BookStreamEventDto dto =
+                    mapper.toStreamEventDto(BookStreamEventType.STATUS_CHANGED, snapshot);
+
+            assertThat(dto.getType()).isEqualTo(BookStreamEventType.STATUS_CHANGED);
+            assertThat(dto.getBookId()).isEqualTo(10L);
+            assertThat(dto.getOwnerId()).isEqualTo(2L);
+            assertThat(dto.getTitle()).isEqualTo("Dune");
+            assertThat(dto.getAuthorName()).isEqualTo("Herbert");
+            assertThat(dto.getLanguage()).isEqualTo("en");
+            assertThat(dto.getCondition()).isEqualTo(BookCondition.GOOD);
+            assertThat(dto.getExchangeType()).isEqualTo(ExchangeType.GIVEAWAY);
+            assertThat(dto.getStatus()).isEqualTo(ListingStatus.RESERVED);
+            assertThat(dto.getUpdatedAt()).isEqualTo(updatedAt);
+            assertThat(mapper.toStreamEventDto(BookStreamEventType.DELETED, null)).isNull();
+        }
+
         @Test
         @DisplayName("toResponseDto: null owner fields when book has no owner")
         void toResponseDto_nullOwnerFields() {
@@ -432,4 +467,102 @@ class MapperTest {
             assertThat(mapper.toResponseDtoList(null)).isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    //  WantedBookMapper
+
+    @Nested
+    @DisplayName("WantedBookMapper")
+    class WantedBookMapperTests {
+
+        private final WantedBookMapper mapper = new WantedBookMapper();
+
+        @Test
+        @DisplayName("toEntity: trims fields and stores blank ones as null")
+        void toEntity_trimsAndNullsBlankFields() {
+            User user = buildUser(1L, "a@test.com");
+            WantedBookRequestDto dto = new WantedBookRequestDto();
+            dto.setTitle("  Dune ");
+            dto.setAuthorName("   ");
+
+            WantedBook wantedBook = mapper.toEntity(dto, user);
+
+            assertThat(wantedBook.getUser()).isEqualTo(user);
+            assertThat(wantedBook.getTitle()).isEqualTo("Dune");
+            assertThat(wantedBook.getAuthorName()).isNull();
+            assertThat(mapper.toEntity(null, user)).isNull();
+        }
+
+        @Test
+        @DisplayName("toResponseDto / toResponseDtoList: map all fields, null-safe")
+        void toResponseDto_mapsAllFields() {
+            WantedBook wantedBook = new WantedBook();
+            wantedBook.setId(3L);
+            wantedBook.setTitle("Dune");
+            wantedBook.setAuthorName("Frank Herbert");
+
+            WantedBookResponseDto dto = mapper.toResponseDto(wantedBook);
+
+            assertThat(dto.getId()).isEqualTo(3L);
+            assertThat(dto.getTitle()).isEqualTo("Dune");
+            assertThat(dto.getAuthorName()).isEqualTo("Frank Herbert");
+            assertThat(mapper.toResponseDto(null)).isNull();
+            assertThat(mapper.toResponseDtoList(List.of(wantedBook))).hasSize(1);
+            assertThat(mapper.toResponseDtoList(null)).isEmpty();
+        }
+    }
+
+    //  SavedSearchMapper
+
+    @Nested
+    @DisplayName("SavedSearchMapper")
+    class SavedSearchMapperTests {
+
+        private final SavedSearchMapper mapper = new SavedSearchMapper();
+
+        @Test
+        @DisplayName("toEntity: trims text and language, copies filters")
+        void toEntity_mapsAllFields() {
+            User user = buildUser(1L, "a@test.com");
+            SavedSearchRequestDto dto = new SavedSearchRequestDto();
+            dto.setSearchText(" dune ");
+            dto.setCondition(BookCondition.GOOD);
+            dto.setExchangeType(ExchangeType.GIVEAWAY);
+            dto.setLanguage(" ");
+
+            SavedSearch savedSearch = mapper.toEntity(dto, user);
+
+            assertThat(savedSearch.getUser()).isEqualTo(user);
+            assertThat(savedSearch.getSearchText()).isEqualTo("dune");
+            assertThat(savedSearch.getCondition()).isEqualTo(BookCondition.GOOD);
+            assertThat(savedSearch.getExchangeType()).isEqualTo(ExchangeType.GIVEAWAY);
+            assertThat(savedSearch.getLanguage()).isNull();
+            assertThat(mapper.toEntity(null, user)).isNull();
+        }
+
+        @Test
+        @DisplayName("toResponseDto / toNotificationDto: map all fields, null-safe")
+        void toDtos_mapAllFields() {
+            SavedSearch savedSearch = new SavedSearch();
+            savedSearch.setId(3L);
+            savedSearch.setSearchText("dune");
+            savedSearch.setLanguage("en");
+            SearchNotification notification = new SearchNotification(1L, 3L, 10L, "Dune");
+            notification.setId(7L);
+
+            SavedSearchResponseDto dto = mapper.toResponseDto(savedSearch);
+            SearchNotificationDto notificationDto = mapper.toNotificationDto(notification);
+
+            assertThat(dto.getId()).isEqualTo(3L);
+            assertThat(dto.getSearchText()).isEqualTo("dune");
+            assertThat(dto.getLanguage()).isEqualTo("en");
+            assertThat(notificationDto.getId()).isEqualTo(7L);
+            assertThat(notificationDto.getSavedSearchId()).isEqualTo(3L);
+            assertThat(notificationDto.getBookId()).isEqualTo(10L);
+            assertThat(notificationDto.getBookTitle()).isEqualTo("Dune");
+            assertThat(mapper.toResponseDto(null)).isNull();
+            assertThat(mapper.toNotificationDto(null)).isNull();
+            assertThat(mapper.toResponseDtoList(List.of(savedSearch))).hasSize(1);
+            assertThat(mapper.toResponseDtoList(null)).isEmpty();
+        }
+    }
+}
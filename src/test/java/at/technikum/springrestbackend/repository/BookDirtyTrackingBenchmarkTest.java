@@ -0,0 +1,78 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures flush time when a few books change inside a large persistence context.
+ * With bytecode dirty tracking the flush only visits the changed attributes, so it
+ * should stay close to the flush of a context holding just the changed books.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Benchmark — dirty tracking on flush")
+class BookDirtyTrackingBenchmarkTest {
+
+    private static final int MANAGED = 5_000;
+    private static final int DIRTY = 20;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("flush cost follows the number of changed books")
+    void comparesContextSizes() {
+        User owner = userRepository.save(buildUser("dirty_owner"));
+        bookRepository.saveAll(buildBooks(owner, MANAGED));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        double small = averageFlushMillis(DIRTY);
+        statistics.clear();
+        double large = averageFlushMillis(MANAGED);
+
+        System.out.printf("flush of %d dirty books: %d managed -> %.2f ms, %d managed -> %.2f ms%n",
+                DIRTY, DIRTY, small, MANAGED, large);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo((long) DIRTY * ROUNDS);
+    }
+
+    private double averageFlushMillis(final int managed) {
+        long total = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Book> books = bookRepository.findAllByOrderByCreatedAtDesc();
+            books.subList(managed, books.size()).forEach(entityManager::detach);
+            ListingStatus status = round % 2 == 0 ? ListingStatus.RESERVED : ListingStatus.AVAILABLE;
+            books.subList(0, DIRTY).forEach(book -> book.setStatus(status));
+            long start = System.nanoTime();
+            entityManager.flush();
+            total += System.nanoTime() - start;
+            entityManager.clear();
+        }
+        return total / (ROUNDS * 1_000_000.0);
+    }
+}
@@ -0,0 +1,70 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares un-batched and batched inserts of the same listings.
+ * Run with {@code mvn test -Pbenchmark}; point the datasource at MariaDB for real numbers.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@DisplayName("Benchmark — book insert throughput")
+class BookInsertThroughputBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int FLUSH_EVERY = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("batched inserts outperform one INSERT round trip per row")
+    void comparesBatchSizes() {
+        User owner = userRepository.save(buildUser("throughput_owner"));
+        entityManager.flush();
+
+        insertRows(owner, 1, 500);
+        double unbatched = insertRows(owner, 1, ROWS);
+        double batched = insertRows(owner, 50, ROWS);
+
+        System.out.printf("book inserts/s: batch_size=1 -> %.0f, batch_size=50 -> %.0f%n",
+                unbatched, batched);
+        assertThat(batched).isGreaterThan(unbatched);
+    }
+
+    private double insertRows(final User owner, final int batchSize, final int rows) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        User ownerRef = entityManager.getReference(User.class, owner.getId());
+        List<Book> books = buildBooks(ownerRef, rows);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < books.size(); i++) {
+            entityManager.persist(books.get(i));
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,106 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("BookRepository — lazy description")
+class BookLazyDescriptionTest {
+
+    private static final int BOOK_COUNT = 10;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+    private List<Book> books;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        owner = userRepository.save(buildUser("lazy_owner"));
+        books = bookRepository.saveAll(buildBooks(owner, BOOK_COUNT));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("leaves the description unloaded for single-entity lookups")
+    void skipsDescriptionOnFindById() {
+        Book book = bookRepository.findById(books.get(0).getId()).orElseThrow();
+
+        assertThat(Hibernate.isPropertyInitialized(book, "description")).isFalse();
+        assertThat(book.getDescription()).isEqualTo("Description 0");
+    }
+
+    @Test
+    @DisplayName("loads descriptions of a page in the listing query itself")
+    void fetchesDescriptionForPages() {
+        List<Book> page = bookRepository
+                .findAll(Specification.where(null), PageRequest.of(0, BOOK_COUNT))
+                .getContent();
+        long statementsAfterQuery = statistics.getPrepareStatementCount();
+
+        page.forEach(book -> assertThat(book.getDescription()).isNotNull());
+
+        assertThat(page).hasSize(BOOK_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterQuery);
+    }
+
+    @Test
+    @DisplayName("loads descriptions in the owner and recent listing queries")
+    void fetchesDescriptionForLists() {
+        List<Book> byOwner = bookRepository.findAllByOwnerIdOrderByCreatedAtDesc(owner.getId());
+        List<Book> recent = bookRepository.findAllByOrderByCreatedAtDesc();
+        List<Book> byIds = bookRepository.findAllByIdInAndStatus(
+                books.stream().map(Book::getId).toList(), ListingStatus.AVAILABLE);
+
+        assertThat(byOwner).hasSize(BOOK_COUNT)
+                .allMatch(book -> Hibernate.isPropertyInitialized(book, "description"));
+        assertThat(recent).allMatch(book -> Hibernate.isPropertyInitialized(book, "description"));
+        assertThat(byIds).allMatch(book -> Hibernate.isPropertyInitialized(book, "description"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("updates only the changed column of a managed book")
+    void tracksDirtyFields() {
+        Book book = bookRepository.findById(books.get(0).getId()).orElseThrow();
+        book.setStatus(ListingStatus.RESERVED);
+        entityManager.flush();
+        entityManager.clear();
+
+        Book reloaded = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ListingStatus.RESERVED);
+        assertThat(reloaded.getDescription()).isEqualTo("Description 0");
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("BookRepository — JDBC batch inserts")
+class BookRepositoryBatchInsertTest {
+
+    private static final int BOOK_COUNT = 120;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("assigns ids from the pooled sequence before the INSERT is executed")
+    void assignsIdsWithoutFlushing() {
+        User owner = userRepository.save(buildUser("batch_owner"));
+
+        Book book = bookRepository.save(buildBooks(owner, 1).get(0));
+
+        assertThat(book.getId()).isNotNull();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("groups many book inserts into a handful of JDBC statements")
+    void batchesInserts() {
+        User owner = userRepository.save(buildUser("batch_owner"));
+        entityManager.flush();
+        statistics.clear();
+
+        bookRepository.saveAll(buildBooks(owner, BOOK_COUNT));
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BOOK_COUNT);
+        // 3 insert batches (batch size 50) plus at most 3 pooled sequence calls
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+}
@@ -0,0 +1,70 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("BookRepository — facet queries")
+class BookRepositoryFacetQueryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(buildUser("facet_owner"));
+        List<Book> books = buildBooks(owner, 4);
+        books.get(0).setLanguage("EN");
+        books.get(1).setLanguage("en");
+        books.get(2).setTitle("Dune");
+        books.get(3).setStatus(ListingStatus.RESERVED);
+        bookRepository.saveAll(books);
+    }
+
+    @Test
+    @DisplayName("groups available listings case-insensitively by language")
+    void groupsAvailableListings() {
+        List<BookFacetCount> counts = bookRepository.countAvailableByFacet();
+
+        assertThat(counts).containsExactlyInAnyOrder(
+                new BookFacetCount(BookCondition.GOOD, ExchangeType.GIVEAWAY, "en", 2),
+                new BookFacetCount(BookCondition.GOOD, ExchangeType.GIVEAWAY, null, 1));
+    }
+
+    @Test
+    @DisplayName("restricts the grouping to listings matching the search pattern")
+    void groupsMatchingListings() {
+        List<BookFacetCount> counts = bookRepository.countAvailableByFacetMatching("%dun%");
+
+        assertThat(counts).containsExactly(
+                new BookFacetCount(BookCondition.GOOD, ExchangeType.GIVEAWAY, null, 1));
+    }
+
+    @Test
+    @DisplayName("counts the available listings of a single facet combination")
+    void countsSingleFacetKey() {
+        assertThat(bookRepository.countAvailableByFacetKey(
+                BookCondition.GOOD, ExchangeType.GIVEAWAY, "en")).isEqualTo(2);
+        assertThat(bookRepository.countAvailableByFacetKey(
+                BookCondition.GOOD, ExchangeType.GIVEAWAY, null)).isEqualTo(1);
+        assertThat(bookRepository.countAvailableByFacetKey(
+                BookCondition.NEW, ExchangeType.GIVEAWAY, "en")).isZero();
+    }
+}
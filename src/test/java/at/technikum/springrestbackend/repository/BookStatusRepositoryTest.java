@@ -0,0 +1,163 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.ReservationWaitlistEntry;
+import at.technikum.springrestbackend.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("BookRepository — conditional status and reservation updates")
+class BookStatusRepositoryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationWaitlistRepository waitlistRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(buildUser("status_owner"));
+        book = bookRepository.save(buildBooks(owner, 1).get(0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("reads the listing state as a projection")
+    void readsState() {
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+
+        assertThat(state.ownerId()).isEqualTo(book.getOwner().getId());
+        assertThat(state.status()).isEqualTo(ListingStatus.AVAILABLE);
+        assertThat(state.version()).isEqualTo(book.getVersion());
+        assertThat(state.toSnapshot().title()).isEqualTo("Title 0");
+        assertThat(bookRepository.findStateById(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sets the status and bumps the version when the version matches")
+    void updatesMatchingVersion() {
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        boolean updated = bookRepository.updateStatus(
+                book.getId(), book.getVersion(), ListingStatus.RESERVED, updatedAt);
+
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(updated).isTrue();
+        assertThat(state.status()).isEqualTo(ListingStatus.RESERVED);
+        assertThat(state.version()).isEqualTo(book.getVersion() + 1);
+        assertThat(state.updatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    @DisplayName("leaves the row untouched when the version is stale")
+    void rejectsStaleVersion() {
+        boolean updated = bookRepository.updateStatus(
+                book.getId(), book.getVersion() + 1, ListingStatus.EXCHANGED, LocalDateTime.now());
+
+        assertThat(updated).isFalse();
+        assertThat(bookRepository.findStateById(book.getId()).orElseThrow().status())
+                .isEqualTo(ListingStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("reserves an available listing once and never for its owner")
+    void reservesAvailableListingOnce() {
+        User reserver = userRepository.saveAndFlush(reserver());
+        LocalDateTime now = LocalDateTime.now();
+
+        boolean byOwner = bookRepository.reserve(
+                book.getId(), book.getOwner().getId(), now.plusHours(1), now);
+        boolean first = bookRepository.reserve(book.getId(), reserver.getId(), now.plusHours(1), now);
+        boolean second = bookRepository.reserve(book.getId(), reserver.getId(), now.plusHours(1), now);
+
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(byOwner).isFalse();
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(state.status()).isEqualTo(ListingStatus.RESERVED);
+        assertThat(state.reservedById()).isEqualTo(reserver.getId());
+    }
+
+    @Test
+    @DisplayName("keeps an available listing with waiters for the head of the waitlist")
+    void keepsListingForWaitlist() {
+        User waiter = userRepository.saveAndFlush(buildUser("status_waiter"));
+        User newcomer = userRepository.saveAndFlush(buildUser("status_newcomer"));
+        waitlistRepository.saveAndFlush(new ReservationWaitlistEntry(book.getId(), waiter.getId()));
+        LocalDateTime now = LocalDateTime.now();
+
+        boolean byNewcomer = bookRepository.reserve(
+                book.getId(), newcomer.getId(), now.plusHours(1), now);
+        boolean forWaiter = bookRepository.reserveForWaiter(
+                book.getId(), waiter.getId(), now.plusHours(1), now);
+
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(byNewcomer).isFalse();
+        assertThat(forWaiter).isTrue();
+        assertThat(state.reservedById()).isEqualTo(waiter.getId());
+    }
+
+    @Test
+    @DisplayName("releases a reservation only for its holder")
+    void releasesOnlyForHolder() {
+        User reserver = userRepository.saveAndFlush(reserver());
+        LocalDateTime now = LocalDateTime.now();
+        bookRepository.reserve(book.getId(), reserver.getId(), now.plusHours(1), now);
+
+        boolean byOwner = bookRepository.releaseReservation(book.getId(), book.getOwner().getId(), now);
+        boolean byHolder = bookRepository.releaseReservation(book.getId(), reserver.getId(), now);
+
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(byOwner).isFalse();
+        assertThat(byHolder).isTrue();
+        assertThat(state.status()).isEqualTo(ListingStatus.AVAILABLE);
+        assertThat(state.reservedById()).isNull();
+        assertThat(state.reservedUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("clears the reservation when the status leaves RESERVED and finds expired ones")
+    void clearsReservationOnStatusChange() {
+        User reserver = userRepository.saveAndFlush(reserver());
+        LocalDateTime now = LocalDateTime.now();
+        bookRepository.reserve(book.getId(), reserver.getId(), now.minusMinutes(1), now);
+
+        assertThat(bookRepository.findExpiredReservations(now, PageRequest.of(0, 10)))
+                .extracting(BookState::id)
+                .containsExactly(book.getId());
+
+        bookRepository.updateStatus(book.getId(), book.getVersion() + 1, ListingStatus.EXCHANGED, now);
+
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(state.status()).isEqualTo(ListingStatus.EXCHANGED);
+        assertThat(state.reservedById()).isNull();
+        assertThat(bookRepository.findExpiredReservations(now, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private User reserver() {
+        return buildUser("reserver");
+    }
+}
@@ -0,0 +1,54 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.ObjectKeyClaim;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("ObjectKeyClaimRepository")
+class ObjectKeyClaimRepositoryTest {
+
+    @Autowired
+    private ObjectKeyClaimRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("touch refreshes an existing claim and reports a missing one")
+    void touchesClaims() {
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        repository.saveAndFlush(new ObjectKeyClaim("books/sha256/a.jpg", claimedAt));
+
+        int touched = repository.touch("books/sha256/a.jpg", claimedAt.plusMinutes(5));
+        int missing = repository.touch("books/sha256/b.jpg", claimedAt.plusMinutes(5));
+        entityManager.clear();
+
+        assertThat(touched).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(repository.findByObjectKey("books/sha256/a.jpg"))
+                .get().extracting(ObjectKeyClaim::getClaimedAt)
+                .isEqualTo(claimedAt.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("allows one claim per object key")
+    void rejectsDuplicateClaims() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.saveAndFlush(new ObjectKeyClaim("books/sha256/a.jpg", now));
+
+        assertThatThrownBy(() -> repository.saveAndFlush(
+                new ObjectKeyClaim("books/sha256/a.jpg", now)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
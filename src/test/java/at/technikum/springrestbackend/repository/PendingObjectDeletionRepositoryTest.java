@@ -0,0 +1,45 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.PendingObjectDeletion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("PendingObjectDeletionRepository")
+class PendingObjectDeletionRepositoryTest {
+
+    @Autowired
+    private PendingObjectDeletionRepository repository;
+
+    private PendingObjectDeletion deletion(final String objectKey, final LocalDateTime nextAttempt) {
+        PendingObjectDeletion deletion = new PendingObjectDeletion();
+        deletion.setObjectKey(objectKey);
+        deletion.setNextAttemptAt(nextAttempt);
+        return deletion;
+    }
+
+    @Test
+    @DisplayName("returns due entries oldest first, limited to the page size")
+    void findsDueEntries() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.saveAll(List.of(
+                deletion("books/later.jpg", now.plusMinutes(5)),
+                deletion("books/second.jpg", now.minusMinutes(1)),
+                deletion("books/first.jpg", now.minusMinutes(10)),
+                deletion("books/third.jpg", now)));
+
+        List<PendingObjectDeletion> due = repository
+                .findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(now, PageRequest.of(0, 2));
+
+        assertThat(due).extracting(PendingObjectDeletion::getObjectKey)
+                .containsExactly("books/first.jpg", "books/second.jpg");
+    }
+}
@@ -0,0 +1,72 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.SavedSearch;
+import at.technikum.springrestbackend.entity.SearchNotification;
+import at.technikum.springrestbackend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("SavedSearchRepository and SearchNotificationRepository")
+class SavedSearchRepositoryTest {
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private SearchNotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(buildUser("search_owner"));
+    }
+
+    @Test
+    @DisplayName("pages saved searches by id with their user id")
+    void pagesSavedSearches() {
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUser(user);
+        savedSearch.setSearchText("dune");
+        savedSearch.setExchangeType(ExchangeType.GIVEAWAY);
+        savedSearchRepository.save(savedSearch);
+
+        List<SavedSearchState> states = savedSearchRepository.findStatesAfter(
+                0L, PageRequest.of(0, 10));
+
+        assertThat(states).containsExactly(new SavedSearchState(
+                savedSearch.getId(), user.getId(), "dune", null, ExchangeType.GIVEAWAY, null));
+        assertThat(savedSearchRepository.countByUserId(user.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("pages the feed newest first and deletes by user or book")
+    void pagesAndDeletesFeed() {
+        notificationRepository.saveAndFlush(new SearchNotification(user.getId(), 1L, 10L, "A"));
+        notificationRepository.saveAndFlush(new SearchNotification(user.getId(), 1L, 11L, "B"));
+        notificationRepository.saveAndFlush(new SearchNotification(99L, 2L, 10L, "A"));
+
+        Page<SearchNotification> feed = notificationRepository
+                .findAllByUserIdOrderByCreatedAtDescIdDesc(user.getId(), PageRequest.of(0, 10));
+
+        assertThat(feed.getContent()).extracting(SearchNotification::getBookTitle)
+                .containsExactly("B", "A");
+        assertThat(notificationRepository.deleteAllForBook(10L)).isEqualTo(2);
+        assertThat(notificationRepository.deleteAllForUser(user.getId())).isEqualTo(1);
+    }
+}
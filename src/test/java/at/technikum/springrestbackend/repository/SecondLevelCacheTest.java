@@ -0,0 +1,112 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.cache.EntityCacheRegions;
+import at.technikum.springrestbackend.config.HibernateCacheConfig;
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test transaction so every repository call commits and the cache sees
+ * the same sequence of transactions as separate requests would.
+ */
+@DataJpaTest
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-level cache — users and books")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(buildUser("cache_owner"));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private long hits(final String region) {
+        return statistics.getDomainDataRegionStatistics(region).getHitCount();
+    }
+
+    @Test
+    @DisplayName("serves repeated id lookups from memory")
+    void cachesUsersById() {
+        userRepository.findById(owner.getId());
+        userRepository.findById(owner.getId());
+
+        assertThat(hits(EntityCacheRegions.USERS)).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("resolves the e-mail natural id without a query")
+    void cachesUsersByEmail() {
+        userRepository.loadByEmail(owner.getEmail());
+
+        User user = userRepository.loadByEmail(owner.getEmail()).orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(owner.getId());
+        assertThat(hits(EntityCacheRegions.USERS_BY_EMAIL)).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("replaces the cached entry when an update bumps the version")
+    void refreshesOnVersionBump() {
+        User user = userRepository.findById(owner.getId()).orElseThrow();
+        user.setUsername("renamed");
+        userRepository.save(user);
+        statistics.clear();
+
+        User reloaded = userRepository.findById(owner.getId()).orElseThrow();
+
+        assertThat(reloaded.getUsername()).isEqualTo("renamed");
+        assertThat(reloaded.getVersion()).isEqualTo(owner.getVersion() + 1);
+        assertThat(hits(EntityCacheRegions.USERS)).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("caches books by id")
+    void cachesBooksById() {
+        Book book = bookRepository.save(buildBooks(owner, 1).get(0));
+        statistics.clear();
+
+        bookRepository.findById(book.getId());
+
+        assertThat(hits(EntityCacheRegions.BOOKS)).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
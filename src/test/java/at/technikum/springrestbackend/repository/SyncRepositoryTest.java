@@ -0,0 +1,128 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.Comment;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
+import at.technikum.springrestbackend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Delta sync queries")
+class SyncRepositoryTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private LocalDateTime future;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(buildUser("sync_owner"));
+        future = LocalDateTime.now().plusMinutes(1);
+    }
+
+    private List<Book> saveBooks() {
+        List<Book> books = buildBooks(owner, 3);
+        books.get(1).setStatus(ListingStatus.RESERVED);
+        return bookRepository.saveAllAndFlush(books);
+    }
+
+    @Test
+    @DisplayName("pages changed listings by (updatedAt, id)")
+    void pagesChangedListings() {
+        List<Book> books = saveBooks();
+
+        List<Book> first = bookRepository.findChangedAfter(
+                ORIGIN, 0L, future, ORIGIN, PageRequest.of(0, 2));
+        Book last = first.get(1);
+        List<Book> second = bookRepository.findChangedAfter(
+                last.getUpdatedAt(), last.getId(), future, ORIGIN, PageRequest.of(0, 2));
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(List.of(first.get(0), first.get(1), second.get(0)))
+                .extracting(Book::getId)
+                .containsExactlyInAnyOrderElementsOf(books.stream().map(Book::getId).toList());
+        assertThat(bookRepository.findChangedAfter(
+                ORIGIN, 0L, ORIGIN, ORIGIN, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("skips listings last changed before availableSince unless available")
+    void skipsUnavailableListingsBeforeAvailableSince() {
+        saveBooks();
+
+        List<Book> initial = bookRepository.findChangedAfter(
+                ORIGIN, 0L, future, future, PageRequest.of(0, 10));
+
+        assertThat(initial).hasSize(2)
+                .allMatch(book -> book.getStatus() == ListingStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("returns only the author's changed comments")
+    void returnsChangedCommentsOfAuthor() {
+        Book book = saveBooks().get(0);
+        Comment comment = new Comment();
+        comment.setContent("Still available?");
+        comment.setBook(book);
+        comment.setAuthor(owner);
+        commentRepository.saveAndFlush(comment);
+
+        assertThat(commentRepository.findChangedOfAuthorAfter(
+                owner.getId(), ORIGIN, 0L, future, PageRequest.of(0, 10)))
+                .extracting(Comment::getId)
+                .containsExactly(comment.getId());
+        assertThat(commentRepository.findChangedOfAuthorAfter(
+                owner.getId() + 1, ORIGIN, 0L, future, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("pages tombstones by type and user and purges old ones")
+    void pagesAndPurgesTombstones() {
+        tombstoneRepository.saveAndFlush(new SyncTombstone(SyncEntityType.BOOK, 10L, 1L));
+        tombstoneRepository.saveAndFlush(new SyncTombstone(SyncEntityType.BOOK, 11L, 1L));
+        tombstoneRepository.saveAndFlush(new SyncTombstone(SyncEntityType.COMMENT, 20L, 2L));
+        tombstoneRepository.saveAndFlush(new SyncTombstone(SyncEntityType.COMMENT, 21L, 3L));
+
+        List<SyncTombstone> books = tombstoneRepository.findAfter(
+                SyncEntityType.BOOK, ORIGIN, 0L, future, PageRequest.of(0, 1));
+        SyncTombstone last = books.get(0);
+
+        assertThat(books).extracting(SyncTombstone::getEntityId).containsExactly(10L);
+        assertThat(tombstoneRepository.findAfter(SyncEntityType.BOOK, last.getCreatedAt(),
+                last.getId(), future, PageRequest.of(0, 10)))
+                .extracting(SyncTombstone::getEntityId).containsExactly(11L);
+        assertThat(tombstoneRepository.findOfUserAfter(SyncEntityType.COMMENT, 2L,
+                ORIGIN, 0L, future, PageRequest.of(0, 10)))
+                .extracting(SyncTombstone::getEntityId).containsExactly(20L);
+        assertThat(tombstoneRepository.deleteCreatedBefore(ORIGIN)).isZero();
+        assertThat(tombstoneRepository.deleteCreatedBefore(future)).isEqualTo(4);
+    }
+}
@@ -0,0 +1,81 @@
+package at.technikum.springrestbackend.repository;
+
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.entity.WantedBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Exchange index loading queries")
+class WantedBookRepositoryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private WantedBookRepository wantedBookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private List<Book> books;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(buildUser("wanted_owner"));
+        books = buildBooks(owner, 4);
+        books.forEach(book -> book.setExchangeType(ExchangeType.EXCHANGE_ONLY));
+        books.get(1).setExchangeType(ExchangeType.GIVEAWAY);
+        books.get(2).setStatus(ListingStatus.RESERVED);
+        bookRepository.saveAll(books);
+    }
+
+    @Test
+    @DisplayName("pages available exchange listings by id")
+    void pagesExchangeListings() {
+        EnumSet<ExchangeType> types =
+                EnumSet.of(ExchangeType.EXCHANGE_ONLY, ExchangeType.EXCHANGE_OR_GIVEAWAY);
+
+        List<BookState> first = bookRepository.findAvailableStatesAfter(
+                0L, types, PageRequest.of(0, 1));
+        List<BookState> rest = bookRepository.findAvailableStatesAfter(
+                first.get(0).id(), types, PageRequest.of(0, 10));
+
+        assertThat(first).extracting(BookState::id).containsExactly(books.get(0).getId());
+        assertThat(rest).extracting(BookState::id).containsExactly(books.get(3).getId());
+        assertThat(rest.get(0).ownerId()).isEqualTo(owner.getId());
+    }
+
+    @Test
+    @DisplayName("pages wanted books by id with their user id")
+    void pagesWantedBooks() {
+        WantedBook wantedBook = new WantedBook();
+        wantedBook.setUser(owner);
+        wantedBook.setAuthorName("Frank Herbert");
+        wantedBookRepository.save(wantedBook);
+
+        List<WantedBookState> states = wantedBookRepository.findStatesAfter(
+                0L, PageRequest.of(0, 10));
+
+        assertThat(states).containsExactly(
+                new WantedBookState(wantedBook.getId(), owner.getId(), null, "Frank Herbert"));
+        assertThat(wantedBookRepository.countByUserId(owner.getId())).isEqualTo(1);
+        assertThat(wantedBookRepository.findStatesAfter(wantedBook.getId(), PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+}
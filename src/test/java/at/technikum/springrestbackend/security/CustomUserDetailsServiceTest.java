@@ -51,7 +51,7 @@ class CustomUserDetailsServiceTest {
         @DisplayName("returns CustomUserDetails when user exists with given email")
         void returnsUserDetailsForExistingEmail() {
             User user = buildUser(1L, "alice@test.com");
-            when(userRepository.findByEmail("alice@test.com")).thenReturn(Optional.of(user));
+            when(userRepository.loadByEmail("alice@test.com")).thenReturn(Optional.of(user));
 
             UserDetails details = service.loadUserByUsername("alice@test.com");
 
@@ -63,7 +63,7 @@ class CustomUserDetailsServiceTest {
         @Test
         @DisplayName("throws UsernameNotFoundException when email is not found")
         void throwsWhenEmailNotFound() {
-            when(userRepository.findByEmail("missing@test.com")).thenReturn(Optional.empty());
+            when(userRepository.loadByEmail("missing@test.com")).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> service.loadUserByUsername("missing@test.com"))
                     .isInstanceOf(UsernameNotFoundException.class)
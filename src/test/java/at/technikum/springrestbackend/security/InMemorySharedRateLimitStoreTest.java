@@ -0,0 +1,62 @@
+package at.technikum.springrestbackend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemorySharedRateLimitStore")
+class InMemorySharedRateLimitStoreTest {
+
+    /** Three requests per burst, one new token every second. */
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(3, 60);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final InMemorySharedRateLimitStore store = new InMemorySharedRateLimitStore(clock::get);
+
+    @Test
+    @DisplayName("allows a full burst, then rejects and tells when to retry")
+    void allowsBurstThenRejects() {
+        assertThat(store.tryConsume("k", POLICY).remaining()).isEqualTo(2);
+        assertThat(store.tryConsume("k", POLICY).remaining()).isEqualTo(1);
+        RateLimitDecision last = store.tryConsume("k", POLICY);
+        RateLimitDecision rejected = store.tryConsume("k", POLICY);
+
+        assertThat(last.allowed()).isTrue();
+        assertThat(last.resetSeconds()).isEqualTo(3);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("refills one token per emission interval and a full bucket after the window")
+    void refillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("k", POLICY);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toMicros(1));
+
+        assertThat(store.tryConsume("k", POLICY).allowed()).isTrue();
+        assertThat(store.tryConsume("k", POLICY).allowed()).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toMicros(10));
+        assertThat(store.tryConsume("k", POLICY).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gives filters sharing the store one budget per client")
+    void sharesBudgetBetweenFilters() {
+        RateLimitStore nodeA = store;
+        RateLimitStore nodeB = store;
+
+        nodeA.tryConsume("client", POLICY);
+        nodeB.tryConsume("client", POLICY);
+        nodeA.tryConsume("client", POLICY);
+
+        assertThat(nodeB.tryConsume("client", POLICY).allowed()).isFalse();
+        assertThat(nodeB.tryConsume("other", POLICY).allowed()).isTrue();
+    }
+}
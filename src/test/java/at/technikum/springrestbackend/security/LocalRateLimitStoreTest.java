@@ -0,0 +1,119 @@
+package at.technikum.springrestbackend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalRateLimitStore")
+class LocalRateLimitStoreTest {
+
+    /** Three requests per burst, one new token every second. */
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(3, 60);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private LocalRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalRateLimitStore(100, clock::get);
+    }
+
+    private void advanceSeconds(final long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("allows a full burst and counts the remaining tokens down")
+    void allowsBurst() {
+        assertThat(store.tryConsume("k", POLICY).remaining()).isEqualTo(2);
+        assertThat(store.tryConsume("k", POLICY).remaining()).isEqualTo(1);
+        RateLimitDecision last = store.tryConsume("k", POLICY);
+
+        assertThat(last.allowed()).isTrue();
+        assertThat(last.remaining()).isZero();
+        assertThat(last.resetSeconds()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("rejects once the bucket is empty and tells when to retry")
+    void rejectsWhenEmpty() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("k", POLICY);
+        }
+
+        RateLimitDecision decision = store.tryConsume("k", POLICY);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterSeconds()).isEqualTo(1);
+        assertThat(store.tryConsume("other", POLICY).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("refills one token per emission interval")
+    void refillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("k", POLICY);
+        }
+        advanceSeconds(1);
+
+        assertThat(store.tryConsume("k", POLICY).allowed()).isTrue();
+        assertThat(store.tryConsume("k", POLICY).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("drops full buckets and fails open when no key can be tracked")
+    void boundsTrackedKeys() {
+        LocalRateLimitStore small = new LocalRateLimitStore(1, clock::get);
+        small.tryConsume("a", POLICY);
+
+        assertThat(small.tryConsume("b", POLICY).allowed()).isTrue();
+        assertThat(small.size()).isEqualTo(1);
+
+        advanceSeconds(5);
+        small.evictFullBuckets();
+        assertThat(small.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("never grants more tokens than the capacity under contention")
+    void grantsCapacityUnderContention() throws Exception {
+        RateLimitPolicy policy = new RateLimitPolicy(50, 1);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 400; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (store.tryConsume("shared", policy).allowed()) {
+                    allowed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("publishes the number of tracked buckets")
+    void publishesBucketGauge() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+        store.tryConsume("a", POLICY);
+
+        assertThat(registry.get("http.rate-limit.buckets").gauge().value()).isEqualTo(1);
+    }
+}
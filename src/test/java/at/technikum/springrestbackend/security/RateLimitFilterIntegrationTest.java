@@ -0,0 +1,45 @@
+package at.technikum.springrestbackend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "app.rate-limit.enabled=true",
+    "app.rate-limit.auth.capacity=2",
+    "app.rate-limit.auth.refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+@DisplayName("RateLimitFilter (integration — filter chain)")
+class RateLimitFilterIntegrationTest {
+
+    private static final String LOGIN_BODY = "{\"email\":\"nobody@example.com\",\"password\":\"x\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("POST /auth/login returns 429 once the auth budget is spent")
+    void limitsLoginAttempts() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(LOGIN_BODY))
+                    .andExpect(header().exists("RateLimit-Remaining"));
+        }
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN_BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+}
@@ -0,0 +1,175 @@
+package at.technikum.springrestbackend.security;
+
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RateLimitFilter")
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(new LocalRateLimitStore(100),
+                Map.of(RateLimitClass.AUTH, new RateLimitPolicy(2, 1),
+                        RateLimitClass.WRITE, new RateLimitPolicy(1, 1)),
+                objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse perform(final String method, final String path)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(final long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setRole(Role.USER);
+        CustomUserDetails details = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+    }
+
+    @Nested
+    @DisplayName("doFilter()")
+    class DoFilter {
+
+        @Test
+        @DisplayName("adds RateLimit headers to limited endpoints")
+        void addsHeaders() throws Exception {
+            MockHttpServletResponse response = perform("POST", "/auth/login");
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("2");
+            assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("1");
+            assertThat(response.getHeader("RateLimit-Policy")).isEqualTo("2;w=120");
+        }
+
+        @Test
+        @DisplayName("rejects requests over budget with 429 and Retry-After")
+        void rejectsOverBudget() throws Exception {
+            perform("POST", "/auth/login");
+            perform("POST", "/auth/login");
+
+            MockHttpServletResponse response = perform("POST", "/auth/login");
+
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+            assertThat(response.getContentAsString()).contains("Too many requests");
+        }
+
+        @Test
+        @DisplayName("keys authenticated clients by user id instead of address")
+        void keysByUserId() throws Exception {
+            authenticate(1L);
+            assertThat(perform("DELETE", "/books/1").getStatus()).isEqualTo(200);
+            assertThat(perform("DELETE", "/books/2").getStatus()).isEqualTo(429);
+
+            authenticate(2L);
+            assertThat(perform("DELETE", "/books/3").getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("leaves endpoint classes without a policy untouched")
+        void skipsUnlimitedClasses() throws Exception {
+            MockHttpServletResponse response = perform("GET", "/books/1");
+
+            assertThat(response.getHeader("RateLimit-Limit")).isNull();
+        }
+
+        @Test
+        @DisplayName("lets requests through when the store fails")
+        void failsOpen() throws Exception {
+            RateLimitStore failing = mock(RateLimitStore.class);
+            when(failing.tryConsume(any(), any())).thenThrow(new IllegalStateException("down"));
+            filter = new RateLimitFilter(failing,
+                    Map.of(RateLimitClass.AUTH, new RateLimitPolicy(1, 1)), objectMapper);
+
+            assertThat(perform("POST", "/auth/login").getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("counts rejections per endpoint class")
+        void countsRejections() throws Exception {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            filter.bindTo(registry);
+            perform("PUT", "/users/me");
+            perform("PUT", "/users/me");
+
+            assertThat(registry.get("http.rate-limit.rejected").tag("class", "write")
+                    .functionCounter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("RateLimitClass.of()")
+    class Classification {
+
+        @ParameterizedTest(name = "{0} {1}?search={2} -> {3}")
+        @CsvSource(nullValues = "NONE", value = {
+            "GET,    /books,               dune, SEARCH",
+            "GET,    /books/facets,        dune, SEARCH",
+            "GET,    /books,               NONE, NONE",
+            "GET,    /books/5,             dune, NONE",
+            "POST,   /auth/login,          NONE, AUTH",
+            "POST,   /books/5/image,       NONE, UPLOAD",
+            "POST,   /books/5/image/complete, NONE, UPLOAD",
+            "POST,   /books/import,        NONE, UPLOAD",
+            "POST,   /books,               NONE, WRITE",
+            "PATCH,  /admin/users/1/enabled, NONE, WRITE",
+            "OPTIONS, /books,              NONE, NONE"
+        })
+        void classifiesRequests(
+                final String method,
+                final String path,
+                final String search,
+                final RateLimitClass expected
+        ) {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+            if (search != null) {
+                request.setParameter("search", search);
+            }
+
+            assertThat(RateLimitClass.of(request)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("RateLimitPolicy rejects non-positive settings")
+    void policyValidatesSettings() {
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> new RateLimitPolicy(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package at.technikum.springrestbackend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "server.forward-headers-strategy=native",
+            "app.rate-limit.enabled=true",
+            "app.rate-limit.auth.capacity=2",
+            "app.rate-limit.auth.refill-per-minute=1"
+        })
+@DisplayName("RateLimitFilter (integration — behind a proxy)")
+class RateLimitForwardedForIntegrationTest {
+
+    private static final String LOGIN_BODY = "{\"email\":\"nobody@example.com\",\"password\":\"x\"}";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private ResponseEntity<String> loginFrom(final String clientAddress) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientAddress);
+        return restTemplate.postForEntity("/auth/login", new HttpEntity<>(LOGIN_BODY, headers),
+                String.class);
+    }
+
+    @Test
+    @DisplayName("keys anonymous budgets by the forwarded client address")
+    void limitsPerForwardedClient() {
+        loginFrom("203.0.113.5");
+        loginFrom("203.0.113.5");
+
+        assertThat(loginFrom("203.0.113.5").getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(loginFrom("203.0.113.9").getStatusCode())
+                .isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
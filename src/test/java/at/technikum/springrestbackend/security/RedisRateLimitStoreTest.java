@@ -0,0 +1,82 @@
+package at.technikum.springrestbackend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRateLimitStore")
+class RedisRateLimitStoreTest {
+
+    /** Three requests per burst, one new token every second. */
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(3, 60);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RateLimitStore fallback;
+
+    private RedisRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisRateLimitStore(redisTemplate, fallback, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("runs the script with the bucket key, interval and capacity in microseconds")
+    @SuppressWarnings("unchecked")
+    void mapsScriptResult() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("rate-limit:ip:1")),
+                eq("1000000"), eq("3"))).thenReturn(List.of(1L, 2L, 1_000_000L, 0L));
+
+        RateLimitDecision decision = store.tryConsume("ip:1", POLICY);
+
+        assertThat(decision).isEqualTo(new RateLimitDecision(true, 2, 1, 0));
+    }
+
+    @Test
+    @DisplayName("rounds the wait of a rejected request up to whole seconds")
+    @SuppressWarnings("unchecked")
+    void mapsRejection() {
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any()))
+                .thenReturn(List.of(0L, 0L, 2_000_000L, 400_000L));
+
+        RateLimitDecision decision = store.tryConsume("ip:1", POLICY);
+
+        assertThat(decision).isEqualTo(new RateLimitDecision(false, 0, 2, 1));
+    }
+
+    @Test
+    @DisplayName("falls back to per-instance buckets and skips Redis for the retry delay")
+    @SuppressWarnings("unchecked")
+    void fallsBackWhileRedisIsDown() {
+        RateLimitDecision local = new RateLimitDecision(true, 1, 2, 0);
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(fallback.tryConsume("ip:1", POLICY)).thenReturn(local);
+
+        assertThat(store.tryConsume("ip:1", POLICY)).isEqualTo(local);
+        assertThat(store.tryConsume("ip:1", POLICY)).isEqualTo(local);
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), any(List.class), any(), any());
+        verify(fallback, times(2)).tryConsume("ip:1", POLICY);
+    }
+}
@@ -33,6 +33,8 @@ class SecurityConfigTest {
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     @Mock
     private JwtAuthEntryPoint jwtAuthEntryPoint;
+    @Mock
+    private RateLimitFilter rateLimitFilter;
 
     @InjectMocks
     private SecurityConfig securityConfig;
@@ -96,6 +98,7 @@ class SecurityConfigTest {
                         List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         assertThat(config.getAllowedHeaders()).containsExactly("*");
         assertThat(config.getAllowCredentials()).isFalse();
-        assertThat(config.getExposedHeaders()).containsExactly("Authorization");
+        assertThat(config.getExposedHeaders())
+                .contains("Authorization", "Retry-After", "RateLimit-Remaining");
     }
 }
\ No newline at end of file
@@ -0,0 +1,220 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookFacetsDto;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.repository.BookFacetCount;
+import at.technikum.springrestbackend.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookFacetService")
+class BookFacetServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookFacetService service;
+
+    private static BookSnapshot snapshot(
+            final Long id,
+            final BookCondition condition,
+            final String language,
+            final ListingStatus status
+    ) {
+        return new BookSnapshot(id, 1L, "Title", "Author", language, condition,
+                ExchangeType.GIVEAWAY, status, null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.countAvailableByFacet()).thenReturn(List.of(
+                new BookFacetCount(BookCondition.GOOD, ExchangeType.GIVEAWAY, "en", 3),
+                new BookFacetCount(BookCondition.GOOD, ExchangeType.EXCHANGE_ONLY, "de", 2),
+                new BookFacetCount(BookCondition.USED, ExchangeType.GIVEAWAY, null, 4)));
+        service.rebuild();
+    }
+
+    @Nested
+    @DisplayName("getFacets()")
+    class GetFacets {
+
+        @Test
+        @DisplayName("counts every facet value when no filter is set")
+        void countsWithoutFilters() {
+            BookFacetsDto facets = service.getFacets(null, null, null, null);
+
+            assertThat(facets.getTotal()).isEqualTo(9);
+            assertThat(facets.getConditions())
+                    .containsEntry(BookCondition.GOOD, 5L)
+                    .containsEntry(BookCondition.USED, 4L)
+                    .containsEntry(BookCondition.NEW, 0L);
+            assertThat(facets.getExchangeTypes())
+                    .containsEntry(ExchangeType.GIVEAWAY, 7L)
+                    .containsEntry(ExchangeType.EXCHANGE_ONLY, 2L);
+            assertThat(facets.getLanguages()).containsOnlyKeys("de", "en");
+        }
+
+        @Test
+        @DisplayName("applies all filters except the facet's own")
+        void excludesOwnFilter() {
+            BookFacetsDto facets = service.getFacets(
+                    BookCondition.GOOD, ExchangeType.GIVEAWAY, " EN ", null);
+
+            assertThat(facets.getTotal()).isEqualTo(3);
+            assertThat(facets.getConditions()).containsEntry(BookCondition.GOOD, 3L)
+                    .containsEntry(BookCondition.USED, 0L);
+            assertThat(facets.getExchangeTypes()).containsEntry(ExchangeType.EXCHANGE_ONLY, 0L);
+            assertThat(facets.getLanguages()).containsEntry("en", 3L).doesNotContainKey("de");
+        }
+
+        @Test
+        @DisplayName("uses one grouped query when a search text is given")
+        void usesGroupedQueryForSearch() {
+            when(bookRepository.countAvailableByFacetMatching("%dune%")).thenReturn(List.of(
+                    new BookFacetCount(BookCondition.NEW, ExchangeType.GIVEAWAY, "en", 1)));
+
+            BookFacetsDto facets = service.getFacets(null, null, "", "  Dune ");
+
+            assertThat(facets.getTotal()).isEqualTo(1);
+            assertThat(facets.getConditions()).containsEntry(BookCondition.NEW, 1L);
+            verify(bookRepository).countAvailableByFacetMatching("%dune%");
+        }
+    }
+
+    @Nested
+    @DisplayName("onBookChanged()")
+    class OnBookChanged {
+
+        @Test
+        @DisplayName("counts newly created available listings")
+        void countsCreatedListing() {
+            service.onBookChanged(BookChangedEvent.created(
+                    snapshot(10L, BookCondition.NEW, "En", ListingStatus.AVAILABLE)));
+
+            BookFacetsDto facets = service.getFacets(null, null, null, null);
+            assertThat(facets.getTotal()).isEqualTo(10);
+            assertThat(facets.getLanguages()).containsEntry("en", 4L);
+        }
+
+        @Test
+        @DisplayName("moves a listing between buckets on update")
+        void movesUpdatedListing() {
+            service.onBookChanged(BookChangedEvent.updated(
+                    snapshot(10L, BookCondition.GOOD, "en", ListingStatus.AVAILABLE),
+                    snapshot(10L, BookCondition.USED, "en", ListingStatus.AVAILABLE)));
+
+            BookFacetsDto facets = service.getFacets(null, null, null, null);
+            assertThat(facets.getConditions()).containsEntry(BookCondition.GOOD, 4L)
+                    .containsEntry(BookCondition.USED, 5L);
+        }
+
+        @Test
+        @DisplayName("removes listings that stop being available or are deleted")
+        void removesUnavailableListings() {
+            service.onBookChanged(BookChangedEvent.updated(
+                    snapshot(10L, BookCondition.GOOD, "en", ListingStatus.AVAILABLE),
+                    snapshot(10L, BookCondition.GOOD, "en", ListingStatus.RESERVED)));
+            service.onBookChanged(BookChangedEvent.deleted(
+                    snapshot(11L, BookCondition.GOOD, "en", ListingStatus.AVAILABLE)));
+            service.onBookChanged(BookChangedEvent.deleted(
+                    snapshot(12L, BookCondition.GOOD, "en", ListingStatus.EXCHANGED)));
+
+            BookFacetsDto facets = service.getFacets(null, null, "en", null);
+            assertThat(facets.getTotal()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild()")
+    class Rebuild {
+
+        private final BookChangedEvent created = BookChangedEvent.created(
+                snapshot(10L, BookCondition.NEW, "en", ListingStatus.AVAILABLE));
+
+        @Test
+        @DisplayName("recounts keys changed after the rebuild query read its snapshot")
+        void recountsChangeMissedByQuery() {
+            when(bookRepository.countAvailableByFacet()).thenAnswer(invocation -> {
+                service.onBookChanged(created);
+                return List.of();
+            });
+            when(bookRepository.countAvailableByFacetKey(
+                    BookCondition.NEW, ExchangeType.GIVEAWAY, "en")).thenReturn(1L);
+
+            service.rebuild();
+
+            BookFacetsDto facets = service.getFacets(null, null, null, null);
+            assertThat(facets.getTotal()).isEqualTo(1);
+            assertThat(facets.getConditions()).containsEntry(BookCondition.NEW, 1L);
+        }
+
+        @Test
+        @DisplayName("does not count a change twice when the rebuild query already saw it")
+        void recountsChangeSeenByQuery() {
+            when(bookRepository.countAvailableByFacet()).thenAnswer(invocation -> {
+                service.onBookChanged(created);
+                return List.of(
+                        new BookFacetCount(BookCondition.NEW, ExchangeType.GIVEAWAY, "en", 1));
+            });
+            when(bookRepository.countAvailableByFacetKey(
+                    BookCondition.NEW, ExchangeType.GIVEAWAY, "en")).thenReturn(1L);
+
+            service.rebuild();
+
+            assertThat(service.getFacets(null, null, null, null).getTotal()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("counts a key again when it changes while it is recounted")
+        void recountsAgainAfterConcurrentChange() {
+            when(bookRepository.countAvailableByFacet()).thenAnswer(invocation -> {
+                service.onBookChanged(created);
+                return List.of();
+            });
+            when(bookRepository.countAvailableByFacetKey(
+                    BookCondition.NEW, ExchangeType.GIVEAWAY, "en"))
+                    .thenAnswer(invocation -> {
+                        service.onBookChanged(BookChangedEvent.created(
+                                snapshot(11L, BookCondition.NEW, "en", ListingStatus.AVAILABLE)));
+                        return 1L;
+                    })
+                    .thenReturn(2L);
+
+            service.rebuild();
+
+            assertThat(service.getFacets(null, null, null, null).getTotal()).isEqualTo(2);
+            verify(bookRepository, times(2)).countAvailableByFacetKey(
+                    BookCondition.NEW, ExchangeType.GIVEAWAY, "en");
+        }
+
+        @Test
+        @DisplayName("stops tracking changes once the rebuild has finished")
+        void stopsTrackingAfterRebuild() {
+            service.onBookChanged(created);
+
+            assertThat(service.getFacets(null, null, null, null).getTotal()).isEqualTo(10);
+            verify(bookRepository, never()).countAvailableByFacetKey(any(), any(), any());
+        }
+    }
+}
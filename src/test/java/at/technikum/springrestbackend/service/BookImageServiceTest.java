@@ -0,0 +1,225 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.ForbiddenOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookImageService")
+class BookImageServiceTest {
+
+    private static final String NEW_KEY = "books/sha256/new.jpg";
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @InjectMocks
+    private BookImageService service;
+
+    private final MultipartFile file = mock(MultipartFile.class);
+    private final BookResponseDto response = new BookResponseDto();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setRole(Role.USER);
+    }
+
+    private void stubUpload(final String objectKey) {
+        when(fileStorageService.uploadBookImage(file)).thenReturn(
+                new FileStorageService.StoredFileResult(objectKey, "image/jpeg", 2048L));
+    }
+
+    private void stubSwap(final String previousObjectKey) {
+        when(bookService.replaceBookImage(7L, NEW_KEY, "image/jpeg", user))
+                .thenReturn(new BookService.ImageSwap(response, previousObjectKey));
+    }
+
+    @Nested
+    @DisplayName("uploadImage()")
+    class UploadImage {
+
+        @Test
+        @DisplayName("swaps in one call and removes the replaced object afterwards")
+        void removesReplacedObject() {
+            stubUpload(NEW_KEY);
+            stubSwap("books/old.jpg");
+
+            BookResponseDto result = service.uploadImage(7L, file, user);
+
+            assertThat(result).isSameAs(response);
+            verify(fileStorageService).deleteObjectQuietly("books/old.jpg");
+            verify(bookService, never()).getBookEntityById(any());
+        }
+
+        @Test
+        @DisplayName("authorises the request before storing the file")
+        void authorisesBeforeStoring() {
+            stubUpload(NEW_KEY);
+            stubSwap(null);
+
+            service.uploadImage(7L, file, user);
+
+            InOrder order = inOrder(bookService, fileStorageService);
+            order.verify(bookService).verifyBookOwnerOrAdmin(7L, user);
+            order.verify(fileStorageService).uploadBookImage(file);
+            order.verify(bookService).replaceBookImage(7L, NEW_KEY, "image/jpeg", user);
+        }
+
+        @Test
+        @DisplayName("rejects a user who may not modify the listing without storing anything")
+        void rejectsBeforeStoring() {
+            doThrow(new ForbiddenOperationException("not yours"))
+                    .when(bookService).verifyBookOwnerOrAdmin(7L, user);
+
+            assertThatThrownBy(() -> service.uploadImage(7L, file, user))
+                    .isInstanceOf(ForbiddenOperationException.class);
+
+            verifyNoInteractions(fileStorageService);
+        }
+
+        @ParameterizedTest(name = "previous key=''{0}''")
+        @NullAndEmptySource
+        @ValueSource(strings = {"   ", NEW_KEY})
+        @DisplayName("keeps storage untouched when nothing was replaced")
+        void skipsCleanupWithoutReplacedObject(final String previousObjectKey) {
+            stubUpload(NEW_KEY);
+            stubSwap(previousObjectKey);
+
+            service.uploadImage(7L, file, user);
+
+            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+        }
+
+        @Test
+        @DisplayName("removes the new object when the swap loses a concurrent update")
+        void removesNewObjectOnFailedSwap() {
+            stubUpload(NEW_KEY);
+            when(bookService.replaceBookImage(any(), any(), any(), any()))
+                    .thenThrow(new ObjectOptimisticLockingFailureException("Book", 7L));
+
+            assertThatThrownBy(() -> service.uploadImage(7L, file, user))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+            verify(fileStorageService).deleteObjectQuietly(NEW_KEY);
+        }
+
+        @Test
+        @DisplayName("keeps the new object after a failed swap when another listing uses it")
+        void keepsSharedObjectOnFailedSwap() {
+            stubUpload(NEW_KEY);
+            when(bookService.replaceBookImage(any(), any(), any(), any()))
+                    .thenThrow(new IllegalStateException("db down"));
+            when(bookService.isImageInUse(NEW_KEY)).thenReturn(true);
+
+            assertThatThrownBy(() -> service.uploadImage(7L, file, user))
+                    .hasMessageContaining("db down");
+
+            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+        }
+
+        @Test
+        @DisplayName("does not touch the listing when the upload itself fails")
+        void stopsWhenUploadFails() {
+            when(fileStorageService.uploadBookImage(file))
+                    .thenThrow(new IllegalStateException("MinIO unavailable"));
+
+            assertThatThrownBy(() -> service.uploadImage(7L, file, user))
+                    .hasMessageContaining("MinIO unavailable");
+
+            verify(bookService, never()).replaceBookImage(any(), any(), any(), any());
+            verify(fileStorageService, never()).deleteObjectQuietly(anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("completeDirectUpload() attaches the verified object")
+    void completesDirectUpload() {
+        when(fileStorageService.verifyDirectUpload(7L, NEW_KEY)).thenReturn(
+                new FileStorageService.StoredFileResult(NEW_KEY, "image/jpeg", 2048L));
+        stubSwap("books/old.jpg");
+
+        assertThat(service.completeDirectUpload(7L, NEW_KEY, user)).isSameAs(response);
+        verify(fileStorageService).deleteObjectQuietly("books/old.jpg");
+    }
+
+    @Test
+    @DisplayName("completeDirectUpload() rejects a foreign listing before verifying the object")
+    void rejectsForeignDirectUpload() {
+        doThrow(new ForbiddenOperationException("not yours"))
+                .when(bookService).verifyBookOwnerOrAdmin(7L, user);
+
+        assertThatThrownBy(() -> service.completeDirectUpload(7L, NEW_KEY, user))
+                .isInstanceOf(ForbiddenOperationException.class);
+
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Nested
+    @DisplayName("removeImage() and deleteBook()")
+    class Removal {
+
+        @Test
+        @DisplayName("removes the cleared image after the listing is updated")
+        void removesClearedImage() {
+            when(bookService.removeBookImage(9L, user))
+                    .thenReturn(new BookService.ImageSwap(response, "books/cover.jpg"));
+
+            assertThat(service.removeImage(9L, user)).isSameAs(response);
+            verify(fileStorageService).deleteObjectQuietly("books/cover.jpg");
+        }
+
+        @Test
+        @DisplayName("skips storage when the listing had no image")
+        void skipsMissingImage() {
+            when(bookService.removeBookImage(9L, user))
+                    .thenReturn(new BookService.ImageSwap(response, null));
+
+            service.removeImage(9L, user);
+
+            verify(fileStorageService, never()).deleteObjectQuietly(any());
+        }
+
+        @Test
+        @DisplayName("removes the image of a deleted listing")
+        void removesImageOfDeletedBook() {
+            when(bookService.deleteBook(5L, user)).thenReturn("books/cover.jpg");
+
+            service.deleteBook(5L, user);
+
+            verify(fileStorageService).deleteObjectQuietly("books/cover.jpg");
+        }
+    }
+}
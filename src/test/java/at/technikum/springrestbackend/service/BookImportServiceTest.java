@@ -0,0 +1,294 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookCreateRequestDto;
+import at.technikum.springrestbackend.dto.BookImportReportDto;
+import at.technikum.springrestbackend.dto.BookImportRowResultDto;
+import at.technikum.springrestbackend.dto.BookImportRowStatus;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookImportService")
+class BookImportServiceTest {
+
+    private static final String VALID_ROW = "{\"title\":\"Dune\",\"authorName\":\"Herbert\","
+            + "\"description\":\"Spice\",\"condition\":\"GOOD\",\"exchangeType\":\"GIVEAWAY\"}";
+
+    private static final Validator VALIDATOR =
+            Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private BookService bookService;
+
+    private BookImportService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new BookImportService(bookService, new ObjectMapper(), VALIDATOR, 2, 5);
+        user = new User();
+        user.setId(1L);
+        user.setRole(Role.USER);
+    }
+
+    private InputStream body(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void stubSequentialIds() {
+        AtomicLong nextId = new AtomicLong(100);
+        when(bookService.createBooks(anyList(), any(User.class))).thenAnswer(invocation -> {
+            List<?> requests = invocation.getArgument(0);
+            return requests.stream().map(request -> nextId.getAndIncrement()).toList();
+        });
+    }
+
+    private List<BookImportRowStatus> statuses(final BookImportReportDto report) {
+        return report.getRows().stream().map(BookImportRowResultDto::getStatus).toList();
+    }
+
+    @Nested
+    @DisplayName("formats")
+    class Formats {
+
+        @Test
+        @DisplayName("imports a JSON array in chunks of the configured batch size")
+        @SuppressWarnings("unchecked")
+        void importsJsonArrayInChunks() {
+            stubSequentialIds();
+
+            BookImportReportDto report = service.importBooks(
+                    body("[" + VALID_ROW + "," + VALID_ROW + "," + VALID_ROW + "]"),
+                    "application/json", user);
+
+            ArgumentCaptor<List<BookCreateRequestDto>> captor =
+                    ArgumentCaptor.forClass(List.class);
+            verify(bookService, times(2)).createBooks(captor.capture(), any(User.class));
+            assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+            assertThat(report.getImportedCount()).isEqualTo(3);
+            assertThat(report.getRows()).extracting(BookImportRowResultDto::getBookId)
+                    .containsExactly(100L, 101L, 102L);
+        }
+
+        @Test
+        @DisplayName("imports newline-delimited JSON")
+        void importsNdjson() {
+            stubSequentialIds();
+
+            BookImportReportDto report = service.importBooks(
+                    body(VALID_ROW + "\n" + VALID_ROW + "\n"), "application/x-ndjson", user);
+
+            assertThat(report.getTotalRows()).isEqualTo(2);
+            assertThat(report.getFailedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("imports CSV with a header row")
+        @SuppressWarnings("unchecked")
+        void importsCsv() {
+            stubSequentialIds();
+            String csv = "title,authorName,description,language,condition,exchangeType\n"
+                    + "Dune,Herbert,\"Spice, sand\",en,GOOD,EXCHANGE_ONLY\n";
+
+            BookImportReportDto report = service.importBooks(body(csv), "text/csv", user);
+
+            ArgumentCaptor<List<BookCreateRequestDto>> captor =
+                    ArgumentCaptor.forClass(List.class);
+            verify(bookService).createBooks(captor.capture(), any(User.class));
+            BookCreateRequestDto request = captor.getValue().get(0);
+            assertThat(request.getDescription()).isEqualTo("Spice, sand");
+            assertThat(request.getExchangeType()).isEqualTo(ExchangeType.EXCHANGE_ONLY);
+            assertThat(report.getImportedCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("row failures")
+    class RowFailures {
+
+        @Test
+        @DisplayName("reports validation errors per row and keeps importing the rest")
+        void reportsValidationErrors() {
+            stubSequentialIds();
+            String invalid = "{\"title\":\"\",\"authorName\":\"A\",\"description\":\"D\","
+                    + "\"condition\":\"GOOD\",\"exchangeType\":\"GIVEAWAY\"}";
+
+            BookImportReportDto report = service.importBooks(
+                    body("[" + invalid + "," + VALID_ROW + "]"), "application/json", user);
+
+            assertThat(statuses(report)).containsExactly(
+                    BookImportRowStatus.FAILED, BookImportRowStatus.IMPORTED);
+            assertThat(report.getRows().get(0).getErrors())
+                    .containsExactly("title: Title is required");
+            assertThat(report.getRows().get(1).getRowNumber()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("reports rows whose values cannot be bound")
+        void reportsUnbindableRows() {
+            BookImportReportDto report = service.importBooks(
+                    body("[{\"title\":\"T\",\"condition\":\"MINT\"}]"), "application/json", user);
+
+            assertThat(report.getFailedCount()).isEqualTo(1);
+            assertThat(report.getRows().get(0).getErrors().get(0))
+                    .startsWith("Row could not be read");
+            verify(bookService, never()).createBooks(anyList(), any(User.class));
+        }
+
+        @Test
+        @DisplayName("stores valid rows before malformed input and reports the break")
+        void stopsAtMalformedInput() {
+            stubSequentialIds();
+
+            BookImportReportDto report = service.importBooks(
+                    body(VALID_ROW + "\n{\"title\": oops"), "application/x-ndjson", user);
+
+            assertThat(statuses(report)).containsExactly(
+                    BookImportRowStatus.IMPORTED, BookImportRowStatus.FAILED);
+            assertThat(report.getRows().get(1).getErrors().get(0)).startsWith("Malformed input");
+        }
+
+        @Test
+        @DisplayName("rejects rows beyond the configured maximum")
+        void enforcesRowLimit() {
+            stubSequentialIds();
+            String rows = String.join("\n", List.of(
+                    VALID_ROW, VALID_ROW, VALID_ROW, VALID_ROW, VALID_ROW, VALID_ROW, VALID_ROW));
+
+            BookImportReportDto report = service.importBooks(
+                    body(rows), "application/x-ndjson", user);
+
+            assertThat(report.getImportedCount()).isEqualTo(5);
+            assertThat(report.getFailedCount()).isEqualTo(1);
+            assertThat(report.getRows().get(5).getErrors())
+                    .containsExactly("Import is limited to 5 rows");
+        }
+
+        @Test
+        @DisplayName("retries a failed chunk row by row and fails only the offending row")
+        void retriesFailedChunkRowByRow() {
+            when(bookService.createBooks(anyList(), any(User.class))).thenAnswer(invocation -> {
+                List<BookCreateRequestDto> requests = invocation.getArgument(0);
+                if (requests.stream().anyMatch(request -> "Bad".equals(request.getTitle()))) {
+                    throw new DataIntegrityViolationException("constraint violated");
+                }
+                return requests.stream().map(request -> 100L).toList();
+            });
+            String badRow = VALID_ROW.replace("\"Dune\"", "\"Bad\"");
+
+            BookImportReportDto report = service.importBooks(
+                    body("[" + VALID_ROW + "," + badRow + "," + VALID_ROW + "]"),
+                    "application/json", user);
+
+            assertThat(statuses(report)).containsExactly(BookImportRowStatus.IMPORTED,
+                    BookImportRowStatus.FAILED, BookImportRowStatus.IMPORTED);
+            assertThat(report.getRows().get(1).getErrors())
+                    .containsExactly("Row could not be stored");
+        }
+
+        @Test
+        @DisplayName("marks a single-row chunk as failed when a constraint rejects it")
+        void reportsConstraintFailures() {
+            when(bookService.createBooks(anyList(), any(User.class)))
+                    .thenThrow(new DataIntegrityViolationException("value too long"));
+
+            BookImportReportDto report = service.importBooks(
+                    body("[" + VALID_ROW + "]"), "application/json", user);
+
+            assertThat(report.getFailedCount()).isEqualTo(1);
+            assertThat(report.getRows().get(0).getErrors())
+                    .containsExactly("Row could not be stored");
+            verify(bookService).createBooks(anyList(), any(User.class));
+        }
+
+        @Test
+        @DisplayName("aborts the import without row-by-row retries when storing fails otherwise")
+        void abortsOnStorageOutage() {
+            when(bookService.createBooks(anyList(), any(User.class)))
+                    .thenThrow(new DataAccessResourceFailureException("db down"));
+            String rows = String.join("\n", List.of(VALID_ROW, VALID_ROW, VALID_ROW, VALID_ROW));
+
+            BookImportReportDto report = service.importBooks(
+                    body(rows), "application/x-ndjson", user);
+
+            assertThat(report.getRows()).extracting(BookImportRowResultDto::getRowNumber)
+                    .containsExactly(1L, 2L, 3L);
+            assertThat(report.getRows()).allSatisfy(row -> assertThat(row.getErrors())
+                    .containsExactly("Import aborted: listings could not be stored"));
+            verify(bookService).createBooks(anyList(), any(User.class));
+        }
+        @Test
+        @DisplayName("stops the row-by-row retry when a row fails for another reason")
+        void abortsDuringRowByRowRetry() {
+            when(bookService.createBooks(anyList(), any(User.class)))
+                    .thenThrow(new DataIntegrityViolationException("constraint violated"))
+                    .thenReturn(List.of(100L))
+                    .thenThrow(new DataAccessResourceFailureException("db down"));
+            String rows = String.join("\n", List.of(VALID_ROW, VALID_ROW, VALID_ROW));
+
+            BookImportReportDto report = service.importBooks(
+                    body(rows), "application/x-ndjson", user);
+
+            assertThat(statuses(report)).containsExactly(BookImportRowStatus.IMPORTED,
+                    BookImportRowStatus.FAILED, BookImportRowStatus.FAILED);
+            assertThat(report.getRows().get(1).getErrors())
+                    .containsExactly("Import aborted: listings could not be stored");
+            verify(bookService, times(3)).createBooks(anyList(), any(User.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("request validation")
+    class RequestValidation {
+
+        @Test
+        @DisplayName("requires an authenticated user")
+        void requiresUser() {
+            assertThatThrownBy(() -> service.importBooks(body("[]"), "application/json", null))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("Authenticated user");
+        }
+
+        @ParameterizedTest(name = "contentType=''{0}''")
+        @NullAndEmptySource
+        @ValueSource(strings = {"text/plain", "not a media type"})
+        @DisplayName("rejects missing or unsupported content types")
+        void rejectsUnsupportedContentTypes(final String contentType) {
+            assertThatThrownBy(() -> service.importBooks(body("[]"), contentType, user))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+}
@@ -1,18 +1,31 @@
 package at.technikum.springrestbackend.service;
 
+import at.technikum.springrestbackend.cache.CacheNames;
 import at.technikum.springrestbackend.dto.BookCreateRequestDto;
 import at.technikum.springrestbackend.dto.BookResponseDto;
 import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
+import at.technikum.springrestbackend.dto.ResponseFields;
 import at.technikum.springrestbackend.entity.Book;
 import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.Comment;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
 import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
 import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookChangeType;
+import at.technikum.springrestbackend.event.BookChangedEvent;
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.ForbiddenOperationException;
 import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.SyncTombstoneRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -22,18 +35,28 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +68,22 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Spy
+    private JsonMergePatcher jsonMergePatcher = new JsonMergePatcher(
+            new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
     @InjectMocks
     private BookService bookService;
 
@@ -91,7 +130,7 @@ class BookServiceTest {
         dto.setLanguage("de");
         dto.setCondition(BookCondition.USED);
         dto.setExchangeType(ExchangeType.GIVEAWAY);
-        dto.setStatus(ListingStatus.RESERVED);
+        dto.setStatus(ListingStatus.EXCHANGED);
         return dto;
     }
 
@@ -111,7 +150,7 @@ class BookServiceTest {
                     .thenReturn(new PageImpl<>(books));
 
             Page<BookResponseDto> result = bookService.getLatestPublicBooks(
-                    Pageable.unpaged(), null, null, null, null);
+                    Pageable.unpaged(), null, null, null, null, ResponseFields.ALL);
 
             assertThat(result.getContent()).hasSize(2);
             assertThat(result.getContent().get(0).getId()).isEqualTo(2L);
@@ -120,6 +159,23 @@ class BookServiceTest {
             assertThat(result.getContent().get(0).getOwnerUsername()).isEqualTo(owner.getUsername());
         }
 
+        @Test
+        @DisplayName("does not build the image URL or description unless they are selected")
+        void skipsUnselectedCostlyProperties() {
+            Book book = buildBook(1L, buildUser(1L, Role.USER), ListingStatus.AVAILABLE);
+            book.setImageObjectKey("books/1.jpg");
+            when(bookRepository.findAll(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(book)));
+
+            BookResponseDto result = bookService.getLatestPublicBooks(Pageable.unpaged(),
+                    null, null, null, null, ResponseFields.parse("id, title")).getContent().get(0);
+
+            assertThat(result.getTitle()).isEqualTo("Title 1");
+            assertThat(result.getDescription()).isNull();
+            assertThat(result.getImageUrl()).isNull();
+            verify(fileStorageService, never()).resolveImageUrl(any());
+        }
+
         @Test
         @DisplayName("returns empty page when no available books exist")
         void returnsEmptyListWhenNoBooksAvailable() {
@@ -127,7 +183,7 @@ class BookServiceTest {
                     .thenReturn(Page.empty());
 
             assertThat(bookService.getLatestPublicBooks(
-                    Pageable.unpaged(), null, null, null, null).getContent()).isEmpty();
+                    Pageable.unpaged(), null, null, null, null, ResponseFields.ALL).getContent()).isEmpty();
         }
     }
 
@@ -148,6 +204,26 @@ class BookServiceTest {
             assertThat(result.getTitle()).isEqualTo("Title 10");
         }
 
+        @Test
+        @DisplayName("caches the listing without its image URL and resolves the URL per read")
+        void resolvesImageUrlOnEveryRead() {
+            Book book = buildBook(10L, buildUser(1L, Role.USER), ListingStatus.AVAILABLE);
+            book.setImageObjectKey("books/10.jpg");
+            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
+            when(fileStorageService.resolveImageUrl("books/10.jpg"))
+                    .thenReturn("https://cdn/first", "https://cdn/second");
+
+            BookResponseDto first = bookService.getPublicBookById(10L);
+            BookResponseDto second = bookService.getPublicBookById(10L);
+
+            assertThat(first.getImageUrl()).isEqualTo("https://cdn/first");
+            assertThat(second.getImageUrl()).isEqualTo("https://cdn/second");
+            assertThat(cacheManager.getCache(CacheNames.BOOKS).get(10L).get())
+                    .isInstanceOfSatisfying(CachedBookListing.class, cached -> assertThat(
+                            cached.listing().getImageUrl()).isNull());
+            verify(bookRepository).findById(10L);
+        }
+
         @ParameterizedTest(name = "status={0} → ResourceNotFoundException")
         @ValueSource(strings = {"RESERVED", "EXCHANGED"})
         @DisplayName("throws ResourceNotFoundException for non-AVAILABLE status (security by obscurity)")
@@ -183,7 +259,7 @@ class BookServiceTest {
             List<Book> books = List.of(buildBook(1L, owner, ListingStatus.AVAILABLE));
             when(bookRepository.findAllByOwnerIdOrderByCreatedAtDesc(5L)).thenReturn(books);
 
-            List<BookResponseDto> result = bookService.getBooksOfUser(owner);
+            List<BookResponseDto> result = bookService.getBooksOfUser(owner, ResponseFields.ALL);
 
             assertThat(result).hasSize(1);
         }
@@ -191,7 +267,7 @@ class BookServiceTest {
         @Test
         @DisplayName("throws BadRequestException when user is null")
         void throwsWhenUserIsNull() {
-            assertThatThrownBy(() -> bookService.getBooksOfUser(null))
+            assertThatThrownBy(() -> bookService.getBooksOfUser(null, ResponseFields.ALL))
                     .isInstanceOf(BadRequestException.class);
             verify(bookRepository, never()).findAllByOwnerIdOrderByCreatedAtDesc(any());
         }
@@ -201,7 +277,7 @@ class BookServiceTest {
         void throwsWhenUserHasNullId() {
             User userWithoutId = new User();
 
-            assertThatThrownBy(() -> bookService.getBooksOfUser(userWithoutId))
+            assertThatThrownBy(() -> bookService.getBooksOfUser(userWithoutId, ResponseFields.ALL))
                     .isInstanceOf(BadRequestException.class);
             verify(bookRepository, never()).findAllByOwnerIdOrderByCreatedAtDesc(any());
         }
@@ -271,6 +347,12 @@ class BookServiceTest {
             verify(bookRepository).save(captor.capture());
             assertThat(captor.getValue().getLanguage()).isEqualTo("english");
             assertThat(captor.getValue().getOwner()).isEqualTo(owner);
+
+            ArgumentCaptor<BookChangedEvent> eventCaptor =
+                    ArgumentCaptor.forClass(BookChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().type()).isEqualTo(BookChangeType.CREATED);
+            assertThat(eventCaptor.getValue().after().ownerId()).isEqualTo(1L);
         }
 
         @Test
@@ -320,6 +402,83 @@ class BookServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getPublicBooksByIds(List)")
+    class GetPublicBooksByIds {
+
+        @Test
+        @DisplayName("returns available books in requested order, skipping missing ids")
+        void preservesRequestedOrder() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findAllByIdInAndStatus(any(), any())).thenReturn(List.of(
+                    buildBook(1L, owner, ListingStatus.AVAILABLE),
+                    buildBook(3L, owner, ListingStatus.AVAILABLE)));
+
+            List<BookResponseDto> result = bookService.getPublicBooksByIds(
+                    Arrays.asList(3L, 2L, null, 1L, 3L), ResponseFields.ALL);
+
+            assertThat(result).extracting(BookResponseDto::getId).containsExactly(3L, 1L);
+            verify(bookRepository).findAllByIdInAndStatus(
+                    Set.of(3L, 2L, 1L), ListingStatus.AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("returns an empty list without querying for null or empty input")
+        void returnsEmptyForNoIds() {
+            assertThat(bookService.getPublicBooksByIds(null, ResponseFields.ALL)).isEmpty();
+            assertThat(bookService.getPublicBooksByIds(List.of(), ResponseFields.ALL)).isEmpty();
+            verify(bookRepository, never()).findAllByIdInAndStatus(any(), any());
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when too many ids are requested")
+        void rejectsTooManyIds() {
+            List<Long> ids = LongStream
+                    .rangeClosed(1, BookService.MAX_BATCH_IDS + 1).boxed().toList();
+
+            assertThatThrownBy(() -> bookService.getPublicBooksByIds(ids, ResponseFields.ALL))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("createBooks(List, User)")
+    class CreateBooks {
+
+        @Test
+        @DisplayName("saves all requests as AVAILABLE listings and returns ids in order")
+        @SuppressWarnings("unchecked")
+        void savesAllAndReturnsIds() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.saveAll(any(List.class))).thenAnswer(invocation -> {
+                List<Book> books = invocation.getArgument(0);
+                for (int i = 0; i < books.size(); i++) {
+                    books.get(i).setId(10L + i);
+                }
+                return books;
+            });
+
+            List<Long> ids = bookService.createBooks(
+                    List.of(buildCreateRequest(" en "), buildCreateRequest(null)), owner);
+
+            assertThat(ids).containsExactly(10L, 11L);
+            ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+            verify(bookRepository).saveAll(captor.capture());
+            assertThat(captor.getValue()).allSatisfy(book -> {
+                assertThat(book.getOwner()).isEqualTo(owner);
+                assertThat(book.getStatus()).isEqualTo(ListingStatus.AVAILABLE);
+            });
+            assertThat(captor.getValue().get(0).getLanguage()).isEqualTo("en");
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException without an authenticated user")
+        void requiresUser() {
+            assertThatThrownBy(() -> bookService.createBooks(List.of(), null))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
     @Nested
     @DisplayName("updateBook(Long, BookUpdateRequestDto, User)")
     class UpdateBook {
@@ -335,7 +494,13 @@ class BookServiceTest {
             BookResponseDto result = bookService.updateBook(10L, buildUpdateRequest(), owner);
 
             assertThat(result.getTitle()).isEqualTo("Updated Title");
-            assertThat(result.getStatus()).isEqualTo(ListingStatus.RESERVED);
+            assertThat(result.getStatus()).isEqualTo(ListingStatus.EXCHANGED);
+
+            ArgumentCaptor<BookChangedEvent> captor = ArgumentCaptor.forClass(BookChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().type()).isEqualTo(BookChangeType.UPDATED);
+            assertThat(captor.getValue().before().status()).isEqualTo(ListingStatus.AVAILABLE);
+            assertThat(captor.getValue().after().status()).isEqualTo(ListingStatus.EXCHANGED);
         }
 
         @Test
@@ -398,6 +563,156 @@ class BookServiceTest {
             assertThatThrownBy(() -> bookService.updateBook(99L, buildUpdateRequest(), user))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("throws BadRequestException when the request reserves the listing")
+        void rejectsManualReservation() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findById(10L))
+                    .thenReturn(Optional.of(buildBook(10L, owner, ListingStatus.AVAILABLE)));
+            BookUpdateRequestDto request = buildUpdateRequest();
+            request.setStatus(ListingStatus.RESERVED);
+
+            assertThatThrownBy(() -> bookService.updateBook(10L, request, owner))
+                    .isInstanceOf(BadRequestException.class);
+            verify(bookRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("patchBook(Long, JsonNode, User)")
+    class PatchBook {
+
+        @Test
+        @DisplayName("changes only the patched fields and publishes the update")
+        void changesPatchedFields() {
+            User owner = buildUser(1L, Role.USER);
+            Book existing = buildBook(10L, owner, ListingStatus.AVAILABLE);
+            when(bookRepository.findById(10L)).thenReturn(Optional.of(existing));
+            when(bookRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            ObjectNode patch = JsonNodeFactory.instance.objectNode()
+                    .put("title", "  Patched  ")
+                    .putNull("language");
+
+            BookResponseDto result = bookService.patchBook(10L, patch, owner);
+
+            assertThat(result.getTitle()).isEqualTo("Patched");
+            assertThat(result.getLanguage()).isNull();
+            assertThat(result.getDescription()).isEqualTo("Description 10");
+            assertThat(result.getExchangeType()).isEqualTo(ExchangeType.EXCHANGE_ONLY);
+            verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("rejects patches that remove required fields")
+        void rejectsRemovingRequiredFields() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findById(10L))
+                    .thenReturn(Optional.of(buildBook(10L, owner, ListingStatus.AVAILABLE)));
+            ObjectNode patch = JsonNodeFactory.instance.objectNode().putNull("status");
+
+            assertThatThrownBy(() -> bookService.patchBook(10L, patch, owner))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("status");
+            verify(bookRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("throws ForbiddenOperationException for non-owners")
+        void throwsForNonOwner() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findById(10L))
+                    .thenReturn(Optional.of(buildBook(10L, owner, ListingStatus.AVAILABLE)));
+
+            assertThatThrownBy(() -> bookService.patchBook(
+                    10L, JsonNodeFactory.instance.objectNode(), buildUser(2L, Role.USER)))
+                    .isInstanceOf(ForbiddenOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("updateBookStatus(Long, ListingStatus, User)")
+    class UpdateBookStatus {
+
+        private BookState state(final Long ownerId, final ListingStatus status) {
+            return new BookState(10L, ownerId, "Title", "Author", "en", BookCondition.GOOD,
+                    ExchangeType.GIVEAWAY, status, null, 3L, null, null);
+        }
+
+        @Test
+        @DisplayName("issues one conditional update and publishes the status change")
+        void updatesStatus() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findStateById(10L))
+                    .thenReturn(Optional.of(state(1L, ListingStatus.AVAILABLE)));
+            when(bookRepository.updateStatus(eq(10L), eq(3L), eq(ListingStatus.EXCHANGED), any()))
+                    .thenReturn(true);
+
+            bookService.updateBookStatus(10L, ListingStatus.EXCHANGED, owner);
+
+            ArgumentCaptor<BookChangedEvent> captor = ArgumentCaptor.forClass(BookChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().before().status()).isEqualTo(ListingStatus.AVAILABLE);
+            assertThat(captor.getValue().after().status()).isEqualTo(ListingStatus.EXCHANGED);
+            assertThat(captor.getValue().after().updatedAt()).isNotNull();
+            verify(bookRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("skips the update when the status is unchanged")
+        void skipsUnchangedStatus() {
+            User admin = buildUser(99L, Role.ADMIN);
+            when(bookRepository.findStateById(10L))
+                    .thenReturn(Optional.of(state(1L, ListingStatus.RESERVED)));
+
+            bookService.updateBookStatus(10L, ListingStatus.RESERVED, admin);
+
+            verify(bookRepository, never()).updateStatus(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException instead of reserving the listing")
+        void rejectsManualReservation() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findStateById(10L))
+                    .thenReturn(Optional.of(state(1L, ListingStatus.AVAILABLE)));
+
+            assertThatThrownBy(() -> bookService.updateBookStatus(
+                    10L, ListingStatus.RESERVED, owner))
+                    .isInstanceOf(BadRequestException.class);
+            verify(bookRepository, never()).updateStatus(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("reports a conflict when the listing changed after it was read")
+        void reportsConcurrentChange() {
+            User owner = buildUser(1L, Role.USER);
+            when(bookRepository.findStateById(10L))
+                    .thenReturn(Optional.of(state(1L, ListingStatus.AVAILABLE)));
+            when(bookRepository.updateStatus(any(), any(), any(), any())).thenReturn(false);
+
+            assertThatThrownBy(() -> bookService.updateBookStatus(
+                    10L, ListingStatus.EXCHANGED, owner))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("rejects strangers and unknown listings")
+        void rejectsStrangersAndUnknownListings() {
+            User stranger = buildUser(2L, Role.USER);
+            when(bookRepository.findStateById(10L))
+                    .thenReturn(Optional.of(state(1L, ListingStatus.AVAILABLE)));
+            when(bookRepository.findStateById(11L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> bookService.updateBookStatus(
+                    10L, ListingStatus.RESERVED, stranger))
+                    .isInstanceOf(ForbiddenOperationException.class);
+            assertThatThrownBy(() -> bookService.updateBookStatus(
+                    11L, ListingStatus.RESERVED, stranger))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
     }
 
     @Nested
@@ -409,11 +724,40 @@ class BookServiceTest {
         void ownerCanDelete() {
             User owner = buildUser(1L, Role.USER);
             Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
+            book.setImageObjectKey("books/cover.jpg");
             when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
 
-            bookService.deleteBook(10L, owner);
+            String removedImageKey = bookService.deleteBook(10L, owner);
 
             verify(bookRepository).delete(book);
+            assertThat(removedImageKey).isEqualTo("books/cover.jpg");
+            ArgumentCaptor<BookChangedEvent> captor = ArgumentCaptor.forClass(BookChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().type()).isEqualTo(BookChangeType.DELETED);
+            assertThat(captor.getValue().before().id()).isEqualTo(10L);
+            assertThat(captor.getValue().statusChanged()).isTrue();
+        }
+
+        @Test
+        @DisplayName("records sync tombstones for the book and its comments")
+        void recordsTombstones() {
+            User owner = buildUser(1L, Role.USER);
+            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
+            Comment comment = new Comment();
+            comment.setId(7L);
+            comment.setAuthor(buildUser(2L, Role.USER));
+            book.getComments().add(comment);
+            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
+
+            bookService.deleteBook(10L, owner);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<SyncTombstone>> captor = ArgumentCaptor.forClass(List.class);
+            verify(syncTombstoneRepository).saveAll(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting("entityType", "entityId", "userId")
+                    .containsExactly(tuple(SyncEntityType.BOOK, 10L, 1L),
+                            tuple(SyncEntityType.COMMENT, 7L, 2L));
         }
 
         @Test
@@ -454,55 +798,31 @@ class BookServiceTest {
     }
 
     @Nested
-    @DisplayName("updateBookImageMetadata()")
-    class UpdateBookImageMetadata {
+    @DisplayName("replaceBookImage()")
+    class ReplaceBookImage {
 
         @Test
-        @DisplayName("updates image metadata fields and trims whitespace")
+        @DisplayName("swaps the image fields, returns the previous key and resolves a signed URL")
         void updatesImageMetadataSuccessfully() {
             User owner = buildUser(1L, Role.USER);
             Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
+            book.setImageObjectKey("obj/old");
             when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
             when(bookRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(fileStorageService.resolveImageUrl("obj/key"))
+                    .thenReturn("http://img.url/obj/key?X-Amz-Signature=abc");
 
-            BookResponseDto result = bookService.updateBookImageMetadata(
-                    10L, "  http://img.url/a.jpg  ", "  obj/key  ", "  image/jpeg  ", owner
+            BookService.ImageSwap result = bookService.replaceBookImage(
+                    10L, "  obj/key  ", "  image/jpeg  ", owner
             );
 
             ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
             verify(bookRepository).save(captor.capture());
-            assertThat(captor.getValue().getImageUrl()).isEqualTo("http://img.url/a.jpg");
             assertThat(captor.getValue().getImageObjectKey()).isEqualTo("obj/key");
             assertThat(captor.getValue().getImageContentType()).isEqualTo("image/jpeg");
-            assertThat(result.getImageUrl()).isEqualTo("http://img.url/a.jpg");
-        }
-
-        @ParameterizedTest(name = "imageUrl=\"{0}\" → BadRequestException")
-        @ValueSource(strings = {"", "   "})
-        @DisplayName("EDGE: throws BadRequestException for blank imageUrl")
-        void throwsForBlankImageUrl(String blankUrl) {
-            User owner = buildUser(1L, Role.USER);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
-
-            assertThatThrownBy(() ->
-                    bookService.updateBookImageMetadata(10L, blankUrl, "key", "type", owner))
-                    .isInstanceOf(BadRequestException.class)
-                    .hasMessageContaining("Image URL");
-            verify(bookRepository, never()).save(any());
-        }
-
-        @Test
-        @DisplayName("throws BadRequestException for null imageUrl")
-        void throwsForNullImageUrl() {
-            User owner = buildUser(1L, Role.USER);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
-
-            assertThatThrownBy(() ->
-                    bookService.updateBookImageMetadata(10L, null, "key", "type", owner))
-                    .isInstanceOf(BadRequestException.class)
-                    .hasMessageContaining("Image URL");
+            assertThat(result.previousObjectKey()).isEqualTo("obj/old");
+            assertThat(result.book().getImageUrl())
+                    .isEqualTo("http://img.url/obj/key?X-Amz-Signature=abc");
         }
 
         @ParameterizedTest(name = "imageObjectKey=\"{0}\" → BadRequestException")
@@ -510,13 +830,12 @@ class BookServiceTest {
         @DisplayName("EDGE: throws BadRequestException for blank imageObjectKey")
         void throwsForBlankImageObjectKey(String blankKey) {
             User owner = buildUser(1L, Role.USER);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
 
             assertThatThrownBy(() ->
-                    bookService.updateBookImageMetadata(10L, "http://url", blankKey, "type", owner))
+                    bookService.replaceBookImage(10L, blankKey, "type", owner))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessageContaining("object key");
+            verify(bookRepository, never()).findById(any());
         }
 
         @ParameterizedTest(name = "imageContentType=\"{0}\" → BadRequestException")
@@ -524,11 +843,9 @@ class BookServiceTest {
         @DisplayName("EDGE: throws BadRequestException for blank imageContentType")
         void throwsForBlankContentType(String blankType) {
             User owner = buildUser(1L, Role.USER);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
 
             assertThatThrownBy(() ->
-                    bookService.updateBookImageMetadata(10L, "http://url", "key", blankType, owner))
+                    bookService.replaceBookImage(10L, "key", blankType, owner))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessageContaining("content type");
         }
@@ -542,31 +859,30 @@ class BookServiceTest {
             when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
 
             assertThatThrownBy(() ->
-                    bookService.updateBookImageMetadata(10L, "url", "key", "type", stranger))
+                    bookService.replaceBookImage(10L, "key", "type", stranger))
                     .isInstanceOf(ForbiddenOperationException.class);
         }
     }
 
     @Nested
-    @DisplayName("clearBookImageMetadata(Long, User)")
-    class ClearBookImageMetadata {
+    @DisplayName("removeBookImage(Long, User)")
+    class RemoveBookImage {
 
         @Test
         @DisplayName("sets all image fields to null in the saved entity")
         void setsAllImageFieldsToNull() {
             User owner = buildUser(1L, Role.USER);
             Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            book.setImageUrl("http://old-url.com");
             book.setImageObjectKey("old/key");
             book.setImageContentType("image/png");
             when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
             when(bookRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
-            bookService.clearBookImageMetadata(10L, owner);
+            BookService.ImageSwap result = bookService.removeBookImage(10L, owner);
 
             ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
             verify(bookRepository).save(captor.capture());
-            assertThat(captor.getValue().getImageUrl()).isNull();
+            assertThat(result.previousObjectKey()).isEqualTo("old/key");
             assertThat(captor.getValue().getImageObjectKey()).isNull();
             assertThat(captor.getValue().getImageContentType()).isNull();
         }
@@ -579,7 +895,7 @@ class BookServiceTest {
             Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
             when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
 
-            assertThatThrownBy(() -> bookService.clearBookImageMetadata(10L, stranger))
+            assertThatThrownBy(() -> bookService.removeBookImage(10L, stranger))
                     .isInstanceOf(ForbiddenOperationException.class);
             verify(bookRepository, never()).save(any());
         }
@@ -589,23 +905,28 @@ class BookServiceTest {
     @DisplayName("verifyBookOwnerOrAdmin(Long, User)")
     class VerifyBookOwnerOrAdmin {
 
+        private void stubOwner(final Long ownerId) {
+            when(bookRepository.findStateById(10L)).thenReturn(Optional.of(new BookState(
+                    10L, ownerId, "Title", "Author", "en", BookCondition.GOOD,
+                    ExchangeType.GIVEAWAY, ListingStatus.AVAILABLE, null, 3L, null, null)));
+        }
+
         @Test
         @DisplayName("does not throw for the book owner")
         void doesNotThrowForOwner() {
             User owner = buildUser(1L, Role.USER);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
+            stubOwner(1L);
 
             bookService.verifyBookOwnerOrAdmin(10L, owner);
+
+            verify(bookRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("does not throw for admin user")
         void doesNotThrowForAdmin() {
-            User owner = buildUser(1L, Role.USER);
             User admin = buildUser(99L, Role.ADMIN);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
+            stubOwner(1L);
 
             bookService.verifyBookOwnerOrAdmin(10L, admin);
         }
@@ -613,21 +934,29 @@ class BookServiceTest {
         @Test
         @DisplayName("throws ForbiddenOperationException for unrelated user")
         void throwsForUnrelatedUser() {
-            User owner = buildUser(1L, Role.USER);
             User stranger = buildUser(2L, Role.USER);
-            Book book = buildBook(10L, owner, ListingStatus.AVAILABLE);
-            when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
+            stubOwner(1L);
 
             assertThatThrownBy(() -> bookService.verifyBookOwnerOrAdmin(10L, stranger))
                     .isInstanceOf(ForbiddenOperationException.class);
         }
 
+        @Test
+        @DisplayName("throws ResourceNotFoundException for an unknown listing")
+        void throwsForUnknownListing() {
+            when(bookRepository.findStateById(10L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> bookService.verifyBookOwnerOrAdmin(
+                    10L, buildUser(1L, Role.USER)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
         @Test
         @DisplayName("throws BadRequestException for null user (auth guard)")
         void throwsForNullUser() {
             assertThatThrownBy(() -> bookService.verifyBookOwnerOrAdmin(10L, null))
                     .isInstanceOf(BadRequestException.class);
-            verify(bookRepository, never()).findById(any());
+            verify(bookRepository, never()).findStateById(any());
         }
     }
 
@@ -0,0 +1,47 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import at.technikum.springrestbackend.mapper.BookMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BookStreamService")
+class BookStreamServiceTest {
+
+    private BookStreamService bookStreamService;
+
+    @BeforeEach
+    void setUp() {
+        bookStreamService = new BookStreamService(new BookMapper(), 10, 10, 1, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("subscribe() rejects subscribers beyond the limit with 503")
+    void rejectsSubscribersBeyondLimit() {
+        assertThat(bookStreamService.subscribe(null, null, " ", null)).isNotNull();
+
+        assertThatThrownBy(() -> bookStreamService.subscribe(null, null, null, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("shutdown() completes open streams, which frees their slots")
+    void shutdownCompletesStreams() {
+        bookStreamService.subscribe(null, null, null, null);
+        bookStreamService.sendHeartbeats();
+
+        bookStreamService.shutdown();
+
+        assertThat(bookStreamService.subscribe(null, null, null, null)).isNotNull();
+    }
+}
@@ -9,10 +9,20 @@ import at.technikum.springrestbackend.entity.Comment;
 import at.technikum.springrestbackend.entity.ExchangeType;
 import at.technikum.springrestbackend.entity.ListingStatus;
 import at.technikum.springrestbackend.entity.Role;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
 import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.CommentChangeType;
+import at.technikum.springrestbackend.event.CommentChangedEvent;
+import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.ForbiddenOperationException;
 import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.repository.CommentRepository;
+import at.technikum.springrestbackend.repository.SyncTombstoneRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -22,8 +32,12 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +58,16 @@ class CommentServiceTest {
     @Mock
     private BookService bookService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Spy
+    private JsonMergePatcher jsonMergePatcher = new JsonMergePatcher(
+            new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator());
+
     @InjectMocks
     private CommentService commentService;
 
@@ -144,6 +168,39 @@ class CommentServiceTest {
 
    //  getCommentsOfUser
 
+    @Nested
+    @DisplayName("getCommentsForPublicBookSince(Long, LocalDateTime, int)")
+    class GetCommentsForPublicBookSince {
+
+        @Test
+        @DisplayName("returns the comments created after the given time for AVAILABLE book")
+        void returnsDelta() {
+            User author = buildUser(1L, Role.USER);
+            Book book = buildBook(10L, ListingStatus.AVAILABLE);
+            LocalDateTime since = LocalDateTime.of(2026, 1, 1, 12, 0);
+            when(bookService.getBookEntityById(10L)).thenReturn(book);
+            when(commentRepository.findAllByBookIdAndCreatedAtGreaterThanOrderByCreatedAtAscIdAsc(
+                    10L, since, PageRequest.of(0, 20)))
+                    .thenReturn(List.of(buildComment(5L, "Fifth", author, book)));
+
+            List<CommentResponseDto> result =
+                    commentService.getCommentsForPublicBookSince(10L, since, 20);
+
+            assertThat(result).extracting(CommentResponseDto::getId).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("throws ResourceNotFoundException for a book that is not AVAILABLE")
+        void throwsForNonAvailableBook() {
+            when(bookService.getBookEntityById(10L))
+                    .thenReturn(buildBook(10L, ListingStatus.RESERVED));
+
+            assertThatThrownBy(() -> commentService.getCommentsForPublicBookSince(
+                    10L, LocalDateTime.now(), 20))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getCommentsOfUser(User)")
     class GetCommentsOfUser {
@@ -235,7 +292,7 @@ class CommentServiceTest {
             User author = buildUser(1L, Role.USER);
             Book book = buildBook(10L, ListingStatus.AVAILABLE);
             when(bookService.getBookEntityById(10L)).thenReturn(book);
-            when(commentRepository.save(any(Comment.class))).thenAnswer(inv -> {
+            when(commentRepository.saveAndFlush(any(Comment.class))).thenAnswer(inv -> {
                 Comment c = inv.getArgument(0);
                 c.setId(99L);
                 return c;
@@ -249,10 +306,12 @@ class CommentServiceTest {
             assertThat(result.getContent()).isEqualTo("Great listing!");
 
             ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
-            verify(commentRepository).save(captor.capture());
+            verify(commentRepository).saveAndFlush(captor.capture());
             assertThat(captor.getValue().getBook()).isEqualTo(book);
             assertThat(captor.getValue().getAuthor()).isEqualTo(author);
             assertThat(captor.getValue().getContent()).isEqualTo("Great listing!");
+            verify(eventPublisher).publishEvent(new CommentChangedEvent(
+                    CommentChangeType.CREATED, 10L, result));
         }
 
         @ParameterizedTest(name = "status={0} → ForbiddenOperationException")
@@ -270,6 +329,40 @@ class CommentServiceTest {
         }
     }
 
+    //  patchComment
+
+    @Nested
+    @DisplayName("patchComment(Long, JsonNode, User)")
+    class PatchComment {
+
+        @Test
+        @DisplayName("author can replace the content with a merge patch")
+        void authorCanPatch() {
+            User author = buildUser(1L, Role.USER);
+            Comment comment = buildComment(5L, "old", author, buildBook(10L, ListingStatus.AVAILABLE));
+            when(commentRepository.findById(5L)).thenReturn(Optional.of(comment));
+            when(commentRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            CommentResponseDto result = commentService.patchComment(
+                    5L, JsonNodeFactory.instance.objectNode().put("content", "new"), author);
+
+            assertThat(result.getContent()).isEqualTo("new");
+        }
+
+        @Test
+        @DisplayName("rejects removing the content")
+        void rejectsRemovingContent() {
+            User author = buildUser(1L, Role.USER);
+            Comment comment = buildComment(5L, "old", author, buildBook(10L, ListingStatus.AVAILABLE));
+            when(commentRepository.findById(5L)).thenReturn(Optional.of(comment));
+            ObjectNode patch = JsonNodeFactory.instance.objectNode().putNull("content");
+
+            assertThatThrownBy(() -> commentService.patchComment(5L, patch, author))
+                    .isInstanceOf(BadRequestException.class);
+            assertThat(comment.getContent()).isEqualTo("old");
+        }
+    }
+
     //  updateComment
 
     @Nested
@@ -290,6 +383,7 @@ class CommentServiceTest {
             );
 
             assertThat(result.getContent()).isEqualTo("new content");
+            verify(eventPublisher).publishEvent(CommentChangedEvent.updated(result));
         }
 
         @Test
@@ -396,6 +490,16 @@ class CommentServiceTest {
             commentService.deleteComment(5L, author);
 
             verify(commentRepository).delete(comment);
+            ArgumentCaptor<CommentChangedEvent> captor =
+                    ArgumentCaptor.forClass(CommentChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().type()).isEqualTo(CommentChangeType.DELETED);
+            assertThat(captor.getValue().comment().getId()).isEqualTo(5L);
+            ArgumentCaptor<SyncTombstone> tombstone = ArgumentCaptor.forClass(SyncTombstone.class);
+            verify(syncTombstoneRepository).save(tombstone.capture());
+            assertThat(tombstone.getValue().getEntityType()).isEqualTo(SyncEntityType.COMMENT);
+            assertThat(tombstone.getValue().getEntityId()).isEqualTo(5L);
+            assertThat(tombstone.getValue().getUserId()).isEqualTo(1L);
         }
 
         @Test
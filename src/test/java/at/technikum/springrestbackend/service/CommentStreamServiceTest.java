@@ -0,0 +1,195 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.event.CommentChangedEvent;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentStreamService")
+class CommentStreamServiceTest {
+
+    @Mock
+    private CommentService commentService;
+
+    private CommentStreamService commentStreamService;
+
+    @BeforeEach
+    void setUp() {
+        commentStreamService = new CommentStreamService(commentService, 8, 2, 1000, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentStreamService.shutdown();
+    }
+
+    private static final LocalDateTime SEEN_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final String SEEN_POSITION = "2026-01-01T12:00_7";
+
+    private static CommentResponseDto buildComment(Long id, Long bookId) {
+        return buildComment(id, bookId, SEEN_AT);
+    }
+
+    private static CommentResponseDto buildComment(Long id, Long bookId, LocalDateTime createdAt) {
+        CommentResponseDto comment = new CommentResponseDto();
+        comment.setId(id);
+        comment.setBookId(bookId);
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+
+    private static BookSnapshot buildBook(Long id, ListingStatus status) {
+        return new BookSnapshot(id, 1L, "Dune", "Herbert", "en", BookCondition.GOOD,
+                ExchangeType.GIVEAWAY, status, LocalDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("topic registry")
+    class TopicRegistry {
+
+        @Test
+        @DisplayName("keeps one topic per watched book and drops it with its last subscriber")
+        void dropsEmptyTopics() {
+            commentStreamService.subscribe(10L, null);
+            commentStreamService.subscribe(10L, null);
+            assertThat(commentStreamService.topicCount()).isEqualTo(1);
+
+            commentStreamService.onBookChanged(BookChangedEvent.updated(
+                    buildBook(10L, ListingStatus.AVAILABLE),
+                    buildBook(10L, ListingStatus.RESERVED)));
+
+            assertThat(commentStreamService.topicCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("ignores comments and still-available listings nobody watches")
+        void ignoresUnwatchedBooks() {
+            commentStreamService.subscribe(10L, null);
+
+            commentStreamService.onCommentChanged(CommentChangedEvent.created(
+                    buildComment(1L, 20L)));
+            commentStreamService.onCommentChanged(CommentChangedEvent.updated(
+                    buildComment(2L, 10L)));
+            commentStreamService.onBookChanged(BookChangedEvent.updated(
+                    buildBook(10L, ListingStatus.AVAILABLE),
+                    buildBook(10L, ListingStatus.AVAILABLE)));
+            commentStreamService.onBookChanged(BookChangedEvent.deleted(
+                    buildBook(20L, ListingStatus.AVAILABLE)));
+            commentStreamService.sendHeartbeats();
+
+            assertThat(commentStreamService.topicCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("rejects subscribers beyond the limit with 503")
+        void rejectsSubscribersBeyondLimit() {
+            commentStreamService.subscribe(10L, null);
+            commentStreamService.subscribe(20L, null);
+
+            assertThatThrownBy(() -> commentStreamService.subscribe(30L, null))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(commentStreamService.topicCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe()")
+    class Subscribe {
+
+        @Test
+        @DisplayName("loads comments from the settle window before Last-Event-ID, one more "
+                + "than the limit")
+        void loadsDelta() {
+            when(commentService.getCommentsForPublicBookSince(10L, SEEN_AT.minusSeconds(10), 3))
+                    .thenReturn(List.of(buildComment(7L, 10L),
+                            buildComment(3L, 10L, SEEN_AT.plusSeconds(1))));
+
+            assertThat(commentStreamService.subscribe(10L, " " + SEEN_POSITION + " "))
+                    .isNotNull();
+
+            verify(commentService, never()).requirePublicBook(10L);
+        }
+
+        @Test
+        @DisplayName("still subscribes when the client is too far behind")
+        void subscribesWhenTooFarBehind() {
+            when(commentService.getCommentsForPublicBookSince(10L, SEEN_AT.minusSeconds(10), 3))
+                    .thenReturn(List.of(buildComment(7L, 10L), buildComment(8L, 10L),
+                            buildComment(9L, 10L)));
+
+            commentStreamService.subscribe(10L, SEEN_POSITION);
+
+            assertThat(commentStreamService.topicCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("still subscribes when a comment may have committed after the position")
+        void subscribesWhenGapIsUnknown() {
+            when(commentService.getCommentsForPublicBookSince(10L, SEEN_AT.minusSeconds(10), 3))
+                    .thenReturn(List.of(buildComment(12L, 10L, SEEN_AT.minusSeconds(2)),
+                            buildComment(7L, 10L)));
+
+            commentStreamService.subscribe(10L, SEEN_POSITION);
+
+            assertThat(commentStreamService.topicCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("subscribes from now when Last-Event-ID is not a position")
+        void subscribesWithoutUsablePosition() {
+            assertThat(commentStreamService.subscribe(10L, "7")).isNotNull();
+
+            verify(commentService).requirePublicBook(10L);
+            verify(commentService, never()).getCommentsForPublicBookSince(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("checks the listing without a usable Last-Event-ID")
+        void checksListingWithoutPosition() {
+            doThrow(new ResourceNotFoundException("Public book listing not found"))
+                    .when(commentService).requirePublicBook(10L);
+
+            assertThatThrownBy(() -> commentStreamService.subscribe(10L, "abc"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(commentStreamService.topicCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("unregisters the subscriber when loading the delta fails")
+        void unregistersOnFailedCatchUp() {
+            when(commentService.getCommentsForPublicBookSince(10L, SEEN_AT.minusSeconds(10), 3))
+                    .thenThrow(new ResourceNotFoundException("Public book listing not found"));
+
+            assertThatThrownBy(() -> commentStreamService.subscribe(10L, SEEN_POSITION))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(commentStreamService.topicCount()).isZero();
+            assertThat(commentStreamService.subscribe(20L, null)).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.ObjectKeyClaim;
+import at.technikum.springrestbackend.entity.PendingObjectDeletion;
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.ObjectKeyClaimRepository;
+import at.technikum.springrestbackend.repository.PendingObjectDeletionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeferredObjectDeletionService")
+class DeferredObjectDeletionServiceTest {
+
+    @Mock
+    private PendingObjectDeletionRepository pendingDeletionRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ObjectKeyClaimRepository objectKeyClaimRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectStorageCircuitBreaker storageCircuitBreaker;
+
+    private DeferredObjectDeletionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeferredObjectDeletionService(
+                pendingDeletionRepository, bookRepository, objectKeyClaimRepository,
+                fileStorageService, storageCircuitBreaker, transactionManager, 10, 600);
+    }
+
+    private PendingObjectDeletion pending(final String objectKey, final int attempts) {
+        PendingObjectDeletion deletion = new PendingObjectDeletion();
+        deletion.setObjectKey(objectKey);
+        deletion.setAttempts(attempts);
+        deletion.setNextAttemptAt(LocalDateTime.now().minusMinutes(1));
+        return deletion;
+    }
+
+    private void stubDue(final PendingObjectDeletion... deletions) {
+        when(storageCircuitBreaker.isCallPermitted()).thenReturn(true);
+        when(pendingDeletionRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(deletions));
+    }
+
+    @Test
+    @DisplayName("deletes the object and drops the queue entry on success")
+    void deletesDueEntries() {
+        PendingObjectDeletion deletion = pending("books/a.jpg", 0);
+        stubDue(deletion);
+
+        service.retryPendingDeletions();
+
+        verify(fileStorageService).deleteObject("books/a.jpg");
+        verify(pendingDeletionRepository).delete(deletion);
+    }
+
+    private ObjectKeyClaim stubClaim(final String objectKey, final LocalDateTime claimedAt) {
+        ObjectKeyClaim claim = new ObjectKeyClaim(objectKey, claimedAt);
+        when(objectKeyClaimRepository.findByObjectKey(objectKey)).thenReturn(Optional.of(claim));
+        return claim;
+    }
+
+    @Test
+    @DisplayName("keeps shared objects that a listing still references")
+    void keepsReferencedObjects() {
+        PendingObjectDeletion deletion = pending("books/sha256/abc.jpg", 0);
+        stubDue(deletion);
+        stubClaim("books/sha256/abc.jpg", LocalDateTime.now().minusHours(1));
+        when(bookRepository.existsByImageObjectKey("books/sha256/abc.jpg")).thenReturn(true);
+
+        service.retryPendingDeletions();
+
+        verify(fileStorageService, never()).deleteObject(any());
+        verify(pendingDeletionRepository).delete(deletion);
+    }
+
+    @Test
+    @DisplayName("postpones shared objects that an upload claimed recently")
+    void postponesRecentlyClaimedObjects() {
+        PendingObjectDeletion deletion = pending("books/sha256/abc.jpg", 0);
+        stubDue(deletion);
+        LocalDateTime claimedAt = LocalDateTime.now().minusSeconds(30);
+        stubClaim("books/sha256/abc.jpg", claimedAt);
+
+        service.retryPendingDeletions();
+
+        verify(fileStorageService, never()).deleteObject(any());
+        verify(bookRepository, never()).existsByImageObjectKey(any());
+        assertThat(deletion.getNextAttemptAt()).isEqualTo(claimedAt.plusSeconds(600));
+        assertThat(deletion.getAttempts()).isZero();
+        verify(pendingDeletionRepository).save(deletion);
+    }
+
+    @Test
+    @DisplayName("deletes unreferenced shared objects together with their claim")
+    void deletesUnclaimedSharedObjects() {
+        PendingObjectDeletion deletion = pending("books/sha256/abc.jpg", 0);
+        stubDue(deletion);
+        ObjectKeyClaim claim = stubClaim("books/sha256/abc.jpg", LocalDateTime.now().minusHours(1));
+
+        service.retryPendingDeletions();
+
+        verify(fileStorageService).deleteObject("books/sha256/abc.jpg");
+        verify(objectKeyClaimRepository).delete(claim);
+        verify(pendingDeletionRepository).delete(deletion);
+    }
+
+    @Test
+    @DisplayName("creates a lapsed claim to lock shared objects that were never claimed")
+    void locksUnclaimedSharedObjects() {
+        PendingObjectDeletion deletion = pending("books/sha256/abc.jpg", 0);
+        stubDue(deletion);
+        when(objectKeyClaimRepository.findByObjectKey("books/sha256/abc.jpg"))
+                .thenReturn(Optional.empty());
+        when(objectKeyClaimRepository.saveAndFlush(any(ObjectKeyClaim.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.retryPendingDeletions();
+
+        verify(fileStorageService).deleteObject("books/sha256/abc.jpg");
+        verify(pendingDeletionRepository).delete(deletion);
+    }
+
+    @Test
+    @DisplayName("backs off exponentially after a failed attempt")
+    void backsOffAfterFailure() {
+        PendingObjectDeletion deletion = pending("books/a.jpg", 2);
+        stubDue(deletion);
+        doThrow(new IllegalStateException("MinIO down"))
+                .when(fileStorageService).deleteObject("books/a.jpg");
+
+        service.retryPendingDeletions();
+
+        assertThat(deletion.getAttempts()).isEqualTo(3);
+        assertThat(deletion.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(7));
+        verify(pendingDeletionRepository).save(deletion);
+    }
+
+    @Test
+    @DisplayName("stops the round when storage starts rejecting calls")
+    void stopsWhenStorageRejects() {
+        PendingObjectDeletion first = pending("books/a.jpg", 0);
+        PendingObjectDeletion second = pending("books/b.jpg", 0);
+        stubDue(first, second);
+        doThrow(new ServiceUnavailableException("busy", 30))
+                .when(fileStorageService).deleteObject("books/a.jpg");
+
+        service.retryPendingDeletions();
+
+        verify(fileStorageService, never()).deleteObject("books/b.jpg");
+        verify(pendingDeletionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("skips the round while the circuit breaker is open")
+    void skipsWhileOpen() {
+        when(storageCircuitBreaker.isCallPermitted()).thenReturn(false);
+
+        service.retryPendingDeletions();
+
+        verifyNoInteractions(pendingDeletionRepository, fileStorageService);
+    }
+
+    @Test
+    @DisplayName("publishes the queue length as a gauge")
+    void publishesPendingGauge() {
+        when(pendingDeletionRepository.count()).thenReturn(3L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        service.bindTo(registry);
+
+        assertThat(registry.get("minio.deletions.pending").gauge().value()).isEqualTo(3);
+    }
+}
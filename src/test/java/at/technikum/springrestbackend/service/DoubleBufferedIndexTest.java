@@ -0,0 +1,66 @@
+package at.technikum.springrestbackend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DoubleBufferedIndex")
+class DoubleBufferedIndexTest {
+
+    private final DoubleBufferedIndex<Map<Long, String>> index =
+            new DoubleBufferedIndex<>(ConcurrentHashMap::new);
+
+    @Test
+    @DisplayName("swaps in the rebuilt index and keeps changes made while it was loaded")
+    void keepsChangesDuringRebuild() {
+        index.apply(1L, target -> target.put(1L, "drifted"));
+
+        index.rebuild(loader -> {
+            index.apply(2L, target -> target.put(2L, "changed"));
+            loader.load(3L, target -> target.put(3L, "loaded"));
+        });
+
+        assertThat(index.current()).containsOnly(Map.entry(2L, "changed"), Map.entry(3L, "loaded"));
+    }
+
+    @Test
+    @DisplayName("skips loaded rows whose key changed after the rebuild started")
+    void skipsStaleRows() {
+        index.rebuild(loader -> {
+            index.apply(1L, target -> target.remove(1L));
+            index.apply(2L, target -> target.put(2L, "new"));
+            loader.load(1L, target -> target.put(1L, "stale"));
+            loader.load(2L, target -> target.put(2L, "stale"));
+        });
+
+        assertThat(index.current()).containsOnly(Map.entry(2L, "new"));
+    }
+
+    @Test
+    @DisplayName("forgets changed keys once the rebuild has finished")
+    void resetsAfterRebuild() {
+        index.rebuild(loader -> index.apply(1L, target -> target.put(1L, "changed")));
+
+        index.rebuild(loader -> loader.load(1L, target -> target.put(1L, "loaded")));
+
+        assertThat(index.current()).containsOnly(Map.entry(1L, "loaded"));
+    }
+
+    @Test
+    @DisplayName("keeps serving the current index when the rebuild fails")
+    void keepsCurrentIndexOnFailure() {
+        index.apply(1L, target -> target.put(1L, "live"));
+
+        assertThatThrownBy(() -> index.rebuild(loader -> {
+            throw new IllegalStateException("database down");
+        })).hasMessage("database down");
+        index.apply(2L, target -> target.put(2L, "after"));
+
+        assertThat(index.current()).containsOnly(Map.entry(1L, "live"), Map.entry(2L, "after"));
+    }
+}
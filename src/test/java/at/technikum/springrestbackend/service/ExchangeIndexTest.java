@@ -0,0 +1,142 @@
+package at.technikum.springrestbackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExchangeIndex")
+class ExchangeIndexTest {
+
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+    private static final long CAROL = 3L;
+
+    private ExchangeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ExchangeIndex();
+        index.putListing(10L, ALICE, "Dune", "Frank Herbert");
+        index.putListing(20L, BOB, "Le Petit Prince", "Antoine de Saint-Exupéry");
+        index.putListing(30L, CAROL, "Neuromancer", "William Gibson");
+    }
+
+    private static List<Long> bookIds(final List<ExchangeIndex.Listing> exchange) {
+        return exchange.stream().map(ExchangeIndex.Listing::bookId).toList();
+    }
+
+    @Nested
+    @DisplayName("normalize()")
+    class Normalize {
+
+        @Test
+        @DisplayName("folds case, accents and punctuation")
+        void foldsCaseAccentsAndPunctuation() {
+            assertThat(ExchangeIndex.normalize("  Le Petit-Prince! "))
+                    .isEqualTo(ExchangeIndex.normalize("le petit prince"));
+            assertThat(ExchangeIndex.normalize("Saint-Exupéry")).isEqualTo("saint exupery");
+        }
+
+        @Test
+        @DisplayName("returns null for missing or empty values")
+        void returnsNullForEmptyValues() {
+            assertThat(ExchangeIndex.normalize(null)).isNull();
+            assertThat(ExchangeIndex.normalize(" -- ")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findExchanges()")
+    class FindExchanges {
+
+        @Test
+        @DisplayName("finds a direct swap between two users")
+        void findsDirectSwap() {
+            index.putWish(1L, ALICE, "le petit prince", null);
+            index.putWish(2L, BOB, null, "FRANK HERBERT");
+
+            List<List<ExchangeIndex.Listing>> exchanges = index.findExchanges(ALICE, 10, 10);
+
+            assertThat(exchanges).hasSize(1);
+            assertThat(bookIds(exchanges.get(0))).containsExactly(20L, 10L);
+        }
+
+        @Test
+        @DisplayName("finds a three-way cycle when no direct swap exists")
+        void findsCycle() {
+            index.putWish(1L, ALICE, "Le Petit Prince", null);
+            index.putWish(2L, BOB, "Neuromancer", "William Gibson");
+            index.putWish(3L, CAROL, "Dune", null);
+
+            List<List<ExchangeIndex.Listing>> exchanges = index.findExchanges(ALICE, 10, 10);
+
+            assertThat(exchanges).hasSize(1);
+            assertThat(bookIds(exchanges.get(0))).containsExactly(20L, 30L, 10L);
+            assertThat(bookIds(index.findExchanges(CAROL, 10, 10).get(0)))
+                    .containsExactly(10L, 20L, 30L);
+        }
+
+        @Test
+        @DisplayName("requires every given field of a wish to match")
+        void requiresAllFieldsToMatch() {
+            index.putWish(1L, ALICE, "Le Petit Prince", "Someone Else");
+            index.putWish(2L, BOB, "Dune", null);
+
+            assertThat(index.findExchanges(ALICE, 10, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("finds nothing for users without own listings or after a removal")
+        void findsNothingWithoutListings() {
+            index.putWish(1L, ALICE, "Le Petit Prince", null);
+            index.putWish(2L, BOB, "Dune", null);
+            index.putWish(4L, 4L, "Dune", null);
+
+            assertThat(index.findExchanges(4L, 10, 10)).isEmpty();
+            assertThat(index.findExchanges(ALICE, 0, 10)).isEmpty();
+
+            index.removeListing(10L);
+            assertThat(index.findExchanges(ALICE, 10, 10)).isEmpty();
+            assertThat(index.listingCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("forgets removed wishes and ignores wishes without title or author")
+        void forgetsRemovedWishes() {
+            index.putWish(1L, ALICE, "Le Petit Prince", null);
+            index.putWish(2L, BOB, "Dune", null);
+            index.removeWish(2L);
+            index.putWish(3L, BOB, " ", null);
+
+            assertThat(index.findExchanges(ALICE, 10, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("moves a listing to its new title when it is put again")
+        void reindexesChangedListing() {
+            index.putWish(1L, ALICE, "Le Petit Prince", null);
+            index.putWish(2L, BOB, "Dune", null);
+            index.putListing(10L, ALICE, "Dune Messiah", "Frank Herbert");
+
+            assertThat(index.findExchanges(ALICE, 10, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("stops at the result limit")
+        void stopsAtLimit() {
+            index.putListing(40L, 4L, "Le Petit Prince", null);
+            index.putWish(1L, ALICE, "Le Petit Prince", null);
+            index.putWish(2L, BOB, "Dune", null);
+            index.putWish(3L, 4L, "Dune", null);
+
+            assertThat(index.findExchanges(ALICE, 10, 10)).hasSize(2);
+            assertThat(index.findExchanges(ALICE, 1, 10)).hasSize(1);
+            assertThat(index.findExchanges(ALICE, 10, 1)).hasSize(1);
+        }
+    }
+}
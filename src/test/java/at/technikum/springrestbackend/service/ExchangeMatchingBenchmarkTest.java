@@ -0,0 +1,113 @@
+package at.technikum.springrestbackend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the exchange index over 1M listings and measures incremental updates and
+ * match queries, compared with answering a single query by scanning every listing.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark — exchange matching at 1M listings")
+class ExchangeMatchingBenchmarkTest {
+
+    private static final int USERS = 200_000;
+    private static final int LISTINGS_PER_USER = 5;
+    private static final int WISHES_PER_USER = 3;
+    private static final int TITLES = 100_000;
+    private static final int UPDATES = 100_000;
+    private static final int QUERIES = 2_000;
+
+    private final Random random = new Random(42);
+    private final String[] titles = new String[USERS * LISTINGS_PER_USER];
+
+    @Test
+    @DisplayName("index queries stay far below the cost of one full scan")
+    void measuresIndexAgainstScan() {
+        ExchangeIndex index = new ExchangeIndex();
+
+        long start = System.nanoTime();
+        populate(index);
+        double buildMs = millisSince(start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            int bookId = random.nextInt(titles.length);
+            titles[bookId] = title(random.nextInt(TITLES));
+            index.putListing(bookId, bookId / LISTINGS_PER_USER, titles[bookId], null);
+        }
+        double updateMicros = millisSince(start) * 1000 / UPDATES;
+
+        double[] queryMs = new double[QUERIES];
+        int found = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long queryStart = System.nanoTime();
+            found += index.findExchanges(random.nextInt(USERS), 50, 200).size();
+            queryMs[i] = millisSince(queryStart);
+        }
+        Arrays.sort(queryMs);
+
+        String[] keys = Arrays.stream(titles).map(ExchangeIndex::normalize)
+                .toArray(String[]::new);
+        start = System.nanoTime();
+        int scanned = scanDirectMatches(keys, random.nextInt(USERS));
+        double scanMs = millisSince(start);
+
+        System.out.printf("build=%.0f ms (%d listings), update=%.2f us, query p50=%.3f ms "
+                        + "p99=%.3f ms (%d exchanges), one direct-only scan=%.1f ms (%d)%n",
+                buildMs, index.listingCount(), updateMicros, queryMs[QUERIES / 2],
+                queryMs[QUERIES * 99 / 100], found, scanMs, scanned);
+        assertThat(index.listingCount()).isEqualTo(USERS * LISTINGS_PER_USER);
+        assertThat(queryMs[QUERIES / 2]).isLessThan(scanMs);
+    }
+
+    private void populate(final ExchangeIndex index) {
+        for (int bookId = 0; bookId < titles.length; bookId++) {
+            titles[bookId] = title(random.nextInt(TITLES));
+            index.putListing(bookId, bookId / LISTINGS_PER_USER, titles[bookId], null);
+        }
+        long wishId = 0;
+        for (int user = 0; user < USERS; user++) {
+            for (int i = 0; i < WISHES_PER_USER; i++) {
+                index.putWish(wishId++, user, title(random.nextInt(TITLES)), null);
+            }
+        }
+    }
+
+    /**
+     * What a request would cost without the index: walk every listing for the user's
+     * wishes, only to find the candidate partners of a direct swap. The listing keys are
+     * normalised up front, so only the comparisons are timed.
+     */
+    private int scanDirectMatches(final String[] keys, final int user) {
+        String[] wanted = new String[WISHES_PER_USER];
+        Random wishes = new Random(user);
+        for (int i = 0; i < WISHES_PER_USER; i++) {
+            wanted[i] = ExchangeIndex.normalize(title(wishes.nextInt(TITLES)));
+        }
+        int candidates = 0;
+        for (int bookId = 0; bookId < keys.length; bookId++) {
+            for (String title : wanted) {
+                if (title.equals(keys[bookId]) && bookId / LISTINGS_PER_USER != user) {
+                    candidates++;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static String title(final int id) {
+        return "Title " + id;
+    }
+
+    private static double millisSince(final long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,208 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.ExchangeMatchDto;
+import at.technikum.springrestbackend.dto.ExchangeMatchType;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.event.WantedBookChangedEvent;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.WantedBookRepository;
+import at.technikum.springrestbackend.repository.WantedBookState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeMatchingService")
+class ExchangeMatchingServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private WantedBookRepository wantedBookRepository;
+
+    private ExchangeMatchingService matchingService;
+
+    @BeforeEach
+    void setUp() {
+        matchingService = new ExchangeMatchingService(
+                bookRepository, wantedBookRepository, 10, 10, 2);
+    }
+
+    //  fixture helpers
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private BookSnapshot buildSnapshot(Long id, Long ownerId, String title, ExchangeType type,
+                                       ListingStatus status) {
+        return new BookSnapshot(id, ownerId, title, "Author " + ownerId, "en",
+                BookCondition.GOOD, type, status, LocalDateTime.now());
+    }
+
+    private BookState buildState(Long id, Long ownerId, String title) {
+        return new BookState(id, ownerId, title, "Author " + ownerId, "en", BookCondition.GOOD,
+                ExchangeType.EXCHANGE_ONLY, ListingStatus.AVAILABLE, LocalDateTime.now(), 0L,
+                null, null);
+    }
+
+    private void listBook(Long id, Long ownerId, String title) {
+        matchingService.onBookChanged(BookChangedEvent.created(buildSnapshot(
+                id, ownerId, title, ExchangeType.EXCHANGE_ONLY, ListingStatus.AVAILABLE)));
+    }
+
+    private void want(Long id, Long userId, String title) {
+        matchingService.onWantedBookChanged(WantedBookChangedEvent.saved(id, userId, title, null));
+    }
+
+    @Nested
+    @DisplayName("findMatches()")
+    class FindMatches {
+
+        @Test
+        @DisplayName("maps a direct swap to legs between the two users")
+        void mapsDirectSwap() {
+            listBook(10L, 1L, "Dune");
+            listBook(20L, 2L, "Emma");
+            want(1L, 1L, "Emma");
+            want(2L, 2L, "Dune");
+
+            List<ExchangeMatchDto> matches = matchingService.findMatches(buildUser(1L));
+
+            assertThat(matches).hasSize(1);
+            ExchangeMatchDto match = matches.get(0);
+            assertThat(match.getType()).isEqualTo(ExchangeMatchType.DIRECT);
+            assertThat(match.getLegs()).extracting("bookId", "fromUserId", "toUserId")
+                    .containsExactly(tuple(20L, 2L, 1L), tuple(10L, 1L, 2L));
+        }
+
+        @Test
+        @DisplayName("maps a three-way cycle and passes each listing to the previous owner")
+        void mapsCycle() {
+            listBook(10L, 1L, "Dune");
+            listBook(20L, 2L, "Emma");
+            listBook(30L, 3L, "Ulysses");
+            want(1L, 1L, "Emma");
+            want(2L, 2L, "Ulysses");
+            want(3L, 3L, "Dune");
+
+            ExchangeMatchDto match = matchingService.findMatches(buildUser(1L)).get(0);
+
+            assertThat(match.getType()).isEqualTo(ExchangeMatchType.CYCLE);
+            assertThat(match.getLegs()).extracting("toUserId").containsExactly(1L, 2L, 3L);
+            assertThat(match.getLegs()).extracting("fromUserId").containsExactly(2L, 3L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("change events")
+    class ChangeEvents {
+
+        @Test
+        @DisplayName("drops listings that stop being available exchange listings")
+        void dropsUnavailableListings() {
+            listBook(10L, 1L, "Dune");
+            listBook(20L, 2L, "Emma");
+            want(1L, 1L, "Emma");
+            want(2L, 2L, "Dune");
+            BookSnapshot before = buildSnapshot(
+                    20L, 2L, "Emma", ExchangeType.EXCHANGE_ONLY, ListingStatus.AVAILABLE);
+
+            matchingService.onBookChanged(BookChangedEvent.updated(before, buildSnapshot(
+                    20L, 2L, "Emma", ExchangeType.GIVEAWAY, ListingStatus.AVAILABLE)));
+            assertThat(matchingService.findMatches(buildUser(1L))).isEmpty();
+
+            listBook(20L, 2L, "Emma");
+            matchingService.onBookChanged(BookChangedEvent.updated(before, buildSnapshot(
+                    20L, 2L, "Emma", ExchangeType.EXCHANGE_ONLY, ListingStatus.RESERVED)));
+            assertThat(matchingService.findMatches(buildUser(1L))).isEmpty();
+
+            listBook(20L, 2L, "Emma");
+            matchingService.onBookChanged(BookChangedEvent.deleted(before));
+            assertThat(matchingService.findMatches(buildUser(1L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("forgets removed wanted books")
+        void forgetsRemovedWantedBooks() {
+            listBook(10L, 1L, "Dune");
+            listBook(20L, 2L, "Emma");
+            want(1L, 1L, "Emma");
+            want(2L, 2L, "Dune");
+
+            matchingService.onWantedBookChanged(WantedBookChangedEvent.removed(2L, 2L));
+
+            assertThat(matchingService.findMatches(buildUser(1L))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild()")
+    class Rebuild {
+
+        @Test
+        @DisplayName("loads listings and wanted books in id-ordered batches")
+        void loadsInBatches() {
+            when(bookRepository.findAvailableStatesAfter(anyLong(), any(), any(Pageable.class)))
+                    .thenReturn(List.of(buildState(10L, 1L, "Dune"), buildState(20L, 2L, "Emma")))
+                    .thenReturn(List.of());
+            // A change committed while the rebuild runs must survive the swap
+            doAnswer(invocation -> {
+                want(2L, 2L, "Dune");
+                return List.of(new WantedBookState(1L, 1L, "Emma", null));
+            }).when(wantedBookRepository).findStatesAfter(eq(0L), any(Pageable.class));
+
+            matchingService.rebuild();
+
+            assertThat(matchingService.findMatches(buildUser(1L))).hasSize(1);
+            verify(bookRepository).findAvailableStatesAfter(eq(20L), any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("skips loaded rows that a change replaced while the rebuild ran")
+        void skipsRowsChangedDuringRebuild() {
+            // The batch was read before the listing was deleted, but arrives afterwards
+            doAnswer(invocation -> {
+                matchingService.onBookChanged(BookChangedEvent.deleted(buildSnapshot(
+                        20L, 2L, "Emma", ExchangeType.EXCHANGE_ONLY, ListingStatus.AVAILABLE)));
+                return List.of(buildState(10L, 1L, "Dune"), buildState(20L, 2L, "Emma"));
+            }).doReturn(List.of()).when(bookRepository)
+                    .findAvailableStatesAfter(anyLong(), any(), any(Pageable.class));
+            when(wantedBookRepository.findStatesAfter(eq(0L), any(Pageable.class)))
+                    .thenReturn(List.of(new WantedBookState(1L, 1L, "Emma", null),
+                            new WantedBookState(2L, 2L, "Dune", null)));
+
+            matchingService.rebuild();
+
+            assertThat(matchingService.findMatches(buildUser(1L))).isEmpty();
+            listBook(20L, 2L, "Emma");
+            assertThat(matchingService.findMatches(buildUser(1L))).hasSize(1);
+        }
+    }
+}
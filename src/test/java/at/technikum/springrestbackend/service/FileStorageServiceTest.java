@@ -2,30 +2,56 @@ package at.technikum.springrestbackend.service;
 
 import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.InvalidFileTypeException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.repository.ObjectKeyClaimRepository;
+import at.technikum.springrestbackend.repository.PendingObjectDeletionRepository;
+import at.technikum.springrestbackend.dto.ImageUploadTicketDto;
+import at.technikum.springrestbackend.entity.ObjectKeyClaim;
+import at.technikum.springrestbackend.entity.PendingObjectDeletion;
 import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.PostPolicy;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import io.minio.http.Method;
+import okhttp3.Headers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,7 +60,11 @@ import static org.mockito.Mockito.when;
 class FileStorageServiceTest {
 
     private static final String BUCKET = "test-bucket";
-    private static final String MINIO_URL = "http://localhost:9000";
+    private static final String MINIO_URL = "http://localhost:9000/";
+    private static final long URL_EXPIRY_SECONDS = 3600;
+    private static final long MAX_IMAGE_SIZE = 4096;
+    private static final long SHARED_DELETE_DELAY = 600;
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00};
 
     @Mock
     private MinioClient minioClient;
@@ -42,11 +72,28 @@ class FileStorageServiceTest {
     @Mock
     private MultipartFile multipartFile;
 
+    @Mock
+    private PendingObjectDeletionRepository pendingDeletionRepository;
+
+    @Mock
+    private ObjectKeyClaimRepository objectKeyClaimRepository;
+
     private FileStorageService service;
 
     @BeforeEach
     void setUp() {
-        service = new FileStorageService(minioClient, BUCKET, MINIO_URL);
+        service = new FileStorageService(
+                minioClient, new ObjectStorageBulkhead(4, 10),
+                new ObjectStorageCircuitBreaker(50, 5000, 20, 30), pendingDeletionRepository,
+                objectKeyClaimRepository, BUCKET, MINIO_URL, URL_EXPIRY_SECONDS, MAX_IMAGE_SIZE,
+                SHARED_DELETE_DELAY);
+    }
+
+    private void stubMissingObject() throws Exception {
+        ErrorResponse error = new ErrorResponse(
+                "NoSuchKey", "missing", BUCKET, "k", "k", "req", "host");
+        when(minioClient.statObject(any(StatObjectArgs.class)))
+                .thenThrow(new ErrorResponseException(error, null, null));
     }
 
    //  uploadBookImage — validation
@@ -114,22 +161,23 @@ class FileStorageServiceTest {
     class UploadBookImageSuccess {
 
         @Test
-        @DisplayName("uploads JPEG and returns StoredFileResult with correct URL")
+        @DisplayName("stores JPEG under its SHA-256 content key")
         void uploadsJpegSuccessfully() throws Exception {
             when(multipartFile.isEmpty()).thenReturn(false);
             when(multipartFile.getContentType()).thenReturn("image/jpeg");
-            when(multipartFile.getSize()).thenReturn(1024L);
-            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+            when(multipartFile.getSize()).thenReturn(3L);
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream("abc".getBytes()));
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            stubMissingObject();
 
             FileStorageService.StoredFileResult result = service.uploadBookImage(multipartFile);
 
             assertThat(result.contentType()).isEqualTo("image/jpeg");
-            assertThat(result.size()).isEqualTo(1024L);
-            assertThat(result.objectKey()).startsWith("books/");
-            assertThat(result.objectKey()).endsWith(".jpg");
-            assertThat(result.fileUrl()).startsWith(MINIO_URL + "/" + BUCKET + "/books/");
-            assertThat(result.fileUrl()).endsWith(".jpg");
+            assertThat(result.size()).isEqualTo(3L);
+            assertThat(result.objectKey()).isEqualTo("books/sha256/"
+                    + "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad.jpg");
+            verify(minioClient).putObject(any(PutObjectArgs.class));
         }
 
         @Test
@@ -138,12 +186,89 @@ class FileStorageServiceTest {
             when(multipartFile.isEmpty()).thenReturn(false);
             when(multipartFile.getContentType()).thenReturn("image/png");
             when(multipartFile.getSize()).thenReturn(2048L);
-            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1}));
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream(new byte[]{1}));
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            stubMissingObject();
 
             FileStorageService.StoredFileResult result = service.uploadBookImage(multipartFile);
 
-            assertThat(result.objectKey()).endsWith(".png");
+            assertThat(result.objectKey()).startsWith("books/sha256/").endsWith(".png");
+        }
+
+        @Test
+        @DisplayName("skips the upload when the content is already stored")
+        void skipsUploadOfKnownContent() throws Exception {
+            when(multipartFile.isEmpty()).thenReturn(false);
+            when(multipartFile.getContentType()).thenReturn("image/jpeg");
+            when(multipartFile.getSize()).thenReturn(3L);
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream("abc".getBytes()));
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenReturn(stat("books/sha256/abc.jpg", "image/jpeg", 3L));
+
+            FileStorageService.StoredFileResult first = service.uploadBookImage(multipartFile);
+            FileStorageService.StoredFileResult second = service.uploadBookImage(multipartFile);
+
+            assertThat(second.objectKey()).isEqualTo(first.objectKey());
+            verify(minioClient, never()).putObject(any(PutObjectArgs.class));
+        }
+
+        @Test
+        @DisplayName("claims the content key before checking whether it is stored")
+        void claimsKeyBeforeSkippingUpload() throws Exception {
+            when(multipartFile.isEmpty()).thenReturn(false);
+            when(multipartFile.getContentType()).thenReturn("image/jpeg");
+            when(multipartFile.getSize()).thenReturn(3L);
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream("abc".getBytes()));
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenReturn(stat("books/sha256/abc.jpg", "image/jpeg", 3L));
+
+            service.uploadBookImage(multipartFile);
+
+            InOrder order = inOrder(objectKeyClaimRepository, minioClient);
+            order.verify(objectKeyClaimRepository).touch(anyString(), any());
+            order.verify(objectKeyClaimRepository).saveAndFlush(any(ObjectKeyClaim.class));
+            order.verify(minioClient).statObject(any(StatObjectArgs.class));
+        }
+
+        @Test
+        @DisplayName("refreshes a claim another upload created concurrently")
+        void refreshesConcurrentClaim() throws Exception {
+            when(multipartFile.isEmpty()).thenReturn(false);
+            when(multipartFile.getContentType()).thenReturn("image/jpeg");
+            when(multipartFile.getSize()).thenReturn(3L);
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream("abc".getBytes()));
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(objectKeyClaimRepository.saveAndFlush(any(ObjectKeyClaim.class)))
+                    .thenThrow(new DataIntegrityViolationException("duplicate key"));
+            stubMissingObject();
+
+            service.uploadBookImage(multipartFile);
+
+            verify(objectKeyClaimRepository, times(2)).touch(anyString(), any());
+            verify(minioClient).putObject(any(PutObjectArgs.class));
+        }
+
+        @Test
+        @DisplayName("keeps an existing claim without inserting another")
+        void keepsExistingClaim() throws Exception {
+            when(multipartFile.isEmpty()).thenReturn(false);
+            when(multipartFile.getContentType()).thenReturn("image/jpeg");
+            when(multipartFile.getSize()).thenReturn(3L);
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream("abc".getBytes()));
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(objectKeyClaimRepository.touch(anyString(), any())).thenReturn(1);
+            stubMissingObject();
+
+            service.uploadBookImage(multipartFile);
+
+            verify(objectKeyClaimRepository, never()).saveAndFlush(any(ObjectKeyClaim.class));
         }
 
         @Test
@@ -152,8 +277,10 @@ class FileStorageServiceTest {
             when(multipartFile.isEmpty()).thenReturn(false);
             when(multipartFile.getContentType()).thenReturn("image/webp");
             when(multipartFile.getSize()).thenReturn(512L);
-            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1}));
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream(new byte[]{1}));
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(false);
+            stubMissingObject();
 
             service.uploadBookImage(multipartFile);
 
@@ -166,8 +293,10 @@ class FileStorageServiceTest {
             when(multipartFile.isEmpty()).thenReturn(false);
             when(multipartFile.getContentType()).thenReturn("image/jpeg");
             when(multipartFile.getSize()).thenReturn(512L);
-            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1}));
+            when(multipartFile.getInputStream()).thenAnswer(
+                    invocation -> new ByteArrayInputStream(new byte[]{1}));
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            stubMissingObject();
 
             service.uploadBookImage(multipartFile);
 
@@ -175,21 +304,15 @@ class FileStorageServiceTest {
         }
 
         @Test
-        @DisplayName("URL is built correctly when minioUrl ends with slash")
-        void buildsUrlCorrectlyWithTrailingSlash() throws Exception {
-            FileStorageService serviceWithSlash = new FileStorageService(
-                    minioClient, BUCKET, "http://localhost:9000/"
-            );
+        @DisplayName("wraps an unreadable upload as IllegalStateException")
+        void wrapsUnreadableUpload() throws Exception {
             when(multipartFile.isEmpty()).thenReturn(false);
             when(multipartFile.getContentType()).thenReturn("image/jpeg");
-            when(multipartFile.getSize()).thenReturn(1L);
-            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1}));
-            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(multipartFile.getInputStream()).thenThrow(new java.io.IOException("gone"));
 
-            FileStorageService.StoredFileResult result = serviceWithSlash.uploadBookImage(multipartFile);
-
-            assertThat(result.fileUrl()).doesNotContain("//test-bucket");
-            assertThat(result.fileUrl()).startsWith("http://localhost:9000/" + BUCKET + "/");
+            assertThatThrownBy(() -> service.uploadBookImage(multipartFile))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Failed to read");
         }
 
         @Test
@@ -197,6 +320,7 @@ class FileStorageServiceTest {
         void wrapsMinioException() throws Exception {
             when(multipartFile.isEmpty()).thenReturn(false);
             when(multipartFile.getContentType()).thenReturn("image/jpeg");
+            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1}));
             when(minioClient.bucketExists(any(BucketExistsArgs.class)))
                     .thenThrow(new RuntimeException("MinIO unavailable"));
 
@@ -206,6 +330,300 @@ class FileStorageServiceTest {
         }
     }
 
+    //  direct uploads
+
+    private StatObjectResponse stat(String objectKey, String contentType, long size) {
+        Headers headers = Headers.of(
+                "Content-Type", contentType,
+                "Content-Length", String.valueOf(size),
+                "Last-Modified", "Mon, 01 Jan 2024 00:00:00 GMT",
+                "ETag", "\"etag\"");
+        return new StatObjectResponse(headers, BUCKET, null, objectKey);
+    }
+
+    private GetObjectResponse objectContent(String objectKey, byte[] content) {
+        return new GetObjectResponse(
+                Headers.of(), BUCKET, null, objectKey, new ByteArrayInputStream(content));
+    }
+
+    @Nested
+    @DisplayName("createDirectUpload(Long, String, long)")
+    class CreateDirectUpload {
+
+        @Test
+        @DisplayName("returns a POST policy bound to the book's key prefix")
+        void returnsPostPolicyTicket() throws Exception {
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(minioClient.getPresignedPostFormData(any(PostPolicy.class)))
+                    .thenReturn(Map.of("policy", "p", "x-amz-signature", "s"));
+
+            ImageUploadTicketDto ticket = service.createDirectUpload(7L, "image/png", 100L);
+
+            assertThat(ticket.getUploadUrl()).isEqualTo("http://localhost:9000/" + BUCKET);
+            assertThat(ticket.getObjectKey()).startsWith("books/direct/7/").endsWith(".png");
+            assertThat(ticket.getFormFields())
+                    .containsEntry("policy", "p")
+                    .containsEntry("key", ticket.getObjectKey())
+                    .containsEntry("Content-Type", "image/png");
+            assertThat(ticket.getExpiresAt()).isAfter(Instant.now());
+        }
+
+        @ParameterizedTest(name = "size={0} → BadRequestException")
+        @ValueSource(longs = {0, -1, MAX_IMAGE_SIZE + 1})
+        @DisplayName("rejects sizes outside the allowed range")
+        void rejectsInvalidSize(long size) {
+            assertThatThrownBy(() -> service.createDirectUpload(7L, "image/jpeg", size))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("rejects disallowed content types")
+        void rejectsDisallowedContentType() {
+            assertThatThrownBy(() -> service.createDirectUpload(7L, "image/gif", 10L))
+                    .isInstanceOf(InvalidFileTypeException.class);
+        }
+
+        @Test
+        @DisplayName("wraps MinIO exception as IllegalStateException")
+        void wrapsMinioException() throws Exception {
+            when(minioClient.bucketExists(any(BucketExistsArgs.class)))
+                    .thenThrow(new RuntimeException("MinIO unavailable"));
+
+            assertThatThrownBy(() -> service.createDirectUpload(7L, "image/jpeg", 10L))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("verifyDirectUpload(Long, String)")
+    class VerifyDirectUpload {
+
+        private static final String KEY = "books/direct/7/a.jpg";
+
+        @ParameterizedTest(name = "key={0} → BadRequestException")
+        @NullSource
+        @ValueSource(strings = {"books/direct/8/a.jpg", "books/a.jpg", "books/direct/7/../8/a.jpg"})
+        @DisplayName("rejects keys outside the book's upload prefix")
+        void rejectsForeignKeys(String key) {
+            assertThatThrownBy(() -> service.verifyDirectUpload(7L, key))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("accepts an object whose metadata and magic bytes match")
+        void acceptsValidImage() throws Exception {
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenReturn(stat(KEY, "image/jpeg", 100L));
+            when(minioClient.getObject(any(GetObjectArgs.class)))
+                    .thenReturn(objectContent(KEY, JPEG_HEADER));
+
+            FileStorageService.StoredFileResult result = service.verifyDirectUpload(7L, KEY);
+
+            assertThat(result.objectKey()).isEqualTo(KEY);
+            assertThat(result.contentType()).isEqualTo("image/jpeg");
+            assertThat(result.size()).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("deletes and rejects an object whose bytes are not an image")
+        void rejectsMismatchedSignature() throws Exception {
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenReturn(stat(KEY, "image/jpeg", 100L));
+            when(minioClient.getObject(any(GetObjectArgs.class)))
+                    .thenReturn(objectContent(KEY, "<html>".getBytes()));
+
+            assertThatThrownBy(() -> service.verifyDirectUpload(7L, KEY))
+                    .isInstanceOf(InvalidFileTypeException.class);
+            verify(minioClient).removeObject(any(RemoveObjectArgs.class));
+        }
+
+        @Test
+        @DisplayName("deletes and rejects an object with a disallowed content type")
+        void rejectsDisallowedContentType() throws Exception {
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenReturn(stat(KEY, "text/html", 100L));
+
+            assertThatThrownBy(() -> service.verifyDirectUpload(7L, KEY))
+                    .isInstanceOf(InvalidFileTypeException.class);
+            verify(minioClient, never()).getObject(any(GetObjectArgs.class));
+            verify(minioClient).removeObject(any(RemoveObjectArgs.class));
+        }
+
+        @Test
+        @DisplayName("reports a missing object as BadRequestException")
+        void reportsMissingObject() throws Exception {
+            ErrorResponse error = new ErrorResponse(
+                    "NoSuchKey", "missing", BUCKET, KEY, KEY, "req", "host");
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenThrow(new ErrorResponseException(error, null, null));
+
+            assertThatThrownBy(() -> service.verifyDirectUpload(7L, KEY))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("not found");
+        }
+
+        @Test
+        @DisplayName("wraps other storage errors as IllegalStateException")
+        void wrapsOtherErrors() throws Exception {
+            ErrorResponse error = new ErrorResponse(
+                    "AccessDenied", "denied", BUCKET, KEY, KEY, "req", "host");
+            when(minioClient.statObject(any(StatObjectArgs.class)))
+                    .thenThrow(new ErrorResponseException(error, null, null));
+
+            assertThatThrownBy(() -> service.verifyDirectUpload(7L, KEY))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("matchesImageSignature(byte[], String)")
+    class MatchesImageSignature {
+
+        @Test
+        @DisplayName("recognises JPEG, PNG and WEBP headers")
+        void recognisesSupportedFormats() {
+            byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+            byte[] webp = {'R', 'I', 'F', 'F', 1, 2, 3, 4, 'W', 'E', 'B', 'P'};
+
+            assertThat(FileStorageService.matchesImageSignature(JPEG_HEADER, "image/jpeg"))
+                    .isTrue();
+            assertThat(FileStorageService.matchesImageSignature(png, "image/png")).isTrue();
+            assertThat(FileStorageService.matchesImageSignature(webp, "image/webp")).isTrue();
+        }
+
+        @Test
+        @DisplayName("rejects short, mismatched and unknown headers")
+        void rejectsOtherHeaders() {
+            byte[] riffOnly = {'R', 'I', 'F', 'F', 1, 2, 3, 4, 'W', 'A', 'V', 'E'};
+
+            assertThat(FileStorageService.matchesImageSignature(new byte[]{1}, "image/jpeg"))
+                    .isFalse();
+            assertThat(FileStorageService.matchesImageSignature(JPEG_HEADER, "image/png"))
+                    .isFalse();
+            assertThat(FileStorageService.matchesImageSignature(riffOnly, "image/webp"))
+                    .isFalse();
+            assertThat(FileStorageService.matchesImageSignature(JPEG_HEADER, "image/gif"))
+                    .isFalse();
+        }
+    }
+
+    //  downloadObject
+
+    @Nested
+    @DisplayName("downloadObject(String, Path)")
+    class DownloadObject {
+
+        @TempDir
+        private Path directory;
+
+        @Test
+        @DisplayName("copies the object content to the target file")
+        void copiesObject() throws Exception {
+            Path target = directory.resolve("a.jpg");
+            when(minioClient.getObject(any(GetObjectArgs.class)))
+                    .thenReturn(objectContent("books/a.jpg", JPEG_HEADER));
+
+            service.downloadObject("books/a.jpg", target);
+
+            assertThat(target).hasBinaryContent(JPEG_HEADER);
+        }
+
+        @Test
+        @DisplayName("reports a missing object as ResourceNotFoundException")
+        void reportsMissingObject() throws Exception {
+            ErrorResponse error = new ErrorResponse(
+                    "NoSuchKey", "missing", BUCKET, "k", "k", "req", "host");
+            when(minioClient.getObject(any(GetObjectArgs.class)))
+                    .thenThrow(new ErrorResponseException(error, null, null));
+
+            assertThatThrownBy(() -> service.downloadObject("k", directory.resolve("k")))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("reports local write failures as UncheckedIOException")
+        void reportsLocalWriteFailures() {
+            Path target = directory.resolve("missing").resolve("a.jpg");
+
+            assertThatThrownBy(() -> service.downloadObject("books/a.jpg", target))
+                    .isInstanceOf(UncheckedIOException.class);
+        }
+
+        @Test
+        @DisplayName("wraps other storage errors as IllegalStateException")
+        void wrapsOtherErrors() throws Exception {
+            ErrorResponse error = new ErrorResponse(
+                    "AccessDenied", "denied", BUCKET, "k", "k", "req", "host");
+            when(minioClient.getObject(any(GetObjectArgs.class)))
+                    .thenThrow(new ErrorResponseException(error, null, null))
+                    .thenThrow(new RuntimeException("io"));
+
+            assertThatThrownBy(() -> service.downloadObject("k", directory.resolve("k")))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> service.downloadObject("k", directory.resolve("k")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    //  resolveImageUrl
+
+    @Nested
+    @DisplayName("resolveImageUrl(String)")
+    class ResolveImageUrl {
+
+        @ParameterizedTest(name = "key={0} → null")
+        @NullSource
+        @ValueSource(strings = {"", "   "})
+        @DisplayName("returns null without signing for null or blank objectKey")
+        void returnsNullForMissingKey(String key) throws Exception {
+            assertThat(service.resolveImageUrl(key)).isNull();
+
+            verify(minioClient, never()).getPresignedObjectUrl(any());
+        }
+
+        @Test
+        @DisplayName("signs a GET URL with expiry and cache-control override")
+        void signsGetUrl() throws Exception {
+            when(minioClient.getPresignedObjectUrl(any())).thenReturn("http://signed/a.jpg");
+
+            String url = service.resolveImageUrl("books/a.jpg");
+
+            ArgumentCaptor<GetPresignedObjectUrlArgs> captor =
+                    ArgumentCaptor.forClass(GetPresignedObjectUrlArgs.class);
+            verify(minioClient).getPresignedObjectUrl(captor.capture());
+            assertThat(url).isEqualTo("http://signed/a.jpg");
+            assertThat(captor.getValue().method()).isEqualTo(Method.GET);
+            assertThat(captor.getValue().bucket()).isEqualTo(BUCKET);
+            assertThat(captor.getValue().object()).isEqualTo("books/a.jpg");
+            assertThat(captor.getValue().expiry()).isEqualTo((int) URL_EXPIRY_SECONDS);
+            assertThat(captor.getValue().extraQueryParams().get("response-cache-control"))
+                    .containsExactly("public, max-age=1800, immutable");
+        }
+
+        @Test
+        @DisplayName("reuses the signed URL within the same expiry bucket")
+        void reusesSignedUrl() throws Exception {
+            when(minioClient.getPresignedObjectUrl(any())).thenReturn("http://signed/a.jpg");
+
+            service.resolveImageUrl("books/a.jpg");
+            String second = service.resolveImageUrl("books/a.jpg");
+
+            assertThat(second).isEqualTo("http://signed/a.jpg");
+            verify(minioClient).getPresignedObjectUrl(any());
+        }
+
+        @Test
+        @DisplayName("returns null and retries later when signing fails")
+        void returnsNullWhenSigningFails() throws Exception {
+            when(minioClient.getPresignedObjectUrl(any()))
+                    .thenThrow(new IllegalArgumentException("bad key"))
+                    .thenReturn("http://signed/a.jpg");
+
+            assertThat(service.resolveImageUrl("books/a.jpg")).isNull();
+            assertThat(service.resolveImageUrl("books/a.jpg")).isEqualTo("http://signed/a.jpg");
+        }
+    }
+
     //  deleteObjectQuietly
 
     @Nested
@@ -231,12 +649,43 @@ class FileStorageServiceTest {
         }
 
         @Test
-        @DisplayName("silently swallows MinIO exception (quiet mode)")
-        void swallowsException() throws Exception {
+        @DisplayName("queues the key for a later retry when MinIO fails")
+        void defersDeletionOnFailure() throws Exception {
             org.mockito.Mockito.doThrow(new RuntimeException("MinIO down"))
                     .when(minioClient).removeObject(any(RemoveObjectArgs.class));
 
             service.deleteObjectQuietly("books/key.jpg");
+
+            ArgumentCaptor<PendingObjectDeletion> captor =
+                    ArgumentCaptor.forClass(PendingObjectDeletion.class);
+            verify(pendingDeletionRepository).save(captor.capture());
+            assertThat(captor.getValue().getObjectKey()).isEqualTo("books/key.jpg");
+            assertThat(captor.getValue().getAttempts()).isZero();
+            assertThat(captor.getValue().getNextAttemptAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("stays quiet when the deferred deletion cannot be stored either")
+        void swallowsDeferralFailure() throws Exception {
+            org.mockito.Mockito.doThrow(new RuntimeException("MinIO down"))
+                    .when(minioClient).removeObject(any(RemoveObjectArgs.class));
+            when(pendingDeletionRepository.save(any()))
+                    .thenThrow(new IllegalStateException("DB down"));
+
+            service.deleteObjectQuietly("books/key.jpg");
+        }
+
+        @Test
+        @DisplayName("queues shared content-addressed objects instead of deleting them")
+        void queuesSharedObjects() throws Exception {
+            service.deleteObjectQuietly("books/sha256/abc.jpg");
+
+            ArgumentCaptor<PendingObjectDeletion> captor =
+                    ArgumentCaptor.forClass(PendingObjectDeletion.class);
+            verify(pendingDeletionRepository).save(captor.capture());
+            assertThat(captor.getValue().getNextAttemptAt())
+                    .isAfter(java.time.LocalDateTime.now().plusSeconds(SHARED_DELETE_DELAY - 60));
+            verify(minioClient, never()).removeObject(any(RemoveObjectArgs.class));
         }
     }
 
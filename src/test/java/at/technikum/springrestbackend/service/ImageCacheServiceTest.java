@@ -0,0 +1,187 @@
+package at.technikum.springrestbackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageCacheService")
+class ImageCacheServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private ImageCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageCacheService(fileStorageService, cacheDirectory.toString(), 10);
+    }
+
+    private void stubDownloads() {
+        doAnswer(invocation -> {
+            String objectKey = invocation.getArgument(0);
+            Path target = invocation.getArgument(1);
+            Files.writeString(target, objectKey.substring(objectKey.length() - 4));
+            return null;
+        }).when(fileStorageService).downloadObject(any(), any());
+    }
+
+    private static String read(Resource image) throws IOException {
+        try (InputStream stream = image.getInputStream()) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Path cachedFile(String objectKey) {
+        return service.getCacheDirectory().resolve(ImageCacheService.cacheKey(objectKey));
+    }
+
+    @Test
+    @DisplayName("downloads on a miss and serves later requests from disk")
+    void cachesDownloadedImage() throws Exception {
+        stubDownloads();
+        Resource first = service.getImage("books/a.jpg");
+        Resource second = service.getImage("books/a.jpg");
+
+        assertThat(read(first)).isEqualTo(".jpg");
+        assertThat(read(second)).isEqualTo(".jpg");
+        assertThat(second.contentLength()).isEqualTo(4);
+        verify(fileStorageService, times(1)).downloadObject(eq("books/a.jpg"), any());
+    }
+
+    @Test
+    @DisplayName("evicts the least recently used files beyond the size limit")
+    void evictsLeastRecentlyUsed() {
+        stubDownloads();
+        service.getImage("books/a.jpg");
+        service.getImage("books/b.jpg");
+        service.getImage("books/a.jpg");
+        service.getImage("books/c.jpg");
+
+        assertThat(cachedFile("books/a.jpg")).exists();
+        assertThat(cachedFile("books/b.jpg")).doesNotExist();
+        assertThat(cachedFile("books/c.jpg")).exists();
+        assertThat(service.getCachedBytes()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("keeps serving an image that is evicted after it was returned")
+    void servesImageEvictedAfterLookup() throws Exception {
+        stubDownloads();
+        Resource image = service.getImage("books/a.jpg");
+        service.getImage("books/b.jpg");
+        service.getImage("books/c.jpg");
+
+        assertThat(cachedFile("books/a.jpg")).doesNotExist();
+        assertThat(read(image)).isEqualTo(".jpg");
+    }
+
+    @Test
+    @DisplayName("serves every request while concurrent misses replace and evict entries")
+    void servesConcurrentMissesAndEvictions() throws Exception {
+        stubDownloads();
+        List<String> objectKeys = List.of("books/a.jpg", "books/b.png", "books/c.gif");
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> reads = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                String objectKey = objectKeys.get(i % objectKeys.size());
+                reads.add(executor.submit(() -> read(service.getImage(objectKey))));
+            }
+            for (int i = 0; i < reads.size(); i++) {
+                String objectKey = objectKeys.get(i % objectKeys.size());
+                assertThat(reads.get(i).get(10, TimeUnit.SECONDS))
+                        .isEqualTo(objectKey.substring(objectKey.length() - 4));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(service.getCachedBytes()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("downloads again when a cached file was removed from disk")
+    void redownloadsRemovedFile() throws Exception {
+        stubDownloads();
+        read(service.getImage("books/a.jpg"));
+        Files.delete(cachedFile("books/a.jpg"));
+
+        assertThat(read(service.getImage("books/a.jpg"))).isEqualTo(".jpg");
+        verify(fileStorageService, times(2)).downloadObject(eq("books/a.jpg"), any());
+        assertThat(service.getCachedBytes()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("leaves no partial file behind when the download fails")
+    void removesPartialFileOnFailure() throws Exception {
+        doThrow(new IllegalStateException("MinIO down"))
+                .when(fileStorageService).downloadObject(eq("books/x.jpg"), any());
+
+        assertThatThrownBy(() -> service.getImage("books/x.jpg"))
+                .hasMessageContaining("MinIO down");
+        try (var files = Files.list(service.getCacheDirectory())) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("reports local disk failures as UncheckedIOException, not storage failures")
+    void reportsLocalFailures() throws Exception {
+        Files.delete(service.getCacheDirectory());
+
+        assertThatThrownBy(() -> service.getImage("books/x.jpg"))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("clears only its own subdirectory on startup")
+    void clearsStaleFilesOnStartup() throws Exception {
+        Path stale = Files.writeString(service.getCacheDirectory().resolve("stale"), "old");
+        Path unrelated = Files.writeString(cacheDirectory.resolve("unrelated"), "keep");
+
+        new ImageCacheService(fileStorageService, cacheDirectory.toString(), 10);
+
+        assertThat(stale).doesNotExist();
+        assertThat(unrelated).exists();
+    }
+
+    @Test
+    @DisplayName("derives a stable hex cache key from the object key")
+    void derivesCacheKey() {
+        assertThat(ImageCacheService.cacheKey("books/a.jpg"))
+                .hasSize(64)
+                .isEqualTo(ImageCacheService.cacheKey("books/a.jpg"))
+                .isNotEqualTo(ImageCacheService.cacheKey("books/b.jpg"));
+    }
+}
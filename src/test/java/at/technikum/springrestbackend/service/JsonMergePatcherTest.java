@@ -0,0 +1,89 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookUpdateRequestDto;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonMergePatcher")
+class JsonMergePatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonMergePatcher patcher = new JsonMergePatcher(
+            objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+
+    private static BookUpdateRequestDto current() {
+        BookUpdateRequestDto dto = new BookUpdateRequestDto();
+        dto.setTitle("Dune");
+        dto.setAuthorName("Herbert");
+        dto.setDescription("Spice");
+        dto.setLanguage("en");
+        dto.setCondition(BookCondition.GOOD);
+        dto.setExchangeType(ExchangeType.GIVEAWAY);
+        dto.setStatus(ListingStatus.AVAILABLE);
+        return dto;
+    }
+
+    private JsonNode json(final String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+
+    @Test
+    @DisplayName("replaces patched members and keeps the others")
+    void replacesPatchedMembers() throws Exception {
+        BookUpdateRequestDto patched = patcher.apply(
+                json("{\"title\":\"Dune Messiah\",\"status\":\"RESERVED\"}"), current());
+
+        assertThat(patched.getTitle()).isEqualTo("Dune Messiah");
+        assertThat(patched.getStatus()).isEqualTo(ListingStatus.RESERVED);
+        assertThat(patched.getAuthorName()).isEqualTo("Herbert");
+        assertThat(patched.getCondition()).isEqualTo(BookCondition.GOOD);
+    }
+
+    @Test
+    @DisplayName("removes members set to null")
+    void removesNullMembers() throws Exception {
+        BookUpdateRequestDto patched = patcher.apply(json("{\"language\":null}"), current());
+
+        assertThat(patched.getLanguage()).isNull();
+        assertThat(patched.getTitle()).isEqualTo("Dune");
+    }
+
+    @Test
+    @DisplayName("rejects results that violate the update constraints")
+    void rejectsInvalidResults() {
+        assertThatThrownBy(() -> patcher.apply(json("{\"title\":null,\"authorName\":\"\"}"),
+                current()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("authorName: Author name is required; title: Title is required");
+    }
+
+    @Test
+    @DisplayName("rejects unknown members and unreadable values")
+    void rejectsUnknownMembers() {
+        assertThatThrownBy(() -> patcher.apply(json("{\"owner\":1}"), current()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("Merge patch could not be applied");
+        assertThatThrownBy(() -> patcher.apply(json("{\"condition\":\"MINT\"}"), current()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("rejects patches that are not JSON objects")
+    void rejectsNonObjects() {
+        assertThatThrownBy(() -> patcher.apply(json("[1]"), current()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("A merge patch must be a JSON object");
+        assertThatThrownBy(() -> patcher.apply(null, current()))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
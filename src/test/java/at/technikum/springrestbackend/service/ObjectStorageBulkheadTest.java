@@ -0,0 +1,76 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ObjectStorageBulkhead")
+class ObjectStorageBulkheadTest {
+
+    private ObjectStorageBulkhead bulkhead;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new ObjectStorageBulkhead(1, 20);
+        registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("runs calls and releases the permit afterwards")
+    void releasesPermit() {
+        assertThat(bulkhead.call(() -> "ok")).isEqualTo("ok");
+        assertThatThrownBy(() -> bulkhead.run(() -> {
+            throw new IllegalStateException("storage failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(bulkhead.call(() -> "again")).isEqualTo("again");
+        assertThat(registry.get("minio.bulkhead.calls.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("rejects callers with ServiceUnavailableException when all permits are taken")
+    void rejectsWhenFull() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> bulkhead.run(() -> {
+                entered.countDown();
+                awaitQuietly(release);
+            }));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> bulkhead.call(() -> "blocked"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(registry.get("minio.bulkhead.calls.active").gauge().value()).isEqualTo(1);
+            assertThat(registry.get("minio.bulkhead.calls.rejected").functionCounter().count())
+                    .isEqualTo(1);
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ObjectStorageCircuitBreaker")
+class ObjectStorageCircuitBreakerTest {
+
+    private ObjectStorageCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new ObjectStorageCircuitBreaker(50, 5000, 4, 45);
+    }
+
+    private void failStorageCall() {
+        assertThatThrownBy(() -> breaker.run(() -> {
+            throw new IllegalStateException("MinIO down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("passes results through while closed")
+    void passesResultsThrough() {
+        assertThat(breaker.call(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("opens after storage failures and then fails fast with Retry-After")
+    void opensAfterFailures() {
+        failStorageCall();
+        failStorageCall();
+
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThatThrownBy(() -> breaker.call(() -> "never"))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class, ex ->
+                        assertThat(ex.getRetryAfterSeconds()).isEqualTo(45));
+        assertThat(breaker.health().getStatus()).isEqualTo(ObjectStorageCircuitBreaker.DEGRADED);
+        assertThat(breaker.health().getDetails()).containsEntry("circuitBreaker", "OPEN");
+    }
+
+    @Test
+    @DisplayName("does not count client errors as storage failures")
+    void ignoresClientErrors() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.run(() -> {
+                throw new BadRequestException("bad key");
+            })).isInstanceOf(BadRequestException.class);
+        }
+
+        assertThat(breaker.isCallPermitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("publishes the current state as a gauge")
+    void publishesStateGauge() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        breaker.bindTo(registry);
+        failStorageCall();
+        failStorageCall();
+
+        assertThat(registry.get("minio.circuit-breaker.state").tag("state", "open")
+                .gauge().value()).isEqualTo(1);
+        assertThat(registry.get("minio.circuit-breaker.state").tag("state", "closed")
+                .gauge().value()).isZero();
+        assertThat(registry.get("minio.circuit-breaker.failure-rate").gauge().value())
+                .isEqualTo(100);
+    }
+}
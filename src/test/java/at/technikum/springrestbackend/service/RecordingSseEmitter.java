@@ -0,0 +1,40 @@
+package at.technikum.springrestbackend.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records the text of every frame instead of writing it to a response.
+ */
+class RecordingSseEmitter extends SseEmitter {
+
+    private final List<String> frames = new ArrayList<>();
+    private boolean failing;
+
+    @Override
+    public synchronized void send(final SseEventBuilder builder) throws IOException {
+        if (failing) {
+            throw new IOException("Broken pipe");
+        }
+        frames.add(builder.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .collect(Collectors.joining()));
+    }
+
+    @Override
+    public synchronized void complete() {
+        frames.add("complete");
+    }
+
+    synchronized List<String> frames() {
+        return List.copyOf(frames);
+    }
+
+    synchronized void failSends() {
+        failing = true;
+    }
+}
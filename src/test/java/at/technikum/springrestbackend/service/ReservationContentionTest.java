@@ -0,0 +1,129 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.ReservationResponseDto;
+import at.technikum.springrestbackend.dto.ReservationStatus;
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.ReservationWaitlistRepository;
+import at.technikum.springrestbackend.repository.UserRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static at.technikum.springrestbackend.TestFixtures.buildBooks;
+import static at.technikum.springrestbackend.TestFixtures.buildUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the reservation flow against the database without a test transaction, so every
+ * call commits on its own connection like concurrent requests would.
+ */
+@DataJpaTest
+@Import(ReservationService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ReservationService — concurrent reservers")
+class ReservationContentionTest {
+
+    private static final int RESERVERS = 200;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationWaitlistRepository waitlistRepository;
+
+    private Book book;
+    private List<User> reservers;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(buildUser("contention_owner"));
+        book = bookRepository.save(buildBooks(owner, 1).get(0));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < RESERVERS; i++) {
+            users.add(buildUser("reserver_" + i));
+        }
+        reservers = userRepository.saveAll(users);
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitlistRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("exactly one of hundreds of concurrent reservers wins, the rest queue up")
+    void oneWinnerUnderContention() throws Exception {
+        List<ReservationResponseDto> results = reserveConcurrently();
+
+        List<ReservationResponseDto> winners = results.stream()
+                .filter(result -> result.getStatus() == ReservationStatus.RESERVED)
+                .toList();
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(winners).hasSize(1);
+        assertThat(state.status()).isEqualTo(ListingStatus.RESERVED);
+        assertThat(state.version()).isEqualTo(book.getVersion() + 1);
+        assertThat(waitlistRepository.count()).isEqualTo(RESERVERS - 1);
+    }
+
+    @Test
+    @DisplayName("hands an expired reservation to the longest waiting user")
+    void handsExpiredReservationToHeadOfQueue() {
+        ReflectionTestUtils.setField(reservationService, "holdDuration", Duration.ofMinutes(-1));
+        reservationService.reserve(book.getId(), reservers.get(0));
+        reservationService.reserve(book.getId(), reservers.get(1));
+        ReservationResponseDto third = reservationService.reserve(book.getId(), reservers.get(2));
+
+        reservationService.expireReservations();
+
+        BookState state = bookRepository.findStateById(book.getId()).orElseThrow();
+        assertThat(third.getWaitlistPosition()).isEqualTo(2);
+        assertThat(state.status()).isEqualTo(ListingStatus.RESERVED);
+        assertThat(state.reservedById()).isEqualTo(reservers.get(1).getId());
+        assertThat(waitlistRepository.count()).isEqualTo(1);
+    }
+
+    private List<ReservationResponseDto> reserveConcurrently() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReservationResponseDto>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(64)) {
+            for (User reserver : reservers) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return reservationService.reserve(book.getId(), reserver);
+                }));
+            }
+            start.countDown();
+            List<ReservationResponseDto> results = new ArrayList<>();
+            for (Future<ReservationResponseDto> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.ReservationResponseDto;
+import at.technikum.springrestbackend.dto.ReservationStatus;
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.ReservationWaitlistEntry;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ConflictException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.BookState;
+import at.technikum.springrestbackend.repository.ReservationWaitlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationService")
+class ReservationServiceTest {
+
+    private static final Long BOOK_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ReservationWaitlistRepository waitlistRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = new ReservationService(
+                bookRepository, waitlistRepository, eventPublisher, 60, 50);
+    }
+
+    //  fixture helpers
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user_" + id);
+        return user;
+    }
+
+    private BookState buildState(ListingStatus status, Long reservedById) {
+        LocalDateTime reservedUntil = reservedById == null ? null : LocalDateTime.now();
+        return new BookState(BOOK_ID, OWNER_ID, "Dune", "Frank Herbert", "en",
+                BookCondition.GOOD, ExchangeType.EXCHANGE_ONLY, status, LocalDateTime.now(), 3L,
+                reservedById, reservedUntil);
+    }
+
+    private ReservationWaitlistEntry buildEntry(Long userId) {
+        ReservationWaitlistEntry entry = new ReservationWaitlistEntry(BOOK_ID, userId);
+        entry.setId(userId * 100);
+        entry.setCreatedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private BookChangedEvent capturePublishedEvent() {
+        ArgumentCaptor<BookChangedEvent> captor = ArgumentCaptor.forClass(BookChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+
+    //  reserve
+
+    @Nested
+    @DisplayName("reserve()")
+    class Reserve {
+
+        @Test
+        @DisplayName("reserves an available listing and publishes the status change")
+        void reservesAvailableListing() {
+            when(bookRepository.reserve(eq(BOOK_ID), eq(2L), any(), any())).thenReturn(true);
+            when(bookRepository.findStateById(BOOK_ID))
+                    .thenReturn(Optional.of(buildState(ListingStatus.RESERVED, 2L)));
+
+            ReservationResponseDto result = reservationService.reserve(BOOK_ID, buildUser(2L));
+
+            assertThat(result.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+            assertThat(result.getReservedUntil()).isAfter(LocalDateTime.now().plusMinutes(59));
+            BookChangedEvent event = capturePublishedEvent();
+            assertThat(event.before().status()).isEqualTo(ListingStatus.AVAILABLE);
+            assertThat(event.after().status()).isEqualTo(ListingStatus.RESERVED);
+        }
+
+        @Test
+        @DisplayName("returns the existing reservation to its holder")
+        void returnsExistingReservationToHolder() {
+            BookState state = buildState(ListingStatus.RESERVED, 2L);
+            when(bookRepository.reserve(eq(BOOK_ID), eq(2L), any(), any())).thenReturn(false);
+            when(bookRepository.findStateById(BOOK_ID)).thenReturn(Optional.of(state));
+
+            ReservationResponseDto result = reservationService.reserve(BOOK_ID, buildUser(2L));
+
+            assertThat(result.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+            assertThat(result.getReservedUntil()).isEqualTo(state.reservedUntil());
+            verify(waitlistRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when the owner reserves their own listing")
+        void rejectsOwner() {
+            when(bookRepository.reserve(eq(BOOK_ID), eq(OWNER_ID), any(), any())).thenReturn(false);
+            when(bookRepository.findStateById(BOOK_ID))
+                    .thenReturn(Optional.of(buildState(ListingStatus.AVAILABLE, null)));
+
+            assertThatThrownBy(() -> reservationService.reserve(BOOK_ID, buildUser(OWNER_ID)))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("throws ConflictException when the listing was already exchanged")
+        void rejectsExchangedListing() {
+            when(bookRepository.reserve(eq(BOOK_ID), eq(2L), any(), any())).thenReturn(false);
+            when(bookRepository.findStateById(BOOK_ID))
+                    .thenReturn(Optional.of(buildState(ListingStatus.EXCHANGED, null)));
+
+            assertThatThrownBy(() -> reservationService.reserve(BOOK_ID, buildUser(2L)))
+                    .isInstanceOf(ConflictException.class);
+        }
+
+        @Test
+        @DisplayName("throws ResourceNotFoundException when the listing does not exist")
+        void rejectsUnknownListing() {
+            when(bookRepository.reserve(eq(BOOK_ID), eq(2L), any(), any())).thenReturn(false);
+            when(bookRepository.findStateById(BOOK_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> reservationService.reserve(BOOK_ID, buildUser(2L)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("puts the caller on the waitlist when someone else holds the listing")
+        void waitlistsCaller() {
+            ReservationWaitlistEntry entry = buildEntry(3L);
+            when(bookRepository.reserve(eq(BOOK_ID), eq(3L), any(), any())).thenReturn(false);
+            when(bookRepository.findStateById(BOOK_ID))
+                    .thenReturn(Optional.of(buildState(ListingStatus.RESERVED, 2L)));
+            when(waitlistRepository.findByBookIdAndUserId(BOOK_ID, 3L)).thenReturn(Optional.empty());
+            when(waitlistRepository.saveAndFlush(any())).thenReturn(entry);
+            when(waitlistRepository.countUpTo(BOOK_ID, entry.getCreatedAt(), entry.getId()))
+                    .thenReturn(4L);
+
+            ReservationResponseDto result = reservationService.reserve(BOOK_ID, buildUser(3L));
+
+            assertThat(result.getStatus()).isEqualTo(ReservationStatus.WAITLISTED);
+            assertThat(result.getWaitlistPosition()).isEqualTo(4L);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("keeps the existing waitlist entry when the caller retries")
+        void keepsExistingEntry() {
+            ReservationWaitlistEntry entry = buildEntry(3L);
+            when(bookRepository.reserve(eq(BOOK_ID), eq(3L), any(), any())).thenReturn(false);
+            when(bookRepository.findStateById(BOOK_ID))
+                    .thenReturn(Optional.of(buildState(ListingStatus.RESERVED, 2L)));
+            when(waitlistRepository.findByBookIdAndUserId(BOOK_ID, 3L))
+                    .thenReturn(Optional.of(entry));
+            when(waitlistRepository.countUpTo(BOOK_ID, entry.getCreatedAt(), entry.getId()))
+                    .thenReturn(1L);
+
+            ReservationResponseDto result = reservationService.reserve(BOOK_ID, buildUser(3L));
+
+            assertThat(result.getWaitlistPosition()).isEqualTo(1L);
+            verify(waitlistRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when no user is given")
+        void rejectsMissingUser() {
+            assertThatThrownBy(() -> reservationService.reserve(BOOK_ID, null))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> reservationService.reserve(BOOK_ID, new User()))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    //  cancel
+
+    @Nested
+    @DisplayName("cancel()")
+    class Cancel {
+
+        @Test
+        @DisplayName("hands a released reservation to the head of the waitlist")
+        void handsOverToNextWaiter() {
+            when(bookRepository.releaseReservation(eq(BOOK_ID), eq(2L), any())).thenReturn(true);
+            when(waitlistRepository.findFirstByBookIdOrderByCreatedAtAscIdAsc(BOOK_ID))
+                    .thenReturn(Optional.of(buildEntry(3L)));
+            when(bookRepository.reserveForWaiter(eq(BOOK_ID), eq(3L), any(), any()))
+                    .thenReturn(true);
+
+            reservationService.cancel(BOOK_ID, buildUser(2L));
+
+            verify(waitlistRepository).deleteEntry(BOOK_ID, 3L);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("publishes the listing as available when nobody is waiting")
+        void publishesAvailableListing() {
+            when(bookRepository.releaseReservation(eq(BOOK_ID), eq(2L), any())).thenReturn(true);
+            when(waitlistRepository.findFirstByBookIdOrderByCreatedAtAscIdAsc(BOOK_ID))
+                    .thenReturn(Optional.empty());
+            when(bookRepository.findStateById(BOOK_ID))
+                    .thenReturn(Optional.of(buildState(ListingStatus.AVAILABLE, null)));
+
+            reservationService.cancel(BOOK_ID, buildUser(2L));
+
+            BookChangedEvent event = capturePublishedEvent();
+            assertThat(event.before().status()).isEqualTo(ListingStatus.RESERVED);
+            assertThat(event.after().status()).isEqualTo(ListingStatus.AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("removes the caller from the waitlist when they hold no reservation")
+        void leavesWaitlist() {
+            when(bookRepository.releaseReservation(eq(BOOK_ID), eq(3L), any())).thenReturn(false);
+            when(waitlistRepository.deleteEntry(BOOK_ID, 3L)).thenReturn(1);
+
+            reservationService.cancel(BOOK_ID, buildUser(3L));
+
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("throws ResourceNotFoundException when there is nothing to cancel")
+        void rejectsUnknownReservation() {
+            when(bookRepository.releaseReservation(eq(BOOK_ID), eq(3L), any())).thenReturn(false);
+            when(waitlistRepository.deleteEntry(BOOK_ID, 3L)).thenReturn(0);
+
+            assertThatThrownBy(() -> reservationService.cancel(BOOK_ID, buildUser(3L)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    //  expireReservations
+
+    @Nested
+    @DisplayName("expireReservations()")
+    class ExpireReservations {
+
+        @Test
+        @DisplayName("releases expired reservations and serves waitlists of available listings")
+        void releasesAndPromotes() {
+            when(bookRepository.findExpiredReservations(any(), any()))
+                    .thenReturn(List.of(buildState(ListingStatus.RESERVED, 2L)));
+            when(bookRepository.releaseReservation(eq(BOOK_ID), eq(2L), any())).thenReturn(true);
+            when(waitlistRepository.findFirstByBookIdOrderByCreatedAtAscIdAsc(anyLong()))
+                    .thenReturn(Optional.empty(), Optional.of(buildEntry(3L)));
+            when(waitlistRepository.findAvailableBookIdsWithWaiters(any()))
+                    .thenReturn(List.of(BOOK_ID));
+            when(bookRepository.reserveForWaiter(eq(BOOK_ID), eq(3L), any(), any()))
+                    .thenReturn(true);
+            when(bookRepository.findStateById(BOOK_ID)).thenReturn(
+                    Optional.of(buildState(ListingStatus.AVAILABLE, null)),
+                    Optional.of(buildState(ListingStatus.RESERVED, 3L)));
+
+            reservationService.expireReservations();
+
+            verify(waitlistRepository).deleteEntry(BOOK_ID, 3L);
+            verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("skips reservations released concurrently and lost promotions")
+        void skipsLostRaces() {
+            when(bookRepository.findExpiredReservations(any(), any()))
+                    .thenReturn(List.of(buildState(ListingStatus.RESERVED, 2L)));
+            when(bookRepository.releaseReservation(eq(BOOK_ID), eq(2L), any())).thenReturn(false);
+            when(waitlistRepository.findAvailableBookIdsWithWaiters(any()))
+                    .thenReturn(List.of(BOOK_ID));
+            when(waitlistRepository.findFirstByBookIdOrderByCreatedAtAscIdAsc(BOOK_ID))
+                    .thenReturn(Optional.of(buildEntry(3L)));
+            when(bookRepository.reserveForWaiter(eq(BOOK_ID), eq(3L), any(), any()))
+                    .thenReturn(false);
+
+            reservationService.expireReservations();
+
+            verify(waitlistRepository, never()).deleteEntry(any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+    //  onBookChanged
+
+    @Nested
+    @DisplayName("onBookChanged()")
+    class OnBookChanged {
+
+        @Test
+        @DisplayName("drops the waitlist of a deleted or exchanged listing")
+        void dropsWaitlist() {
+            BookState available = buildState(ListingStatus.AVAILABLE, null);
+            BookState exchanged = buildState(ListingStatus.EXCHANGED, null);
+
+            reservationService.onBookChanged(BookChangedEvent.deleted(available.toSnapshot()));
+            reservationService.onBookChanged(
+                    BookChangedEvent.updated(available.toSnapshot(), exchanged.toSnapshot()));
+
+            verify(waitlistRepository, times(2)).deleteAllForBook(BOOK_ID);
+        }
+
+        @Test
+        @DisplayName("keeps the waitlist for other changes")
+        void keepsWaitlist() {
+            BookState available = buildState(ListingStatus.AVAILABLE, null);
+            BookState reserved = buildState(ListingStatus.RESERVED, 2L);
+
+            reservationService.onBookChanged(
+                    BookChangedEvent.updated(available.toSnapshot(), reserved.toSnapshot()));
+
+            verify(waitlistRepository, never()).deleteAllForBook(any());
+        }
+    }
+}
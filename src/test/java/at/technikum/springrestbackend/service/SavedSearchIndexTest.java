@@ -0,0 +1,81 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SavedSearchIndex")
+class SavedSearchIndexTest {
+
+    private SavedSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SavedSearchIndex();
+    }
+
+    private BookSnapshot buildBook(String title, String authorName, String language) {
+        return new BookSnapshot(10L, 1L, title, authorName, language, BookCondition.GOOD,
+                ExchangeType.GIVEAWAY, ListingStatus.AVAILABLE, LocalDateTime.now());
+    }
+
+    private Iterable<Long> percolate(BookSnapshot book) {
+        return index.percolate(book).stream().map(SavedSearchIndex.Search::id).toList();
+    }
+
+    @Test
+    @DisplayName("matches search texts case-insensitively in title or author")
+    void matchesTextInTitleOrAuthor() {
+        index.put(1L, 2L, " DUNE ", null, null, null);
+        index.put(2L, 2L, "herbert", null, null, null);
+        index.put(3L, 2L, "dune messiah", null, null, null);
+
+        assertThat(percolate(buildBook("Dune", "Frank Herbert", null)))
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("applies condition, exchange type and language filters")
+    void appliesFilters() {
+        index.put(1L, 2L, "dune", BookCondition.GOOD, ExchangeType.GIVEAWAY, "EN");
+        index.put(2L, 2L, "dune", BookCondition.NEW, null, null);
+        index.put(3L, 2L, null, null, ExchangeType.EXCHANGE_ONLY, null);
+        index.put(4L, 2L, null, null, null, "en");
+        index.put(5L, 2L, null, BookCondition.GOOD, null, null);
+
+        assertThat(percolate(buildBook("Dune", "Frank Herbert", " en ")))
+                .containsExactlyInAnyOrder(1L, 4L, 5L);
+        assertThat(percolate(buildBook("Dune", "Frank Herbert", null)))
+                .containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("checks short search texts against every listing")
+    void matchesShortTexts() {
+        index.put(1L, 2L, "du", null, null, null);
+        index.put(2L, 2L, "x", null, null, null);
+
+        assertThat(percolate(buildBook("Dune", null, null))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("forgets removed and replaced searches")
+    void forgetsRemovedSearches() {
+        index.put(1L, 2L, "dune", null, null, null);
+        index.put(2L, 2L, "dune", null, null, null);
+        index.remove(1L);
+        index.remove(99L);
+        index.put(2L, 2L, "emma", null, null, null);
+
+        assertThat(percolate(buildBook("Dune", null, null))).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Percolates new listings against 100k saved searches and compares the cost with
+ * checking every saved search against each listing.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark — saved search percolation at 100k searches")
+class SavedSearchPercolatorBenchmarkTest {
+
+    private static final int SEARCHES = 100_000;
+    private static final int LISTINGS = 10_000;
+    private static final int TITLES = 50_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("percolation matches the same searches as a full check, much faster")
+    void measuresIndexAgainstScan() {
+        SavedSearchIndex index = new SavedSearchIndex();
+        List<SavedSearchIndex.Search> all = new ArrayList<>(SEARCHES);
+        for (int id = 0; id < SEARCHES; id++) {
+            String text = random.nextInt(100) == 0 ? null : "title " + random.nextInt(TITLES);
+            ExchangeType exchangeType = random.nextInt(4) == 0 ? ExchangeType.GIVEAWAY
+                    : text == null ? ExchangeType.EXCHANGE_ONLY : null;
+            index.put(id, id, text, null, exchangeType, null);
+            all.add(new SavedSearchIndex.Search(id, id, text, null, exchangeType, null, null));
+        }
+        List<BookSnapshot> books = new ArrayList<>(LISTINGS);
+        for (int i = 0; i < LISTINGS; i++) {
+            books.add(new BookSnapshot((long) i, 0L, "Title " + random.nextInt(TITLES),
+                    "Author " + random.nextInt(1000), "en", BookCondition.GOOD,
+                    ExchangeType.values()[random.nextInt(3)], ListingStatus.AVAILABLE,
+                    LocalDateTime.now()));
+        }
+
+        long start = System.nanoTime();
+        long percolated = 0;
+        for (BookSnapshot book : books) {
+            percolated += index.percolate(book).size();
+        }
+        double percolateMicros = millisSince(start) * 1000 / LISTINGS;
+
+        start = System.nanoTime();
+        long scanned = 0;
+        for (int i = 0; i < LISTINGS / 10; i++) {
+            scanned += scan(all, books.get(i));
+        }
+        double scanMicros = millisSince(start) * 1000 / (LISTINGS / 10);
+        long expected = books.subList(0, LISTINGS / 10).stream()
+                .mapToLong(book -> index.percolate(book).size()).sum();
+
+        System.out.printf("percolate=%.1f us/listing (%d matches), full check=%.1f us/listing%n",
+                percolateMicros, percolated, scanMicros);
+        assertThat(scanned).isEqualTo(expected);
+        assertThat(percolateMicros).isLessThan(scanMicros);
+    }
+
+    private static int scan(final List<SavedSearchIndex.Search> searches,
+                            final BookSnapshot book) {
+        String title = book.title().toLowerCase();
+        String author = book.authorName().toLowerCase();
+        int matches = 0;
+        for (SavedSearchIndex.Search search : searches) {
+            if (search.matches(book, title, author)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static double millisSince(final long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,183 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.entity.BookCondition;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.SearchNotification;
+import at.technikum.springrestbackend.event.BookChangedEvent;
+import at.technikum.springrestbackend.event.BookSnapshot;
+import at.technikum.springrestbackend.event.SavedSearchChangedEvent;
+import at.technikum.springrestbackend.repository.SavedSearchRepository;
+import at.technikum.springrestbackend.repository.SavedSearchState;
+import at.technikum.springrestbackend.repository.SearchNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SavedSearchPercolator")
+class SavedSearchPercolatorTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    private SearchNotificationRepository notificationRepository;
+
+    private SavedSearchPercolator percolator;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new SavedSearchPercolator(savedSearchRepository, notificationRepository, 2);
+    }
+
+    //  fixture helpers
+
+    private BookSnapshot buildBook(String title, ListingStatus status) {
+        return new BookSnapshot(10L, OWNER_ID, title, "Frank Herbert", "en",
+                BookCondition.GOOD, ExchangeType.GIVEAWAY, status, LocalDateTime.now());
+    }
+
+    private void saveSearch(Long id, Long userId, String text) {
+        percolator.onSavedSearchChanged(new SavedSearchChangedEvent(
+                id, userId, text, null, null, null, false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SearchNotification> captureNotifications() {
+        ArgumentCaptor<List<SearchNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("onBookChanged()")
+    class OnBookChanged {
+
+        @Test
+        @DisplayName("notifies each matching user once about a new listing, never the owner")
+        void notifiesMatchingUsers() {
+            saveSearch(1L, 2L, "dune");
+            saveSearch(2L, 2L, "herbert");
+            saveSearch(3L, 3L, "herbert");
+            saveSearch(4L, OWNER_ID, "dune");
+            saveSearch(5L, 4L, "emma");
+
+            percolator.onBookChanged(BookChangedEvent.created(
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+
+            assertThat(captureNotifications())
+                    .extracting("userId", "bookId", "bookTitle")
+                    .containsExactlyInAnyOrder(tuple(2L, 10L, "Dune"), tuple(3L, 10L, "Dune"));
+        }
+
+        @Test
+        @DisplayName("notifies when a listing becomes available again")
+        void notifiesOnReturnToAvailable() {
+            saveSearch(1L, 2L, "dune");
+
+            percolator.onBookChanged(BookChangedEvent.updated(
+                    buildBook("Dune", ListingStatus.RESERVED),
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+
+            assertThat(captureNotifications()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("ignores edits of available listings and listings that are not available")
+        void ignoresOtherChanges() {
+            saveSearch(1L, 2L, "dune");
+
+            percolator.onBookChanged(BookChangedEvent.updated(
+                    buildBook("Dun", ListingStatus.AVAILABLE),
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+            percolator.onBookChanged(BookChangedEvent.created(
+                    buildBook("Dune", ListingStatus.RESERVED)));
+            percolator.onBookChanged(BookChangedEvent.created(
+                    buildBook("Emma", ListingStatus.AVAILABLE)));
+
+            verify(notificationRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("drops the notifications of a deleted listing")
+        void dropsNotificationsOfDeletedListing() {
+            percolator.onBookChanged(BookChangedEvent.deleted(
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+
+            verify(notificationRepository).deleteAllForBook(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("index maintenance")
+    class IndexMaintenance {
+
+        @Test
+        @DisplayName("forgets removed saved searches")
+        void forgetsRemovedSearches() {
+            saveSearch(1L, 2L, "dune");
+
+            percolator.onSavedSearchChanged(SavedSearchChangedEvent.removed(1L, 2L));
+            percolator.onBookChanged(BookChangedEvent.created(
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+
+            verify(notificationRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("rebuild() loads saved searches in batches and keeps concurrent changes")
+        void rebuildsInBatches() {
+            doAnswer(invocation -> {
+                saveSearch(3L, 4L, "herbert");
+                return List.of(new SavedSearchState(1L, 2L, "dune", null, null, null),
+                        new SavedSearchState(2L, 3L, "emma", null, null, null));
+            }).when(savedSearchRepository).findStatesAfter(eq(0L), any(Pageable.class));
+            doAnswer(invocation -> List.of())
+                    .when(savedSearchRepository).findStatesAfter(eq(2L), any(Pageable.class));
+
+            percolator.rebuild();
+            percolator.onBookChanged(BookChangedEvent.created(
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+
+            assertThat(captureNotifications()).extracting("userId")
+                    .containsExactlyInAnyOrder(2L, 4L);
+        }
+
+        @Test
+        @DisplayName("rebuild() skips loaded searches that were removed while it ran")
+        void rebuildSkipsRemovedSearches() {
+            // The batch was read before the search was removed, but arrives afterwards
+            doAnswer(invocation -> {
+                percolator.onSavedSearchChanged(SavedSearchChangedEvent.removed(1L, 2L));
+                return List.of(new SavedSearchState(1L, 2L, "dune", null, null, null));
+            }).when(savedSearchRepository).findStatesAfter(eq(0L), any(Pageable.class));
+
+            percolator.rebuild();
+            percolator.onBookChanged(BookChangedEvent.created(
+                    buildBook("Dune", ListingStatus.AVAILABLE)));
+
+            verify(notificationRepository, never()).saveAll(anyList());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.SavedSearchRequestDto;
+import at.technikum.springrestbackend.dto.SavedSearchResponseDto;
+import at.technikum.springrestbackend.dto.SearchNotificationDto;
+import at.technikum.springrestbackend.entity.ExchangeType;
+import at.technikum.springrestbackend.entity.SavedSearch;
+import at.technikum.springrestbackend.entity.SearchNotification;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.event.SavedSearchChangedEvent;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.mapper.SavedSearchMapper;
+import at.technikum.springrestbackend.repository.SavedSearchRepository;
+import at.technikum.springrestbackend.repository.SearchNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SavedSearchService")
+class SavedSearchServiceTest {
+
+    @Mock
+    private SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    private SearchNotificationRepository notificationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SavedSearchService savedSearchService;
+
+    @BeforeEach
+    void setUp() {
+        savedSearchService = new SavedSearchService(savedSearchRepository,
+                notificationRepository, new SavedSearchMapper(), eventPublisher, 2);
+    }
+
+    //  fixture helpers
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private SavedSearchRequestDto buildRequest(String searchText, ExchangeType exchangeType) {
+        SavedSearchRequestDto request = new SavedSearchRequestDto();
+        request.setSearchText(searchText);
+        request.setExchangeType(exchangeType);
+        return request;
+    }
+
+    private SavedSearch buildSavedSearch(Long id, User user, String searchText) {
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setId(id);
+        savedSearch.setUser(user);
+        savedSearch.setSearchText(searchText);
+        return savedSearch;
+    }
+
+    @Test
+    @DisplayName("getSavedSearchesOfUser() maps the user's saved searches")
+    void getSavedSearchesOfUser() {
+        User user = buildUser(1L);
+        when(savedSearchRepository.findAllByUserIdOrderByCreatedAtDesc(1L))
+                .thenReturn(List.of(buildSavedSearch(5L, user, "dune")));
+
+        List<SavedSearchResponseDto> result = savedSearchService.getSavedSearchesOfUser(user);
+
+        assertThat(result).extracting(SavedSearchResponseDto::getSearchText)
+                .containsExactly("dune");
+    }
+
+    @Nested
+    @DisplayName("createSavedSearch()")
+    class CreateSavedSearch {
+
+        @Test
+        @DisplayName("saves the search and publishes the change")
+        void savesAndPublishes() {
+            User user = buildUser(1L);
+            SavedSearch saved = buildSavedSearch(5L, user, "dune");
+            when(savedSearchRepository.countByUserId(1L)).thenReturn(0L);
+            when(savedSearchRepository.save(any(SavedSearch.class))).thenReturn(saved);
+
+            SavedSearchResponseDto result =
+                    savedSearchService.createSavedSearch(buildRequest(" dune ", null), user);
+
+            assertThat(result.getId()).isEqualTo(5L);
+            ArgumentCaptor<SavedSearch> captor = ArgumentCaptor.forClass(SavedSearch.class);
+            verify(savedSearchRepository).save(captor.capture());
+            assertThat(captor.getValue().getSearchText()).isEqualTo("dune");
+            verify(eventPublisher).publishEvent(SavedSearchChangedEvent.saved(saved));
+        }
+
+        @Test
+        @DisplayName("accepts a filter without search text")
+        void acceptsFilterOnly() {
+            User user = buildUser(1L);
+            when(savedSearchRepository.countByUserId(1L)).thenReturn(1L);
+            when(savedSearchRepository.save(any(SavedSearch.class)))
+                    .thenReturn(buildSavedSearch(5L, user, null));
+
+            savedSearchService.createSavedSearch(buildRequest(null, ExchangeType.GIVEAWAY), user);
+
+            verify(savedSearchRepository).save(any(SavedSearch.class));
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException without search text and filters")
+        void rejectsEmptySearch() {
+            assertThatThrownBy(() -> savedSearchService.createSavedSearch(
+                    buildRequest("  ", null), buildUser(1L)))
+                    .isInstanceOf(BadRequestException.class);
+            verify(savedSearchRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when the user reached the limit")
+        void rejectsOverLimit() {
+            when(savedSearchRepository.countByUserId(1L)).thenReturn(2L);
+
+            assertThatThrownBy(() -> savedSearchService.createSavedSearch(
+                    buildRequest("dune", null), buildUser(1L)))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteSavedSearch()")
+    class DeleteSavedSearch {
+
+        @Test
+        @DisplayName("deletes the caller's saved search and publishes the removal")
+        void deletesAndPublishes() {
+            User user = buildUser(1L);
+            SavedSearch savedSearch = buildSavedSearch(5L, user, "dune");
+            when(savedSearchRepository.findByIdAndUserId(5L, 1L))
+                    .thenReturn(Optional.of(savedSearch));
+
+            savedSearchService.deleteSavedSearch(5L, user);
+
+            verify(savedSearchRepository).delete(savedSearch);
+            verify(eventPublisher).publishEvent(SavedSearchChangedEvent.removed(5L, 1L));
+        }
+
+        @Test
+        @DisplayName("throws ResourceNotFoundException for other users' saved searches")
+        void rejectsForeignSearch() {
+            when(savedSearchRepository.findByIdAndUserId(5L, 2L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> savedSearchService.deleteSavedSearch(5L, buildUser(2L)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("notifications")
+    class Notifications {
+
+        @Test
+        @DisplayName("getNotifications() pages the caller's feed")
+        void pagesFeed() {
+            PageRequest pageable = PageRequest.of(0, 20);
+            SearchNotification notification = new SearchNotification(1L, 5L, 10L, "Dune");
+            when(notificationRepository.findAllByUserIdOrderByCreatedAtDescIdDesc(1L, pageable))
+                    .thenReturn(new PageImpl<>(List.of(notification)));
+
+            Page<SearchNotificationDto> result =
+                    savedSearchService.getNotifications(buildUser(1L), pageable);
+
+            assertThat(result.getContent()).extracting(SearchNotificationDto::getBookTitle)
+                    .containsExactly("Dune");
+        }
+
+        @Test
+        @DisplayName("clearNotifications() deletes the caller's feed")
+        void clearsFeed() {
+            savedSearchService.clearNotifications(buildUser(1L));
+
+            verify(notificationRepository).deleteAllForUser(1L);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package at.technikum.springrestbackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseBroadcaster")
+class SseBroadcasterTest {
+
+    private SseBroadcaster<String> broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new SseBroadcaster<>("e1", 3);
+    }
+
+    private RecordingSseEmitter subscribe(final String lastEventId) {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        // Sending inline keeps the order of deliveries deterministic
+        broadcaster.subscribe(new SseSubscriber(emitter, 2, Runnable::run, false),
+                subject -> !subject.startsWith("hidden"), lastEventId);
+        return emitter;
+    }
+
+    @Nested
+    @DisplayName("publish()")
+    class Publish {
+
+        @Test
+        @DisplayName("sends matching events with id and name to every subscriber")
+        void sendsMatchingEvents() {
+            RecordingSseEmitter first = subscribe(null);
+            RecordingSseEmitter second = subscribe(null);
+
+            broadcaster.publish("CREATED", "book", "payload");
+            broadcaster.publish("CREATED", "hidden book", "secret");
+
+            assertThat(first.frames()).singleElement().asString()
+                    .contains("id:e1-1", "event:CREATED", "payload");
+            assertThat(second.frames()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("forgets a subscriber whose connection failed")
+        void forgetsFailedSubscriber() {
+            RecordingSseEmitter emitter = subscribe(null);
+            emitter.failSends();
+
+            broadcaster.publish("CREATED", "book", "payload");
+
+            assertThat(broadcaster.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("sends heartbeats as comments and completes all on shutdown")
+        void sendsHeartbeats() {
+            RecordingSseEmitter emitter = subscribe(null);
+
+            broadcaster.heartbeat();
+            broadcaster.completeAll();
+
+            assertThat(emitter.frames()).containsExactly(":heartbeat\n\n", "complete");
+            assertThat(broadcaster.subscriberCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Last-Event-ID")
+    class Resume {
+
+        @Test
+        @DisplayName("replays the matching events after the given id")
+        void replaysMissedEvents() {
+            broadcaster.publish("CREATED", "book", "one");
+            broadcaster.publish("CREATED", "hidden", "two");
+            broadcaster.publish("UPDATED", "book", "three");
+
+            RecordingSseEmitter emitter = subscribe("e1-1");
+
+            assertThat(emitter.frames()).singleElement().asString().contains("id:e1-3", "three");
+        }
+
+        @Test
+        @DisplayName("sends a reset when the id is unknown or fell out of the replay buffer")
+        void resetsUnknownPositions() {
+            for (int i = 0; i < 5; i++) {
+                broadcaster.publish("CREATED", "book", "event " + i);
+            }
+
+            assertThat(subscribe("e1-1").frames()).singleElement().asString()
+                    .contains("event:reset");
+            assertThat(subscribe("e0-4").frames()).singleElement().asString()
+                    .contains("event:reset");
+            assertThat(subscribe("e1-x").frames()).hasSize(1);
+            assertThat(subscribe("e1-9").frames()).hasSize(1);
+            assertThat(subscribe("e1-5").frames()).isEmpty();
+        }
+    }
+}
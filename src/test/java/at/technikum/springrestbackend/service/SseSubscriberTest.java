@@ -0,0 +1,70 @@
+package at.technikum.springrestbackend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseSubscriber")
+class SseSubscriberTest {
+
+    private final RecordingSseEmitter emitter = new RecordingSseEmitter();
+    private final List<Runnable> pendingSends = new ArrayList<>();
+
+    private static SseFrame frame(final String id, final String data) {
+        return new SseFrame(id, "CREATED", data);
+    }
+
+    @Test
+    @DisplayName("drops the oldest buffered frames of a slow client and signals a reset")
+    void dropsOldestForSlowClient() {
+        SseSubscriber subscriber = new SseSubscriber(emitter, 2, pendingSends::add, false);
+
+        subscriber.offer(frame("1", "one"));
+        subscriber.offer(frame("2", "two"));
+        subscriber.offer(frame("3", "three"));
+        pendingSends.forEach(Runnable::run);
+
+        assertThat(pendingSends).hasSize(1);
+        assertThat(emitter.frames()).hasSize(3);
+        assertThat(emitter.frames().get(0)).contains("event:reset");
+        assertThat(emitter.frames().get(1)).contains("two");
+        assertThat(emitter.frames().get(2)).contains("three");
+    }
+
+    @Test
+    @DisplayName("sends a backlog ahead of the frames buffered while paused, without duplicates")
+    void sendsBacklogFirst() {
+        SseSubscriber subscriber = new SseSubscriber(emitter, 5, Runnable::run, true);
+
+        subscriber.offer(frame("12", "live twelve"));
+        subscriber.offer(new SseFrame(null, "UPDATED", "live edit"));
+        assertThat(emitter.frames()).isEmpty();
+        subscriber.resume(List.of(frame("11", "eleven"), frame("12", "twelve")));
+
+        assertThat(emitter.frames()).hasSize(3);
+        assertThat(emitter.frames().get(0)).contains("id:11", "eleven");
+        assertThat(emitter.frames().get(1)).contains("id:12", "twelve");
+        assertThat(emitter.frames().get(2)).doesNotContain("id:").contains("live edit");
+    }
+
+    @Test
+    @DisplayName("closes once on a failed send and on completion")
+    void closesOnce() {
+        AtomicInteger closed = new AtomicInteger();
+        SseSubscriber subscriber = new SseSubscriber(emitter, 2, Runnable::run, false);
+        subscriber.onClose(ignored -> closed.incrementAndGet());
+        emitter.failSends();
+
+        subscriber.offer(frame("1", "one"));
+        subscriber.offer(frame("2", "two"));
+        subscriber.complete();
+
+        assertThat(closed).hasValue(1);
+        assertThat(emitter.frames()).containsExactly("complete");
+    }
+}
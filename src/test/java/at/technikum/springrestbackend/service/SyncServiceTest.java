@@ -0,0 +1,255 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.BookResponseDto;
+import at.technikum.springrestbackend.dto.CommentResponseDto;
+import at.technikum.springrestbackend.dto.SyncPageDto;
+import at.technikum.springrestbackend.entity.Book;
+import at.technikum.springrestbackend.entity.Comment;
+import at.technikum.springrestbackend.entity.ListingStatus;
+import at.technikum.springrestbackend.entity.SyncEntityType;
+import at.technikum.springrestbackend.entity.SyncTombstone;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.mapper.BookMapper;
+import at.technikum.springrestbackend.mapper.CommentMapper;
+import at.technikum.springrestbackend.repository.BookRepository;
+import at.technikum.springrestbackend.repository.CommentRepository;
+import at.technikum.springrestbackend.repository.SyncTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncService")
+class SyncServiceTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.now().minusHours(2);
+    private static final LocalDateTime T2 = LocalDateTime.now().minusHours(1);
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(bookRepository, commentRepository, tombstoneRepository,
+                new BookMapper(), new CommentMapper(), fileStorageService, 2, 10, 30);
+    }
+
+    //  fixture helpers
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user_" + id);
+        return user;
+    }
+
+    private Book buildBook(Long id, ListingStatus status, LocalDateTime updatedAt) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle("Title " + id);
+        book.setStatus(status);
+        book.setOwner(buildUser(1L));
+        book.setUpdatedAt(updatedAt);
+        return book;
+    }
+
+    private SyncTombstone buildTombstone(Long id, Long entityId, LocalDateTime createdAt) {
+        SyncTombstone tombstone = new SyncTombstone(SyncEntityType.BOOK, entityId, 1L);
+        tombstone.setId(id);
+        tombstone.setCreatedAt(createdAt);
+        return tombstone;
+    }
+
+    private void stubBooks(List<Book> books, List<SyncTombstone> tombstones) {
+        when(bookRepository.findChangedAfter(any(), anyLong(), any(), any(), any(Pageable.class)))
+                .thenReturn(books);
+        when(tombstoneRepository.findAfter(eq(SyncEntityType.BOOK), any(), anyLong(), any(),
+                any(Pageable.class))).thenReturn(tombstones);
+    }
+
+    @Nested
+    @DisplayName("getBookChanges()")
+    class GetBookChanges {
+
+        @Test
+        @DisplayName("starts a full sync without a token, reporting unavailable listings as deleted")
+        void startsFullSync() {
+            Book available = buildBook(1L, ListingStatus.AVAILABLE, T1);
+            available.setImageObjectKey("books/1.jpg");
+            stubBooks(List.of(available, buildBook(2L, ListingStatus.RESERVED, T1)), List.of());
+            when(fileStorageService.resolveImageUrl("books/1.jpg")).thenReturn("/books/1/image");
+
+            SyncPageDto<BookResponseDto> page = syncService.getBookChanges(null);
+
+            assertThat(page.isReset()).isTrue();
+            assertThat(page.isHasMore()).isFalse();
+            assertThat(page.getChanged()).extracting(BookResponseDto::getImageUrl)
+                    .containsExactly("/books/1/image");
+            assertThat(page.getDeleted()).containsExactly(2L);
+            ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(bookRepository).findChangedAfter(eq(SyncToken.ORIGIN), eq(0L),
+                    until.capture(), since.capture(), any(Pageable.class));
+            assertThat(since.getValue()).isEqualTo(until.getValue());
+            assertThat(until.getValue())
+                    .isCloseTo(LocalDateTime.now().minusSeconds(10), within(5, SECONDS));
+        }
+
+        @Test
+        @DisplayName("sends deletions only after the start of a full sync")
+        void skipsEarlierDeletions() {
+            stubBooks(List.of(), List.of());
+
+            syncService.getBookChanges(" ");
+
+            ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(tombstoneRepository).findAfter(eq(SyncEntityType.BOOK), from.capture(),
+                    eq(0L), until.capture(), any(Pageable.class));
+            assertThat(from.getValue()).isEqualTo(until.getValue());
+        }
+
+        @Test
+        @DisplayName("returns a page and a token positioned after its last row")
+        void pagesAfterLastRow() {
+            stubBooks(List.of(buildBook(1L, ListingStatus.AVAILABLE, T1),
+                    buildBook(2L, ListingStatus.AVAILABLE, T1),
+                    buildBook(3L, ListingStatus.AVAILABLE, T2)),
+                    List.of(buildTombstone(7L, 20L, T1)));
+
+            SyncPageDto<BookResponseDto> page = syncService.getBookChanges(null);
+            SyncToken next = SyncToken.decode(page.getNextToken());
+
+            assertThat(page.isHasMore()).isTrue();
+            assertThat(page.getChanged()).extracting(BookResponseDto::getId)
+                    .containsExactly(1L, 2L);
+            assertThat(page.getDeleted()).containsExactly(20L);
+            assertThat(next.changedAt()).isEqualTo(T1);
+            assertThat(next.changedId()).isEqualTo(2L);
+            assertThat(next.availableSince()).isAfter(T2);
+            assertThat(next.deletedId()).isEqualTo(Long.MAX_VALUE);
+            assertThat(next.availableSince()).isEqualTo(next.deletedAt());
+        }
+
+        @Test
+        @DisplayName("continues from the token and ends the initial filter once caught up")
+        void resumesFromToken() {
+            stubBooks(List.of(), List.of());
+            String token = new SyncToken(T1, 5L, T2, 6L, T2).encode();
+
+            SyncPageDto<BookResponseDto> page = syncService.getBookChanges(token);
+
+            assertThat(page.isReset()).isFalse();
+            verify(bookRepository).findChangedAfter(eq(T1), eq(5L), any(), eq(T2),
+                    any(Pageable.class));
+            verify(tombstoneRepository).findAfter(eq(SyncEntityType.BOOK), eq(T2), eq(6L),
+                    any(), any(Pageable.class));
+            SyncToken next = SyncToken.decode(page.getNextToken());
+            assertThat(next.availableSince()).isEqualTo(SyncToken.ORIGIN);
+            assertThat(next.changedAt()).isAfter(T2);
+        }
+
+        @Test
+        @DisplayName("restarts with a full sync when deletions since the token were purged")
+        void restartsWhenTokenExpired() {
+            stubBooks(List.of(), List.of());
+            LocalDateTime expired = LocalDateTime.now().minusDays(31);
+            String token = new SyncToken(expired, 5L, expired, 6L, SyncToken.ORIGIN).encode();
+
+            SyncPageDto<BookResponseDto> page = syncService.getBookChanges(token);
+
+            assertThat(page.isReset()).isTrue();
+            verify(bookRepository).findChangedAfter(eq(SyncToken.ORIGIN), eq(0L), any(), any(),
+                    any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("rejects malformed tokens")
+        void rejectsMalformedTokens() {
+            String wrongVersion = Base64.getUrlEncoder().encodeToString(
+                    "2|a|b".getBytes(StandardCharsets.UTF_8));
+            String truncated = new SyncToken(T1, 1L, T2, 1L, T2).encode().substring(0, 20);
+
+            assertThatThrownBy(() -> syncService.getBookChanges("not a token!"))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> syncService.getBookChanges(wrongVersion))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> syncService.getBookChanges(truncated))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCommentChangesOfUser()")
+    class GetCommentChangesOfUser {
+
+        @Test
+        @DisplayName("returns the user's changed and deleted comments")
+        void returnsOwnComments() {
+            User author = buildUser(3L);
+            Comment comment = new Comment();
+            comment.setId(8L);
+            comment.setContent("Is it still available?");
+            comment.setAuthor(author);
+            comment.setBook(buildBook(1L, ListingStatus.AVAILABLE, T1));
+            when(commentRepository.findChangedOfAuthorAfter(eq(3L), eq(SyncToken.ORIGIN),
+                    eq(0L), any(), any(Pageable.class))).thenReturn(List.of(comment));
+            SyncTombstone deleted = new SyncTombstone(SyncEntityType.COMMENT, 9L, 3L);
+            when(tombstoneRepository.findOfUserAfter(eq(SyncEntityType.COMMENT), eq(3L), any(),
+                    eq(0L), any(), any(Pageable.class))).thenReturn(List.of(deleted));
+
+            SyncPageDto<CommentResponseDto> page =
+                    syncService.getCommentChangesOfUser(author, null);
+
+            assertThat(page.getChanged()).extracting(CommentResponseDto::getId,
+                    CommentResponseDto::getBookId).containsExactly(tuple(8L, 1L));
+            assertThat(page.getDeleted()).containsExactly(9L);
+            assertThat(page.isHasMore()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("purgeTombstones() deletes tombstones older than the retention")
+    void purgesOldTombstones() {
+        syncService.purgeTombstones();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(tombstoneRepository).deleteCreatedBefore(cutoff.capture());
+        assertThat(cutoff.getValue())
+                .isCloseTo(LocalDateTime.now().minusDays(30), within(5, SECONDS));
+    }
+}
@@ -8,6 +8,10 @@ import at.technikum.springrestbackend.exception.BadRequestException;
 import at.technikum.springrestbackend.exception.ForbiddenOperationException;
 import at.technikum.springrestbackend.exception.ResourceNotFoundException;
 import at.technikum.springrestbackend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -37,6 +42,10 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private JsonMergePatcher jsonMergePatcher = new JsonMergePatcher(
+            new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator());
+
     @InjectMocks
     private UserService userService;
 
@@ -114,6 +123,55 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("patchCurrentUserProfile(JsonNode, User)")
+    class PatchCurrentUserProfile {
+
+        @Test
+        @DisplayName("clears the profile picture when it is removed")
+        void clearsRemovedProfilePicture() {
+            User stored = buildUser(1L, "alice", Role.USER);
+            stored.setProfilePictureUrl("http://img.com/old.jpg");
+            when(userRepository.findById(1L)).thenReturn(Optional.of(stored));
+            when(userRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            UserResponseDto result = userService.patchCurrentUserProfile(
+                    JsonNodeFactory.instance.objectNode().putNull("profilePictureUrl"), stored);
+
+            assertThat(result.getProfilePictureUrl()).isNull();
+            assertThat(result.getUsername()).isEqualTo("alice");
+            verify(userRepository, never()).existsByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("changes only the patched country code")
+        void patchesCountryCode() {
+            User stored = buildUser(1L, "alice", Role.USER);
+            stored.setProfilePictureUrl("http://img.com/old.jpg");
+            when(userRepository.findById(1L)).thenReturn(Optional.of(stored));
+            when(userRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            UserResponseDto result = userService.patchCurrentUserProfile(
+                    JsonNodeFactory.instance.objectNode().put("countryCode", "de"), stored);
+
+            assertThat(result.getCountryCode()).isEqualTo("DE");
+            assertThat(result.getProfilePictureUrl()).isEqualTo("http://img.com/old.jpg");
+        }
+
+        @Test
+        @DisplayName("rejects removing the username")
+        void rejectsRemovingUsername() {
+            User stored = buildUser(1L, "alice", Role.USER);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(stored));
+            ObjectNode patch = JsonNodeFactory.instance.objectNode().putNull("username");
+
+            assertThatThrownBy(() -> userService.patchCurrentUserProfile(patch, stored))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("cannot be removed");
+            verify(userRepository, never()).save(any());
+        }
+    }
+
     @Nested
     @DisplayName("updateCurrentUserProfile(UserUpdateRequestDto, User)")
     class UpdateCurrentUserProfile {
@@ -0,0 +1,155 @@
+package at.technikum.springrestbackend.service;
+
+import at.technikum.springrestbackend.dto.WantedBookRequestDto;
+import at.technikum.springrestbackend.dto.WantedBookResponseDto;
+import at.technikum.springrestbackend.entity.User;
+import at.technikum.springrestbackend.entity.WantedBook;
+import at.technikum.springrestbackend.event.WantedBookChangedEvent;
+import at.technikum.springrestbackend.exception.BadRequestException;
+import at.technikum.springrestbackend.exception.ResourceNotFoundException;
+import at.technikum.springrestbackend.mapper.WantedBookMapper;
+import at.technikum.springrestbackend.repository.WantedBookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WantedBookService")
+class WantedBookServiceTest {
+
+    @Mock
+    private WantedBookRepository wantedBookRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WantedBookService wantedBookService;
+
+    @BeforeEach
+    void setUp() {
+        wantedBookService = new WantedBookService(
+                wantedBookRepository, new WantedBookMapper(), eventPublisher, 2);
+    }
+
+    //  fixture helpers
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private WantedBookRequestDto buildRequest(String title, String authorName) {
+        WantedBookRequestDto request = new WantedBookRequestDto();
+        request.setTitle(title);
+        request.setAuthorName(authorName);
+        return request;
+    }
+
+    private WantedBook buildWantedBook(Long id, User user, String title) {
+        WantedBook wantedBook = new WantedBook();
+        wantedBook.setId(id);
+        wantedBook.setUser(user);
+        wantedBook.setTitle(title);
+        return wantedBook;
+    }
+
+    @Test
+    @DisplayName("getWantedBooksOfUser() maps the user's wanted books")
+    void getWantedBooksOfUser() {
+        User user = buildUser(1L);
+        when(wantedBookRepository.findAllByUserIdOrderByCreatedAtDesc(1L))
+                .thenReturn(List.of(buildWantedBook(5L, user, "Dune")));
+
+        List<WantedBookResponseDto> result = wantedBookService.getWantedBooksOfUser(user);
+
+        assertThat(result).extracting(WantedBookResponseDto::getTitle).containsExactly("Dune");
+    }
+
+    @Nested
+    @DisplayName("addWantedBook()")
+    class AddWantedBook {
+
+        @Test
+        @DisplayName("saves the wanted book and publishes the change")
+        void savesAndPublishes() {
+            User user = buildUser(1L);
+            when(wantedBookRepository.countByUserId(1L)).thenReturn(1L);
+            when(wantedBookRepository.save(any(WantedBook.class)))
+                    .thenReturn(buildWantedBook(5L, user, "Dune"));
+
+            WantedBookResponseDto result =
+                    wantedBookService.addWantedBook(buildRequest(" Dune ", null), user);
+
+            assertThat(result.getId()).isEqualTo(5L);
+            ArgumentCaptor<WantedBookChangedEvent> captor =
+                    ArgumentCaptor.forClass(WantedBookChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue()).isEqualTo(
+                    WantedBookChangedEvent.saved(5L, 1L, "Dune", null));
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when neither title nor author is given")
+        void rejectsEmptyRequest() {
+            assertThatThrownBy(() -> wantedBookService.addWantedBook(
+                    buildRequest(" ", null), buildUser(1L)))
+                    .isInstanceOf(BadRequestException.class);
+            verify(wantedBookRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("throws BadRequestException when the user reached the limit")
+        void rejectsOverLimit() {
+            when(wantedBookRepository.countByUserId(1L)).thenReturn(2L);
+
+            assertThatThrownBy(() -> wantedBookService.addWantedBook(
+                    buildRequest(null, "Frank Herbert"), buildUser(1L)))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("2");
+        }
+    }
+
+    @Nested
+    @DisplayName("removeWantedBook()")
+    class RemoveWantedBook {
+
+        @Test
+        @DisplayName("deletes the caller's wanted book and publishes the removal")
+        void deletesAndPublishes() {
+            User user = buildUser(1L);
+            WantedBook wantedBook = buildWantedBook(5L, user, "Dune");
+            when(wantedBookRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(wantedBook));
+
+            wantedBookService.removeWantedBook(5L, user);
+
+            verify(wantedBookRepository).delete(wantedBook);
+            verify(eventPublisher).publishEvent(WantedBookChangedEvent.removed(5L, 1L));
+        }
+
+        @Test
+        @DisplayName("throws ResourceNotFoundException for other users' wanted books")
+        void rejectsForeignWantedBook() {
+            when(wantedBookRepository.findByIdAndUserId(5L, 2L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> wantedBookService.removeWantedBook(5L, buildUser(2L)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}